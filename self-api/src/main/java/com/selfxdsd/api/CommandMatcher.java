@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Matches a comment against the commands of a Language. A command is
+ * a list of words separated by ^ and it matches if the comment contains
+ * all of them. The words of all the commands are compiled into an
+ * Aho-Corasick automaton, so the comment is read only once, no matter
+ * how many commands there are.<br>
+ * If more commands match, the one with more words wins, then the one
+ * with longer words (e.g. "deregister" over "register"), then the one
+ * whose key comes first alphabetically.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class CommandMatcher {
+
+    /**
+     * Category of the comments which match no command.
+     */
+    static final String CONFUSED = "confused";
+
+    /**
+     * Characters leaving each state, sorted.
+     */
+    private final char[][] labels;
+
+    /**
+     * Target states, parallel to the labels.
+     */
+    private final int[][] targets;
+
+    /**
+     * Failure link of each state.
+     */
+    private final int[] failures;
+
+    /**
+     * Words found when reaching each state.
+     */
+    private final int[][] outputs;
+
+    /**
+     * Number of distinct words.
+     */
+    private final int words;
+
+    /**
+     * Categories of the commands, by priority.
+     */
+    private final String[] categories;
+
+    /**
+     * Words of each command, parallel to the categories.
+     */
+    private final int[][] needed;
+
+    /**
+     * Ctor.
+     * @param commands The commands, keyed by category.command.
+     */
+    CommandMatcher(final Properties commands) {
+        final List<String> keys = new ArrayList<>(
+            commands.stringPropertyNames()
+        );
+        final Map<String, String[]> split = new HashMap<>();
+        for(final String key : keys) {
+            final String[] parts = commands.getProperty(key, "").split("\\^");
+            for(int idx = 0; idx < parts.length; ++idx) {
+                parts[idx] = parts[idx].trim();
+            }
+            split.put(key, parts);
+        }
+        keys.sort(
+            Comparator.<String>comparingInt(key -> -split.get(key).length)
+                .thenComparingInt(key -> -CommandMatcher.length(split.get(key)))
+                .thenComparing(Comparator.naturalOrder())
+        );
+        final Map<String, Integer> ids = new LinkedHashMap<>();
+        this.categories = new String[keys.size()];
+        this.needed = new int[keys.size()][];
+        for(int cmd = 0; cmd < keys.size(); ++cmd) {
+            this.categories[cmd] = keys.get(cmd).split("\\.")[0];
+            this.needed[cmd] = Arrays.stream(split.get(keys.get(cmd)))
+                .filter(word -> !word.isEmpty())
+                .mapToInt(word -> ids.computeIfAbsent(word, w -> ids.size()))
+                .distinct()
+                .toArray();
+        }
+        this.words = ids.size();
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> found = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        found.add(new ArrayList<>());
+        for(final Map.Entry<String, Integer> word : ids.entrySet()) {
+            int state = 0;
+            for(final char chr : word.getKey().toCharArray()) {
+                Integer next = trie.get(state).get(chr);
+                if(next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    found.add(new ArrayList<>());
+                    trie.get(state).put(chr, next);
+                }
+                state = next;
+            }
+            found.get(state).add(word.getValue());
+        }
+        final int states = trie.size();
+        this.labels = new char[states][];
+        this.targets = new int[states][];
+        for(int state = 0; state < states; ++state) {
+            final TreeMap<Character, Integer> edges = trie.get(state);
+            this.labels[state] = new char[edges.size()];
+            this.targets[state] = new int[edges.size()];
+            int idx = 0;
+            for(final Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                this.labels[state][idx] = edge.getKey();
+                this.targets[state][idx] = edge.getValue();
+                ++idx;
+            }
+        }
+        this.failures = new int[states];
+        this.outputs = new int[states][];
+        this.outputs[0] = new int[0];
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for(final int child : this.targets[0]) {
+            queue.add(child);
+        }
+        while(!queue.isEmpty()) {
+            final int state = queue.remove();
+            final List<Integer> out = found.get(state);
+            for(final int word : this.outputs[this.failures[state]]) {
+                out.add(word);
+            }
+            this.outputs[state] = out.stream().mapToInt(Integer::intValue)
+                .toArray();
+            for(int idx = 0; idx < this.labels[state].length; ++idx) {
+                final int child = this.targets[state][idx];
+                this.failures[child] = this.next(
+                    this.failures[state], this.labels[state][idx]
+                );
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Categorize a comment.
+     * @param comment Text of the comment.
+     * @return Category of the matching command with the highest
+     *  priority, or "confused" if no command matches.
+     */
+    String categorize(final String comment) {
+        final boolean[] seen = new boolean[this.words];
+        int state = 0;
+        for(int idx = 0; idx < comment.length(); ++idx) {
+            state = this.next(state, comment.charAt(idx));
+            for(final int word : this.outputs[state]) {
+                seen[word] = true;
+            }
+        }
+        String category = CommandMatcher.CONFUSED;
+        for(int cmd = 0; cmd < this.needed.length; ++cmd) {
+            boolean all = true;
+            for(final int word : this.needed[cmd]) {
+                all = all && seen[word];
+            }
+            if(all) {
+                category = this.categories[cmd];
+                break;
+            }
+        }
+        return category;
+    }
+
+    /**
+     * Follow the automaton from a state, with a character.
+     * @param from Current state.
+     * @param chr Character.
+     * @return Next state.
+     */
+    private int next(final int from, final char chr) {
+        int state = from;
+        int next = -1;
+        while(next < 0) {
+            final int idx = Arrays.binarySearch(this.labels[state], chr);
+            if(idx >= 0) {
+                next = this.targets[state][idx];
+            } else if(state == 0) {
+                next = 0;
+            } else {
+                state = this.failures[state];
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Total length of some words.
+     * @param words Words.
+     * @return Number of characters.
+     */
+    private static int length(final String[] words) {
+        int length = 0;
+        for(final String word : words) {
+            length += word.length();
+        }
+        return length;
+    }
+}
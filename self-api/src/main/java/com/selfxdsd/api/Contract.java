@@ -165,6 +165,11 @@ public interface Contract {
          */
         private final String role;
 
+        /**
+         * Cached hash code, Ids are looked up in maps all the time.
+         */
+        private final int hash;
+
         /**
          * Constructor.
          *
@@ -183,6 +188,12 @@ public interface Contract {
             this.contributorUsername = contributorUsername;
             this.provider = provider;
             this.role = role;
+            this.hash = Objects.hash(
+                repoFullName,
+                contributorUsername,
+                provider,
+                role
+            );
         }
 
         /**
@@ -227,20 +238,16 @@ public interface Contract {
             }
             final Id id = (Id) object;
             //@checkstyle LineLength (5 lines)
-            return this.repoFullName.equals(id.repoFullName)
-                && this.contributorUsername.equals(id.contributorUsername)
-                && this.provider.equals(id.provider)
-                && this.role.equals(id.role);
+            return this.hash == id.hash
+                && Objects.equals(this.repoFullName, id.repoFullName)
+                && Objects.equals(this.contributorUsername, id.contributorUsername)
+                && Objects.equals(this.provider, id.provider)
+                && Objects.equals(this.role, id.role);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(
-                this.repoFullName,
-                this.contributorUsername,
-                this.provider,
-                this.role
-            );
+            return this.hash;
         }
 
     }
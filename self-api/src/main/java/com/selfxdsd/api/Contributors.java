@@ -24,6 +24,9 @@ package com.selfxdsd.api;
 
 import com.selfxdsd.api.storage.Paged;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Contributors in Self.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -80,4 +83,19 @@ public interface Contributors extends Iterable<Contributor>, Paged {
      */
     Contributor elect(final Task task);
 
+    /**
+     * Elect Contributors for many Tasks at once. By default, they are
+     * elected one by one.
+     * @param tasks Tasks that require new assignees.
+     * @return Contributors, in the order of the given Tasks, with null
+     *  where none is found.
+     */
+    default List<Contributor> electAll(final List<Task> tasks) {
+        final List<Contributor> elected = new ArrayList<>();
+        for(final Task task : tasks) {
+            elected.add(this.elect(task));
+        }
+        return elected;
+    }
+
 }
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.api;
+
+import com.selfxdsd.api.exceptions.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Moment by which the handling of an Event must be done. While an
+ * Event is handled, its Deadline is the current one of the thread,
+ * so the calls to the Provider and the Storage, which don't see the
+ * Event, can bound their timeouts by it.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Deadline {
+
+    /**
+     * No deadline.
+     */
+    public static final Deadline NONE = new Deadline(false, 0L);
+
+    /**
+     * Deadline of the current thread.
+     */
+    private static final ThreadLocal<Deadline> CURRENT =
+        ThreadLocal.withInitial(() -> Deadline.NONE);
+
+    /**
+     * Is there a deadline at all?
+     */
+    private final boolean bounded;
+
+    /**
+     * The deadline, in System.nanoTime().
+     */
+    private final long expiry;
+
+    /**
+     * Ctor.
+     * @param bounded Is there a deadline at all?
+     * @param expiry The deadline, in System.nanoTime().
+     */
+    private Deadline(final boolean bounded, final long expiry) {
+        this.bounded = bounded;
+        this.expiry = expiry;
+    }
+
+    /**
+     * Deadline after the given time, from now.
+     * @param budget Time until the deadline.
+     * @return Deadline.
+     */
+    public static Deadline in(final Duration budget) {
+        return new Deadline(true, System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Deadline of the current thread.
+     * @return Deadline, NONE if there is no deadline.
+     */
+    public static Deadline current() {
+        return Deadline.CURRENT.get();
+    }
+
+    /**
+     * Is there a deadline at all?
+     * @return True or false.
+     */
+    public boolean bounded() {
+        return this.bounded;
+    }
+
+    /**
+     * Has the deadline passed?
+     * @return True or false.
+     */
+    public boolean expired() {
+        return this.bounded && this.expiry - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Time left until the deadline, but no more than the given limit
+     * (e.g. the default timeout of an HTTP request).
+     * @param limit Limit.
+     * @return Duration, zero if the deadline has passed.
+     */
+    public Duration remaining(final Duration limit) {
+        Duration remaining = limit;
+        if(this.bounded) {
+            final long left = Math.max(0L, this.expiry - System.nanoTime());
+            if(left < limit.toNanos()) {
+                remaining = Duration.ofNanos(left);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Make sure the deadline has not passed.
+     * @throws DeadlineExceededException If it has.
+     */
+    public void check() {
+        if(this.expired()) {
+            throw new DeadlineExceededException();
+        }
+    }
+
+    /**
+     * The earliest of this and the other deadline.
+     * @param other Other deadline, null meaning no deadline.
+     * @return Deadline.
+     */
+    public Deadline earliest(final Deadline other) {
+        Deadline earliest = this;
+        if(other != null && other.bounded
+            && (!this.bounded || other.expiry - this.expiry < 0)) {
+            earliest = other;
+        }
+        return earliest;
+    }
+
+    /**
+     * Do some work with this deadline (or the current one of the
+     * thread, if it is earlier) as the current deadline of the thread.
+     * @param work Work.
+     * @param <T> Type of the result.
+     * @return Result of the work.
+     */
+    public <T> T call(final Supplier<T> work) {
+        final Deadline previous = Deadline.CURRENT.get();
+        Deadline.CURRENT.set(previous.earliest(this));
+        try {
+            return work.get();
+        } finally {
+            Deadline.CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Do some work with this deadline (or the current one of the
+     * thread, if it is earlier) as the current deadline of the thread.
+     * @param work Work.
+     */
+    public void run(final Runnable work) {
+        this.call(
+            () -> {
+                work.run();
+                return null;
+            }
+        );
+    }
+}
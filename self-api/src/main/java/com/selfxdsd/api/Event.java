@@ -55,6 +55,15 @@ public interface Event {
      */
     Project project();
 
+    /**
+     * Deadline by which the handling of this event must be done.
+     * The remaining steps are cancelled once it passes.
+     * @return Deadline, never null. NONE by default.
+     */
+    default Deadline deadline() {
+        return Deadline.NONE;
+    }
+
     /**
      * Event types.
      */
@@ -90,6 +99,11 @@ public interface Event {
          */
         public static final String REOPENED_ISSUE = "reopened";
 
+        /**
+         * Event for a closed Issue or PR.
+         */
+        public static final String CLOSED_ISSUE = "closed";
+
         /**
          * Event for a comment.
          */
@@ -2,6 +2,9 @@ package com.selfxdsd.api;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents all the completed tasks by a contributor in a contract.
@@ -27,6 +30,24 @@ public interface Invoice {
      */
     InvoicedTask register(final Task task, final BigDecimal commission);
 
+    /**
+     * Register many Tasks on this Invoice. By default, they are
+     * registered one by one.
+     * @param tasks Tasks to be registered.
+     * @param commission PM's commission for each invoiced Task.
+     * @return InvoicedTasks, in the order of the given Tasks.
+     */
+    default List<InvoicedTask> registerAll(
+        final List<Task> tasks,
+        final BigDecimal commission
+    ) {
+        final List<InvoicedTask> registered = new ArrayList<>();
+        for(final Task task : tasks) {
+            registered.add(this.register(task, commission));
+        }
+        return registered;
+    }
+
     /**
      * The contract.
      * @return Contract
@@ -63,9 +84,112 @@ public interface Invoice {
      */
     BigDecimal totalAmount();
 
+    /**
+     * Totals of the invoice: amount (value plus commission) and number
+     * of invoiced tasks. By default, they are computed from the
+     * invoiced tasks; storages may keep them up to date instead.
+     * @return Totals.
+     */
+    default Totals totals() {
+        return Totals.of(this.tasks());
+    }
+
     /**
      * An invoice is active until payment is done.
      * @return Boolean
      */
     boolean isPaid();
+
+    /**
+     * Totals of an Invoice.
+     * @author Mihai Andronache (amihaiemil@gmail.com)
+     * @version $Id$
+     * @since 0.0.30
+     */
+    final class Totals {
+
+        /**
+         * Totals of an empty Invoice.
+         */
+        public static final Totals NONE = new Totals(BigDecimal.ZERO, 0);
+
+        /**
+         * Total amount.
+         */
+        private final BigDecimal amount;
+
+        /**
+         * Number of invoiced tasks.
+         */
+        private final int count;
+
+        /**
+         * Ctor.
+         * @param amount Total amount.
+         * @param count Number of invoiced tasks.
+         */
+        public Totals(final BigDecimal amount, final int count) {
+            this.amount = amount;
+            this.count = count;
+        }
+
+        /**
+         * Compute the totals from the given invoiced tasks.
+         * @param tasks InvoicedTasks.
+         * @return Totals.
+         */
+        public static Totals of(final Iterable<InvoicedTask> tasks) {
+            Totals totals = NONE;
+            for(final InvoicedTask task : tasks) {
+                totals = totals.with(task);
+            }
+            return totals;
+        }
+
+        /**
+         * Totals after one more task was invoiced.
+         * @param task InvoicedTask.
+         * @return Totals.
+         */
+        public Totals with(final InvoicedTask task) {
+            return new Totals(
+                this.amount.add(task.totalAmount()), this.count + 1
+            );
+        }
+
+        /**
+         * Total amount, value plus commission.
+         * @return BigDecimal.
+         */
+        public BigDecimal amount() {
+            return this.amount;
+        }
+
+        /**
+         * Number of invoiced tasks.
+         * @return Integer.
+         */
+        public int count() {
+            return this.count;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || (obj instanceof Totals
+                && this.amount.compareTo(((Totals) obj).amount) == 0
+                && this.count == ((Totals) obj).count);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                this.amount.stripTrailingZeros(), this.count
+            );
+        }
+
+        @Override
+        public String toString() {
+            return this.amount + " (" + this.count + " tasks)";
+        }
+    }
 }
@@ -23,6 +23,8 @@
 package com.selfxdsd.api;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Tasks that have been finished and added to an Invoice.
@@ -51,4 +53,49 @@ public interface InvoicedTasks extends Iterable<InvoicedTask> {
         final Task finished,
         final BigDecimal commission
     );
+
+    /**
+     * Register many finished Tasks to the same Invoice. By default,
+     * they are registered one by one; storages which can write in bulk
+     * should override it.
+     * @param invoice Invoice.
+     * @param finished Tasks to be registered.
+     * @param commission PM's commission for each invoiced task.
+     * @return InvoicedTasks, in the order of the given Tasks.
+     */
+    default List<InvoicedTask> registerAll(
+        final Invoice invoice,
+        final List<Task> finished,
+        final BigDecimal commission
+    ) {
+        final List<InvoicedTask> registered = new ArrayList<>();
+        for(final Task task : finished) {
+            registered.add(this.register(invoice, task, commission));
+        }
+        return registered;
+    }
+
+    /**
+     * Totals of an Invoice. By default, they are computed from its
+     * InvoicedTasks; storages which keep them up to date on every
+     * registration should override it.
+     * @param invoice Invoice.
+     * @return Totals.
+     */
+    default Invoice.Totals totals(final Invoice invoice) {
+        return Invoice.Totals.of(this.ofInvoice(invoice));
+    }
+
+    /**
+     * Recompute the totals of an Invoice from its InvoicedTasks and
+     * compare them with the ones returned by {@link #totals(Invoice)}.
+     * Storages which keep the totals should correct them if they differ.
+     * @param invoice Invoice.
+     * @return True if the totals were correct, false otherwise.
+     */
+    default boolean verify(final Invoice invoice) {
+        return this.totals(invoice).equals(
+            Invoice.Totals.of(this.ofInvoice(invoice))
+        );
+    }
 }
@@ -33,6 +33,19 @@ public interface Invoices extends Iterable<Invoice> {
      */
     Invoice active();
 
+    /**
+     * Get the active Invoice of a Contract, creating it if all the
+     * Contract's Invoices are paid. By default, it is the same as
+     * ofContract(contractId).active(). Storages should keep a pointer
+     * to the active Invoice of each Contract and get-or-create it
+     * atomically, so concurrent callers always see the same Invoice.
+     * @param contractId Contract Id.
+     * @return Invoice.
+     */
+    default Invoice activeOf(final Contract.Id contractId) {
+        return this.ofContract(contractId).active();
+    }
+
     /**
      * Find all invoices of a contract.
      * @param id Contract's id
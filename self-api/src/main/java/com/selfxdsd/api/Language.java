@@ -23,15 +23,20 @@
 package com.selfxdsd.api;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Formattable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
 import java.util.Properties;
-import java.util.Set;
 
 /**
  * Language spoken in a Project.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 0.0.8
- * @checkstyle ReturnCount (100 lines)
  */
 public abstract class Language {
 
@@ -45,6 +50,16 @@ public abstract class Language {
      */
     private final Properties responses = new Properties();
 
+    /**
+     * The commands, compiled once.
+     */
+    private final CommandMatcher matcher;
+
+    /**
+     * The responses, parsed once, ready to be filled in.
+     */
+    private final Map<String, Template> templates;
+
     /**
      * Constructor. These two files should be in self-pm, so we don't have
      * to release and rebuild self-core every time we want to add a new command
@@ -71,31 +86,25 @@ public abstract class Language {
                 ex
             );
         }
+        final Map<String, Template> parsed = new HashMap<>();
+        for(final String key : this.responses.stringPropertyNames()) {
+            parsed.put(
+                key, new Template(this.responses.getProperty(key))
+            );
+        }
+        this.templates = Collections.unmodifiableMap(parsed);
+        this.matcher = new CommandMatcher(this.commands);
     }
 
     /**
-     * Categorize a command that the PM has received.
+     * Categorize a command that the PM has received. If more commands
+     * match, the one with more words wins, then the one with longer
+     * words, then the one whose key comes first alphabetically.
      * @param command Command text.
      * @return String category.
      */
     public final String categorize(final String command) {
-        Set<Object> keys = this.commands.keySet();
-        for(final Object key : keys) {
-            String keyString = (String) key;
-            String[] words = this.commands
-                .getProperty(keyString, "")
-                .split("\\^");
-            boolean match = true;
-            for(final String word : words) {
-                if(!command.contains(word.trim())) {
-                    match = false;
-                }
-            }
-            if(match) {
-                return keyString.split("\\.")[0];
-            }
-        }
-        return "confused";
+        return this.matcher.categorize(command);
     }
 
     /**
@@ -107,4 +116,135 @@ public abstract class Language {
         return this.responses.getProperty(key);
     }
 
+    /**
+     * Get the PMs reply, filled in with the given arguments. It gives
+     * the same result as String.format(reply(key), args), but the reply
+     * is parsed only once, when the Language is loaded.
+     * @param key Key in the properties file.
+     * @param args Arguments of the reply.
+     * @return String reply or null if nothing is found.
+     */
+    public final String reply(final String key, final Object... args) {
+        final Template template = this.templates.get(key);
+        final String reply;
+        if(template == null) {
+            reply = null;
+        } else {
+            reply = template.apply(args);
+        }
+        return reply;
+    }
+
+    /**
+     * A reply parsed into the text between its %s placeholders.
+     * Replies with other format specifiers are left to String.format.
+     */
+    private static final class Template {
+
+        /**
+         * The reply, as written in the properties file.
+         */
+        private final String format;
+
+        /**
+         * Text before, between and after the placeholders; null if
+         * the reply has to be formatted with String.format.
+         */
+        private final String[] texts;
+
+        /**
+         * Ctor.
+         * @param format The reply, as written in the properties file.
+         */
+        Template(final String format) {
+            this.format = format;
+            this.texts = Template.parse(format);
+        }
+
+        /**
+         * Fill in the placeholders.
+         * @param args Arguments.
+         * @return Reply.
+         */
+        String apply(final Object... args) {
+            final String reply;
+            if(this.texts == null || Template.formattable(args)) {
+                reply = String.format(this.format, args);
+            } else if(args.length < this.texts.length - 1) {
+                throw new MissingFormatArgumentException("%s");
+            } else {
+                final StringBuilder filled = new StringBuilder(
+                    this.format.length() + 16 * args.length
+                );
+                filled.append(this.texts[0]);
+                for(int idx = 1; idx < this.texts.length; ++idx) {
+                    filled.append(args[idx - 1]).append(this.texts[idx]);
+                }
+                reply = filled.toString();
+            }
+            return reply;
+        }
+
+        /**
+         * Split a reply around its %s placeholders.
+         * @param format Reply.
+         * @return Texts around the placeholders or null, if the reply
+         *  has other format specifiers.
+         */
+        private static String[] parse(final String format) {
+            final List<String> texts = new ArrayList<>();
+            final StringBuilder text = new StringBuilder();
+            boolean simple = true;
+            int idx = 0;
+            while(simple && idx < format.length()) {
+                final char current = format.charAt(idx);
+                if(current == '%') {
+                    final char next;
+                    if(idx + 1 < format.length()) {
+                        next = format.charAt(idx + 1);
+                    } else {
+                        next = 0;
+                    }
+                    if(next == 's') {
+                        texts.add(text.toString());
+                        text.setLength(0);
+                    } else if(next == '%') {
+                        text.append('%');
+                    } else if(next == 'n') {
+                        text.append(System.lineSeparator());
+                    } else {
+                        simple = false;
+                    }
+                    idx += 2;
+                } else {
+                    text.append(current);
+                    ++idx;
+                }
+            }
+            texts.add(text.toString());
+            String[] parsed = null;
+            if(simple) {
+                parsed = texts.toArray(new String[0]);
+            }
+            return parsed;
+        }
+
+        /**
+         * Is any of the arguments Formattable? Then String.format has
+         * to do the work.
+         * @param args Arguments.
+         * @return True or false.
+         */
+        private static boolean formattable(final Object... args) {
+            boolean found = false;
+            for(final Object arg : args) {
+                if(arg instanceof Formattable) {
+                    found = true;
+                    break;
+                }
+            }
+            return found;
+        }
+    }
+
 }
@@ -0,0 +1,392 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.api;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Outbox of the writes which the PMs make on the Providers' Issues
+ * (comments, assignments etc). The writes are recorded in Storage,
+ * together with the changes they follow from, and a courier sends
+ * them later, in order for each Issue, retrying the ones which fail.
+ * Handling an Event thus waits only for the Storage.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public interface Outbox {
+
+    /**
+     * Send a Message to the given Issue, eventually. A Message which
+     * is identical to one still waiting for the same Issue is ignored.
+     * @param issue Issue.
+     * @param message Message.
+     */
+    void send(final Issue issue, final Message message);
+
+    /**
+     * Do some work (e.g. assign a Task and send the messages about it)
+     * so that its messages are stored only if the work returns. In a
+     * Storage with transactions, the work's changes and its messages
+     * are stored all or nothing; in one without, the work should make
+     * its changes after anything which may fail.
+     * @param work Work, which uses the Storage and this Outbox.
+     * @param <T> Type of the result.
+     * @return Result of the work.
+     */
+    <T> T together(final Supplier<T> work);
+
+    /**
+     * Messages waiting to be sent by the given moment, oldest first.
+     * A Message is not due while an older one for the same Issue waits
+     * to be retried, so each Issue gets its Messages in order.
+     * @param moment Moment.
+     * @param limit Max number of messages.
+     * @return List of Pending messages.
+     */
+    List<Pending> due(final LocalDateTime moment, final int limit);
+
+    /**
+     * Claim a due Message for delivery, until the given moment. Of the
+     * couriers claiming the same Message, only one gets it. The Message
+     * is not due again until the claim expires (e.g. the courier died
+     * while delivering it), unless it is sent or retried before.
+     * @param pending Pending message.
+     * @param until When the claim expires.
+     * @return True if the Message was claimed, false if it is not due
+     *  anymore (claimed by someone else, sent or retried).
+     */
+    boolean claim(final Pending pending, final LocalDateTime until);
+
+    /**
+     * The Message was sent (or given up on), forget it.
+     * @param pending Pending message.
+     */
+    void sent(final Pending pending);
+
+    /**
+     * Sending the Message failed, try again later.
+     * @param pending Pending message.
+     * @param next When to try again.
+     */
+    void retry(final Pending pending, final LocalDateTime next);
+
+    /**
+     * A write on an Issue.
+     */
+    final class Message {
+
+        /**
+         * Post a comment.
+         */
+        public static final String COMMENT = "comment";
+
+        /**
+         * Assign someone.
+         */
+        public static final String ASSIGN = "assign";
+
+        /**
+         * Unassign someone.
+         */
+        public static final String UNASSIGN = "unassign";
+
+        /**
+         * Close the Issue.
+         */
+        public static final String CLOSE = "close";
+
+        /**
+         * Type of the write.
+         */
+        private final String type;
+
+        /**
+         * Argument of the write (comment body, username), can be empty.
+         */
+        private final String argument;
+
+        /**
+         * Ctor.
+         * @param type Type of the write.
+         * @param argument Argument of the write, can be empty.
+         */
+        public Message(final String type, final String argument) {
+            this.type = type;
+            this.argument = argument;
+        }
+
+        /**
+         * Comment message.
+         * @param body Comment body.
+         * @return Message.
+         */
+        public static Message comment(final String body) {
+            return new Message(Message.COMMENT, body);
+        }
+
+        /**
+         * Assign message.
+         * @param username Username of the assignee.
+         * @return Message.
+         */
+        public static Message assign(final String username) {
+            return new Message(Message.ASSIGN, username);
+        }
+
+        /**
+         * Unassign message.
+         * @param username Username of the assignee.
+         * @return Message.
+         */
+        public static Message unassign(final String username) {
+            return new Message(Message.UNASSIGN, username);
+        }
+
+        /**
+         * Close message.
+         * @return Message.
+         */
+        public static Message close() {
+            return new Message(Message.CLOSE, "");
+        }
+
+        /**
+         * Type of the write.
+         * @return String.
+         */
+        public String type() {
+            return this.type;
+        }
+
+        /**
+         * Argument of the write.
+         * @return String, empty if there is none.
+         */
+        public String argument() {
+            return this.argument;
+        }
+
+        /**
+         * Make the write on the given Issue. The Provider may refuse an
+         * assignment (e.g. the user is not a collaborator yet), which is
+         * not an error: the result says so and the caller goes on.
+         * @param issue Issue.
+         * @return True if the write was made, false if it was refused.
+         * @throws IllegalStateException If the type is unknown.
+         */
+        public boolean deliver(final Issue issue) {
+            final boolean done;
+            switch (this.type) {
+                case Message.COMMENT:
+                    issue.comments().post(this.argument);
+                    done = true;
+                    break;
+                case Message.ASSIGN:
+                    done = issue.assign(this.argument);
+                    break;
+                case Message.UNASSIGN:
+                    done = issue.unassign(this.argument);
+                    break;
+                case Message.CLOSE:
+                    issue.close();
+                    done = true;
+                    break;
+                default:
+                    throw new IllegalStateException(
+                        "Unknown message type: " + this.type
+                    );
+            }
+            return done;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other || other instanceof Message
+                && this.type.equals(((Message) other).type)
+                && this.argument.equals(((Message) other).argument);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.type, this.argument);
+        }
+    }
+
+    /**
+     * A Message waiting in the Outbox.
+     */
+    final class Pending {
+
+        /**
+         * Id, increasing in the order the Messages were sent.
+         */
+        private final long id;
+
+        /**
+         * Full name of the Issue's repository.
+         */
+        private final String repoFullName;
+
+        /**
+         * Provider.
+         */
+        private final String provider;
+
+        /**
+         * Issue id.
+         */
+        private final String issueId;
+
+        /**
+         * The Message.
+         */
+        private final Message message;
+
+        /**
+         * How many times sending it failed.
+         */
+        private final int attempts;
+
+        /**
+         * Ctor.
+         * @param id Id, increasing in the order the Messages were sent.
+         * @param repoFullName Full name of the Issue's repository.
+         * @param provider Provider.
+         * @param issueId Issue id.
+         * @param message The Message.
+         * @param attempts How many times sending it failed.
+         * @checkstyle ParameterNumber (10 lines)
+         */
+        public Pending(
+            final long id,
+            final String repoFullName,
+            final String provider,
+            final String issueId,
+            final Message message,
+            final int attempts
+        ) {
+            this.id = id;
+            this.repoFullName = repoFullName;
+            this.provider = provider;
+            this.issueId = issueId;
+            this.message = message;
+            this.attempts = attempts;
+        }
+
+        /**
+         * Id.
+         * @return Long.
+         */
+        public long id() {
+            return this.id;
+        }
+
+        /**
+         * Full name of the Issue's repository.
+         * @return String.
+         */
+        public String repoFullName() {
+            return this.repoFullName;
+        }
+
+        /**
+         * Provider.
+         * @return String.
+         */
+        public String provider() {
+            return this.provider;
+        }
+
+        /**
+         * Issue id.
+         * @return String.
+         */
+        public String issueId() {
+            return this.issueId;
+        }
+
+        /**
+         * The Message.
+         * @return Message.
+         */
+        public Message message() {
+            return this.message;
+        }
+
+        /**
+         * How many times sending it failed.
+         * @return Integer.
+         */
+        public int attempts() {
+            return this.attempts;
+        }
+    }
+
+    /**
+     * Outbox of a Storage which doesn't keep one: the Messages are
+     * sent right away.
+     */
+    final class Immediate implements Outbox {
+
+        @Override
+        public void send(final Issue issue, final Message message) {
+            message.deliver(issue);
+        }
+
+        @Override
+        public <T> T together(final Supplier<T> work) {
+            return work.get();
+        }
+
+        @Override
+        public List<Pending> due(
+            final LocalDateTime moment,
+            final int limit
+        ) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean claim(
+            final Pending pending,
+            final LocalDateTime until
+        ) {
+            return true;
+        }
+
+        @Override
+        public void sent(final Pending pending) {
+            // nothing is pending, the messages are sent right away
+        }
+
+        @Override
+        public void retry(final Pending pending, final LocalDateTime next) {
+            // nothing is pending, the messages are sent right away
+        }
+    }
+}
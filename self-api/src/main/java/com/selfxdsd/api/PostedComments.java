@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.api;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * Index of the comments which Self posted on the Providers' Issues,
+ * kept as digests of their bodies, so a comment is not posted twice
+ * without reading the Issue's comments from the Provider every time.
+ * The bodies are compared ignoring case.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public interface PostedComments {
+
+    /**
+     * Are there any comments indexed for the given Issue?
+     * @param issue Issue.
+     * @return True or false.
+     */
+    boolean indexed(final Issue issue);
+
+    /**
+     * Find the comment with the given body, posted on the Issue.
+     * @param issue Issue.
+     * @param body Comment body.
+     * @return Comment or null if it was not posted.
+     */
+    Comment find(final Issue issue, final String body);
+
+    /**
+     * Index a comment posted on the Issue.
+     * @param issue Issue.
+     * @param comment Posted comment.
+     */
+    void add(final Issue issue, final Comment comment);
+
+    /**
+     * Digest of a comment body, ignoring case.
+     */
+    final class Digest {
+
+        /**
+         * Comment body.
+         */
+        private final String body;
+
+        /**
+         * Ctor.
+         * @param body Comment body.
+         */
+        public Digest(final String body) {
+            this.body = body;
+        }
+
+        /**
+         * Hex SHA-256 of the lower-cased body.
+         * @return String of 64 characters.
+         */
+        public String hex() {
+            try {
+                final StringBuilder hex = new StringBuilder();
+                for(final byte octet : MessageDigest.getInstance("SHA-256")
+                    .digest(
+                        this.body.toLowerCase(Locale.ROOT)
+                            .getBytes(StandardCharsets.UTF_8)
+                    )) {
+                    hex.append(String.format("%02x", octet));
+                }
+                return hex.toString();
+            } catch (final NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(
+                    "SHA-256 is not available.", ex
+                );
+            }
+        }
+    }
+
+    /**
+     * A comment found in the index. Only its id and author are kept,
+     * the body is the one it was looked up by.
+     */
+    final class Indexed implements Comment {
+
+        /**
+         * Comment id.
+         */
+        private final String commentId;
+
+        /**
+         * Author's username.
+         */
+        private final String author;
+
+        /**
+         * Comment body.
+         */
+        private final String body;
+
+        /**
+         * Ctor.
+         * @param commentId Comment id.
+         * @param author Author's username.
+         * @param body Comment body.
+         */
+        public Indexed(
+            final String commentId,
+            final String author,
+            final String body
+        ) {
+            this.commentId = commentId;
+            this.author = author;
+            this.body = body;
+        }
+
+        @Override
+        public String commentId() {
+            return this.commentId;
+        }
+
+        @Override
+        public String author() {
+            return this.author;
+        }
+
+        @Override
+        public String body() {
+            return this.body;
+        }
+
+        @Override
+        public JsonObject json() {
+            return Json.createObjectBuilder()
+                .add("id", this.commentId)
+                .add(
+                    "user",
+                    Json.createObjectBuilder().add("login", this.author)
+                )
+                .add("body", this.body)
+                .build();
+        }
+    }
+
+    /**
+     * Index of a Storage which doesn't keep one: nothing is indexed, so
+     * the comments are always looked up at the Provider.
+     */
+    final class None implements PostedComments {
+
+        @Override
+        public boolean indexed(final Issue issue) {
+            return false;
+        }
+
+        @Override
+        public Comment find(final Issue issue, final String body) {
+            return null;
+        }
+
+        @Override
+        public void add(final Issue issue, final Comment comment) {
+            // nothing to index.
+        }
+    }
+}
@@ -95,6 +95,15 @@ public interface ProjectManager {
      */
     void reopenedIssue(final Event event);
 
+    /**
+     * Handle the "closed" Issue event. By default, nothing happens:
+     * the closed Issues are also found by the "assigned tasks" event.
+     * @param event Event.
+     */
+    default void closedIssue(final Event event) {
+        // nothing to do, the assigned tasks event finds it later
+    }
+
     /**
      * Handle the "unassinged tasks" event.
      * @param event Event.
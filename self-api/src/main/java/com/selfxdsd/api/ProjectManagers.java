@@ -47,6 +47,17 @@ public interface ProjectManagers extends Iterable<ProjectManager> {
      */
     ProjectManager getByUsername(final String username, final String provider);
 
+    /**
+     * Is there a PM with this username at the provider? By default,
+     * the PM is looked up; implementations may answer from a cache.
+     * @param username Username.
+     * @param provider Provider.
+     * @return True or false.
+     */
+    default boolean contains(final String username, final String provider) {
+        return this.getByUsername(username, provider) != null;
+    }
+
     /**
      * Pick a ProjectManager from a specific repository.
      * @param provider Provider name of the repository.
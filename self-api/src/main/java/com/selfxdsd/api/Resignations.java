@@ -22,6 +22,9 @@
  */
 package com.selfxdsd.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Task resignations.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -45,6 +48,25 @@ public interface Resignations extends Iterable<Resignation> {
      */
     Resignation register(final Task task, final String reason);
 
+    /**
+     * Registers the resignations from many tasks, for the same reason.
+     * By default, they are registered one by one; storages which can
+     * write in bulk should override it.
+     * @param tasks Tasks.
+     * @param reason Given {@link Resignations.Reason}.
+     * @return Created Resignations, in the order of the given Tasks.
+     */
+    default List<Resignation> registerAll(
+        final List<Task> tasks,
+        final String reason
+    ) {
+        final List<Resignation> registered = new ArrayList<>();
+        for(final Task task : tasks) {
+            registered.add(this.register(task, reason));
+        }
+        return registered;
+    }
+
     /**
      * Possible reasons for resignation.
      */
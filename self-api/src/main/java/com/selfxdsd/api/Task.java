@@ -100,6 +100,25 @@ public interface Task {
      */
     LocalDateTime deadline();
 
+    /**
+     * When was the assignee last reminded of the deadline? By default,
+     * the reminders are not recorded.
+     * @return LocalDateTime or null, if they were not reminded.
+     */
+    default LocalDateTime reminded() {
+        return null;
+    }
+
+    /**
+     * How many reminders of the deadline were sent to the assignee
+     * (the reminder tier reached so far). By default, the reminders
+     * are not recorded.
+     * @return Integer.
+     */
+    default int reminders() {
+        return 0;
+    }
+
     /**
      * Value of this Task in cents.
      * @return BigDecimal.
@@ -22,6 +22,11 @@
  */
 package com.selfxdsd.api;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Tasks managed by Self.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -50,6 +55,20 @@ public interface Tasks extends Iterable<Task> {
      */
     Task register(final Issue issue);
 
+    /**
+     * Register many Issues as Tasks. By default, they are registered
+     * one by one; storages which can write in bulk should override it.
+     * @param issues Issues to be registered.
+     * @return Registered Tasks, in the order of the given Issues.
+     */
+    default List<Task> registerAll(final List<Issue> issues) {
+        final List<Task> registered = new ArrayList<>();
+        for(final Issue issue : issues) {
+            registered.add(this.register(issue));
+        }
+        return registered;
+    }
+
     /**
      * Assign a Task to a given Contract.
      * @param task Task to be assigned.
@@ -66,6 +85,26 @@ public interface Tasks extends Iterable<Task> {
      */
     Task unassign(Task task);
 
+    /**
+     * Record that the assignee of the Task was reminded of the deadline.
+     * The returned Task has its reminders() increased and reminded() set
+     * to the given moment, and so does the Task read again from the
+     * Storage: it is not due again until its next reminder tier, so the
+     * sweeps never send the same reminder twice. Storages which cannot
+     * record the reminders must not pretend to, so by default this
+     * method throws UnsupportedOperationException and no reminder is
+     * sent.
+     * @param task Assigned Task.
+     * @param moment When the reminder was sent.
+     * @return The reminded Task.
+     */
+    default Task remind(final Task task, final LocalDateTime moment) {
+        throw new UnsupportedOperationException(
+            "These Tasks cannot record the reminder of Task #"
+            + task.issueId() + ", so it is not sent."
+        );
+    }
+
     /**
      * Get the tasks of a given Project.
      * @param repoFullName Full name of the Repo that the Project represents.
@@ -99,6 +138,21 @@ public interface Tasks extends Iterable<Task> {
      */
     Tasks unassigned();
 
+    /**
+     * Get the assigned Tasks which need attention by the given moment,
+     * because their next reminder time (the middle of the allotted
+     * period, if they were not reminded yet) or their deadline is
+     * not after it. The result may also hold Tasks which do not need
+     * attention yet, so the caller still has to check each of them. By
+     * default, all the assigned Tasks are returned; storages which can
+     * index the Tasks by their next moment should override it.
+     * @param moment Moment.
+     * @return Tasks.
+     */
+    default Tasks dueBefore(final LocalDateTime moment) {
+        return new Assigned(this);
+    }
+
     /**
      * Remove a Task from storage.
      * @param task Task to be removed.
@@ -106,4 +160,122 @@ public interface Tasks extends Iterable<Task> {
      */
     boolean remove(final Task task);
 
+    /**
+     * Remove many Tasks from storage. By default, they are removed
+     * one by one; storages which can write in bulk should override it.
+     * @param tasks Tasks to be removed.
+     * @return Number of Tasks successfully removed.
+     */
+    default int removeAll(final List<Task> tasks) {
+        int removed = 0;
+        for(final Task task : tasks) {
+            if(this.remove(task)) {
+                ++removed;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * The assigned Tasks, filtered in memory out of other Tasks.
+     * The writes go to the other Tasks.
+     */
+    final class Assigned implements Tasks {
+
+        /**
+         * Tasks to filter.
+         */
+        private final Tasks origin;
+
+        /**
+         * Ctor.
+         * @param origin Tasks to filter.
+         */
+        public Assigned(final Tasks origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public Task getById(
+            final String issueId,
+            final String repoFullName,
+            final String provider
+        ) {
+            Task found = this.origin.getById(issueId, repoFullName, provider);
+            if(found != null && found.assignee() == null) {
+                found = null;
+            }
+            return found;
+        }
+
+        @Override
+        public Task register(final Issue issue) {
+            return this.origin.register(issue);
+        }
+
+        @Override
+        public Task assign(
+            final Task task,
+            final Contract contract,
+            final int days
+        ) {
+            return this.origin.assign(task, contract, days);
+        }
+
+        @Override
+        public Task unassign(final Task task) {
+            return this.origin.unassign(task);
+        }
+
+        @Override
+        public Task remind(final Task task, final LocalDateTime moment) {
+            return this.origin.remind(task, moment);
+        }
+
+        @Override
+        public Tasks ofProject(
+            final String repoFullName,
+            final String repoProvider
+        ) {
+            return new Assigned(
+                this.origin.ofProject(repoFullName, repoProvider)
+            );
+        }
+
+        @Override
+        public Tasks ofContributor(
+            final String username,
+            final String provider
+        ) {
+            return new Assigned(
+                this.origin.ofContributor(username, provider)
+            );
+        }
+
+        @Override
+        public Tasks ofContract(final Contract.Id id) {
+            return new Assigned(this.origin.ofContract(id));
+        }
+
+        @Override
+        public Tasks unassigned() {
+            return new Assigned(this.origin.unassigned());
+        }
+
+        @Override
+        public boolean remove(final Task task) {
+            return this.origin.remove(task);
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            final List<Task> assigned = new ArrayList<>();
+            for(final Task task : this.origin) {
+                if(task.assignee() != null) {
+                    assigned.add(task);
+                }
+            }
+            return assigned.iterator();
+        }
+    }
 }
@@ -58,11 +58,7 @@ public interface Wallet {
      * @return BigDecimal.
      */
     default BigDecimal debt() {
-        BigDecimal debt = BigDecimal.valueOf(0);
-        for(final Contract contract : this.project().contracts()) {
-            debt = debt.add(contract.value());
-        }
-        return debt;
+        return new Debts.Computed().ofProject(this.project());
     }
     /**
      * Pay an invoice.
@@ -133,6 +129,11 @@ public interface Wallet {
          */
         private final String identifier;
 
+        /**
+         * Debts of the Projects.
+         */
+        private final Debts debts;
+
         /**
          * Ctor.
          * @param project Project to which this wallet belongs.
@@ -145,12 +146,32 @@ public interface Wallet {
             final BigDecimal cash,
             final boolean active,
             final String identifier
+        ) {
+            this(project, cash, active, identifier, new Debts.Computed());
+        }
+
+        /**
+         * Ctor.
+         * @param project Project to which this wallet belongs.
+         * @param cash Cash in the wallet.
+         * @param active Is it active or not?
+         * @param identifier Wallet identifier.
+         * @param debts Debts of the Projects.
+         * @checkstyle ParameterNumber (10 lines)
+         */
+        public Missing(
+            final Project project,
+            final BigDecimal cash,
+            final boolean active,
+            final String identifier,
+            final Debts debts
         ) {
             this.project = project;
             this.cash = cash;
             this.type = Type.FAKE;
             this.active = active;
             this.identifier = identifier;
+            this.debts = debts;
         }
 
         @Override
@@ -158,6 +179,11 @@ public interface Wallet {
             return this.cash;
         }
 
+        @Override
+        public BigDecimal debt() {
+            return this.debts.ofProject(this.project);
+        }
+
         @Override
         public Wallet pay(final Invoice invoice) {
             if(invoice.isPaid()) {
@@ -174,7 +200,7 @@ public interface Wallet {
                 );
             }
             return new Missing(this.project, newCash, this.active,
-                this.identifier);
+                this.identifier, this.debts);
         }
 
         @Override
@@ -195,7 +221,7 @@ public interface Wallet {
         @Override
         public Wallet updateCash(final BigDecimal cash) {
             return new Missing(this.project, cash, this.active,
-                this.identifier);
+                this.identifier, this.debts);
         }
 
         @Override
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.api;
+
+import com.selfxdsd.api.storage.Storage;
+
+/**
+ * Workloads of the Contributors: how many open (assigned) Tasks
+ * each of them holds.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public interface Workloads {
+
+    /**
+     * Number of Tasks assigned to a Contributor.
+     * @param contributor The Contributor.
+     * @return Number of open Tasks.
+     */
+    int ofContributor(final Contributor contributor);
+
+    /**
+     * Workloads counted from the Tasks in Storage, on every call.
+     */
+    final class Counted implements Workloads {
+
+        /**
+         * Self storage.
+         */
+        private final Storage storage;
+
+        /**
+         * Ctor.
+         * @param storage Self storage.
+         */
+        public Counted(final Storage storage) {
+            this.storage = storage;
+        }
+
+        @Override
+        public int ofContributor(final Contributor contributor) {
+            int count = 0;
+            for(final Task task : this.storage.tasks().ofContributor(
+                contributor.username(), contributor.provider()
+            )) {
+                ++count;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.api.pm;
+
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.Event;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Step which is performed only if the current Deadline has not
+ * passed. Follow-up steps are wrapped in it, so a chain of steps
+ * is cancelled once the Event's deadline passes.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class BeforeDeadline implements Step {
+
+    /**
+     * Step to perform.
+     */
+    private final Step origin;
+
+    /**
+     * Ctor.
+     * @param origin Step to perform.
+     */
+    BeforeDeadline(final Step origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public void perform(final Event event) {
+        Deadline.current().check();
+        this.origin.perform(event);
+    }
+
+    @Override
+    public CompletionStage<Void> performAsync(final Event event) {
+        CompletionStage<Void> done;
+        try {
+            Deadline.current().check();
+            done = this.origin.performAsync(event);
+        } catch (final RuntimeException ex) {
+            done = CompletableFuture.failedFuture(ex);
+        }
+        return done;
+    }
+}
@@ -24,6 +24,9 @@ package com.selfxdsd.api.pm;
 
 import com.selfxdsd.api.Event;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * Conversation that the PM has through Issue comments.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -43,4 +46,21 @@ public interface Conversation {
      */
     Step start(final Event event);
 
+    /**
+     * Start the conversation and perform the resulting steps
+     * asynchronously.
+     * @param event Event which started the conversation. It should
+     *  contain a Comment.
+     * @return Stage completed when all the steps are done.
+     */
+    default CompletionStage<Void> startAsync(final Event event) {
+        CompletionStage<Void> done;
+        try {
+            done = this.start(event).performAsync(event);
+        } catch (final RuntimeException ex) {
+            done = CompletableFuture.failedFuture(ex);
+        }
+        return done;
+    }
+
 }
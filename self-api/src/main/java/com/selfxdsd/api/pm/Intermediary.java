@@ -44,11 +44,12 @@ public abstract class Intermediary implements Step {
     }
 
     /**
-     * Get the next step to perform.
+     * Get the next step to perform. It is not performed if
+     * the current Deadline has passed.
      * @return Step.
      */
     public final Step next() {
-        return this.nextStep;
+        return new BeforeDeadline(this.nextStep);
     }
 
 }
@@ -55,18 +55,20 @@ public abstract class PreconditionCheck implements Step {
     }
 
     /**
-     * Step to perform on successful check.
+     * Step to perform on successful check. It is not performed if
+     * the current Deadline has passed.
      * @return Step
      */
     public final Step onTrue() {
-        return this.onTrue;
+        return new BeforeDeadline(this.onTrue);
     }
 
     /**
-     * Step to perform on failed check.
+     * Step to perform on failed check. It is not performed if
+     * the current Deadline has passed.
      * @return Step
      */
     public final Step onFalse() {
-        return this.onFalse;
+        return new BeforeDeadline(this.onFalse);
     }
 }
@@ -24,6 +24,9 @@ package com.selfxdsd.api.pm;
 
 import com.selfxdsd.api.Event;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 /**
  * A Step performed by the PM in order to resolve
  * an {@link com.selfxdsd.api.Event}.
@@ -39,4 +42,23 @@ public interface Step {
      */
     void perform(final Event event);
 
+    /**
+     * Perform this step asynchronously. By default, the step is
+     * performed right away, in the calling thread, and the returned
+     * stage is already completed (exceptionally, if the step failed).
+     * Steps which can overlap with others should override it.
+     * @param event Event that triggered everything.
+     * @return Stage completed when the step (and its follow-ups) is done.
+     */
+    default CompletionStage<Void> performAsync(final Event event) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            this.perform(event);
+            done.complete(null);
+        } catch (final RuntimeException ex) {
+            done.completeExceptionally(ex);
+        }
+        return done;
+    }
+
 }
@@ -103,4 +103,44 @@ public interface Storage extends AutoCloseable {
      * @return PaymentMethods.
      */
     PaymentMethods paymentMethods();
+
+    /**
+     * Get the debts of the Projects. By default, they are computed
+     * from the Contracts on every call; storages which can keep them
+     * up to date as the Tasks are written should override it.
+     * @return Debts.
+     */
+    default Debts debts() {
+        return new Debts.Computed();
+    }
+
+    /**
+     * Get the workloads of the Contributors. By default, they are
+     * counted from the Tasks on every call; storages which can keep them
+     * up to date as the Tasks are written should override it.
+     * @return Workloads.
+     */
+    default Workloads workloads() {
+        return new Workloads.Counted(this);
+    }
+
+    /**
+     * Get the Outbox of the writes on the Providers' Issues. By default,
+     * there is none and the writes are made right away; storages which
+     * can record them together with their own writes should override it.
+     * @return Outbox.
+     */
+    default Outbox outbox() {
+        return new Outbox.Immediate();
+    }
+
+    /**
+     * Get the index of the comments posted on the Providers' Issues.
+     * By default, there is none and the comments are looked up at the
+     * Provider before posting.
+     * @return PostedComments.
+     */
+    default PostedComments postedComments() {
+        return new PostedComments.None();
+    }
 }
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Repo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Activation of many Repos at once (e.g. all the repos of an
+ * organization). At most the given number of Repos are activated
+ * at the same time, so the provider's API and the Storage are not
+ * flooded. A failed activation does not stop the others, the result
+ * of each Repo is reported.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Activations {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        Activations.class
+    );
+
+    /**
+     * Repos to activate.
+     */
+    private final Iterable<Repo> repos;
+
+    /**
+     * How many Repos are activated at the same time.
+     */
+    private final int concurrency;
+
+    /**
+     * Ctor.
+     * @param repos Repos to activate.
+     * @param concurrency How many Repos are activated at the same time.
+     */
+    public Activations(final Iterable<Repo> repos, final int concurrency) {
+        if(concurrency < 1) {
+            throw new IllegalArgumentException(
+                "Concurrency must be at least 1, but was " + concurrency + "."
+            );
+        }
+        this.repos = repos;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Activate the Repos.
+     * @return Result of each Repo, in the order of the Repos.
+     */
+    public List<Activation> activate() {
+        final AtomicInteger threads = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(
+            this.concurrency,
+            task -> {
+                final Thread thread = new Thread(
+                    task, "self-activations-" + threads.incrementAndGet()
+                );
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        try {
+            final List<CompletableFuture<Activation>> started =
+                new ArrayList<>();
+            for(final Repo repo : this.repos) {
+                started.add(
+                    CompletableFuture.supplyAsync(
+                        () -> Activations.activate(repo), pool
+                    )
+                );
+            }
+            return started.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Activate one Repo.
+     * @param repo Repo.
+     * @return Activation.
+     */
+    private static Activation activate(final Repo repo) {
+        Activation activation;
+        try {
+            activation = new Activation(repo, repo.activate(), null);
+        } catch (final RuntimeException ex) {
+            LOG.warn("Could not activate a Repo.", ex);
+            activation = new Activation(repo, null, ex);
+        }
+        return activation;
+    }
+
+    /**
+     * Result of activating one Repo.
+     */
+    public static final class Activation {
+
+        /**
+         * The Repo.
+         */
+        private final Repo repo;
+
+        /**
+         * The Project, null if the activation failed.
+         */
+        private final Project project;
+
+        /**
+         * Why the activation failed, null if it succeeded.
+         */
+        private final RuntimeException failure;
+
+        /**
+         * Ctor.
+         * @param repo The Repo.
+         * @param project The Project, null if the activation failed.
+         * @param failure Why the activation failed, null if it succeeded.
+         */
+        Activation(
+            final Repo repo,
+            final Project project,
+            final RuntimeException failure
+        ) {
+            this.repo = repo;
+            this.project = project;
+            this.failure = failure;
+        }
+
+        /**
+         * The activated Repo.
+         * @return Repo.
+         */
+        public Repo repo() {
+            return this.repo;
+        }
+
+        /**
+         * Did the activation succeed?
+         * @return True or false.
+         */
+        public boolean successful() {
+            return this.failure == null;
+        }
+
+        /**
+         * The Project.
+         * @return Project or null, if the activation failed.
+         */
+        public Project project() {
+            return this.project;
+        }
+
+        /**
+         * Why the activation failed (e.g. RepoException.AlreadyActive).
+         * @return RuntimeException or null, if it succeeded.
+         */
+        public RuntimeException failure() {
+            return this.failure;
+        }
+    }
+}
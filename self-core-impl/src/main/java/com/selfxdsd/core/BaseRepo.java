@@ -126,6 +126,12 @@ abstract class BaseRepo implements Repo {
         return this.uri;
     }
 
+    /**
+     * Activate the repo: register the Project and set up its fake
+     * Wallet, then let the PM onboard it. The PM makes its independent
+     * calls to the provider (invitation, webhook) at the same time.
+     * @return Project.
+     */
     @Override
     public Project activate() {
         final boolean isActive = this.storage().projects()
@@ -148,6 +154,7 @@ abstract class BaseRepo implements Repo {
                 .replace("-", "")
         );
         wallets.activate(wallet);
+        project.resolve(new Activated(project));
         return project;
     }
 
@@ -156,4 +163,46 @@ abstract class BaseRepo implements Repo {
         return owner().provider().name();
     }
 
+    /**
+     * Event of a Project's activation.
+     */
+    private static final class Activated implements Event {
+
+        /**
+         * Activated Project.
+         */
+        private final Project project;
+
+        /**
+         * Ctor.
+         * @param project Activated Project.
+         */
+        Activated(final Project project) {
+            this.project = project;
+        }
+
+        @Override
+        public String type() {
+            return Type.ACTIVATE;
+        }
+
+        @Override
+        public Issue issue() {
+            throw new UnsupportedOperationException(
+                "No Issue in the activate event"
+            );
+        }
+
+        @Override
+        public Comment comment() {
+            throw new UnsupportedOperationException(
+                "No Comment in the activate event"
+            );
+        }
+
+        @Override
+        public Project project() {
+            return this.project;
+        }
+    }
 }
@@ -24,26 +24,94 @@ package com.selfxdsd.core;
 
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.managers.Courier;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Base Self implementation.
+ * Base Self implementation. Once started, it also runs the
+ * {@link Courier}, which delivers the messages of the Storage's outbox
+ * periodically.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 0.0.1
  */
 abstract class BaseSelf implements Self {
 
+    /**
+     * How often the outbox is checked for due messages, by default.
+     */
+    private static final Duration DELIVER_EVERY = Duration.ofSeconds(10);
+
     /**
      * Self's storage.
      */
     private final Storage storage;
 
+    /**
+     * How often the outbox is checked for due messages.
+     */
+    private final Duration every;
+
+    /**
+     * Runs the Courier, if started.
+     */
+    private final AtomicReference<ScheduledExecutorService> courier;
+
     /**
      * Constructor.
      * @param storage Storage for Self.
      */
     BaseSelf(final Storage storage) {
+        this(storage, BaseSelf.DELIVER_EVERY);
+    }
+
+    /**
+     * Constructor.
+     * @param storage Storage for Self.
+     * @param every How often the outbox is checked for due messages.
+     */
+    BaseSelf(final Storage storage, final Duration every) {
         this.storage = storage;
+        this.every = every;
+        this.courier = new AtomicReference<>();
+    }
+
+    /**
+     * Start delivering the messages of the Storage's outbox, on a
+     * daemon thread, until closed. Nothing is started if the outbox makes
+     * the writes right away ({@link Outbox.Immediate}) or if it was
+     * already started.
+     * @return This Self.
+     */
+    public final Self start() {
+        if(!(this.storage.outbox() instanceof Outbox.Immediate)) {
+            final ScheduledExecutorService started =
+                Executors.newSingleThreadScheduledExecutor(
+                    task -> {
+                        final Thread thread = new Thread(
+                            task, "self-courier"
+                        );
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                );
+            if(this.courier.compareAndSet(null, started)) {
+                started.scheduleWithFixedDelay(
+                    new Courier(this.storage),
+                    this.every.toMillis(),
+                    this.every.toMillis(),
+                    TimeUnit.MILLISECONDS
+                );
+            } else {
+                started.shutdown();
+            }
+        }
+        return this;
     }
 
     /**
@@ -84,10 +152,25 @@ abstract class BaseSelf implements Self {
         return this.storage.contributors();
     }
 
+    /**
+     * Stop the Courier, if started, waiting up to a minute for a running
+     * delivery, then close the Storage.
+     * @throws Exception If the Storage cannot be closed.
+     */
     @Override
     public void close() throws Exception {
+        final ScheduledExecutorService started = this.courier.get();
+        if(started != null) {
+            started.shutdown();
+            try {
+                started.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
         this.storage.close();
     }
+
     /**
      * User authenticated with an access token from the provider.
      */
@@ -24,13 +24,20 @@ package com.selfxdsd.core;
 
 import com.selfxdsd.api.Comment;
 import com.selfxdsd.api.Comments;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.PostedComments;
 
 import javax.json.JsonObject;
 import java.util.Iterator;
 
 /**
  * Comments decorator which makes sure a comment is not posted
- * if it already exists.
+ * if it already exists. The posted comments are looked up in the
+ * Storage's index, so posting costs no extra read from the Provider.
+ * Only an Issue which has nothing indexed yet (e.g. one commented
+ * on before the index existed) is read from the Provider, once: all
+ * its comments are indexed then, so the index is complete from the
+ * moment the Issue has anything in it.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 0.0.8
@@ -42,25 +49,46 @@ final class DoNotRepeat implements Comments {
      */
     private final Comments origin;
 
+    /**
+     * Issue which the comments belong to.
+     */
+    private final Issue issue;
+
+    /**
+     * Index of the posted comments.
+     */
+    private final PostedComments index;
+
     /**
      * Ctor.
      * @param origin Original comments.
+     * @param issue Issue which the comments belong to.
+     * @param index Index of the posted comments.
      */
-    DoNotRepeat(final Comments origin) {
+    DoNotRepeat(
+        final Comments origin,
+        final Issue issue,
+        final PostedComments index
+    ) {
         this.origin = origin;
+        this.issue = issue;
+        this.index = index;
     }
 
     @Override
     public Comment post(final String body) {
-        Comment posted = null;
-        for(final Comment comment : this.origin) {
-            if(comment.body().equalsIgnoreCase(body)) {
-                posted = comment;
-                break;
+        Comment posted = this.index.find(this.issue, body);
+        if(posted == null && !this.index.indexed(this.issue)) {
+            for(final Comment comment : this.origin) {
+                this.index.add(this.issue, comment);
+                if(posted == null && comment.body().equalsIgnoreCase(body)) {
+                    posted = comment;
+                }
             }
         }
         if(posted == null) {
             posted = this.origin.post(body);
+            this.index.add(this.issue, posted);
         }
         return posted;
     }
@@ -74,4 +74,16 @@ public final class Env {
      * Webhook Base URL. E.g. http://self-xdsd.go.ro/pm
      */
     public static final String WEBHOOK_BASE_URL = "self_webhook_base_url";
+
+    /**
+     * How the PM elects Contributors: random (default), leastLoaded
+     * or roundRobin.
+     */
+    public static final String ELECTION_STRATEGY = "self_election_strategy";
+
+    /**
+     * Prefix of the env variables listing, comma-separated, more known
+     * chatbots of a provider. E.g. self_known_bots_github=bot1,bot2
+     */
+    public static final String KNOWN_BOTS = "self_known_bots_";
 }
@@ -209,7 +209,9 @@ final class GithubIssue implements Issue {
     @Override
     public Comments comments() {
         return new DoNotRepeat(
-            new GithubIssueComments(this.issueUri, this.resources)
+            new GithubIssueComments(this.issueUri, this.resources),
+            this,
+            this.storage.postedComments()
         );
     }
 
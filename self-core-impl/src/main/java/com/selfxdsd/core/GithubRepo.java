@@ -52,40 +52,6 @@ final class GithubRepo extends BaseRepo {
         super(resources, uri, owner, storage);
     }
 
-    @Override
-    public Project activate() {
-        final Project project = super.activate();
-        project.resolve(
-            new Event() {
-                @Override
-                public String type() {
-                    return Type.ACTIVATE;
-                }
-
-                @Override
-                public Issue issue() {
-                    throw new UnsupportedOperationException(
-                        "No Issue in the activate event"
-                    );
-                }
-
-                @Override
-                public Comment comment() {
-                    throw new UnsupportedOperationException(
-                        "No Comment in the activate event"
-                    );
-                }
-
-                @Override
-                public Project project() {
-                    return project;
-                }
-
-            }
-        );
-        return project;
-    }
-
     @Override
     public String fullName() {
         return this.json().getString("full_name");
@@ -74,40 +74,6 @@ final class GitlabRepo extends BaseRepo {
         return new GitlabRepo(resources, repo, owner, storage);
     }
 
-    @Override
-    public Project activate() {
-        final Project project = super.activate();
-        project.resolve(
-            new Event() {
-                @Override
-                public String type() {
-                    return Type.ACTIVATE;
-                }
-
-                @Override
-                public Issue issue() {
-                    throw new UnsupportedOperationException(
-                        "No Issue in the activate event"
-                    );
-                }
-
-                @Override
-                public Comment comment() {
-                    throw new UnsupportedOperationException(
-                        "No Comment in the activate event"
-                    );
-                }
-
-                @Override
-                public Project project() {
-                    return project;
-                }
-
-            }
-        );
-        return project;
-    }
-
     @Override
     public String fullName() {
         return this.json().getString("path_with_namespace");
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Contract;
+
+/**
+ * Canonical identity values: the names (repo full names, usernames,
+ * providers, roles) and the Contract ids the Stored entities and the
+ * storages are keyed by. Rows read from a database come with fresh
+ * copies of these strings, so interning them keeps a single instance
+ * of each name and of each Contract.Id in memory, no matter how
+ * many Tasks, Contracts or Invoices refer to it.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Identities {
+
+    /**
+     * Canonical names.
+     */
+    private static final Interner<String> NAMES = new Interner<>();
+
+    /**
+     * Canonical Contract ids.
+     */
+    private static final Interner<Contract.Id> CONTRACTS = new Interner<>();
+
+    /**
+     * Hidden ctor.
+     */
+    private Identities() { }
+
+    /**
+     * Canonical instance of a name (repo full name, username,
+     * provider or role).
+     * @param name Name, may be null.
+     * @return Canonical name.
+     */
+    public static String name(final String name) {
+        return Identities.NAMES.intern(name);
+    }
+
+    /**
+     * Canonical Contract id.
+     * @param repoFullName Repo full name.
+     * @param username Contributor's username.
+     * @param provider Provider.
+     * @param role Role.
+     * @return Contract.Id.
+     */
+    public static Contract.Id contract(
+        final String repoFullName,
+        final String username,
+        final String provider,
+        final String role
+    ) {
+        return Identities.contract(
+            new Contract.Id(repoFullName, username, provider, role)
+        );
+    }
+
+    /**
+     * Canonical instance of a Contract id.
+     * @param id Contract id, may be null.
+     * @return Contract.Id.
+     */
+    public static Contract.Id contract(final Contract.Id id) {
+        return Identities.CONTRACTS.intern(
+            id,
+            found -> new Contract.Id(
+                Identities.name(found.getRepoFullName()),
+                Identities.name(found.getContributorUsername()),
+                Identities.name(found.getProvider()),
+                Identities.name(found.getRole())
+            )
+        );
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Pool of canonical instances of immutable values. Equal values handed
+ * to {@link #intern(Object)} come back as the same instance, so the
+ * duplicates can be collected. The pool holds its instances weakly:
+ * once nothing else refers to a value, it leaves the pool too. The
+ * pool is a concurrent map, so interning takes no lock and threads
+ * interning different values do not wait for each other.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ * @param <T> Type of the values, must be immutable.
+ */
+public final class Interner<T> {
+
+    /**
+     * Canonical instances, each keyed by its own reference.
+     */
+    private final Map<Held<T>, Held<T>> pool = new ConcurrentHashMap<>();
+
+    /**
+     * References of the collected instances, to be removed from the pool.
+     */
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * The canonical instance equal to the given value.
+     * @param value Value, may be null.
+     * @return Canonical instance, null if the value is null.
+     */
+    public T intern(final T value) {
+        return this.intern(value, UnaryOperator.identity());
+    }
+
+    /**
+     * The canonical instance equal to the given value.
+     * @param value Value, may be null.
+     * @param copy Makes the instance to keep, if the value is not
+     *  in the pool yet (e.g. one made of canonical parts). It must
+     *  return a value equal to the given one.
+     * @return Canonical instance, null if the value is null.
+     */
+    public T intern(final T value, final UnaryOperator<T> copy) {
+        T canonical = null;
+        if(value != null) {
+            this.expunge();
+            final Held<T> probe = new Held<>(value, null);
+            while(canonical == null) {
+                final Held<T> held = this.pool.get(probe);
+                if(held != null) {
+                    canonical = held.get();
+                }
+                if(canonical == null) {
+                    final T made = copy.apply(value);
+                    final Held<T> fresh = new Held<>(made, this.collected);
+                    final Held<T> raced = this.pool.putIfAbsent(fresh, fresh);
+                    if(raced == null) {
+                        canonical = made;
+                    } else {
+                        canonical = raced.get();
+                    }
+                }
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * Number of values in the pool.
+     * @return Integer.
+     */
+    public int size() {
+        this.expunge();
+        return this.pool.size();
+    }
+
+    /**
+     * Remove the references of the collected instances from the pool.
+     */
+    private void expunge() {
+        Reference<? extends T> cleared = this.collected.poll();
+        while(cleared != null) {
+            this.pool.remove(cleared);
+            cleared = this.collected.poll();
+        }
+    }
+
+    /**
+     * Weak reference to an instance, equal to the references of equal
+     * instances. A cleared reference is only equal to itself, so it can
+     * still be removed from the pool.
+     * @param <T> Type of the instance.
+     */
+    private static final class Held<T> extends WeakReference<T> {
+
+        /**
+         * Hash code of the instance, kept after it is collected.
+         */
+        private final int hash;
+
+        /**
+         * Ctor.
+         * @param instance Instance.
+         * @param queue Queue receiving the reference once the instance
+         *  is collected, null if it is not removed from anywhere.
+         */
+        Held(final T instance, final ReferenceQueue<T> queue) {
+            super(instance, queue);
+            this.hash = instance.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            boolean equal = this == other;
+            if(!equal && other instanceof Held) {
+                final Object instance = this.get();
+                equal = instance != null
+                    && instance.equals(((Held<?>) other).get());
+            }
+            return equal;
+        }
+    }
+}
@@ -22,6 +22,9 @@
  */
 package com.selfxdsd.core;
 
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.exceptions.DeadlineExceededException;
+
 import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonObject;
@@ -32,6 +35,7 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 
 /**
  * JSON Resources used by the Provider.
@@ -122,6 +126,16 @@ public interface JsonResources {
      */
     final class JdkHttp implements JsonResources {
 
+        /**
+         * Timeout for connecting, if the Event has no closer Deadline.
+         */
+        private static final Duration CONNECT = Duration.ofSeconds(10);
+
+        /**
+         * Timeout for a request, if the Event has no closer Deadline.
+         */
+        private static final Duration REQUEST = Duration.ofSeconds(60);
+
         /**
          * Access token.
          */
@@ -150,7 +164,7 @@ public interface JsonResources {
         @Override
         public Resource get(final URI uri) {
             try {
-                final HttpResponse<String> response = HttpClient.newHttpClient()
+                final HttpResponse<String> response = this.client()
                     .send(
                         this.request(
                             uri,
@@ -176,7 +190,7 @@ public interface JsonResources {
             final JsonValue body
         ) {
             try {
-                final HttpResponse<String> response = HttpClient.newHttpClient()
+                final HttpResponse<String> response = this.client()
                     .send(
                         this.request(
                             uri,
@@ -205,7 +219,7 @@ public interface JsonResources {
             final JsonValue body
         ) {
             try {
-                final HttpResponse<String> response = HttpClient.newHttpClient()
+                final HttpResponse<String> response = this.client()
                     .send(
                         this.request(
                             uri,
@@ -231,7 +245,7 @@ public interface JsonResources {
         @Override
         public Resource put(final URI uri, final JsonValue body) {
             try {
-                final HttpResponse<String> response = HttpClient.newHttpClient()
+                final HttpResponse<String> response = this.client()
                     .send(
                         this.request(
                             uri,
@@ -257,7 +271,7 @@ public interface JsonResources {
         @Override
         public Resource delete(final URI uri, final JsonValue body) {
             try {
-                final HttpResponse<String> response = HttpClient.newHttpClient()
+                final HttpResponse<String> response = this.client()
                     .send(
                         this.request(
                             uri,
@@ -281,7 +295,37 @@ public interface JsonResources {
         }
 
         /**
-         * Build and return the HTTP Request.
+         * HTTP Client which connects before the current Deadline.
+         * @return HttpClient.
+         * @throws DeadlineExceededException If the Deadline has passed.
+         */
+        private HttpClient client() {
+            Deadline.current().check();
+            return HttpClient.newBuilder()
+                .connectTimeout(JdkHttp.timeout(JdkHttp.CONNECT))
+                .build();
+        }
+
+        /**
+         * Time left for a call: the given timeout or the time left until
+         * the current Deadline, if that is shorter.
+         * @param timeout Timeout.
+         * @return Positive Duration.
+         */
+        private static Duration timeout(final Duration timeout) {
+            final Duration left = Deadline.current().remaining(timeout);
+            final Duration positive;
+            if(left.isZero()) {
+                positive = Duration.ofMillis(1);
+            } else {
+                positive = left;
+            }
+            return positive;
+        }
+
+        /**
+         * Build and return the HTTP Request. It times out by the
+         * current Deadline.
          * @param uri URI.
          * @param method Method.
          * @param body Body.
@@ -296,6 +340,7 @@ public interface JsonResources {
             if(this.accessToken != null) {
                 request = HttpRequest.newBuilder()
                     .uri(uri)
+                    .timeout(JdkHttp.timeout(JdkHttp.REQUEST))
                     .method(method, body)
                     .header("Content-Type", "application/json")
                     .header(this.accessToken.header(), this.accessToken.value())
@@ -303,6 +348,7 @@ public interface JsonResources {
             } else {
                 request = HttpRequest.newBuilder()
                     .uri(uri)
+                    .timeout(JdkHttp.timeout(JdkHttp.REQUEST))
                     .method(method, body)
                     .header("Content-Type", "application/json")
                     .build();
@@ -0,0 +1,642 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.exceptions.DeadlineExceededException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lanes in which Events are resolved, by priority. The comments are
+ * interactive: someone is waiting for the reply. The sweeps over a
+ * Project's Tasks are background work. If they are all resolved in the
+ * order they came, a large sweep holds every worker and spends the
+ * provider's quota while the replies wait. A StoredProject resolves
+ * its Events in the shared Lanes and waits for them:
+ * <pre>
+ *   project.resolve(new TimedEvent(event, Duration.ofSeconds(30)));
+ * </pre>
+ * Each Lane has a bounded queue, a limit of Events resolved at the same
+ * time and a budget of Events started per second. The workers are shared:
+ * a free worker takes the next Event from the Lanes which may start one,
+ * by weighted round robin. An Event whose Deadline passed while it was
+ * queued is not resolved anymore. An Event resolved by a worker (e.g.
+ * during another Event) is resolved right away, so the workers never
+ * wait for each other.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Lanes implements AutoCloseable {
+
+    /**
+     * Number of workers of the shared Lanes.
+     */
+    private static final int SHARED_WORKERS = 16;
+
+    /**
+     * Lanes, by Event type.
+     */
+    private final Map<String, Lane> lanes;
+
+    /**
+     * Lane for the other Event types.
+     */
+    private final Lane other;
+
+    /**
+     * All the Lanes, in a fixed order.
+     */
+    private final List<Lane> all;
+
+    /**
+     * Guards the Lanes.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * Signaled when an Event is queued or finished.
+     */
+    private final Condition changed;
+
+    /**
+     * The workers.
+     */
+    private final List<Thread> workers;
+
+    /**
+     * Were the Lanes closed?
+     */
+    private boolean closed;
+
+    /**
+     * Ctor. The sweeps over the assigned and unassigned Tasks go in
+     * a background Lane, which may use at most half of the workers and
+     * start one sweep per second. The other Events go in an interactive
+     * Lane, picked 8 times as often.
+     * @param workers Number of workers.
+     */
+    public Lanes(final int workers) {
+        this(workers, Lanes.background(workers), Lanes.interactive(workers));
+    }
+
+    /**
+     * Ctor.
+     * @param workers Number of workers.
+     * @param background Lane of the sweeps.
+     * @param interactive Lane of the other Events.
+     */
+    private Lanes(
+        final int workers,
+        final Lane background,
+        final Lane interactive
+    ) {
+        this(
+            workers,
+            Map.of(
+                Event.Type.UNASSIGNED_TASKS, background,
+                Event.Type.ASSIGNED_TASKS, background
+            ),
+            interactive
+        );
+    }
+
+    /**
+     * Ctor. A Lane belongs to a single Lanes.
+     * @param workers Number of workers.
+     * @param lanes Lanes, by Event type.
+     * @param other Lane for the other Event types.
+     */
+    public Lanes(
+        final int workers,
+        final Map<String, Lane> lanes,
+        final Lane other
+    ) {
+        if(workers < 1) {
+            throw new IllegalArgumentException(
+                "Workers must be at least 1, but were " + workers + "."
+            );
+        }
+        this.lanes = Map.copyOf(lanes);
+        this.other = other;
+        final Set<Lane> all = new LinkedHashSet<>(lanes.values());
+        all.add(other);
+        this.all = List.copyOf(all);
+        this.lock = new ReentrantLock();
+        this.changed = this.lock.newCondition();
+        this.workers = new ArrayList<>(workers);
+        for(int idx = 0; idx < workers; ++idx) {
+            final Thread worker = new Thread(this::work, "self-lanes-" + idx);
+            worker.setDaemon(true);
+            this.workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * The Lanes shared by the StoredProjects, made when first used.
+     * The workers are daemons, so they never keep the JVM alive.
+     * @return Lanes.
+     */
+    public static Lanes shared() {
+        return Shared.LANES;
+    }
+
+    /**
+     * Queue the Event in its Lane, to be resolved by its Project.
+     * @param event Event.
+     * @return Completes when the Event is resolved. Completes with
+     *  RejectedExecutionException if the Lane is full or the Lanes are
+     *  closed, and with DeadlineExceededException if the Event's Deadline
+     *  passed before it was started.
+     */
+    public CompletableFuture<Void> resolve(final Event event) {
+        return this.resolve(event, () -> event.project().resolve(event));
+    }
+
+    /**
+     * Queue the resolution of the Event in the Event's Lane. If called by
+     * one of the workers, the resolution is performed right away.
+     * @param event Event.
+     * @param resolution Resolution of the Event.
+     * @return Completes when the Event is resolved. Completes with
+     *  RejectedExecutionException if the Lane is full or the Lanes are
+     *  closed, and with DeadlineExceededException if the Event's Deadline
+     *  passed before it was started.
+     */
+    public CompletableFuture<Void> resolve(
+        final Event event,
+        final Runnable resolution
+    ) {
+        final CompletableFuture<Void> resolved = new CompletableFuture<>();
+        final Queued queued = new Queued(event, resolution, resolved);
+        if(this.workers.contains(Thread.currentThread())) {
+            Lanes.perform(queued);
+        } else {
+            this.queue(queued);
+        }
+        return resolved;
+    }
+
+    /**
+     * Stop the workers. The queued Events are rejected, the ones being
+     * resolved are waited for, up to a minute.
+     */
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            this.closed = true;
+            for(final Lane lane : this.all) {
+                for(final Queued queued : lane.queue) {
+                    queued.resolved.completeExceptionally(
+                        new RejectedExecutionException("The Lanes are closed.")
+                    );
+                }
+                lane.queue.clear();
+            }
+            this.changed.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        final long until = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        try {
+            for(final Thread worker : this.workers) {
+                worker.join(
+                    Math.max(
+                        1L,
+                        TimeUnit.NANOSECONDS.toMillis(until - System.nanoTime())
+                    )
+                );
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Loop of a worker: take the next Event and resolve it, until the
+     * Lanes are closed.
+     */
+    private void work() {
+        boolean working = true;
+        while(working) {
+            Lane lane = null;
+            Queued queued = null;
+            this.lock.lock();
+            try {
+                while(!this.closed && lane == null) {
+                    final long now = System.nanoTime();
+                    lane = this.next(now);
+                    if(lane == null) {
+                        final long wait = this.refill(now);
+                        if(wait == Long.MAX_VALUE) {
+                            this.changed.await();
+                        } else {
+                            this.changed.awaitNanos(wait);
+                        }
+                    } else {
+                        queued = lane.queue.poll();
+                        lane.running = lane.running + 1;
+                        if(!queued.expired()) {
+                            lane.budget.take(now);
+                        }
+                    }
+                }
+                working = !this.closed;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                working = false;
+            } finally {
+                this.lock.unlock();
+            }
+            if(queued != null) {
+                this.resolve(lane, queued);
+            }
+        }
+    }
+
+    /**
+     * Resolve a taken Event and free its place in the Lane.
+     * @param lane Lane.
+     * @param queued Taken Event.
+     */
+    private void resolve(final Lane lane, final Queued queued) {
+        try {
+            Lanes.perform(queued);
+        } finally {
+            this.lock.lock();
+            try {
+                lane.running = lane.running - 1;
+                this.changed.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Queue the Event in its Lane.
+     * @param queued Event to queue.
+     */
+    private void queue(final Queued queued) {
+        Lane lane = this.other;
+        final String type = queued.event.type();
+        if(type != null) {
+            lane = this.lanes.getOrDefault(type, this.other);
+        }
+        this.lock.lock();
+        try {
+            if(this.closed) {
+                queued.resolved.completeExceptionally(
+                    new RejectedExecutionException("The Lanes are closed.")
+                );
+            } else if(lane.queue.size() >= lane.capacity) {
+                queued.resolved.completeExceptionally(
+                    new RejectedExecutionException(
+                        "Lane " + lane.name + " is full."
+                    )
+                );
+            } else {
+                lane.queue.add(queued);
+                this.changed.signalAll();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Pick the Lane of the next Event, by smooth weighted round robin
+     * among the Lanes which may start one now. Call it holding the lock.
+     * @param now Current time, in nanoseconds.
+     * @return Lane or null, if no Lane may start an Event now.
+     */
+    private Lane next(final long now) {
+        Lane next = null;
+        long total = 0;
+        for(final Lane lane : this.all) {
+            if(lane.waiting() && lane.budget.delay(now) == 0) {
+                lane.current = lane.current + lane.weight;
+                total = total + lane.weight;
+                if(next == null || lane.current > next.current) {
+                    next = lane;
+                }
+            }
+        }
+        if(next != null) {
+            next.current = next.current - total;
+        }
+        return next;
+    }
+
+    /**
+     * How long until a Lane, which waits only for its budget, may start
+     * an Event. Call it holding the lock.
+     * @param now Current time, in nanoseconds.
+     * @return Nanoseconds, Long.MAX_VALUE if no Lane waits for its budget.
+     */
+    private long refill(final long now) {
+        long wait = Long.MAX_VALUE;
+        for(final Lane lane : this.all) {
+            if(lane.waiting()) {
+                wait = Math.min(wait, lane.budget.delay(now));
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * Resolve the Event, unless its Deadline passed.
+     * @param queued Event.
+     */
+    private static void perform(final Queued queued) {
+        try {
+            if(queued.expired()) {
+                queued.resolved.completeExceptionally(
+                    new DeadlineExceededException()
+                );
+            } else {
+                queued.resolution.run();
+                queued.resolved.complete(null);
+            }
+        } catch (final RuntimeException ex) {
+            queued.resolved.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Default background Lane.
+     * @param workers Number of workers.
+     * @return Lane.
+     */
+    private static Lane background(final int workers) {
+        return new Lane("background", 1, Math.max(1, workers / 2), 1000, 1);
+    }
+
+    /**
+     * Default interactive Lane.
+     * @param workers Number of workers.
+     * @return Lane.
+     */
+    private static Lane interactive(final int workers) {
+        return new Lane("interactive", 8, workers, 1000, 10);
+    }
+
+    /**
+     * A Lane of Events. Its state is guarded by the lock of its Lanes.
+     */
+    public static final class Lane {
+
+        /**
+         * Name.
+         */
+        private final String name;
+
+        /**
+         * Weight.
+         */
+        private final int weight;
+
+        /**
+         * Maximum Events resolved at the same time.
+         */
+        private final int concurrency;
+
+        /**
+         * Maximum queued Events.
+         */
+        private final int capacity;
+
+        /**
+         * Budget of Events started.
+         */
+        private final Budget budget;
+
+        /**
+         * Queued Events.
+         */
+        private final Queue<Queued> queue;
+
+        /**
+         * Events being resolved.
+         */
+        private int running;
+
+        /**
+         * Current weight, in the round robin.
+         */
+        private long current;
+
+        /**
+         * Ctor.
+         * @param name Name.
+         * @param weight Weight: how often this Lane is picked, relative
+         *  to the others, when they all have Events waiting.
+         * @param concurrency Maximum Events resolved at the same time.
+         * @param capacity Maximum queued Events.
+         * @param perSecond Events started per second.
+         * @checkstyle ParameterNumber (10 lines)
+         */
+        public Lane(
+            final String name,
+            final int weight,
+            final int concurrency,
+            final int capacity,
+            final double perSecond
+        ) {
+            if(weight < 1 || concurrency < 1 || capacity < 1) {
+                throw new IllegalArgumentException(
+                    "Weight, concurrency and capacity of Lane " + name
+                    + " must be at least 1."
+                );
+            }
+            this.name = name;
+            this.weight = weight;
+            this.concurrency = concurrency;
+            this.capacity = capacity;
+            this.budget = new Budget(perSecond);
+            this.queue = new ArrayDeque<>();
+        }
+
+        /**
+         * Does this Lane have an Event waiting and room to start it?
+         * @return True or false.
+         */
+        private boolean waiting() {
+            return !this.queue.isEmpty() && this.running < this.concurrency;
+        }
+    }
+
+    /**
+     * Budget of Events started per second, as a token bucket holding
+     * at most one second's worth of tokens. Not thread-safe.
+     */
+    static final class Budget {
+
+        /**
+         * Nanoseconds in a second.
+         */
+        private static final double SECOND = 1_000_000_000D;
+
+        /**
+         * Tokens per second.
+         */
+        private final double rate;
+
+        /**
+         * Tokens left.
+         */
+        private double tokens;
+
+        /**
+         * When the tokens were last refilled, in nanoseconds.
+         */
+        private long refilled;
+
+        /**
+         * Ctor. The budget starts full.
+         * @param rate Tokens per second.
+         */
+        Budget(final double rate) {
+            if(!(rate > 0)) {
+                throw new IllegalArgumentException(
+                    "Rate must be positive, but was " + rate + "."
+                );
+            }
+            this.rate = rate;
+            this.tokens = Math.max(1D, rate);
+            this.refilled = System.nanoTime();
+        }
+
+        /**
+         * How long until a token is available.
+         * @param now Current time, in nanoseconds.
+         * @return Nanoseconds, 0 if a token is available now.
+         */
+        long delay(final long now) {
+            this.refill(now);
+            long wait = 0L;
+            if(this.tokens < 1D) {
+                wait = Math.max(
+                    1L, (long) Math.ceil((1D - this.tokens) / this.rate
+                        * Budget.SECOND)
+                );
+            }
+            return wait;
+        }
+
+        /**
+         * Take a token. The budget may go into debt.
+         * @param now Current time, in nanoseconds.
+         */
+        void take(final long now) {
+            this.refill(now);
+            this.tokens = this.tokens - 1D;
+        }
+
+        /**
+         * Add the tokens earned since the last refill.
+         * @param now Current time, in nanoseconds.
+         */
+        private void refill(final long now) {
+            final long elapsed = now - this.refilled;
+            if(elapsed > 0) {
+                this.tokens = Math.min(
+                    Math.max(1D, this.rate),
+                    this.tokens + elapsed * this.rate / Budget.SECOND
+                );
+                this.refilled = now;
+            }
+        }
+    }
+
+    /**
+     * The shared Lanes, made when first used.
+     */
+    private static final class Shared {
+
+        /**
+         * The Lanes.
+         */
+        private static final Lanes LANES = new Lanes(Lanes.SHARED_WORKERS);
+    }
+
+    /**
+     * A queued Event.
+     */
+    private static final class Queued {
+
+        /**
+         * The Event.
+         */
+        private final Event event;
+
+        /**
+         * Resolution of the Event.
+         */
+        private final Runnable resolution;
+
+        /**
+         * Completes when the Event is resolved.
+         */
+        private final CompletableFuture<Void> resolved;
+
+        /**
+         * Ctor.
+         * @param event The Event.
+         * @param resolution Resolution of the Event.
+         * @param resolved Completes when the Event is resolved.
+         */
+        Queued(
+            final Event event,
+            final Runnable resolution,
+            final CompletableFuture<Void> resolved
+        ) {
+            this.event = event;
+            this.resolution = resolution;
+            this.resolved = resolved;
+        }
+
+        /**
+         * Has the Event's Deadline passed?
+         * @return True or false.
+         */
+        private boolean expired() {
+            return Deadline.NONE.earliest(this.event.deadline()).expired();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import java.util.function.Supplier;
+
+/**
+ * A value which is computed once, on first use, and then remembered.
+ * Entities use it for the references they have to read from the
+ * Storage, so one entity goes to the Storage at most once per relation.
+ * It is thread-safe and remembers null too. Call {@link #refresh()} to
+ * have it computed again on the next use.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ * @param <T> Type of the value.
+ */
+public final class Memo<T> implements Supplier<T> {
+
+    /**
+     * Computes the value.
+     */
+    private final Supplier<T> origin;
+
+    /**
+     * The remembered value, null until it is computed.
+     */
+    private volatile Memo.Held<T> held;
+
+    /**
+     * Ctor.
+     * @param origin Computes the value.
+     */
+    public Memo(final Supplier<T> origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Ctor. Use this when the value is already known. It is computed
+     * only after a refresh.
+     * @param value The known value.
+     * @param origin Computes the value.
+     */
+    public Memo(final T value, final Supplier<T> origin) {
+        this(origin);
+        this.held = new Memo.Held<>(value);
+    }
+
+    @Override
+    public T get() {
+        Memo.Held<T> value = this.held;
+        if(value == null) {
+            synchronized (this) {
+                value = this.held;
+                if(value == null) {
+                    value = new Memo.Held<>(this.origin.get());
+                    this.held = value;
+                }
+            }
+        }
+        return value.value;
+    }
+
+    /**
+     * Forget the value, it will be computed again on the next use.
+     */
+    public void refresh() {
+        this.held = null;
+    }
+
+    /**
+     * A computed value, possibly null.
+     * @param <T> Type of the value.
+     */
+    private static final class Held<T> {
+
+        /**
+         * The value.
+         */
+        private final T value;
+
+        /**
+         * Ctor.
+         * @param value The value.
+         */
+        private Held(final T value) {
+            this.value = value;
+        }
+    }
+}
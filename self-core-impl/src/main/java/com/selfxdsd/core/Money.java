@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money, kept as a long number of hundredths. Amounts in
+ * Self are cents, so a hundredth of a cent is as precise as it gets
+ * (e.g. the PM commission). The arithmetic is exact and fails on
+ * overflow, divisions are rounded explicitly. Use it for the
+ * computations and convert to BigDecimal only at the API boundary.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Nothing.
+     */
+    public static final Money ZERO = new Money(0L);
+
+    /**
+     * Number of decimals.
+     */
+    private static final int SCALE = 2;
+
+    /**
+     * Hundredths in one unit.
+     */
+    private static final long ONE = 100L;
+
+    /**
+     * The amount, in hundredths.
+     */
+    private final long hundredths;
+
+    /**
+     * Ctor.
+     * @param hundredths The amount, in hundredths.
+     */
+    private Money(final long hundredths) {
+        this.hundredths = hundredths;
+    }
+
+    /**
+     * Money from a BigDecimal. The amount is not rounded: trailing zeros
+     * are fine (e.g. 318.750), a third decimal is not.
+     * @param amount Amount.
+     * @return Money.
+     * @throws ArithmeticException If the amount has more than two
+     *  decimals or does not fit.
+     */
+    public static Money of(final BigDecimal amount) {
+        return new Money(
+            amount.setScale(Money.SCALE, RoundingMode.UNNECESSARY)
+                .unscaledValue()
+                .longValueExact()
+        );
+    }
+
+    /**
+     * Money from a whole amount.
+     * @param amount Amount.
+     * @return Money.
+     * @throws ArithmeticException If the amount does not fit.
+     */
+    public static Money of(final long amount) {
+        return new Money(Math.multiplyExact(amount, Money.ONE));
+    }
+
+    /**
+     * Add some Money.
+     * @param other Money to add.
+     * @return Sum.
+     */
+    public Money add(final Money other) {
+        return new Money(Math.addExact(this.hundredths, other.hundredths));
+    }
+
+    /**
+     * Subtract some Money.
+     * @param other Money to subtract.
+     * @return Difference.
+     */
+    public Money subtract(final Money other) {
+        return new Money(
+            Math.subtractExact(this.hundredths, other.hundredths)
+        );
+    }
+
+    /**
+     * Multiply by a whole number.
+     * @param factor Factor.
+     * @return Product.
+     */
+    public Money multiply(final long factor) {
+        return new Money(Math.multiplyExact(this.hundredths, factor));
+    }
+
+    /**
+     * Divide by a whole number.
+     * @param divisor Divisor.
+     * @param rounding How to round the quotient to hundredths.
+     * @return Quotient.
+     */
+    public Money divide(final long divisor, final RoundingMode rounding) {
+        return new Money(Money.quotient(this.hundredths, divisor, rounding));
+    }
+
+    /**
+     * Negated amount.
+     * @return Money.
+     */
+    public Money negate() {
+        return new Money(Math.negateExact(this.hundredths));
+    }
+
+    /**
+     * Sign of the amount.
+     * @return -1, 0 or 1.
+     */
+    public int signum() {
+        return Long.signum(this.hundredths);
+    }
+
+    /**
+     * The amount rounded to a whole number (e.g. cents, for a payment).
+     * @param rounding How to round.
+     * @return Long.
+     */
+    public long whole(final RoundingMode rounding) {
+        return Money.quotient(this.hundredths, Money.ONE, rounding);
+    }
+
+    /**
+     * The amount divided by a whole number and rounded to a whole
+     * number, with a single rounding (e.g. the cents of a Task's value).
+     * @param divisor Divisor.
+     * @param rounding How to round.
+     * @return Long.
+     */
+    public long whole(final long divisor, final RoundingMode rounding) {
+        return Money.quotient(
+            this.hundredths, Math.multiplyExact(divisor, Money.ONE), rounding
+        );
+    }
+
+    /**
+     * The amount as a BigDecimal. Whole amounts have no decimals.
+     * @return BigDecimal.
+     */
+    public BigDecimal toBigDecimal() {
+        final BigDecimal amount;
+        if(this.hundredths % Money.ONE == 0) {
+            amount = BigDecimal.valueOf(this.hundredths / Money.ONE);
+        } else {
+            amount = BigDecimal.valueOf(this.hundredths, Money.SCALE);
+        }
+        return amount;
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(this.hundredths, other.hundredths);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || (obj instanceof Money
+            && this.hundredths == ((Money) obj).hundredths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.hundredths);
+    }
+
+    @Override
+    public String toString() {
+        return this.toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Divide two longs, rounding the quotient as BigDecimal would.
+     * @param dividend Dividend.
+     * @param divisor Divisor.
+     * @param rounding Rounding mode.
+     * @return Rounded quotient.
+     * @throws ArithmeticException If the divisor is zero or the rounding
+     *  is UNNECESSARY and the division is not exact.
+     * @checkstyle CyclomaticComplexity (50 lines)
+     */
+    private static long quotient(
+        final long dividend,
+        final long divisor,
+        final RoundingMode rounding
+    ) {
+        final long quotient = dividend / divisor;
+        final long remainder = dividend % divisor;
+        long rounded = quotient;
+        if(remainder != 0) {
+            final int sign;
+            if((dividend ^ divisor) < 0) {
+                sign = -1;
+            } else {
+                sign = 1;
+            }
+            final long half = Math.abs(divisor) - Math.abs(remainder);
+            final int compared = Long.compare(Math.abs(remainder), half);
+            final boolean away;
+            switch (rounding) {
+                case UP:
+                    away = true;
+                    break;
+                case DOWN:
+                    away = false;
+                    break;
+                case CEILING:
+                    away = sign > 0;
+                    break;
+                case FLOOR:
+                    away = sign < 0;
+                    break;
+                case HALF_UP:
+                    away = compared >= 0;
+                    break;
+                case HALF_DOWN:
+                    away = compared > 0;
+                    break;
+                case HALF_EVEN:
+                    away = compared > 0
+                        || compared == 0 && (quotient & 1) != 0;
+                    break;
+                default:
+                    throw new ArithmeticException("Rounding necessary.");
+            }
+            if(away) {
+                rounded = quotient + sign;
+            }
+        }
+        return rounded;
+    }
+}
@@ -24,6 +24,8 @@ package com.selfxdsd.core;
 
 import com.selfxdsd.api.storage.Storage;
 
+import java.time.Duration;
+
 /**
  * Self core implementation.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -41,4 +43,14 @@ public final class SelfCore extends BaseSelf {
         super(storage);
     }
 
+    /**
+     * Constructor.
+     * @param storage Storage for Self.
+     * @param every How often the messages of the Storage's outbox
+     *  are delivered, once started.
+     */
+    public SelfCore(final Storage storage, final Duration every) {
+        super(storage, every);
+    }
+
 }
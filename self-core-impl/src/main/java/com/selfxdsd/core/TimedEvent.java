@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Comment;
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Project;
+
+import java.time.Duration;
+
+/**
+ * Event which has to be handled by some Deadline. E.g. a webhook
+ * handler can give each Event a time budget, so a slow provider
+ * doesn't keep a worker thread busy indefinitely:
+ * <pre>
+ *   project.resolve(new TimedEvent(event, Duration.ofSeconds(30)));
+ * </pre>
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class TimedEvent implements Event {
+
+    /**
+     * Original Event.
+     */
+    private final Event origin;
+
+    /**
+     * Deadline of this Event.
+     */
+    private final Deadline deadline;
+
+    /**
+     * Ctor.
+     * @param origin Original Event.
+     * @param budget Time, from now, to handle the Event.
+     */
+    public TimedEvent(final Event origin, final Duration budget) {
+        this(origin, Deadline.in(budget));
+    }
+
+    /**
+     * Ctor.
+     * @param origin Original Event.
+     * @param deadline Deadline. If the original Event has an earlier
+     *  Deadline, that one is kept.
+     */
+    public TimedEvent(final Event origin, final Deadline deadline) {
+        this.origin = origin;
+        this.deadline = deadline.earliest(origin.deadline());
+    }
+
+    @Override
+    public String type() {
+        return this.origin.type();
+    }
+
+    @Override
+    public Issue issue() {
+        return this.origin.issue();
+    }
+
+    @Override
+    public Comment comment() {
+        return this.origin.comment();
+    }
+
+    @Override
+    public Project project() {
+        return this.origin.project();
+    }
+
+    @Override
+    public Deadline deadline() {
+        return this.deadline;
+    }
+}
@@ -130,10 +130,8 @@ public final class ContributorContracts implements Contracts {
     @Override
     public Contract findById(final Contract.Id id) {
         return this.contracts.get()
-            .filter(c -> new Contract.Id(c.project().repoFullName(),
-                c.contributor().username(),
-                c.project().provider(),
-                c.role()).equals(id)).findFirst()
+            .filter(c -> c.contractId().equals(id))
+            .findFirst()
             .orElse(null);
     }
 
@@ -145,10 +145,8 @@ public final class ProjectContracts implements Contracts {
     @Override
     public Contract findById(final Contract.Id id) {
         return this.contracts.get()
-            .filter(c -> new Contract.Id(c.project().repoFullName(),
-                c.contributor().username(),
-                c.project().provider(),
-                c.role()).equals(id)).findFirst()
+            .filter(c -> c.contractId().equals(id))
+            .findFirst()
             .orElse(null);
     }
 
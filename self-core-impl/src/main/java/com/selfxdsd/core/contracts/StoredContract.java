@@ -24,6 +24,9 @@ package com.selfxdsd.core.contracts;
 
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.Identities;
+import com.selfxdsd.core.Memo;
+import com.selfxdsd.core.Money;
 
 import java.math.BigDecimal;
 
@@ -41,14 +44,14 @@ public final class StoredContract implements Contract {
     private final Contract.Id id;
 
     /**
-     * Project of this Contract.
+     * Project of this Contract, read from the storage at most once.
      */
-    private final Project project;
+    private final Memo<Project> project;
 
     /**
-     * Contributor of this Contract.
+     * Contributor of this Contract, read from the storage at most once.
      */
-    private final Contributor contributor;
+    private final Memo<Contributor> contributor;
 
     /**
      * Project ID.
@@ -71,11 +74,11 @@ public final class StoredContract implements Contract {
         final BigDecimal hourlyRate,
         final Storage storage
     ) {
-        this.id = id;
+        this.id = Identities.contract(id);
         this.hourlyRate = hourlyRate;
         this.storage = storage;
-        this.project = null;
-        this.contributor = null;
+        this.project = new Memo<>(this::readProject);
+        this.contributor = new Memo<>(this::readContributor);
     }
 
 
@@ -94,16 +97,16 @@ public final class StoredContract implements Contract {
         final String role,
         final Storage storage
     ) {
-        this.project = project;
-        this.contributor = contributor;
         this.hourlyRate = hourlyRate;
         this.storage = storage;
-        this.id = new Contract.Id(
+        this.id = Identities.contract(
             project.repoFullName(),
             contributor.username(),
             project.provider(),
             role
         );
+        this.project = new Memo<>(project, this::readProject);
+        this.contributor = new Memo<>(contributor, this::readContributor);
     }
 
     @Override
@@ -118,15 +121,7 @@ public final class StoredContract implements Contract {
      */
     @Override
     public Project project() {
-        final Project proj;
-        if(this.project == null) {
-            proj = this.storage.projects().getProjectById(
-                this.id.getRepoFullName(), this.id.getProvider()
-            );
-        } else {
-            proj = this.project;
-        }
-        return proj;
+        return this.project.get();
     }
 
     /**
@@ -136,15 +131,16 @@ public final class StoredContract implements Contract {
      */
     @Override
     public Contributor contributor() {
-        final Contributor cont;
-        if(this.contributor == null) {
-            cont = this.storage.contributors().getById(
-                this.id.getContributorUsername(), this.id.getProvider()
-            );
-        } else {
-            cont = this.contributor;
-        }
-        return cont;
+        return this.contributor.get();
+    }
+
+    /**
+     * Forget the Project and the Contributor, they will be read
+     * again from the storage on the next use.
+     */
+    public void refresh() {
+        this.project.refresh();
+        this.contributor.refresh();
     }
 
     /**
@@ -189,17 +185,14 @@ public final class StoredContract implements Contract {
 
     @Override
     public BigDecimal value() {
-        BigDecimal total = BigDecimal.valueOf(0);
-        final BigDecimal commission = this.project()
-            .projectManager()
-            .commission();
+        final Money commission = Money.of(
+            this.project().projectManager().commission()
+        );
+        Money total = Money.of(this.invoices().active().totalAmount());
         for(final Task task : this.tasks()) {
-            total = total
-                .add(task.value())
-                .add(commission);
+            total = total.add(Money.of(task.value())).add(commission);
         }
-        total = total.add(this.invoices().active().totalAmount());
-        return total;
+        return total.toBigDecimal();
     }
 
     @Override
@@ -209,9 +202,16 @@ public final class StoredContract implements Contract {
 
     @Override
     public int hashCode() {
-        return id.hashCode();
+        return this.id.hashCode();
     }
 
+    /**
+     * Contracts are equal if they have the same id. A StoredContract's
+     * id is held locally, so it can be used in hash based collections
+     * without calling the Storage.
+     * @param obj Other object.
+     * @return True or false.
+     */
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -220,13 +220,26 @@ public final class StoredContract implements Contract {
         if (!(obj instanceof Contract)) {
             return false;
         }
-        final Contract other = (Contract) obj;
-        final Contract.Id otherId = new Contract.Id(
-            other.project().repoFullName(),
-            other.contributor().username(),
-            other.project().provider(),
-            other.role()
+        return this.id.equals(((Contract) obj).contractId());
+    }
+
+    /**
+     * Read the Project from the storage.
+     * @return Project.
+     */
+    private Project readProject() {
+        return this.storage.projects().getProjectById(
+            this.id.getRepoFullName(), this.id.getProvider()
+        );
+    }
+
+    /**
+     * Read the Contributor from the storage.
+     * @return Contributor.
+     */
+    private Contributor readContributor() {
+        return this.storage.contributors().getById(
+            this.id.getContributorUsername(), this.id.getProvider()
         );
-        return this.id.equals(otherId);
     }
 }
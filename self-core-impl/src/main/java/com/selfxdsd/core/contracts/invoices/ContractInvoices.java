@@ -60,21 +60,51 @@ public final class ContractInvoices implements Invoices {
      */
     private final Supplier<Stream<Invoice>> invoices;
 
+    /**
+     * Supplier of the active Invoice.
+     */
+    private final Supplier<Invoice> active;
+
+    /**
+     * Ctor. The active Invoice will be found by looking at all the
+     * invoices.
+     *
+     * @param contractId Contract id
+     * @param invoices Supplier of the invoices Stream.
+     * @param storage Storage.
+     */
+    public ContractInvoices(
+        final Contract.Id contractId,
+        final Supplier<Stream<Invoice>> invoices,
+        final Storage storage
+    ) {
+        this(
+            contractId,
+            invoices,
+            () -> ContractInvoices.oldestUnpaid(contractId, invoices, storage),
+            storage
+        );
+    }
+
     /**
      * Ctor.
      *
      * @param contractId Contract id
      * @param invoices Supplier of the invoices Stream.
+     * @param active Supplier of the active Invoice, which should
+     *  create it if there is none.
      * @param storage Storage.
      */
     public ContractInvoices(
         final Contract.Id contractId,
         final Supplier<Stream<Invoice>> invoices,
+        final Supplier<Invoice> active,
         final Storage storage
     ) {
         this.contractId = contractId;
         this.storage = storage;
         this.invoices = invoices;
+        this.active = active;
     }
 
     @Override
@@ -123,19 +153,45 @@ public final class ContractInvoices implements Invoices {
 
     @Override
     public Invoice active() {
-        Invoice active = this.invoices.get()
-            .filter(invoice -> !invoice.isPaid())
-            .sorted(Comparator.comparing(Invoice::createdAt))
-            .findFirst()
-            .orElse(null);
-        if(active == null) {
-            active = this.createNewInvoice(this.contractId);
+        return this.active.get();
+    }
+
+    @Override
+    public Invoice activeOf(final Contract.Id contractId) {
+        if (!this.contractId.equals(contractId)) {
+            throw new IllegalStateException(
+                "Already seeing the Invoices of a Contract, "
+              + "you cannot see the active Invoice of another Contract here."
+            );
         }
-        return active;
+        return this.active();
     }
 
     @Override
     public Iterator<Invoice> iterator() {
         return this.invoices.get().iterator();
     }
+
+    /**
+     * The oldest unpaid Invoice. If all the Invoices are paid,
+     * a new one is created.
+     * @param contractId Contract id.
+     * @param invoices Supplier of the invoices Stream.
+     * @param storage Storage.
+     * @return Invoice.
+     */
+    private static Invoice oldestUnpaid(
+        final Contract.Id contractId,
+        final Supplier<Stream<Invoice>> invoices,
+        final Storage storage
+    ) {
+        Invoice active = invoices.get()
+            .filter(invoice -> !invoice.isPaid())
+            .min(Comparator.comparing(Invoice::createdAt))
+            .orElse(null);
+        if(active == null) {
+            active = storage.invoices().createNewInvoice(contractId);
+        }
+        return active;
+    }
 }
@@ -109,6 +109,18 @@ public final class InvoiceTasks implements InvoicedTasks {
         );
     }
 
+    @Override
+    public Invoice.Totals totals(final Invoice invoice) {
+        if(this.invoice.invoiceId() == invoice.invoiceId()) {
+            return this.storage.invoicedTasks().totals(invoice);
+        }
+        throw new IllegalStateException(
+            "These are the tasks registered with Invoice #"
+          + this.invoice.invoiceId()
+          + ". You cannot see the totals of a different Invoice here."
+        );
+    }
+
     @Override
     public Iterator<InvoicedTask> iterator() {
         return this.tasks.get().iterator();
@@ -4,6 +4,7 @@ import com.selfxdsd.api.*;
 import com.selfxdsd.api.storage.Storage;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * An Invoice stored in self.
@@ -78,26 +79,23 @@ public final class StoredInvoice implements Invoice {
         final Task task,
         final BigDecimal commission
     ) {
-        final Contract.Id taskContract = new Contract.Id(
-            task.project().repoFullName(),
-            task.assignee().username(),
-            task.project().provider(),
-            task.role()
+        this.check(task);
+        return this.storage.invoicedTasks().register(
+            this, task, commission
         );
-        if(!this.contract.contractId().equals(taskContract)) {
-            throw new IllegalArgumentException(
-                "The given Task does not belong to this Invoice!"
-            );
-        } else {
-            if(this.isPaid()) {
-                throw new IllegalStateException(
-                    "Invoice is already paid, can't add a new Task to it!"
-                );
-            }
-            return this.storage.invoicedTasks().register(
-                this, task, commission
-            );
+    }
+
+    @Override
+    public List<InvoicedTask> registerAll(
+        final List<Task> tasks,
+        final BigDecimal commission
+    ) {
+        for(final Task task : tasks) {
+            this.check(task);
         }
+        return this.storage.invoicedTasks().registerAll(
+            this, tasks, commission
+        );
     }
 
     @Override
@@ -132,11 +130,12 @@ public final class StoredInvoice implements Invoice {
 
     @Override
     public BigDecimal totalAmount() {
-        BigDecimal total = BigDecimal.valueOf(0);
-        for(final InvoicedTask task : this.tasks()) {
-            total = total.add(task.totalAmount());
-        }
-        return total;
+        return this.totals().amount();
+    }
+
+    @Override
+    public Totals totals() {
+        return this.storage.invoicedTasks().totals(this);
     }
 
     @Override
@@ -149,4 +148,26 @@ public final class StoredInvoice implements Invoice {
         return this == obj || (obj instanceof Invoice
             && this.id == ((Invoice) obj).invoiceId());
     }
+
+    /**
+     * Make sure the given Task can be registered on this Invoice.
+     * @param task Task.
+     */
+    private void check(final Task task) {
+        final Contract.Id taskContract = new Contract.Id(
+            task.project().repoFullName(),
+            task.assignee().username(),
+            task.project().provider(),
+            task.role()
+        );
+        if(!this.contract.contractId().equals(taskContract)) {
+            throw new IllegalArgumentException(
+                "The given Task does not belong to this Invoice!"
+            );
+        } else if(this.isPaid()) {
+            throw new IllegalStateException(
+                "Invoice is already paid, can't add a new Task to it!"
+            );
+        }
+    }
 }
@@ -26,6 +26,7 @@ import com.selfxdsd.api.Invoice;
 import com.selfxdsd.api.InvoicedTask;
 import com.selfxdsd.api.Task;
 import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.Memo;
 
 import java.math.BigDecimal;
 
@@ -73,6 +74,11 @@ public final class StoredInvoicedTask implements InvoicedTask {
      */
     private final Storage storage;
 
+    /**
+     * The Invoice, read from the storage at most once.
+     */
+    private final Memo<Invoice> invoice;
+
     /**
      * Constructor.
      * @param invoicedTaskId This task's ID.
@@ -96,6 +102,9 @@ public final class StoredInvoicedTask implements InvoicedTask {
         this.commission = commission;
         this.task = task;
         this.storage = storage;
+        this.invoice = new Memo<>(
+            () -> storage.invoices().getById(invoiceId)
+        );
     }
 
     @Override
@@ -105,7 +114,15 @@ public final class StoredInvoicedTask implements InvoicedTask {
 
     @Override
     public Invoice invoice() {
-        return this.storage.invoices().getById(this.invoiceId);
+        return this.invoice.get();
+    }
+
+    /**
+     * Forget the Invoice, it will be read again from the storage
+     * on the next use (e.g. after it was paid).
+     */
+    public void refresh() {
+        this.invoice.refresh();
     }
 
     @Override
@@ -0,0 +1,427 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.contributors;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Resignation;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.core.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Election of Contributors for the Tasks of a Project. The Project's
+ * budget and PM commission are read once and the Contributors are
+ * indexed by role and sorted by hourly rate, so electing someone for a
+ * Task only means finding, with a binary search, how many of them the
+ * Project affords and then letting the {@link ElectionStrategy} pick
+ * one of those (by default, at random).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Election {
+
+    /**
+     * Budget of the Project.
+     */
+    private final Money budget;
+
+    /**
+     * PM commission, added to the price of each Task.
+     */
+    private final Money commission;
+
+    /**
+     * Candidates, by role.
+     */
+    private final Map<String, Candidates> roles;
+
+    /**
+     * Strategy choosing among the affordable Contributors.
+     */
+    private final ElectionStrategy strategy;
+
+    /**
+     * Ctor.
+     * @param project Project.
+     * @param contributors Contributors running in the election.
+     */
+    public Election(
+        final Project project,
+        final Stream<Contributor> contributors
+    ) {
+        this(project, contributors, new RandomStrategy());
+    }
+
+    /**
+     * Ctor.
+     * @param project Project.
+     * @param contributors Contributors running in the election.
+     * @param strategy Strategy choosing among the affordable Contributors.
+     */
+    public Election(
+        final Project project,
+        final Stream<Contributor> contributors,
+        final ElectionStrategy strategy
+    ) {
+        this(
+            project.wallet().available(),
+            project.projectManager().commission(),
+            contributors,
+            strategy
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param budget Budget of the Project.
+     * @param commission PM commission.
+     * @param contributors Contributors running in the election.
+     */
+    public Election(
+        final BigDecimal budget,
+        final BigDecimal commission,
+        final Stream<Contributor> contributors
+    ) {
+        this(budget, commission, contributors, new RandomStrategy());
+    }
+
+    /**
+     * Ctor.
+     * @param budget Budget of the Project.
+     * @param commission PM commission.
+     * @param contributors Contributors running in the election.
+     * @param strategy Strategy choosing among the affordable Contributors.
+     */
+    public Election(
+        final BigDecimal budget,
+        final BigDecimal commission,
+        final Stream<Contributor> contributors,
+        final ElectionStrategy strategy
+    ) {
+        this.budget = Money.of(budget);
+        this.commission = Money.of(commission);
+        this.roles = Election.index(contributors);
+        this.strategy = strategy;
+    }
+
+    /**
+     * Elect a Contributor for the given Task.
+     * @param task Task.
+     * @return Contributor or null if nobody is eligible.
+     */
+    public Contributor elect(final Task task) {
+        return this.elect(task, this.budget, Map.of()).contributor;
+    }
+
+    /**
+     * Elect Contributors for many Tasks, in the given order. They share
+     * the budget: the price of each elected Task is taken off the budget
+     * left for the next ones. The strategy is told who was elected for
+     * the Tasks before, since those are not assigned yet.
+     * @param tasks Tasks.
+     * @return Contributors, in the order of the Tasks, with null where
+     *  nobody is eligible.
+     */
+    public List<Contributor> electAll(final List<Task> tasks) {
+        final List<Contributor> elected = new ArrayList<>();
+        final Map<List<String>, Integer> chosen = new HashMap<>();
+        Money left = this.budget;
+        for(final Task task : tasks) {
+            final Candidate candidate = this.elect(task, left, chosen);
+            if(candidate.contributor != null) {
+                left = left.subtract(this.price(candidate.rate, task));
+                chosen.merge(
+                    Election.key(candidate.contributor), 1, Integer::sum
+                );
+            }
+            elected.add(candidate.contributor);
+        }
+        return elected;
+    }
+
+    /**
+     * Elect a Contributor for the given Task, within a budget.
+     * @param task Task.
+     * @param available Available budget.
+     * @param chosen Tasks each Contributor was elected for before, in
+     *  the same batch, by username and provider.
+     * @return Candidate, with null Contributor if nobody is eligible.
+     */
+    private Candidate elect(
+        final Task task,
+        final Money available,
+        final Map<List<String>, Integer> chosen
+    ) {
+        final Candidates candidates = this.roles.get(task.role());
+        final Candidate elected;
+        if(candidates == null) {
+            elected = Candidate.NONE;
+        } else {
+            final int affordable = candidates.affordable(
+                rate -> this.price(rate, task).compareTo(available) <= 0
+            );
+            elected = candidates.pick(
+                task, affordable, new Excluded(task), this.strategy,
+                contributor -> chosen.getOrDefault(
+                    Election.key(contributor), 0
+                )
+            );
+        }
+        return elected;
+    }
+
+    /**
+     * Price of a Task at the given hourly rate, PM commission included.
+     * @param rate Hourly rate.
+     * @param task Task.
+     * @return Money.
+     */
+    private Money price(final Money rate, final Task task) {
+        return rate.multiply(task.estimation())
+            .divide(60, RoundingMode.HALF_UP)
+            .add(this.commission);
+    }
+
+    /**
+     * Key of a Contributor.
+     * @param contributor Contributor.
+     * @return Username and provider.
+     */
+    private static List<String> key(final Contributor contributor) {
+        return Arrays.asList(
+            contributor.username(), contributor.provider()
+        );
+    }
+
+    /**
+     * Index the Contributors by the roles of their Contracts, each role
+     * sorted by hourly rate. If a Contributor has more Contracts with the
+     * same role, the first one counts.
+     * @param contributors Contributors.
+     * @return Candidates by role.
+     */
+    private static Map<String, Candidates> index(
+        final Stream<Contributor> contributors
+    ) {
+        final Map<String, List<Candidate>> byRole = new HashMap<>();
+        contributors.forEach(
+            contributor -> {
+                final Set<String> seen = new HashSet<>();
+                for(final Contract contract : contributor.contracts()) {
+                    final String role = contract.role();
+                    if(seen.add(role)) {
+                        byRole.computeIfAbsent(
+                            role, r -> new ArrayList<>()
+                        ).add(
+                            new Candidate(
+                                contributor, Money.of(contract.hourlyRate())
+                            )
+                        );
+                    }
+                }
+            }
+        );
+        final Map<String, Candidates> index = new HashMap<>();
+        for(final Map.Entry<String, List<Candidate>> role
+            : byRole.entrySet()) {
+            index.put(role.getKey(), new Candidates(role.getValue()));
+        }
+        return index;
+    }
+
+    /**
+     * Contributors which cannot be elected for a Task: its current
+     * assignee and whoever resigned from it before.
+     */
+    private static final class Excluded implements Predicate<Contributor> {
+
+        /**
+         * Username of the assignee, null if the Task is unassigned.
+         */
+        private final String assignee;
+
+        /**
+         * Contributors who resigned from the Task.
+         */
+        private final Set<Contributor> resigned;
+
+        /**
+         * Ctor.
+         * @param task Task.
+         */
+        Excluded(final Task task) {
+            final Contributor current = task.assignee();
+            if(current == null) {
+                this.assignee = null;
+            } else {
+                this.assignee = current.username();
+            }
+            this.resigned = StreamSupport
+                .stream(task.resignations().spliterator(), false)
+                .map(Resignation::contributor)
+                .collect(Collectors.toSet());
+        }
+
+        @Override
+        public boolean test(final Contributor contributor) {
+            return contributor.username().equals(this.assignee)
+                || this.resigned.contains(contributor);
+        }
+    }
+
+    /**
+     * Candidates with the same role, sorted by hourly rate.
+     */
+    private static final class Candidates {
+
+        /**
+         * Contributors, cheapest first.
+         */
+        private final Contributor[] contributors;
+
+        /**
+         * Their hourly rates, in the same order.
+         */
+        private final Money[] rates;
+
+        /**
+         * Ctor.
+         * @param candidates Candidates, in any order.
+         */
+        Candidates(final List<Candidate> candidates) {
+            final Candidate[] sorted = candidates.toArray(new Candidate[0]);
+            Arrays.sort(sorted, Comparator.comparing(c -> c.rate));
+            this.contributors = new Contributor[sorted.length];
+            this.rates = new Money[sorted.length];
+            for(int idx = 0; idx < sorted.length; ++idx) {
+                this.contributors[idx] = sorted[idx].contributor;
+                this.rates[idx] = sorted[idx].rate;
+            }
+        }
+
+        /**
+         * How many of the cheapest Candidates are affordable. Since the
+         * price grows with the rate, a binary search is enough.
+         * @param affordable Price condition.
+         * @return Number of affordable Candidates.
+         */
+        int affordable(final Predicate<Money> affordable) {
+            int low = 0;
+            int high = this.rates.length;
+            while(low < high) {
+                final int mid = (low + high) >>> 1;
+                if(affordable.test(this.rates[mid])) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Pick one of the cheapest Candidates, skipping the excluded
+         * Contributors.
+         * @param task Task.
+         * @param count How many of the cheapest Candidates to pick from.
+         * @param excluded Excluded Contributors.
+         * @param strategy Strategy doing the picking.
+         * @param chosen Tasks each Contributor was chosen for before,
+         *  in the same batch.
+         * @return Candidate, NONE if everybody is excluded.
+         * @checkstyle ParameterNumber (10 lines)
+         */
+        Candidate pick(
+            final Task task,
+            final int count,
+            final Predicate<Contributor> excluded,
+            final ElectionStrategy strategy,
+            final ToIntFunction<Contributor> chosen
+        ) {
+            Candidate picked = Candidate.NONE;
+            if(count > 0) {
+                final int idx = strategy.choose(
+                    task,
+                    Arrays.asList(this.contributors).subList(0, count),
+                    excluded,
+                    chosen
+                );
+                if(idx >= 0) {
+                    picked = new Candidate(
+                        this.contributors[idx], this.rates[idx]
+                    );
+                }
+            }
+            return picked;
+        }
+    }
+
+    /**
+     * A Contributor with their hourly rate for some role.
+     */
+    private static final class Candidate {
+
+        /**
+         * Nobody.
+         */
+        static final Candidate NONE = new Candidate(null, null);
+
+        /**
+         * Contributor.
+         */
+        private final Contributor contributor;
+
+        /**
+         * Hourly rate.
+         */
+        private final Money rate;
+
+        /**
+         * Ctor.
+         * @param contributor Contributor.
+         * @param rate Hourly rate.
+         */
+        Candidate(final Contributor contributor, final Money rate) {
+            this.contributor = contributor;
+            this.rate = rate;
+        }
+    }
+}
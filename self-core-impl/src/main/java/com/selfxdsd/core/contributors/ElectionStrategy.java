@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.contributors;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Task;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Strategy of an {@link Election}: which of the Contributors the Project
+ * affords gets the Task.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public interface ElectionStrategy {
+
+    /**
+     * Choose one of the affordable Contributors.
+     * @param affordable Contributors the Project affords, cheapest first.
+     *  Never empty.
+     * @param excluded Contributors who cannot be chosen (e.g. they
+     *  resigned from the Task before).
+     * @return Index of the chosen Contributor or -1 if they are
+     *  all excluded.
+     */
+    int choose(
+        final List<Contributor> affordable,
+        final Predicate<Contributor> excluded
+    );
+
+    /**
+     * Choose one of the affordable Contributors for the given Task,
+     * knowing who was chosen earlier in the same batch of elections
+     * (see {@link Election#electAll(List)}). The Tasks of the batch are
+     * not assigned yet, so no workload counts them. By default, the Task
+     * and the earlier choices are ignored.
+     * @param task Task.
+     * @param affordable Contributors the Project affords, cheapest first.
+     *  Never empty.
+     * @param excluded Contributors who cannot be chosen.
+     * @param earlier How many Tasks of the batch each Contributor was
+     *  chosen for so far.
+     * @return Index of the chosen Contributor or -1 if they are
+     *  all excluded.
+     */
+    default int choose(
+        final Task task,
+        final List<Contributor> affordable,
+        final Predicate<Contributor> excluded,
+        final ToIntFunction<Contributor> earlier
+    ) {
+        return this.choose(affordable, excluded);
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.contributors;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Workloads;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Choose the Contributor with the fewest open Tasks, so nobody piles up
+ * Tasks while others wait. Ties are broken at random. In a batch of
+ * elections, the Tasks chosen earlier in the batch count as load too.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LeastLoadedStrategy implements ElectionStrategy {
+
+    /**
+     * Workloads of the Contributors.
+     */
+    private final Workloads workloads;
+
+    /**
+     * Ctor.
+     * @param workloads Workloads of the Contributors.
+     */
+    public LeastLoadedStrategy(final Workloads workloads) {
+        this.workloads = workloads;
+    }
+
+    @Override
+    public int choose(
+        final List<Contributor> affordable,
+        final Predicate<Contributor> excluded
+    ) {
+        return this.choose(null, affordable, excluded, contributor -> 0);
+    }
+
+    @Override
+    public int choose(
+        final Task task,
+        final List<Contributor> affordable,
+        final Predicate<Contributor> excluded,
+        final ToIntFunction<Contributor> earlier
+    ) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        int chosen = -1;
+        int least = Integer.MAX_VALUE;
+        int ties = 0;
+        for(int idx = 0; idx < affordable.size(); ++idx) {
+            final Contributor contributor = affordable.get(idx);
+            if(excluded.test(contributor)) {
+                continue;
+            }
+            final int load = this.workloads.ofContributor(contributor)
+                + earlier.applyAsInt(contributor);
+            if(load < least) {
+                least = load;
+                chosen = idx;
+                ties = 1;
+            } else if(load == least) {
+                ++ties;
+                if(random.nextInt(ties) == 0) {
+                    chosen = idx;
+                }
+            }
+        }
+        return chosen;
+    }
+}
@@ -26,16 +26,13 @@ import com.selfxdsd.api.*;
 import com.selfxdsd.api.exceptions.ContributorsException;
 import com.selfxdsd.api.storage.Storage;
 import com.selfxdsd.core.BasePaged;
+import com.selfxdsd.core.Env;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
  * Contributors of a Project. This class <b>just represents</b>
@@ -72,6 +69,11 @@ public final class ProjectContributors extends BasePaged
      */
     private final Storage storage;
 
+    /**
+     * Strategy of the elections.
+     */
+    private final ElectionStrategy strategy;
+
     /**
      * Constructor.
      * @param project The project.
@@ -83,21 +85,42 @@ public final class ProjectContributors extends BasePaged
         final Supplier<Stream<Contributor>> contributors,
         final Storage storage
     ) {
-        this(project, contributors, storage, Page.all());
+        this(
+            project, contributors, storage,
+            ProjectContributors.strategy(storage, new RoundRobinStrategy())
+        );
     }
 
+    /**
+     * Constructor.
+     * @param project The project.
+     * @param contributors Project's contributors.
+     * @param storage Self's storage, to save new contracts.
+     * @param strategy Strategy of the elections.
+     */
+    public ProjectContributors(
+        final Project project,
+        final Supplier<Stream<Contributor>> contributors,
+        final Storage storage,
+        final ElectionStrategy strategy
+    ) {
+        this(project, contributors, storage, strategy, Page.all());
+    }
 
     /**
      * Constructor.
      * @param project The project.
      * @param contributors Project's contributors.
      * @param storage Self's storage, to save new contracts.
+     * @param strategy Strategy of the elections.
      * @param page Current Page.
-     * @checkstyle LineLength (5 lines)
+     * @checkstyle LineLength (6 lines)
+     * @checkstyle ParameterNumber (6 lines)
      */
     private ProjectContributors(final Project project,
                                 final Supplier<Stream<Contributor>> contributors,
                                 final Storage storage,
+                                final ElectionStrategy strategy,
                                 final Page page){
         super(page, () -> (int) contributors.get().count());
         this.project = project;
@@ -105,6 +128,7 @@ public final class ProjectContributors extends BasePaged
         this.provider = project.owner().provider().name();
         this.contributors = contributors;
         this.storage = storage;
+        this.strategy = strategy;
     }
 
     /**
@@ -179,78 +203,92 @@ public final class ProjectContributors extends BasePaged
         return new ProjectContributors(this.project,
             this.contributors,
             this.storage,
+            this.strategy,
             page
         );
     }
 
     /**
-     * Elect a contributor for the given Task.
-     * At the moment we will elect a random Contributor out
-     * of those who have the necessary role.
-     *
-     * In the future, we might take more factors into account.
+     * Elect a contributor for the given Task, out of those who have
+     * the necessary role and whom the Project affords. Who exactly is
+     * decided by the {@link ElectionStrategy} (by default, at random).
      * @param task Task requiring an assignee.
      * @return Contributor or null if nobody is found.
      * @throws ContributorsException.OfProject.Election When Task's Project not
      * matching ProjectContributors Project.
-     * @checkstyle ReturnCount (40 lines)
-     * @checkstyle Indentation (30 lines)
      */
     @Override
     public Contributor elect(final Task task) {
+        this.checkProject(task);
+        return this.election().elect(task);
+    }
+
+    /**
+     * Elect Contributors for many Tasks in one go. The Project's budget
+     * is shared by the Tasks, in the given order.
+     * @param tasks Tasks requiring assignees.
+     * @return Contributors, with null where nobody is found.
+     * @throws ContributorsException.OfProject.Election When a Task's
+     *  Project is not matching ProjectContributors Project.
+     */
+    @Override
+    public List<Contributor> electAll(final List<Task> tasks) {
+        for(final Task task : tasks) {
+            this.checkProject(task);
+        }
+        return this.election().electAll(tasks);
+    }
+
+    /**
+     * Election among the Contributors of the current Page.
+     * @return Election.
+     */
+    private Election election() {
+        final Page page = super.current();
+        return new Election(
+            this.project,
+            this.contributors.get()
+                .skip((page.getNumber() - 1) * page.getSize())
+                .limit(page.getSize()),
+            this.strategy
+        );
+    }
+
+    /**
+     * Election strategy configured in the environment.
+     * @param storage Self storage, for the Contributors' workloads.
+     * @param roundRobin Round-robin to use if configured. It remembers
+     *  who was chosen before, so the caller should keep it for all
+     *  the elections (e.g. one per Storage).
+     * @return ElectionStrategy.
+     */
+    public static ElectionStrategy strategy(
+        final Storage storage,
+        final ElectionStrategy roundRobin
+    ) {
+        final String name = System.getenv(Env.ELECTION_STRATEGY);
+        final ElectionStrategy strategy;
+        if("leastLoaded".equals(name)) {
+            strategy = new LeastLoadedStrategy(storage.workloads());
+        } else if("roundRobin".equals(name)) {
+            strategy = roundRobin;
+        } else {
+            strategy = new RandomStrategy();
+        }
+        return strategy;
+    }
+
+    /**
+     * Make sure the Task belongs to this Project.
+     * @param task Task.
+     * @throws ContributorsException.OfProject.Election If it does not.
+     */
+    private void checkProject(final Task task) {
         final Project project = task.project();
         if (!this.project.equals(project)) {
             throw new ContributorsException.OfProject
                 .Election(project.repoFullName(), project.provider());
         }
-        final Page page = super.current();
-        final List<Resignation> resignations = StreamSupport
-            .stream(task.resignations().spliterator(), false)
-            .collect(Collectors.toList());
-        final List<Contributor> eligible = this.contributors.get()
-            .skip((page.getNumber() - 1) * page.getSize())
-            .limit(page.getSize())
-            .filter(
-                contributor -> {
-                    if(task.assignee() != null) {
-                        return !contributor.username().equals(
-                            task.assignee().username()
-                        );
-                    }
-                    return true;
-                }
-            )
-            .filter(contributor -> resignations
-                .stream()
-                .noneMatch(r -> r.contributor().equals(contributor)))
-            .filter(
-                contributor -> {
-                    for(final Contract contract : contributor.contracts()) {
-                        if(contract.role().equals(task.role())) {
-                            final BigDecimal price = contract.hourlyRate()
-                                .multiply(
-                                    BigDecimal.valueOf(task.estimation())
-                                ).divide(
-                                    BigDecimal.valueOf(60),
-                                    RoundingMode.HALF_UP
-                                ).add(this.project
-                                    .projectManager()
-                                    .commission()
-                                );
-                            final BigDecimal budget = this.project
-                                .wallet()
-                                .available();
-                            return price.compareTo(budget) <= 0;
-                        }
-                    }
-                    return false;
-                }
-            ).collect(Collectors.toList());
-        if(eligible.size() > 0) {
-            Collections.shuffle(eligible);
-            return eligible.get(0);
-        }
-        return null;
     }
 
     @Override
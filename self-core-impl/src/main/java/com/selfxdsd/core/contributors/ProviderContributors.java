@@ -60,6 +60,11 @@ public final class ProviderContributors extends BasePaged
      */
     private final Storage storage;
 
+    /**
+     * Round-robin for the elections of the Projects, if configured.
+     */
+    private final ElectionStrategy roundRobin;
+
     /**
      * Constructor.
      * @param provider Provider.
@@ -71,26 +76,46 @@ public final class ProviderContributors extends BasePaged
         final Supplier<Stream<Contributor>> contributors,
         final Storage storage
     ) {
-        this(provider, contributors, storage, Page.all());
+        this(provider, contributors, storage, new RoundRobinStrategy());
     }
 
+    /**
+     * Constructor.
+     * @param provider Provider.
+     * @param contributors The Provider contributors.
+     * @param storage Self's storage, to save new contracts.
+     * @param roundRobin Round-robin for the elections of the Projects,
+     *  if configured.
+     */
+    public ProviderContributors(
+        final String provider,
+        final Supplier<Stream<Contributor>> contributors,
+        final Storage storage,
+        final ElectionStrategy roundRobin
+    ) {
+        this(provider, contributors, storage, roundRobin, Page.all());
+    }
 
     /**
      * Constructor.
      * @param provider Provider.
      * @param contributors The Provider contributors.
      * @param storage Self's storage, to save new contracts.
+     * @param roundRobin Round-robin for the elections of the Projects.
      * @param page Current Page.
-     * @checkstyle LineLength (5 lines)
+     * @checkstyle LineLength (6 lines)
+     * @checkstyle ParameterNumber (6 lines)
      */
     private ProviderContributors(final String provider,
                                  final Supplier<Stream<Contributor>> contributors,
                                  final Storage storage,
+                                 final ElectionStrategy roundRobin,
                                  final Page page){
         super(page, () -> (int) contributors.get().count());
         this.provider = provider;
         this.contributors = contributors;
         this.storage = storage;
+        this.roundRobin = roundRobin;
     }
 
     @Override
@@ -138,7 +163,8 @@ public final class ProviderContributors extends BasePaged
                     .stream(contrib.contracts().spliterator(), false)
                     .anyMatch(contract -> contract.project()
                         .equals(project))),
-            this.storage
+            this.storage,
+            ProjectContributors.strategy(this.storage, this.roundRobin)
         );
     }
 
@@ -155,6 +181,7 @@ public final class ProviderContributors extends BasePaged
         return new ProviderContributors(this.provider,
             this.contributors,
             this.storage,
+            this.roundRobin,
             page
         );
     }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.contributors;
+
+import com.selfxdsd.api.Contributor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Choose a random Contributor. This is the default strategy.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class RandomStrategy implements ElectionStrategy {
+
+    /**
+     * How many random picks we try before listing all the eligible
+     * Contributors (i.e. when most of the affordable ones are excluded).
+     */
+    private static final int ATTEMPTS = 8;
+
+    @Override
+    public int choose(
+        final List<Contributor> affordable,
+        final Predicate<Contributor> excluded
+    ) {
+        int chosen = -1;
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for(int attempt = 0; chosen < 0 && attempt < ATTEMPTS; ++attempt) {
+            final int idx = random.nextInt(affordable.size());
+            if(!excluded.test(affordable.get(idx))) {
+                chosen = idx;
+            }
+        }
+        if(chosen < 0) {
+            final List<Integer> eligible = new ArrayList<>();
+            for(int idx = 0; idx < affordable.size(); ++idx) {
+                if(!excluded.test(affordable.get(idx))) {
+                    eligible.add(idx);
+                }
+            }
+            if(!eligible.isEmpty()) {
+                chosen = eligible.get(random.nextInt(eligible.size()));
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.contributors;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Task;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Smooth weighted round-robin: over many elections, each Contributor is
+ * chosen in proportion to their weight, and the choices are spread out
+ * instead of coming in bursts. The turns are kept separately for each
+ * Project and role, so the same instance has to be used for all the
+ * elections (e.g. one per Storage), since it remembers who was chosen
+ * before. Only the turns of the most recently used Projects and roles
+ * are remembered.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class RoundRobinStrategy implements ElectionStrategy {
+
+    /**
+     * How many Projects and roles to remember the turns of.
+     */
+    private static final int REMEMBERED = 1024;
+
+    /**
+     * Weight of each Contributor, at least 1.
+     */
+    private final ToIntFunction<Contributor> weights;
+
+    /**
+     * Current weight of each Contributor, by username and provider,
+     * for each repo, provider and role. Least recently used first.
+     */
+    private final Map<List<String>, Map<List<String>, Integer>> turns;
+
+    /**
+     * Ctor. All the Contributors have the same weight.
+     */
+    public RoundRobinStrategy() {
+        this(contributor -> 1);
+    }
+
+    /**
+     * Ctor.
+     * @param weights Weight of each Contributor.
+     */
+    public RoundRobinStrategy(final ToIntFunction<Contributor> weights) {
+        this(weights, RoundRobinStrategy.REMEMBERED);
+    }
+
+    /**
+     * Ctor.
+     * @param weights Weight of each Contributor.
+     * @param remembered How many Projects and roles to remember
+     *  the turns of.
+     */
+    RoundRobinStrategy(
+        final ToIntFunction<Contributor> weights,
+        final int remembered
+    ) {
+        this.weights = weights;
+        this.turns = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                final Map.Entry<List<String>, Map<List<String>, Integer>> old
+            ) {
+                return this.size() > remembered;
+            }
+        };
+    }
+
+    @Override
+    public int choose(
+        final List<Contributor> affordable,
+        final Predicate<Contributor> excluded
+    ) {
+        return this.choose(null, affordable, excluded, contributor -> 0);
+    }
+
+    @Override
+    public synchronized int choose(
+        final Task task,
+        final List<Contributor> affordable,
+        final Predicate<Contributor> excluded,
+        final ToIntFunction<Contributor> earlier
+    ) {
+        final List<String> of = RoundRobinStrategy.turnsOf(task);
+        final Map<List<String>, Integer> previous = this.turns.getOrDefault(
+            of, Map.of()
+        );
+        final Map<List<String>, Integer> current = new HashMap<>();
+        int chosen = -1;
+        int best = Integer.MIN_VALUE;
+        int total = 0;
+        for(int idx = 0; idx < affordable.size(); ++idx) {
+            final Contributor contributor = affordable.get(idx);
+            final List<String> key = RoundRobinStrategy.key(contributor);
+            final int was = previous.getOrDefault(key, 0);
+            if(excluded.test(contributor)) {
+                current.put(key, was);
+                continue;
+            }
+            final int weight = Math.max(
+                1, this.weights.applyAsInt(contributor)
+            );
+            total += weight;
+            final int raised = was + weight;
+            current.put(key, raised);
+            if(raised > best) {
+                best = raised;
+                chosen = idx;
+            }
+        }
+        if(chosen >= 0) {
+            current.merge(
+                RoundRobinStrategy.key(affordable.get(chosen)),
+                -total, Integer::sum
+            );
+        }
+        this.turns.put(of, current);
+        return chosen;
+    }
+
+    /**
+     * Key of the turns for a Task: its repo, provider and role.
+     * @param task Task, may be null.
+     * @return Key, empty if there is no Task.
+     */
+    private static List<String> turnsOf(final Task task) {
+        final List<String> key;
+        if(task == null) {
+            key = List.of();
+        } else {
+            final Project project = task.project();
+            key = Arrays.asList(
+                project.repoFullName(), project.provider(), task.role()
+            );
+        }
+        return key;
+    }
+
+    /**
+     * Key of a Contributor.
+     * @param contributor Contributor.
+     * @return Username and provider.
+     */
+    private static List<String> key(final Contributor contributor) {
+        return Arrays.asList(contributor.username(), contributor.provider());
+    }
+}
@@ -25,12 +25,15 @@ package com.selfxdsd.core.contributors;
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.storage.Storage;
 import com.selfxdsd.core.Env;
+import com.selfxdsd.core.Identities;
+import com.selfxdsd.core.Memo;
 import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
 import com.stripe.model.Account;
 import com.stripe.param.AccountCreateParams;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * A Contributor stored in Self.
@@ -57,9 +60,9 @@ public final class StoredContributor implements Contributor {
 
     /**
      * This contributor's Contracts. If they are missing,
-     * they will be read from the storage.
+     * they will be read from the storage, at most once.
      */
-    private final Contracts contracts;
+    private final Memo<Contracts> contracts;
 
     /**
      * Self's Storage.
@@ -94,10 +97,16 @@ public final class StoredContributor implements Contributor {
         final Contracts contracts,
         final Storage storage
     ) {
-        this.username = username;
-        this.provider = provider;
-        this.contracts = contracts;
+        this.username = Identities.name(username);
+        this.provider = Identities.name(provider);
         this.storage = storage;
+        final Supplier<Contracts> read = () -> storage.contracts()
+            .ofContributor(this);
+        if(contracts == null) {
+            this.contracts = new Memo<>(read);
+        } else {
+            this.contracts = new Memo<>(contracts, read);
+        }
     }
 
     @Override
@@ -112,13 +121,15 @@ public final class StoredContributor implements Contributor {
 
     @Override
     public Contracts contracts() {
-        final Contracts assigned;
-        if(this.contracts == null) {
-            assigned = this.storage.contracts().ofContributor(this);
-        } else {
-            assigned = this.contracts;
-        }
-        return assigned;
+        return this.contracts.get();
+    }
+
+    /**
+     * Forget the Contracts, they will be read again from the storage
+     * on the next use.
+     */
+    public void refresh() {
+        this.contracts.refresh();
     }
 
     @Override
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Tasks which update the {@link Counters} when they are assigned,
+ * unassigned or removed.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class CountedTasks implements Tasks {
+
+    /**
+     * Original Tasks.
+     */
+    private final Tasks origin;
+
+    /**
+     * The Counters.
+     */
+    private final Counters counters;
+
+    /**
+     * Ctor.
+     * @param origin Original Tasks.
+     * @param counters The Counters.
+     */
+    public CountedTasks(final Tasks origin, final Counters counters) {
+        this.origin = origin;
+        this.counters = counters;
+    }
+
+    @Override
+    public Task getById(
+        final String issueId,
+        final String repoFullName,
+        final String provider
+    ) {
+        return this.origin.getById(issueId, repoFullName, provider);
+    }
+
+    @Override
+    public Task register(final Issue issue) {
+        return this.origin.register(issue);
+    }
+
+    @Override
+    public List<Task> registerAll(final List<Issue> issues) {
+        return this.origin.registerAll(issues);
+    }
+
+    @Override
+    public Task assign(
+        final Task task,
+        final Contract contract,
+        final int days
+    ) {
+        final Contributor previous = task.assignee();
+        final Task assigned = this.origin.assign(task, contract, days);
+        if(previous != null) {
+            this.counters.add(previous, -1);
+        }
+        this.counters.add(assigned.assignee(), 1);
+        return assigned;
+    }
+
+    @Override
+    public Task unassign(final Task task) {
+        final Contributor assignee = task.assignee();
+        final Task unassigned = this.origin.unassign(task);
+        if(assignee != null) {
+            this.counters.add(assignee, -1);
+        }
+        return unassigned;
+    }
+
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        return this.origin.remind(task, moment);
+    }
+
+    @Override
+    public Tasks ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return this.origin.ofProject(repoFullName, repoProvider);
+    }
+
+    @Override
+    public Tasks ofContributor(
+        final String username,
+        final String provider
+    ) {
+        return this.origin.ofContributor(username, provider);
+    }
+
+    @Override
+    public Tasks ofContract(final Contract.Id id) {
+        return this.origin.ofContract(id);
+    }
+
+    @Override
+    public Tasks unassigned() {
+        return this.origin.unassigned();
+    }
+
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return this.origin.dueBefore(moment);
+    }
+
+    @Override
+    public boolean remove(final Task task) {
+        final Contributor assignee = task.assignee();
+        final boolean removed = this.origin.remove(task);
+        if(removed && assignee != null) {
+            this.counters.add(assignee, -1);
+        }
+        return removed;
+    }
+
+    @Override
+    public int removeAll(final List<Task> tasks) {
+        final int removed = this.origin.removeAll(tasks);
+        for(final Task task : tasks) {
+            final Contributor assignee = task.assignee();
+            if(assignee == null) {
+                continue;
+            }
+            if(removed == tasks.size()) {
+                this.counters.add(assignee, -1);
+            } else {
+                this.counters.forget(assignee);
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return this.origin.iterator();
+    }
+}
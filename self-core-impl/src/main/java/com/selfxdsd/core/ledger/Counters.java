@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Workloads;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Workloads of the Contributors, kept up to date as Tasks are assigned,
+ * unassigned and removed, so elections can compare them without
+ * counting anybody's Tasks.<br><br>
+ * Like the {@link Ledger}, a Contributor's workload is counted once,
+ * the first time it is read, and then only adjusted by the writes.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Counters implements Workloads {
+
+    /**
+     * Workloads counted from scratch.
+     */
+    private final Workloads counted;
+
+    /**
+     * Kept workloads, by Contributor (username and provider).
+     */
+    private final Map<List<String>, Integer> open;
+
+    /**
+     * Ctor.
+     * @param counted Workloads counted from scratch.
+     */
+    public Counters(final Workloads counted) {
+        this.counted = counted;
+        this.open = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public int ofContributor(final Contributor contributor) {
+        return this.open.computeIfAbsent(
+            Counters.key(contributor),
+            key -> this.counted.ofContributor(contributor)
+        );
+    }
+
+    /**
+     * Add to the workload of a Contributor. Nothing happens if the
+     * workload of the Contributor is not kept yet.
+     * @param contributor Contributor.
+     * @param tasks Number of Tasks, negative if the workload decreases.
+     */
+    void add(final Contributor contributor, final int tasks) {
+        this.open.computeIfPresent(
+            Counters.key(contributor),
+            (key, count) -> count + tasks
+        );
+    }
+
+    /**
+     * Forget the workload of a Contributor, it will be counted again
+     * the next time it is read.
+     * @param contributor Contributor.
+     */
+    void forget(final Contributor contributor) {
+        this.open.remove(Counters.key(contributor));
+    }
+
+    /**
+     * Key of a Contributor.
+     * @param contributor Contributor.
+     * @return Username and provider.
+     */
+    private static List<String> key(final Contributor contributor) {
+        return List.of(contributor.username(), contributor.provider());
+    }
+}
@@ -0,0 +1,461 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.core.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Debts of the Projects, kept up to date as the Tasks are assigned,
+ * unassigned, invoiced and paid, so reading the debt of a Project
+ * (e.g. for its Wallet's available cash) does not walk all its
+ * Contracts, Tasks and Invoices.<br><br>
+ * The debt of a Project is computed once, the first time it is read,
+ * and then only adjusted by the writes. Writes concerning a Project
+ * which was not read yet are ignored, since its debt will be computed
+ * from scratch anyway. Use {@link #check(Project)} to verify the
+ * kept debt against the computed one.<br><br>
+ * The writes have to go through {@link #write(Project, Supplier)}: while
+ * a Project is written, its computed debt is not kept, since it may or
+ * may not see the write. Inside {@link #transaction(Supplier)}, the
+ * amounts are added only after the work returns, and the touched debts
+ * are forgotten if it fails. If other processes write to the same
+ * Storage, give the kept debts a lifetime, so they are computed again
+ * every now and then.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Ledger implements Debts {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        Ledger.class
+    );
+
+    /**
+     * Debts computed from scratch.
+     */
+    private final Debts computed;
+
+    /**
+     * How long a kept debt is trusted, in nanoseconds.
+     */
+    private final long lifetime;
+
+    /**
+     * Accounts, by Project (repo full name and provider).
+     */
+    private final Map<List<String>, Account> accounts;
+
+    /**
+     * Changes waiting for the current thread's transaction to end.
+     */
+    private final ThreadLocal<List<Account.Change>> staged;
+
+    /**
+     * Keys of the things being written (e.g. Tasks), until their writes
+     * or transactions end.
+     */
+    private final Set<List<String>> writing;
+
+    /**
+     * Ctor.
+     */
+    public Ledger() {
+        this(new Debts.Computed());
+    }
+
+    /**
+     * Ctor.
+     * @param lifetime How long a kept debt is trusted.
+     */
+    public Ledger(final Duration lifetime) {
+        this(new Debts.Computed(), lifetime);
+    }
+
+    /**
+     * Ctor.
+     * @param computed Debts computed from scratch.
+     */
+    public Ledger(final Debts computed) {
+        this(computed, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param computed Debts computed from scratch.
+     * @param lifetime How long a kept debt is trusted.
+     */
+    public Ledger(final Debts computed, final Duration lifetime) {
+        this.computed = computed;
+        this.lifetime = lifetime.toNanos();
+        this.accounts = new ConcurrentHashMap<>();
+        this.staged = new ThreadLocal<>();
+        this.writing = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public BigDecimal ofProject(final Project project) {
+        final Account account = this.account(project);
+        final long version = account.version();
+        Money debt = account.debt(this.lifetime);
+        if(debt == null) {
+            debt = Money.of(this.computed.ofProject(project));
+            account.keep(debt, version);
+        }
+        return debt.toBigDecimal();
+    }
+
+    /**
+     * Recompute the debt of a Project and compare it with the kept one.
+     * If they differ, the kept debt is corrected.
+     * @param project Project.
+     * @return True if the kept debt was correct (or not kept at all,
+     *  or written meanwhile), false if it had to be corrected.
+     */
+    public boolean check(final Project project) {
+        final Account account = this.account(project);
+        final long version = account.version();
+        final Money actual = Money.of(this.computed.ofProject(project));
+        final Money kept = account.debt(this.lifetime);
+        final boolean correct = kept == null || kept.equals(actual)
+            || !account.keep(actual, version);
+        if(!correct) {
+            LOG.warn(
+                "Debt of Project " + project.repoFullName() + " at "
+                + project.provider() + " was " + kept + ", should be "
+                + actual + ". Corrected."
+            );
+        }
+        return correct;
+    }
+
+    /**
+     * Run some work in a transaction of the Storage. The amounts added
+     * meanwhile are kept aside and added only if the work returns;
+     * if it fails, the debts of the written Projects are forgotten.
+     * Until then, the debts of those Projects are not kept from scratch
+     * either. Nested calls just run the work.
+     * @param work Work, which usually runs the Storage's transaction.
+     * @param <T> Type of the result.
+     * @return Result.
+     */
+    public <T> T transaction(final Supplier<T> work) {
+        final T result;
+        if(this.staged.get() == null) {
+            final List<Account.Change> changes = new ArrayList<>();
+            this.staged.set(changes);
+            boolean done = false;
+            try {
+                result = work.get();
+                done = true;
+            } finally {
+                this.staged.remove();
+                for(final Account.Change change : changes) {
+                    change.end(done);
+                }
+            }
+        } else {
+            result = work.get();
+        }
+        return result;
+    }
+
+    /**
+     * Write a Project. Its computed debt is not kept while it is written.
+     * If the write fails, the debt of the Project is forgotten.
+     * @param project Project.
+     * @param write Write, which adds its amounts to the Ledger.
+     * @param <T> Type of the result.
+     * @return Result of the write.
+     */
+    <T> T write(final Project project, final Supplier<T> write) {
+        return this.write(List.of(project), write);
+    }
+
+    /**
+     * Write one thing of a Project (e.g. a Task). Writes of the same thing
+     * at the same time cannot tell how each of them changes the debt
+     * (both see the same stored state), so, if the thing is already being
+     * written, the debt of the Project is forgotten instead.
+     * @param project Project.
+     * @param key Key of the written thing.
+     * @param write Write, which adds its amounts to the Ledger.
+     * @param <T> Type of the result.
+     * @return Result of the write.
+     */
+    <T> T write(
+        final Project project,
+        final List<String> key,
+        final Supplier<T> write
+    ) {
+        final T result;
+        if(this.writing.add(key)) {
+            result = this.write(
+                List.of(project), done -> this.writing.remove(key), write
+            );
+        } else {
+            result = this.write(
+                List.of(project),
+                done -> { },
+                () -> {
+                    this.forget(project);
+                    return write.get();
+                }
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Write many Projects at once.
+     * @param projects Projects.
+     * @param write Write, which adds its amounts to the Ledger.
+     * @param <T> Type of the result.
+     * @return Result of the write.
+     */
+    <T> T write(final List<Project> projects, final Supplier<T> write) {
+        return this.write(projects, done -> { }, write);
+    }
+
+    /**
+     * Add an amount to the debt of a Project. Nothing happens if the
+     * debt of the Project is not kept yet. Inside a transaction, it is
+     * added when the transaction ends.
+     * @param project Project.
+     * @param amount Amount, negative if the debt decreases.
+     */
+    void add(final Project project, final Money amount) {
+        final Account account = this.account(project);
+        final List<Account.Change> changes = this.staged.get();
+        if(changes == null) {
+            account.add(amount);
+        } else {
+            changes.add(done -> {
+                if(done) {
+                    account.add(amount);
+                }
+            });
+        }
+    }
+
+    /**
+     * Is the debt of a Project kept? If not, there is no need to
+     * work out how much a write changes it.
+     * @param project Project.
+     * @return True or false.
+     */
+    boolean keeps(final Project project) {
+        return this.account(project).debt(this.lifetime) != null;
+    }
+
+    /**
+     * Forget the debt of a Project, it will be computed again
+     * the next time it is read.
+     * @param project Project.
+     */
+    void forget(final Project project) {
+        this.account(project).forget();
+    }
+
+    /**
+     * Write many Projects at once.
+     * @param projects Projects.
+     * @param last Change ended after the Projects' changes.
+     * @param write Write, which adds its amounts to the Ledger.
+     * @param <T> Type of the result.
+     * @return Result of the write.
+     */
+    private <T> T write(
+        final List<Project> projects,
+        final Account.Change last,
+        final Supplier<T> write
+    ) {
+        final List<Account.Change> begun = new ArrayList<>();
+        for(final Project project : projects) {
+            begun.add(this.account(project).begin());
+        }
+        begun.add(last);
+        final List<Account.Change> changes = this.staged.get();
+        final T result;
+        boolean done = false;
+        try {
+            result = write.get();
+            done = true;
+        } finally {
+            if(changes == null) {
+                for(final Account.Change change : begun) {
+                    change.end(done);
+                }
+            } else {
+                changes.addAll(begun);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Account of a Project.
+     * @param project Project.
+     * @return Account.
+     */
+    private Account account(final Project project) {
+        return this.accounts.computeIfAbsent(
+            List.of(project.repoFullName(), project.provider()),
+            key -> new Account()
+        );
+    }
+
+    /**
+     * Kept debt of a Project. Each write changes its version, so a debt
+     * computed while the Project was written is not kept.
+     */
+    private static final class Account {
+
+        /**
+         * Kept debt, null if it is not kept.
+         */
+        private Money debt;
+
+        /**
+         * When the debt was kept, in nanoseconds.
+         */
+        private long since;
+
+        /**
+         * Writes in progress.
+         */
+        private int writes;
+
+        /**
+         * Version, changed by each write.
+         */
+        private long version;
+
+        /**
+         * Version of the Account, to pass to
+         * {@link #keep(Money, long)}.
+         * @return Version, -1 if the Account is being written.
+         */
+        synchronized long version() {
+            long current = this.version;
+            if(this.writes > 0) {
+                current = -1;
+            }
+            return current;
+        }
+
+        /**
+         * Kept debt.
+         * @param lifetime How long a kept debt is trusted, in nanoseconds.
+         * @return Money or null if the debt is not kept or too old.
+         */
+        synchronized Money debt(final long lifetime) {
+            Money kept = this.debt;
+            if(kept != null && System.nanoTime() - this.since > lifetime) {
+                kept = null;
+            }
+            return kept;
+        }
+
+        /**
+         * Keep a computed debt, unless the Account was written since
+         * the given version was read.
+         * @param computed Computed debt.
+         * @param read Version read before computing the debt.
+         * @return True if it was kept, false otherwise.
+         */
+        synchronized boolean keep(final Money computed, final long read) {
+            final boolean keep = read >= 0 && read == this.version
+                && this.writes == 0;
+            if(keep) {
+                this.debt = computed;
+                this.since = System.nanoTime();
+            }
+            return keep;
+        }
+
+        /**
+         * Add an amount to the kept debt, if any.
+         * @param amount Amount.
+         */
+        synchronized void add(final Money amount) {
+            if(this.debt != null) {
+                this.debt = this.debt.add(amount);
+            }
+        }
+
+        /**
+         * Forget the kept debt.
+         */
+        synchronized void forget() {
+            this.debt = null;
+            ++this.version;
+        }
+
+        /**
+         * Begin a write.
+         * @return Change which ends the write.
+         */
+        synchronized Change begin() {
+            ++this.writes;
+            ++this.version;
+            return done -> {
+                synchronized (this) {
+                    if(!done) {
+                        this.forget();
+                    }
+                    --this.writes;
+                }
+            };
+        }
+
+        /**
+         * A change of an Account, ended when the write or the
+         * transaction is over.
+         */
+        interface Change {
+
+            /**
+             * End the change.
+             * @param done True if the write or transaction succeeded.
+             */
+            void end(boolean done);
+        }
+    }
+}
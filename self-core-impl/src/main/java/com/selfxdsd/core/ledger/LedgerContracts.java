@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contracts;
+import com.selfxdsd.api.Contributor;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+
+/**
+ * Contracts which update the {@link Ledger} when a Contract's hourly
+ * rate changes. The value of all the Contract's assigned Tasks changes
+ * with it, so the debt of the Project is simply computed again.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerContracts implements Contracts {
+
+    /**
+     * Original Contracts.
+     */
+    private final Contracts origin;
+
+    /**
+     * The Ledger.
+     */
+    private final Ledger ledger;
+
+    /**
+     * Ctor.
+     * @param origin Original Contracts.
+     * @param ledger The Ledger.
+     */
+    public LedgerContracts(final Contracts origin, final Ledger ledger) {
+        this.origin = origin;
+        this.ledger = ledger;
+    }
+
+    @Override
+    public Contracts ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return this.origin.ofProject(repoFullName, repoProvider);
+    }
+
+    @Override
+    public Contracts ofContributor(final Contributor contributor) {
+        return this.origin.ofContributor(contributor);
+    }
+
+    @Override
+    public Contract addContract(
+        final String repoFullName,
+        final String contributorUsername,
+        final String provider,
+        final BigDecimal hourlyRate,
+        final String role
+    ) {
+        return this.origin.addContract(
+            repoFullName, contributorUsername, provider, hourlyRate, role
+        );
+    }
+
+    @Override
+    public Contract findById(final Contract.Id id) {
+        return this.origin.findById(id);
+    }
+
+    @Override
+    public Contract update(
+        final Contract contract,
+        final BigDecimal hourlyRate
+    ) {
+        return this.ledger.write(
+            contract.project(),
+            () -> {
+                final Contract updated = this.origin.update(
+                    contract, hourlyRate
+                );
+                this.ledger.forget(contract.project());
+                return updated;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<Contract> iterator() {
+        return this.origin.iterator();
+    }
+}
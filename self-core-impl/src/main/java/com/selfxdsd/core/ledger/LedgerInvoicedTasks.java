@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.InvoicedTask;
+import com.selfxdsd.api.InvoicedTasks;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.core.Money;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * InvoicedTasks which update the {@link Ledger} when Tasks are
+ * registered on an Invoice.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerInvoicedTasks implements InvoicedTasks {
+
+    /**
+     * Original InvoicedTasks.
+     */
+    private final InvoicedTasks origin;
+
+    /**
+     * The Ledger.
+     */
+    private final Ledger ledger;
+
+    /**
+     * Ctor.
+     * @param origin Original InvoicedTasks.
+     * @param ledger The Ledger.
+     */
+    public LedgerInvoicedTasks(
+        final InvoicedTasks origin,
+        final Ledger ledger
+    ) {
+        this.origin = origin;
+        this.ledger = ledger;
+    }
+
+    @Override
+    public InvoicedTasks ofInvoice(final Invoice invoice) {
+        return this.origin.ofInvoice(invoice);
+    }
+
+    @Override
+    public InvoicedTask register(
+        final Invoice invoice,
+        final Task finished,
+        final BigDecimal commission
+    ) {
+        return this.ledger.write(
+            finished.project(),
+            () -> {
+                final InvoicedTask invoiced = this.origin.register(
+                    invoice, finished, commission
+                );
+                this.ledger.add(
+                    finished.project(), Money.of(invoiced.totalAmount())
+                );
+                return invoiced;
+            }
+        );
+    }
+
+    @Override
+    public List<InvoicedTask> registerAll(
+        final Invoice invoice,
+        final List<Task> finished,
+        final BigDecimal commission
+    ) {
+        final List<Project> projects = new ArrayList<>();
+        for(final Task task : finished) {
+            projects.add(task.project());
+        }
+        return this.ledger.write(
+            projects,
+            () -> {
+                final List<InvoicedTask> invoiced = this.origin.registerAll(
+                    invoice, finished, commission
+                );
+                for(int idx = 0; idx < invoiced.size(); ++idx) {
+                    this.ledger.add(
+                        finished.get(idx).project(),
+                        Money.of(invoiced.get(idx).totalAmount())
+                    );
+                }
+                return invoiced;
+            }
+        );
+    }
+
+    @Override
+    public Invoice.Totals totals(final Invoice invoice) {
+        return this.origin.totals(invoice);
+    }
+
+    @Override
+    public boolean verify(final Invoice invoice) {
+        return this.origin.verify(invoice);
+    }
+
+    @Override
+    public Iterator<InvoicedTask> iterator() {
+        return this.origin.iterator();
+    }
+}
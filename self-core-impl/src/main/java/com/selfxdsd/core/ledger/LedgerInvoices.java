@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.Invoices;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.core.Money;
+
+import java.util.Iterator;
+
+/**
+ * Invoices which update the {@link Ledger} when an Invoice is paid.
+ * The paid Invoice is looked up by id, since the given one only has
+ * to carry the payment details.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerInvoices implements Invoices {
+
+    /**
+     * Original Invoices.
+     */
+    private final Invoices origin;
+
+    /**
+     * The Ledger.
+     */
+    private final Ledger ledger;
+
+    /**
+     * Ctor.
+     * @param origin Original Invoices.
+     * @param ledger The Ledger.
+     */
+    public LedgerInvoices(final Invoices origin, final Ledger ledger) {
+        this.origin = origin;
+        this.ledger = ledger;
+    }
+
+    @Override
+    public Invoice getById(final int id) {
+        return this.origin.getById(id);
+    }
+
+    @Override
+    public Invoice createNewInvoice(final Contract.Id contractId) {
+        return this.origin.createNewInvoice(contractId);
+    }
+
+    @Override
+    public Invoice active() {
+        return this.origin.active();
+    }
+
+    @Override
+    public Invoice activeOf(final Contract.Id contractId) {
+        return this.origin.activeOf(contractId);
+    }
+
+    @Override
+    public Invoices ofContract(final Contract.Id id) {
+        return this.origin.ofContract(id);
+    }
+
+    @Override
+    public boolean registerAsPaid(final Invoice invoice) {
+        final Invoice stored = this.origin.getById(invoice.invoiceId());
+        final boolean paid;
+        if(stored == null || stored.isPaid()) {
+            paid = this.origin.registerAsPaid(invoice);
+        } else {
+            final Project project = stored.contract().project();
+            paid = this.ledger.write(
+                project, () -> this.pay(invoice, stored, project)
+            );
+        }
+        return paid;
+    }
+
+    /**
+     * Register an unpaid Invoice as paid and take its amount off the
+     * debt of its Project.
+     * @param invoice Invoice.
+     * @param stored Invoice as it is stored.
+     * @param project Project.
+     * @return True if it was registered as paid.
+     */
+    private boolean pay(
+        final Invoice invoice,
+        final Invoice stored,
+        final Project project
+    ) {
+        final boolean paid;
+        if(this.ledger.keeps(project)) {
+            final Money amount = Money.of(stored.totalAmount());
+            paid = this.origin.registerAsPaid(invoice);
+            if(paid) {
+                this.ledger.add(project, amount.negate());
+            }
+        } else {
+            paid = this.origin.registerAsPaid(invoice);
+            if(paid) {
+                this.ledger.forget(project);
+            }
+        }
+        return paid;
+    }
+
+    @Override
+    public Iterator<Invoice> iterator() {
+        return this.origin.iterator();
+    }
+}
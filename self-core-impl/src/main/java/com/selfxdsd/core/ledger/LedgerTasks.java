@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.core.Money;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Tasks which update the {@link Ledger} when they are assigned,
+ * unassigned or removed.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerTasks implements Tasks {
+
+    /**
+     * Original Tasks.
+     */
+    private final Tasks origin;
+
+    /**
+     * The Ledger.
+     */
+    private final Ledger ledger;
+
+    /**
+     * Ctor.
+     * @param origin Original Tasks.
+     * @param ledger The Ledger.
+     */
+    public LedgerTasks(final Tasks origin, final Ledger ledger) {
+        this.origin = origin;
+        this.ledger = ledger;
+    }
+
+    @Override
+    public Task getById(
+        final String issueId,
+        final String repoFullName,
+        final String provider
+    ) {
+        return this.origin.getById(issueId, repoFullName, provider);
+    }
+
+    @Override
+    public Task register(final Issue issue) {
+        return this.origin.register(issue);
+    }
+
+    @Override
+    public List<Task> registerAll(final List<Issue> issues) {
+        return this.origin.registerAll(issues);
+    }
+
+    @Override
+    public Task assign(
+        final Task task,
+        final Contract contract,
+        final int days
+    ) {
+        return this.ledger.write(
+            task.project(),
+            LedgerTasks.key(task),
+            () -> {
+                final Task stored = this.stored(task);
+                final Task assigned = this.origin.assign(task, contract, days);
+                final Project project = assigned.project();
+                if(this.ledger.keeps(project)) {
+                    this.release(stored);
+                    this.ledger.add(project, LedgerTasks.cost(assigned));
+                }
+                return assigned;
+            }
+        );
+    }
+
+    @Override
+    public Task unassign(final Task task) {
+        return this.ledger.write(
+            task.project(),
+            LedgerTasks.key(task),
+            () -> {
+                final Task stored = this.stored(task);
+                final Task unassigned = this.origin.unassign(task);
+                this.release(stored);
+                return unassigned;
+            }
+        );
+    }
+
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        return this.origin.remind(task, moment);
+    }
+
+    @Override
+    public Tasks ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return this.origin.ofProject(repoFullName, repoProvider);
+    }
+
+    @Override
+    public Tasks ofContributor(
+        final String username,
+        final String provider
+    ) {
+        return this.origin.ofContributor(username, provider);
+    }
+
+    @Override
+    public Tasks ofContract(final Contract.Id id) {
+        return this.origin.ofContract(id);
+    }
+
+    @Override
+    public Tasks unassigned() {
+        return this.origin.unassigned();
+    }
+
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return this.origin.dueBefore(moment);
+    }
+
+    @Override
+    public boolean remove(final Task task) {
+        return this.ledger.write(
+            task.project(),
+            LedgerTasks.key(task),
+            () -> {
+                final Task stored = this.stored(task);
+                final boolean removed = this.origin.remove(task);
+                if(removed) {
+                    this.release(stored);
+                }
+                return removed;
+            }
+        );
+    }
+
+    @Override
+    public int removeAll(final List<Task> tasks) {
+        final List<Project> projects = new ArrayList<>();
+        for(final Task task : tasks) {
+            projects.add(task.project());
+        }
+        return this.ledger.write(
+            projects,
+            () -> {
+                final List<Task> stored = new ArrayList<>();
+                for(final Task task : tasks) {
+                    stored.add(this.stored(task));
+                }
+                final int removed = this.origin.removeAll(tasks);
+                for(final Task task : stored) {
+                    if(removed == tasks.size()) {
+                        this.release(task);
+                    } else if(task != null) {
+                        this.ledger.forget(task.project());
+                    }
+                }
+                return removed;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return this.origin.iterator();
+    }
+
+    /**
+     * Take a Task's cost off the debt of its Project, if it was assigned.
+     * @param task Task as it was stored, possibly null.
+     */
+    private void release(final Task task) {
+        if(task != null && task.assignee() != null) {
+            this.ledger.add(task.project(), LedgerTasks.cost(task).negate());
+        }
+    }
+
+    /**
+     * The Task as it is stored now, before it is written. It is only
+     * looked up if the Ledger keeps the debt of its Project, so it has
+     * to be called while the Project is written, when the Ledger cannot
+     * start keeping it.
+     * @param task Task.
+     * @return Task or null if it is not stored or not needed.
+     */
+    private Task stored(final Task task) {
+        final Project project = task.project();
+        final Task stored;
+        if(this.ledger.keeps(project)) {
+            stored = this.origin.getById(
+                task.issueId(), project.repoFullName(), project.provider()
+            );
+        } else {
+            stored = null;
+        }
+        return stored;
+    }
+
+    /**
+     * Key of a Task, for the Ledger's writes.
+     * @param task Task.
+     * @return Key.
+     */
+    private static List<String> key(final Task task) {
+        final Project project = task.project();
+        return Arrays.asList(
+            "task", task.issueId(), project.repoFullName(), project.provider()
+        );
+    }
+
+    /**
+     * What an assigned Task costs its Project: its value plus
+     * the PM's commission.
+     * @param task Assigned Task.
+     * @return Money.
+     */
+    private static Money cost(final Task task) {
+        return Money.of(task.value()).add(
+            Money.of(task.project().projectManager().commission())
+        );
+    }
+}
@@ -67,22 +67,32 @@ public final class AssignTaskToIssueAssignee extends Intermediary {
             );
         } else {
             final String assignee = issue.assignee();
-            final Task assigned = task.assign(
-                project.contributors()
-                    .getById(assignee, project.provider())
+            final Outbox outbox = project.storage().outbox();
+            final Task assigned = outbox.together(
+                () -> {
+                    final Task done = task.assign(
+                        project.contributors()
+                            .getById(assignee, project.provider())
+                    );
+                    outbox.send(
+                        issue,
+                        Outbox.Message.comment(
+                            project.language().reply(
+                                "taskAssigned.comment",
+                                assignee,
+                                done.deadline(),
+                                done.estimation()
+                            )
+                        )
+                    );
+                    return done;
+                }
             );
             LOG.debug(
                 "Task #" + assigned.issueId()
                 + " assigned to Contributor @" + assignee
                 + " who was already assigned to the Issue."
             );
-            final String comment = String.format(
-                project.language().reply("taskAssigned.comment"),
-                assignee,
-                assigned.deadline(),
-                assigned.estimation()
-            );
-            issue.comments().post(comment);
         }
         this.next().perform(event);
     }
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.pm.Step;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Helpers for performing Steps asynchronously. Steps mostly wait on
+ * the providers' APIs, so by default they run on a bounded pool of
+ * daemon threads, not on the common ForkJoinPool.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Async {
+
+    /**
+     * Max number of threads performing Steps.
+     */
+    private static final int POOL = 32;
+
+    /**
+     * Max number of Steps waiting for a thread. When they are more,
+     * the caller performs the Step itself, which slows it down.
+     */
+    private static final int QUEUE = 1024;
+
+    /**
+     * Number of threads made so far for the Steps.
+     */
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    /**
+     * Default executor of the Steps. The threads are daemons, so
+     * the Steps never keep the JVM alive, and they stop after a minute
+     * without work.
+     */
+    private static final ThreadPoolExecutor STEPS = Async.pool();
+
+    /**
+     * Hidden ctor.
+     */
+    private Async() { }
+
+    /**
+     * The default executor of the Steps.
+     * @return Executor.
+     */
+    public static Executor executor() {
+        return Async.STEPS;
+    }
+
+    /**
+     * Perform the Step on the given executor, so the calling thread
+     * does not wait for it, even if the Step is synchronous. The current
+     * Deadline goes with it and the Step is not performed if the
+     * Deadline passes before it starts.
+     * @param step Step.
+     * @param event Event.
+     * @param executor Executor.
+     * @return Future completed when the Step is done.
+     */
+    public static CompletableFuture<Void> perform(
+        final Step step,
+        final Event event,
+        final Executor executor
+    ) {
+        final Deadline deadline = Deadline.current();
+        return CompletableFuture
+            .supplyAsync(
+                () -> deadline.call(
+                    () -> {
+                        deadline.check();
+                        return step.performAsync(event);
+                    }
+                ),
+                executor
+            )
+            .thenCompose(stage -> stage);
+    }
+
+    /**
+     * Wait for the stage to complete, rethrowing its failure as it was.
+     * @param stage Stage.
+     */
+    public static void await(final CompletionStage<Void> stage) {
+        try {
+            stage.toCompletableFuture().get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                "Interrupted while waiting for the steps.", ex
+            );
+        } catch (final ExecutionException ex) {
+            final Throwable cause = Async.cause(ex);
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * The actual failure, without the wrappers added by the futures.
+     * @param failure Failure.
+     * @return Throwable.
+     */
+    public static Throwable cause(final Throwable failure) {
+        Throwable cause = failure;
+        while((cause instanceof CompletionException
+            || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Make the default executor of the Steps.
+     * @return ThreadPoolExecutor.
+     */
+    private static ThreadPoolExecutor pool() {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            Async.POOL,
+            Async.POOL,
+            1L,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(Async.QUEUE),
+            task -> {
+                final Thread thread = new Thread(
+                    task, "self-steps-" + Async.THREADS.incrementAndGet()
+                );
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -25,6 +25,8 @@ package com.selfxdsd.core.managers;
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.pm.Step;
 
+import java.util.Arrays;
+
 /**
  * Check if the comment's author has one of the provided roles to perform
  * the next step.
@@ -50,4 +52,24 @@ public final class AuthorHasRoles extends UserHasRoles {
         super(onTrue, onFalse, event.comment().author(), roles);
     }
 
+    /**
+     * Ctor. The author is read from the Event when the step is performed,
+     * so the step can be built once and reused.
+     * @param onTrue Step to follow if the author has on of the given roles.
+     * @param onFalse Step to follow if the author none of the given roles.
+     * @param roles Accepting roles.
+     */
+    public AuthorHasRoles(
+        final Step onTrue,
+        final Step onFalse,
+        final String...roles
+    ) {
+        super(
+            onTrue,
+            onFalse,
+            event -> event.comment().author(),
+            event -> Arrays.asList(roles)
+        );
+    }
+
 }
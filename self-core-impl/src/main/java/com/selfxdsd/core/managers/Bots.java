@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.core.Env;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Known chatbots of each provider, whose comments the PMs ignore.
+ * Checking an author does not touch the Storage. The PMs themselves
+ * are known by {@link CachedProjectManagers}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Bots {
+
+    /**
+     * Known chatbots, by provider.
+     */
+    private static final Map<String, Set<String>> KNOWN = Bots.configured(
+        System::getenv
+    );
+
+    /**
+     * Hidden ctor.
+     */
+    private Bots() { }
+
+    /**
+     * Is this a known chatbot?
+     * @param username Username.
+     * @param provider Provider.
+     * @return True or false.
+     */
+    public static boolean known(final String username, final String provider) {
+        return Bots.KNOWN
+            .getOrDefault(Bots.lower(provider), Collections.emptySet())
+            .contains(Bots.lower(username));
+    }
+
+    /**
+     * Known chatbots of each provider: the defaults, plus the ones
+     * listed, comma-separated, in the env variable
+     * {@link Env#KNOWN_BOTS} followed by the provider's name.
+     * @param env Environment.
+     * @return Usernames by provider, lower-case.
+     */
+    static Map<String, Set<String>> configured(
+        final UnaryOperator<String> env
+    ) {
+        final Map<String, Set<String>> known = new HashMap<>();
+        known.put(
+            Provider.Names.GITHUB,
+            new HashSet<>(
+                Arrays.asList(
+                    "rultor", "0pdd", "0crat", "dependabot", "coveralls"
+                )
+            )
+        );
+        known.put(Provider.Names.GITLAB, new HashSet<>());
+        known.forEach(
+            (provider, usernames) -> {
+                final String listed = env.apply(Env.KNOWN_BOTS + provider);
+                if(listed != null) {
+                    Arrays.stream(listed.split(","))
+                        .map(String::trim)
+                        .filter(username -> !username.isEmpty())
+                        .map(Bots::lower)
+                        .forEach(usernames::add);
+                }
+            }
+        );
+        final Map<String, Set<String>> immutable = new HashMap<>();
+        known.forEach(
+            (provider, usernames) -> immutable.put(
+                provider, Set.copyOf(usernames)
+            )
+        );
+        return Map.copyOf(immutable);
+    }
+
+    /**
+     * Lower-case text.
+     * @param text Text.
+     * @return String.
+     */
+    private static String lower(final String text) {
+        return text.toLowerCase(Locale.ENGLISH);
+    }
+}
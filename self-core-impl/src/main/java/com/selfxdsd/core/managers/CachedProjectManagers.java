@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.ProjectManagers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ProjectManagers which know the usernames of their PMs without
+ * touching the Storage. The usernames are read once, updated when a PM
+ * registers here and read again from time to time, in case a PM was
+ * registered by another process. Usernames are compared
+ * case-insensitively.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class CachedProjectManagers implements ProjectManagers {
+
+    /**
+     * How long the usernames are used before reading them again.
+     */
+    private static final Duration FRESH = Duration.ofMinutes(10);
+
+    /**
+     * Original ProjectManagers.
+     */
+    private final ProjectManagers origin;
+
+    /**
+     * Keys of the PMs, null if they were not read yet.
+     */
+    private volatile Set<String> keys;
+
+    /**
+     * When the keys were read, in nanos.
+     */
+    private volatile long read;
+
+    /**
+     * Ctor.
+     * @param origin Original ProjectManagers.
+     */
+    public CachedProjectManagers(final ProjectManagers origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public ProjectManager getById(final int id) {
+        return this.origin.getById(id);
+    }
+
+    @Override
+    public ProjectManager getByUsername(
+        final String username,
+        final String provider
+    ) {
+        return this.origin.getByUsername(username, provider);
+    }
+
+    @Override
+    public boolean contains(final String username, final String provider) {
+        return this.fresh().contains(
+            CachedProjectManagers.key(username, provider)
+        );
+    }
+
+    @Override
+    public ProjectManager pick(final String provider) {
+        return this.origin.pick(provider);
+    }
+
+    @Override
+    public ProjectManager register(
+        final String userId,
+        final String username,
+        final String provider,
+        final String accessToken,
+        final BigDecimal commission
+    ) {
+        final ProjectManager manager = this.origin.register(
+            userId, username, provider, accessToken, commission
+        );
+        synchronized (this) {
+            final Set<String> current = this.keys;
+            if(current != null) {
+                current.add(
+                    CachedProjectManagers.key(
+                        manager.username(), manager.provider().name()
+                    )
+                );
+            }
+        }
+        return manager;
+    }
+
+    @Override
+    public Iterator<ProjectManager> iterator() {
+        return this.origin.iterator();
+    }
+
+    /**
+     * The keys, read again if they are missing or too old.
+     * @return Set of keys.
+     */
+    private Set<String> fresh() {
+        Set<String> current = this.keys;
+        if(current == null || this.stale()) {
+            synchronized (this) {
+                current = this.keys;
+                if(current == null || this.stale()) {
+                    current = ConcurrentHashMap.newKeySet();
+                    for(final ProjectManager manager : this.origin) {
+                        current.add(
+                            CachedProjectManagers.key(
+                                manager.username(),
+                                manager.provider().name()
+                            )
+                        );
+                    }
+                    this.read = System.nanoTime();
+                    this.keys = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Were the keys read too long ago?
+     * @return True or false.
+     */
+    private boolean stale() {
+        return System.nanoTime() - this.read
+            > CachedProjectManagers.FRESH.toNanos();
+    }
+
+    /**
+     * Key of a PM.
+     * @param username Username.
+     * @param provider Provider.
+     * @return Key.
+     */
+    private static String key(final String username, final String provider) {
+        return provider.toLowerCase(Locale.ENGLISH) + "/"
+            + username.toLowerCase(Locale.ENGLISH);
+    }
+}
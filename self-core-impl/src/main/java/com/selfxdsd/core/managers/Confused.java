@@ -21,16 +21,18 @@ public final class Confused implements Conversation {
         Confused.class
     );
 
+    /**
+     * The reply, built once.
+     */
+    private static final Step STEPS = new SendReply(
+        SendReply.toAuthor("misunderstand.comment")
+    );
+
     @Override
     public Step start(final Event event) {
         final Step steps;
         if (Event.Type.CONFUSED.equals(event.type())) {
-            steps = new SendReply(
-                String.format(
-                    event.project().language().reply("misunderstand.comment"),
-                    event.comment().author()
-                )
-            );
+            steps = Confused.STEPS;
         } else {
             throw new IllegalStateException("Invalid event type: "
                 + event.type() + ". Confused must end the chain.");
@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Outbox;
+import com.selfxdsd.api.Outbox.Pending;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.storage.Storage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Courier of the {@link Outbox}: it takes a batch of due Messages and
+ * delivers them to the Provider. The Issues are served in parallel,
+ * but the Messages of one Issue are delivered in order, one by one.
+ * A failed Message is retried later, with exponential backoff, and the
+ * Messages after it wait; after too many attempts, it is given up on.
+ * A write which the Provider refuses (e.g. an assignment) is logged
+ * and skipped, as the PMs always did. Several Couriers may run at the
+ * same time: each Message is claimed before it is delivered.
+ * Run it periodically (e.g. with a ScheduledExecutorService).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Courier implements Runnable {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        Courier.class
+    );
+
+    /**
+     * Wait before the first retry, doubled after each failure.
+     */
+    private static final Duration BACKOFF = Duration.ofMinutes(1);
+
+    /**
+     * Longest wait between retries.
+     */
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    /**
+     * How long a Message is claimed for, while it is delivered.
+     */
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    /**
+     * Doublings after which the wait surely passed the longest one.
+     */
+    private static final int DOUBLINGS = 16;
+
+    /**
+     * Self's Storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Executor delivering the Messages.
+     */
+    private final Executor executor;
+
+    /**
+     * Max number of Messages taken at once.
+     */
+    private final int batch;
+
+    /**
+     * Max number of attempts for a Message.
+     */
+    private final int attempts;
+
+    /**
+     * Ctor.
+     * @param storage Self's Storage.
+     */
+    public Courier(final Storage storage) {
+        this(storage, Async.executor(), 100, 10);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Self's Storage.
+     * @param executor Executor delivering the Messages.
+     * @param batch Max number of Messages taken at once.
+     * @param attempts Max number of attempts for a Message.
+     */
+    public Courier(
+        final Storage storage,
+        final Executor executor,
+        final int batch,
+        final int attempts
+    ) {
+        this.storage = storage;
+        this.executor = executor;
+        this.batch = batch;
+        this.attempts = attempts;
+    }
+
+    @Override
+    public void run() {
+        try {
+            this.deliver();
+        } catch (final RuntimeException ex) {
+            LOG.error("Could not deliver the messages from the outbox.", ex);
+        }
+    }
+
+    /**
+     * Deliver the due Messages.
+     * @return Number of delivered Messages.
+     */
+    public int deliver() {
+        final Outbox outbox = this.storage.outbox();
+        final Map<String, List<Pending>> issues = new LinkedHashMap<>();
+        for(final Pending pending : outbox.due(
+            LocalDateTime.now(), this.batch
+        )) {
+            issues.computeIfAbsent(
+                pending.provider() + "/" + pending.repoFullName()
+                + "#" + pending.issueId(),
+                issue -> new ArrayList<>()
+            ).add(pending);
+        }
+        final AtomicInteger delivered = new AtomicInteger();
+        final List<CompletableFuture<Void>> running = new ArrayList<>();
+        for(final List<Pending> messages : issues.values()) {
+            running.add(
+                CompletableFuture.runAsync(
+                    () -> delivered.addAndGet(this.deliver(outbox, messages)),
+                    this.executor
+                )
+            );
+        }
+        Async.await(
+            CompletableFuture.allOf(
+                running.toArray(new CompletableFuture<?>[0])
+            )
+        );
+        return delivered.get();
+    }
+
+    /**
+     * Deliver, in order, the Messages of one Issue. Each Message is
+     * claimed first, so a Courier running at the same time (in this
+     * process or another) does not deliver it too. Stop at the first
+     * one which is claimed by someone else or has to be retried.
+     * @param outbox Outbox.
+     * @param messages Messages of the Issue.
+     * @return Number of delivered Messages.
+     */
+    private int deliver(final Outbox outbox, final List<Pending> messages) {
+        int delivered = 0;
+        Issue issue = null;
+        for(final Pending pending : messages) {
+            if(!outbox.claim(
+                pending, LocalDateTime.now().plus(Courier.LEASE)
+            )) {
+                break;
+            }
+            try {
+                if(issue == null) {
+                    issue = this.issue(pending);
+                }
+                if(pending.message().deliver(issue)) {
+                    delivered = delivered + 1;
+                } else {
+                    LOG.warn(
+                        "Provider refused [" + pending.message().type()
+                        + "] on Issue #" + pending.issueId() + " of "
+                        + pending.repoFullName() + ", skipping it."
+                    );
+                }
+                outbox.sent(pending);
+            } catch (final RuntimeException ex) {
+                if(pending.attempts() + 1 >= this.attempts) {
+                    LOG.error(
+                        "Giving up on [" + pending.message().type()
+                        + "] for Issue #" + pending.issueId() + " of "
+                        + pending.repoFullName() + " after "
+                        + this.attempts + " attempts.",
+                        ex
+                    );
+                    outbox.sent(pending);
+                } else {
+                    LOG.warn(
+                        "Could not [" + pending.message().type()
+                        + "] on Issue #" + pending.issueId() + " of "
+                        + pending.repoFullName() + ", retrying later.",
+                        ex
+                    );
+                    outbox.retry(
+                        pending, LocalDateTime.now().plus(
+                            Courier.backoff(pending.attempts())
+                        )
+                    );
+                    break;
+                }
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * The Issue of a pending Message.
+     * @param pending Pending message.
+     * @return Issue.
+     */
+    private Issue issue(final Pending pending) {
+        final Project project = this.storage.projects().getProjectById(
+            pending.repoFullName(), pending.provider()
+        );
+        if(project == null) {
+            throw new IllegalStateException(
+                "Project " + pending.repoFullName() + " at "
+                + pending.provider() + " not found."
+            );
+        }
+        return project.repo().issues().getById(pending.issueId());
+    }
+
+    /**
+     * Wait before retrying a Message which failed so many times.
+     * @param failed Number of failed attempts before this one.
+     * @return Duration.
+     */
+    private static Duration backoff(final int failed) {
+        final Duration doubled = Courier.BACKOFF.multipliedBy(
+            1L << Math.min(failed, Courier.DOUBLINGS)
+        );
+        final Duration backoff;
+        if(doubled.compareTo(Courier.MAX_BACKOFF) > 0) {
+            backoff = Courier.MAX_BACKOFF;
+        } else {
+            backoff = doubled;
+        }
+        return backoff;
+    }
+}
@@ -24,7 +24,6 @@ package com.selfxdsd.core.managers;
 
 import com.selfxdsd.api.Contract;
 import com.selfxdsd.api.Event;
-import com.selfxdsd.api.Language;
 import com.selfxdsd.api.pm.Conversation;
 import com.selfxdsd.api.pm.Step;
 import org.slf4j.Logger;
@@ -45,6 +44,19 @@ public final class Deregister implements Conversation {
         Deregister.class
     );
 
+    /**
+     * The steps, built once.
+     */
+    private static final Step STEPS = new AuthorHasRoles(
+        new UnassignTask(
+            new RemoveTask(
+                new SendReply(SendReply.toAuthor("deregister.comment"))
+            )
+        ),
+        new SendReply(SendReply.toAuthor("cannotDeregister.comment")),
+        Contract.Roles.PO, Contract.Roles.ARCH
+    );
+
     /**
      * Next conversation, if the event type is not "deregister".
      */
@@ -63,28 +75,7 @@ public final class Deregister implements Conversation {
     public Step start(final Event event) {
         final Step steps;
         if(Event.Type.DEREGISTER.equals(event.type())) {
-            final Language language = event.project().language();
-            final String author = event.comment().author();
-            steps = new AuthorHasRoles(
-                new UnassignTask(
-                    new RemoveTask(
-                        new SendReply(
-                            String.format(
-                                language.reply("deregister.comment"),
-                                author
-                            )
-                        )
-                    )
-                ),
-                new SendReply(
-                    String.format(
-                        language.reply("cannotDeregister.comment"),
-                        author
-                    )
-                ),
-                event,
-                Contract.Roles.PO, Contract.Roles.ARCH
-            );
+            steps = Deregister.STEPS;
         } else {
             steps = this.notDeregister.start(event);
         }
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.pm.Conversation;
+import com.selfxdsd.api.pm.Step;
+
+import java.util.Map;
+
+/**
+ * Conversation which hands the Event to the conversation of its type
+ * (the categorized command, see {@link Understand}), with a single
+ * table lookup, instead of asking every conversation in a chain.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Dispatch implements Conversation {
+
+    /**
+     * Conversations, by Event type.
+     */
+    private final Map<String, Conversation> conversations;
+
+    /**
+     * Conversation for the other Event types.
+     */
+    private final Conversation other;
+
+    /**
+     * Ctor.
+     * @param conversations Conversations, by Event type.
+     * @param other Conversation for the other Event types.
+     */
+    public Dispatch(
+        final Map<String, Conversation> conversations,
+        final Conversation other
+    ) {
+        this.conversations = Map.copyOf(conversations);
+        this.other = other;
+    }
+
+    @Override
+    public Step start(final Event event) {
+        return this.conversations.getOrDefault(event.type(), this.other)
+            .start(event);
+    }
+}
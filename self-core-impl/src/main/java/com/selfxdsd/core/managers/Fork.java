@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.pm.Intermediary;
+import com.selfxdsd.api.pm.Step;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Step which performs independent steps (e.g. inviting the PM and
+ * setting up the webhook) at the same time, and the next step after
+ * all of them are done. If any of them fails, the next step is not
+ * performed and the failure is propagated, once all of them are done.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Fork extends Intermediary {
+
+    /**
+     * Steps performed at the same time.
+     */
+    private final List<Step> branches;
+
+    /**
+     * Executor of the branches.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param next The next step to perform, after all the branches.
+     * @param branches Steps to perform at the same time.
+     */
+    public Fork(final Step next, final Step... branches) {
+        this(Async.executor(), next, Arrays.asList(branches));
+    }
+
+    /**
+     * Ctor.
+     * @param executor Executor of the branches.
+     * @param next The next step to perform, after all the branches.
+     * @param branches Steps to perform at the same time.
+     */
+    public Fork(
+        final Executor executor,
+        final Step next,
+        final List<Step> branches
+    ) {
+        super(next);
+        this.executor = executor;
+        this.branches = List.copyOf(branches);
+    }
+
+    @Override
+    public void perform(final Event event) {
+        Async.await(this.performAsync(event));
+    }
+
+    @Override
+    public CompletionStage<Void> performAsync(final Event event) {
+        return CompletableFuture.allOf(
+            this.branches.stream()
+                .map(step -> Async.perform(step, event, this.executor))
+                .toArray(CompletableFuture[]::new)
+        ).thenCompose(done -> this.next().performAsync(event));
+    }
+}
@@ -43,6 +43,13 @@ public final class Hello implements Conversation {
         Hello.class
     );
 
+    /**
+     * The reply, built once.
+     */
+    private static final Step STEPS = new SendReply(
+        SendReply.toAuthor("hello.comment")
+    );
+
     /**
      * Next conversation.
      */
@@ -60,12 +67,7 @@ public final class Hello implements Conversation {
     public Step start(final Event event) {
         final Step steps;
         if(Event.Type.HELLO.equals(event.type())) {
-            steps = new SendReply(
-                String.format(
-                    event.project().language().reply("hello.comment"),
-                    event.comment().author()
-                )
-            );
+            steps = Hello.STEPS;
         } else {
             steps = this.next.start(event);
         }
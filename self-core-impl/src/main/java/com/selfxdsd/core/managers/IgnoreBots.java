@@ -24,19 +24,16 @@ package com.selfxdsd.core.managers;
 
 import com.selfxdsd.api.Event;
 import com.selfxdsd.api.ProjectManagers;
-import com.selfxdsd.api.Provider;
 import com.selfxdsd.api.pm.Conversation;
 import com.selfxdsd.api.pm.Step;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-
 /**
  * Conversation where the PM ignores comments coming from other
- * PMs and known bots.
+ * PMs and known bots. The bots are checked against the {@link Bots}
+ * registry and the PMs with {@link ProjectManagers#contains(String,
+ * String)}, which the Storages answer from a cache.
  * @author Mihai Andronache (amihaiemil@gmail.com)
  * @version $Id$
  * @since 0.0.25
@@ -49,17 +46,6 @@ public final class IgnoreBots implements Conversation {
         IgnoreBots.class
     );
 
-    /**
-     * Other known bots, besides our PMs.
-     */
-    private final List<KnownBot> others = Arrays.asList(
-        new KnownBot("rultor"),
-        new KnownBot("0pdd"),
-        new KnownBot("0crat"),
-        new KnownBot("dependabot"),
-        new KnownBot("coveralls")
-    );
-
     /**
      * Next conversation.
      */
@@ -78,7 +64,7 @@ public final class IgnoreBots implements Conversation {
         final Step steps;
         final String author = event.comment().author();
         final String provider = event.project().provider();
-        if(this.others.contains(new KnownBot(author, provider))) {
+        if(Bots.known(author, provider)) {
             steps = ignore -> LOG.debug(
                 "Comment comes from @" + author + " at " + provider
                 + ", who is a known chatbot. Ignoring."
@@ -86,7 +72,7 @@ public final class IgnoreBots implements Conversation {
         } else {
             final ProjectManagers managers = event
                 .project().storage().projectManagers();
-            if(managers.getByUsername(author, provider) != null) {
+            if(managers.contains(author, provider)) {
                 steps = ignore -> LOG.debug(
                     "Comment comes from @" + author + " at " + provider
                     + ", who is a known chatbot PM in Self. Ignoring."
@@ -97,74 +83,4 @@ public final class IgnoreBots implements Conversation {
         }
         return steps;
     }
-
-    /**
-     * Known chatbot.
-     */
-    private static final class KnownBot {
-
-        /**
-         * Username.
-         */
-        private final String username;
-
-        /**
-         * Provider (github, gitlab etc).
-         */
-        private final String provider;
-
-        /**
-         * Ctor. By default, it will be a Github bot.
-         * @param username Username.
-         */
-        KnownBot(final String username) {
-            this(username, Provider.Names.GITHUB);
-        }
-
-        /**
-         * Ctor.
-         * @param username Username.
-         * @param provider Provider.
-         */
-        KnownBot(final String username, final String provider) {
-            this.username = username;
-            this.provider = provider;
-        }
-
-        /**
-         * Get the username.
-         * @return String.
-         */
-        String username() {
-            return this.username;
-        }
-
-        /**
-         * Get the provider.
-         * @return String.
-         */
-        String provider() {
-            return this.provider;
-        }
-
-        @Override
-        public boolean equals(final Object other) {
-            final boolean result;
-            if (this == other) {
-                result = true;
-            } else if (other == null || getClass() != other.getClass()) {
-                result = false;
-            } else {
-                final KnownBot knownBot = (KnownBot) other;
-                result = Objects.equals(username, knownBot.username)
-                    && Objects.equals(provider, knownBot.provider);
-            }
-            return result;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(username, provider);
-        }
-    }
 }
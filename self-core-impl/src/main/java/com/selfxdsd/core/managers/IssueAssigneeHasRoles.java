@@ -25,6 +25,8 @@ package com.selfxdsd.core.managers;
 import com.selfxdsd.api.Event;
 import com.selfxdsd.api.pm.Step;
 
+import java.util.Collections;
+
 /**
  * Check if the Issue's assignee has some roles.<br><br>
  *
@@ -68,4 +70,21 @@ public final class IssueAssigneeHasRoles extends UserHasRoles {
     ) {
         super(onTrue, onFalse, event.issue().assignee(), roles);
     }
+
+    /**
+     * Ctor. Checks that the Issue's assignee has the role required by
+     * the Issue itself. Both are read from the Event when the step is
+     * performed, so the step can be built once and reused.
+     *
+     * @param onTrue Step to follow if the author has on of the given roles.
+     * @param onFalse Step to follow if the author none of the given roles.
+     */
+    public IssueAssigneeHasRoles(final Step onTrue, final Step onFalse) {
+        super(
+            onTrue,
+            onFalse,
+            event -> event.issue().assignee(),
+            event -> Collections.singletonList(event.issue().role())
+        );
+    }
 }
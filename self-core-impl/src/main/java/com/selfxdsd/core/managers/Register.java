@@ -24,7 +24,6 @@ package com.selfxdsd.core.managers;
 
 import com.selfxdsd.api.Contract;
 import com.selfxdsd.api.Event;
-import com.selfxdsd.api.Language;
 import com.selfxdsd.api.pm.Conversation;
 import com.selfxdsd.api.pm.Step;
 import org.slf4j.Logger;
@@ -46,6 +45,25 @@ public final class Register implements Conversation {
         Register.class
     );
 
+    /**
+     * The steps, built once.
+     */
+    private static final Step STEPS = new IssueIsClosed(
+        new SendReply(SendReply.toAuthor("issueClosed.comment")),
+        new AuthorHasRoles(
+            new TaskIsRegistered(
+                new SendReply(
+                    SendReply.toAuthor("taskAlreadyRegistered.comment")
+                ),
+                new RegisterIssue(
+                    new SendReply(SendReply.toAuthor("taskRegistered.comment"))
+                )
+            ),
+            new SendReply(SendReply.toAuthor("mustBeContributor.comment")),
+            Contract.Roles.ANY
+        )
+    );
+
     /**
      * Next conversation, if the event type is not "register".
      */
@@ -64,46 +82,7 @@ public final class Register implements Conversation {
     public Step start(final Event event) {
         final Step steps;
         if(Event.Type.REGISTER.equals(event.type())) {
-            final Language language = event.project().language();
-            final String author = event.comment().author();
-            steps = new IssueIsClosed(
-                new SendReply(
-                    String.format(
-                        language.reply("issueClosed.comment"),
-                        author
-                    )
-                ),
-                new AuthorHasRoles(
-                    new TaskIsRegistered(
-                        new SendReply(
-                            String.format(
-                                language.reply(
-                                    "taskAlreadyRegistered.comment"
-                                ),
-                                author
-                            )
-                        ),
-                        new RegisterIssue(
-                            new SendReply(
-                                String.format(
-                                    language.reply(
-                                        "taskRegistered.comment"
-                                    ),
-                                    author
-                                )
-                            )
-                        )
-                    ),
-                    new SendReply(
-                        String.format(
-                            language.reply("mustBeContributor.comment"),
-                            author
-                        )
-                    ),
-                    event,
-                    Contract.Roles.ANY
-                )
-            );
+            steps = Register.STEPS;
         } else {
             steps = this.notRegister.start(event);
         }
@@ -23,7 +23,6 @@
 package com.selfxdsd.core.managers;
 
 import com.selfxdsd.api.Event;
-import com.selfxdsd.api.Language;
 import com.selfxdsd.api.pm.Conversation;
 import com.selfxdsd.api.pm.Step;
 import org.slf4j.Logger;
@@ -44,6 +43,24 @@ public final class Resign implements Conversation {
         Resign.class
     );
 
+    /**
+     * The steps, built once.
+     */
+    private static final Step STEPS = new AuthorIsAssignee(
+        new UnassignTask(
+            new SendReply(
+                SendReply.toAuthor("resigned.comment"),
+                lastly -> LOG.debug("User resigned successfully.")
+            )
+        ),
+        new SendReply(
+            SendReply.toAuthor("cannotResign.comment"),
+            lastly -> LOG.debug(
+                "User is not assignee, no resignation possible."
+            )
+        )
+    );
+
     /**
      * Next conversation, if the event type is not "resign".
      */
@@ -62,28 +79,7 @@ public final class Resign implements Conversation {
     public Step start(final Event event) {
         final Step steps;
         if(Event.Type.RESIGN.equals(event.type())) {
-            final Language language = event.project().language();
-            final String author = event.comment().author();
-            steps = new AuthorIsAssignee(
-                new UnassignTask(
-                    new SendReply(
-                        String.format(
-                            language.reply("resigned.comment"),
-                            author
-                        ),
-                        lastly -> LOG.debug("User resigned successfully.")
-                    )
-                ),
-                new SendReply(
-                    String.format(
-                        language.reply("cannotResign.comment"),
-                        author
-                    ),
-                    lastly -> LOG.debug(
-                        "User is not assignee, no resignation possible."
-                    )
-                )
-            );
+            steps = Resign.STEPS;
         } else {
             steps = this.notResign.start(event);
         }
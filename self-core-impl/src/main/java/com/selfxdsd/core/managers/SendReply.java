@@ -30,6 +30,8 @@ import com.selfxdsd.api.pm.Step;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Function;
+
 /**
  * Step where a reply is sent to the event's comment.
  * @author Mihai Andronache (amihaiemil@gmail.com)
@@ -46,9 +48,9 @@ public final class SendReply extends Intermediary {
     );
 
     /**
-     * Reply text.
+     * Reply text, read from the Event.
      */
-    private final String reply;
+    private final Function<Event, String> reply;
 
     /**
      * Ctor.
@@ -68,24 +70,57 @@ public final class SendReply extends Intermediary {
      * @param next The next step to perform.
      */
     public SendReply(final String reply, final Step next) {
+        this(event -> reply, next);
+    }
+
+    /**
+     * Ctor. Use this one when the reply depends on the Event, so the
+     * step can be built once and reused.
+     * @param reply Makes the reply text from the Event.
+     */
+    public SendReply(final Function<Event, String> reply) {
+        this(
+            reply,
+            lastly -> LOG.debug("Conversation ended.")
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param reply Makes the reply text from the Event.
+     * @param next The next step to perform.
+     */
+    public SendReply(final Function<Event, String> reply, final Step next) {
         super(next);
         this.reply = reply;
     }
 
+    /**
+     * The reply with the given key, addressed to the comment's author.
+     * @param key Key of the reply in the Language.
+     * @return Function making the reply text from the Event.
+     */
+    public static Function<Event, String> toAuthor(final String key) {
+        return event -> event.project().language().reply(
+            key, event.comment().author()
+        );
+    }
+
     @Override
     public void perform(final Event event) {
         final Issue issue = event.issue();
         final Comment comment = event.comment();
         final String author = comment.author();
         final String body = comment.body();
+        final String reply = this.reply.apply(event);
         LOG.debug(
-            "Sending reply \"" + this.reply + "\" "
+            "Sending reply \"" + reply + "\" "
             + "to @" + author + " for \"" + body + "\"."
         );
         final StringBuilder withPreview = new StringBuilder();
         withPreview
             .append("> ").append(body).append("\n\n")
-            .append(this.reply);
+            .append(reply);
         issue.comments().post(
             withPreview.toString()
         );
@@ -46,6 +46,11 @@ public final class Status implements Conversation {
         Status.class
     );
 
+    /**
+     * The reply, built once; it looks up the Task when performed.
+     */
+    private static final Step STEPS = new SendReply(Status::reply);
+
     /**
      * Next conversation, if the event type is not "status".
      */
@@ -64,48 +69,56 @@ public final class Status implements Conversation {
     public Step start(final Event event) {
         final Step steps;
         if(Event.Type.STATUS.equals(event.type())) {
-            final String reply;
-            final Project project = event.project();
-            final Language language = project.language();
-            final Task task = project.tasks().getById(
-                event.issue().issueId(),
-                project.repoFullName(),
-                project.provider()
-            );
-            if(task == null) {
-                if (event.issue().isClosed()) {
-                    reply = String.format(
-                        language
-                            .reply("taskNotRegisteredTicketClosed.comment"),
-                        event.comment().author()
-                    );
-                } else {
-                    reply = String.format(
-                        language.reply("taskNotRegistered.comment"),
-                        event.comment().author()
-                    );
-                }
-            } else if(task != null && task.assignee() == null) {
-                reply = String.format(
-                    language.reply("taskNotAssigned.comment"),
-                    event.comment().author(),
-                    task.role(),
-                    task.estimation()
+            steps = Status.STEPS;
+        } else {
+            steps = this.notStatus.start(event);
+        }
+        return steps;
+    }
+
+    /**
+     * The status of the Task, as a reply to the comment.
+     * @param event Event.
+     * @return Reply.
+     */
+    private static String reply(final Event event) {
+        final String reply;
+        final Project project = event.project();
+        final Language language = project.language();
+        final Task task = project.tasks().getById(
+            event.issue().issueId(),
+            project.repoFullName(),
+            project.provider()
+        );
+        if(task == null) {
+            if (event.issue().isClosed()) {
+                reply = language.reply(
+                    "taskNotRegisteredTicketClosed.comment",
+                    event.comment().author()
                 );
             } else {
-                reply = String.format(
-                    language.reply("taskIsAssigned.comment"),
-                    event.comment().author(),
-                    task.assignee().username(),
-                    task.assignmentDate(),
-                    task.deadline(),
-                    task.estimation()
+                reply = language.reply(
+                    "taskNotRegistered.comment",
+                    event.comment().author()
                 );
             }
-            steps = new SendReply(reply);
+        } else if(task.assignee() == null) {
+            reply = language.reply(
+                "taskNotAssigned.comment",
+                event.comment().author(),
+                task.role(),
+                task.estimation()
+            );
         } else {
-            steps = this.notStatus.start(event);
+            reply = language.reply(
+                "taskIsAssigned.comment",
+                event.comment().author(),
+                task.assignee().username(),
+                task.assignmentDate(),
+                task.deadline(),
+                task.estimation()
+            );
         }
-        return steps;
+        return reply;
     }
 }
@@ -28,13 +28,18 @@ import com.selfxdsd.api.pm.Step;
 import com.selfxdsd.api.storage.Storage;
 import com.selfxdsd.core.Github;
 import com.selfxdsd.core.Gitlab;
+import com.selfxdsd.core.tasks.Due;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.Period;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -57,6 +62,106 @@ public final class StoredProjectManager implements ProjectManager {
         StoredProjectManager.class
     );
 
+    /**
+     * Steps to perform when a new Project is registered, built once.
+     * Inviting the PM and setting up the webhook are independent
+     * calls to the provider, so they are made at the same time.
+     */
+    private static final Step NEW_PROJECT = new Fork(
+        lastly -> {
+            final Project project = lastly.project();
+            LOG.debug(
+                "Finished setting up project "
+                + project.repoFullName() + " at "
+                + project.provider()
+            );
+        },
+        new InvitePm(invited -> { }),
+        new SetupWebhook(webhook -> { })
+    );
+
+    /**
+     * Steps to perform when a new Issue is opened, built once.
+     */
+    private static final Step NEW_ISSUE = new IssueHasLabel(
+        "no-task",
+        hasLabel -> LOG.debug(
+            "New Issue is labeled 'no-task'. "
+          + "Will not register it."
+        ),
+        new RegisterIssue(
+            new IssueIsAssigned(
+                new IssueAssigneeHasRoles(
+                    new AssignTaskToIssueAssignee(
+                        sendReply -> {
+                            final Issue issue = sendReply.issue();
+                            final Project project = sendReply.project();
+                            final String reply = project.language().reply(
+                                "manualAssignment.comment",
+                                issue.author()
+                            );
+                            project.storage().outbox().send(
+                                issue, Outbox.Message.comment(reply)
+                            );
+                        }
+                    ),
+                    new UnassignIssue(
+                        sendReply -> {
+                            final Issue issue = sendReply.issue();
+                            final Project project = sendReply.project();
+                            final String reply = project.language().reply(
+                                "newIssueUnassigned.comment",
+                                issue.author(),
+                                issue.assignee(),
+                                issue.role()
+                            );
+                            project.storage().outbox().send(
+                                issue, Outbox.Message.comment(reply)
+                            );
+                        }
+                    )
+                ),
+                notAssigned -> {
+                    final Project project = notAssigned.project();
+                    final Issue issue = notAssigned.issue();
+                    final String reply;
+                    if(issue.isPullRequest()) {
+                        reply = project.language().reply(
+                            "newPullRequest.comment",
+                            issue.author()
+                        );
+                    } else {
+                        reply = project.language().reply(
+                            "newIssue.comment",
+                            issue.author()
+                        );
+                    }
+                    project.storage().outbox().send(
+                        issue, Outbox.Message.comment(reply)
+                    );
+                }
+            )
+        )
+    );
+
+    /**
+     * Conversation started by a comment, built once.
+     */
+    private static final Conversation CONVERSATION = new IgnoreBots(
+        new Understand(
+            new Dispatch(
+                Map.of(
+                    Event.Type.HELLO, new Hello(new Confused()),
+                    Event.Type.STATUS, new Status(new Confused()),
+                    Event.Type.RESIGN, new Resign(new Confused()),
+                    Event.Type.DEREGISTER, new Deregister(new Confused()),
+                    Event.Type.REGISTER, new Register(new Confused())
+                ),
+                new Confused()
+            )
+        )
+    );
+
     /**
      * This PMs id.
      */
@@ -208,83 +313,12 @@ public final class StoredProjectManager implements ProjectManager {
 
     @Override
     public void newProject(final Event event) {
-        final Step steps = new InvitePm(
-            new SetupWebhook(
-                lastly -> {
-                    final Project project = event.project();
-                    LOG.debug(
-                        "Finished setting up project "
-                        + project.repoFullName() + " at "
-                        + project.provider()
-                    );
-                }
-            )
-        );
-        steps.perform(event);
+        StoredProjectManager.NEW_PROJECT.perform(event);
     }
 
     @Override
     public void newIssue(final Event event) {
-        final Step steps = new IssueHasLabel(
-            "no-task",
-            hasLabel -> LOG.debug(
-                "New Issue is labeled 'no-task'. "
-              + "Will not register it."
-            ),
-            new RegisterIssue(
-                new IssueIsAssigned(
-                    new IssueAssigneeHasRoles(
-                        new AssignTaskToIssueAssignee(
-                            sendReply -> {
-                                final Issue issue = sendReply.issue();
-                                final Project project = sendReply.project();
-                                final String reply = String.format(
-                                    project.language()
-                                        .reply("manualAssignment.comment"),
-                                    issue.author()
-                                );
-                                issue.comments().post(reply);
-                            }
-                        ),
-                        new UnassignIssue(
-                            sendReply -> {
-                                final Issue issue = sendReply.issue();
-                                final Project project = sendReply.project();
-                                final String reply = String.format(
-                                    project.language()
-                                        .reply("newIssueUnassigned.comment"),
-                                    issue.author(),
-                                    issue.assignee(),
-                                    issue.role()
-                                );
-                                issue.comments().post(reply);
-                            }
-                        ),
-                        event
-                    ),
-                    notAssigned -> {
-                        final Project project = notAssigned.project();
-                        final Issue issue = notAssigned.issue();
-                        final String reply;
-                        if(issue.isPullRequest()) {
-                            reply = String.format(
-                                project.language()
-                                    .reply("newPullRequest.comment"),
-                                issue.author()
-                            );
-                        } else {
-                            reply = String.format(
-                                project.language()
-                                    .reply("newIssue.comment"),
-                                issue.author()
-                            );
-                        }
-                        issue.comments().post(reply);
-                    }
-                )
-            )
-        );
-        steps.perform(event);
+        StoredProjectManager.NEW_ISSUE.perform(event);
     }
 
     @Override
@@ -301,17 +335,35 @@ public final class StoredProjectManager implements ProjectManager {
             project.tasks().register(issue);
             final String reply;
             if(issue.isPullRequest()) {
-                reply = String.format(
-                    project.language().reply("reopenedPullRequest.comment"),
+                reply = project.language().reply(
+                    "reopenedPullRequest.comment",
                     issue.author()
                 );
             } else {
-                reply = String.format(
-                    project.language().reply("reopened.comment"),
+                reply = project.language().reply(
+                    "reopened.comment",
                     issue.author()
                 );
             }
-            issue.comments().post(reply);
+            this.storage.outbox().send(issue, Outbox.Message.comment(reply));
+        }
+    }
+
+    @Override
+    public void closedIssue(final Event event) {
+        final Project project = event.project();
+        final Issue issue = event.issue();
+        final Task task = project.tasks().getById(
+            issue.issueId(), issue.repoFullName(), issue.provider()
+        );
+        if(task != null && task.assignee() != null) {
+            LOG.debug(
+                "Task #" + issue.issueId() + " of Contributor "
+                + task.assignee().username() + " was closed. Invoicing... "
+            );
+            final Batch batch = new Batch(task.contract());
+            batch.add(task, issue, task.assignee());
+            this.invoiceTasks(project, List.of(batch));
         }
     }
 
@@ -323,6 +375,8 @@ public final class StoredProjectManager implements ProjectManager {
             + project.repoFullName() + " at " + project.provider()
         );
         final Tasks projectTasks = project.tasks();
+        final List<Task> candidates = new ArrayList<>();
+        final List<Issue> issues = new ArrayList<>();
         for(final Task task : projectTasks.unassigned()) {
             final Issue issue = task.issue();
             if (issue.isClosed()) {
@@ -344,9 +398,8 @@ public final class StoredProjectManager implements ProjectManager {
                     if (issue.unassign(issueAssignee)) {
                         LOG.debug("Electing new assignee for task #"
                             + issue.issueId());
-                        Contributor elected = project.contributors()
-                            .elect(task);
-                        this.assignTask(project, task, issue, elected);
+                        candidates.add(task);
+                        issues.add(issue);
                     } else {
                         LOG.debug("Could not unassign @" + issueAssignee
                             + " from issue #" + issue.issueId()
@@ -357,8 +410,18 @@ public final class StoredProjectManager implements ProjectManager {
                 }
             } else {
                 LOG.debug("Electing assignee for task #" + issue.issueId());
-                final Contributor elected = project.contributors().elect(task);
-                this.assignTask(project, task, issue, elected);
+                candidates.add(task);
+                issues.add(issue);
+            }
+        }
+        if(!candidates.isEmpty()) {
+            final List<Contributor> elected = project.contributors()
+                .electAll(candidates);
+            for(int idx = 0; idx < candidates.size(); ++idx) {
+                this.assignTask(
+                    project, candidates.get(idx), issues.get(idx),
+                    elected.get(idx)
+                );
             }
         }
         LOG.debug(
@@ -381,35 +444,46 @@ public final class StoredProjectManager implements ProjectManager {
                             final Contributor contributor) {
         if (contributor == null) {
             LOG.debug("Couldn't find any assignee, posting comment...");
-            issue.comments().post(
-                String.format(
-                    project.language().reply("noAssigneeFound.comment"),
-                    project.owner().username(),
-                    task.role()
+            this.storage.outbox().send(
+                issue,
+                Outbox.Message.comment(
+                    project.language().reply(
+                        "noAssigneeFound.comment",
+                        project.owner().username(),
+                        task.role()
+                    )
                 )
             );
             LOG.debug("Comment for noAssigneeFound posted.");
         } else {
             LOG.debug("Elected @" + contributor.username() + ".");
-            final Task assigned = task.assign(contributor);
-            issue.assign(contributor.username());
-            final String reply;
-            if(issue.isPullRequest()) {
-                reply = String.format(
-                    project.language().reply("pullRequestAssigned.comment"),
-                    contributor.username(),
-                    assigned.deadline(),
-                    assigned.estimation()
-                );
-            } else {
-                reply = String.format(
-                    project.language().reply("taskAssigned.comment"),
-                    contributor.username(),
-                    assigned.deadline(),
-                    assigned.estimation()
-                );
-            }
-            issue.comments().post(reply);
+            final Outbox outbox = this.storage.outbox();
+            outbox.together(
+                () -> {
+                    final Task assigned = task.assign(contributor);
+                    outbox.send(
+                        issue, Outbox.Message.assign(contributor.username())
+                    );
+                    final String reply;
+                    if(issue.isPullRequest()) {
+                        reply = project.language().reply(
+                            "pullRequestAssigned.comment",
+                            contributor.username(),
+                            assigned.deadline(),
+                            assigned.estimation()
+                        );
+                    } else {
+                        reply = project.language().reply(
+                            "taskAssigned.comment",
+                            contributor.username(),
+                            assigned.deadline(),
+                            assigned.estimation()
+                        );
+                    }
+                    outbox.send(issue, Outbox.Message.comment(reply));
+                    return assigned;
+                }
+            );
             LOG.debug(
                 "Task #" + issue.issueId() + " assigned to @"
                     + contributor.username() + "."
@@ -424,80 +498,182 @@ public final class StoredProjectManager implements ProjectManager {
             "Checking the assigned tasks of project "
             + project.repoFullName() + " at " + project.provider()
         );
-        for(final Task task : project.tasks()) {
-            final Contributor assignee = task.assignee();
-            if(assignee != null) {
-                final Issue issue = task.issue();
-                if(issue.isClosed()) {
-                    LOG.debug(
-                        "Task #" + issue.issueId()
-                            + " of Contributor " + assignee.username()
-                            + " is closed. Invoicing... "
-                    );
-                    final InvoicedTask invoiced = task.contract()
-                        .invoices()
-                        .active()
-                        .register(task, this.commission);
-                    if(invoiced != null) {
-                        issue.comments().post(
-                            String.format(
-                                project.language().reply(
-                                    "taskInvoiced.comment"
-                                ),
-                                assignee.username()
-                            )
-                        );
-                        this.storage.tasks().remove(task);
-                        LOG.debug(
-                            "Task #" + issue.issueId() + " successfully"
-                                + " invoiced and taken out of scope."
-                        );
-                    }
-                } else {
-                    final LocalDateTime now = this.dateTimeSupplier.get();
-                    if (now.until(task.deadline(), ChronoUnit.MINUTES) < 0) {
-                        task.resignations()
-                            .register(task, Resignations.Reason.DEADLINE);
-                        task.unassign();
-                        issue.comments().post(
-                            String.format(
-                                project.language().reply(
-                                    "taskDeadlineMissed.comment"
-                                ),
-                                assignee.username(),
-                                task.deadline()
-                            )
-                        );
-                    } else {
-                        final int time = Period.between(
-                            task.assignmentDate().toLocalDate(),
-                            task.deadline().toLocalDate()
-                        ).getDays();
-                        final int left = Period.between(
-                            now.toLocalDate(),
-                            task.deadline().toLocalDate()
-                        ).getDays();
-                        if (left <= time / 2) {
-                            issue.comments().post(
-                                String.format(
-                                    project.language().reply(
-                                        "taskDeadlineReminder.comment"
-                                    ),
-                                    assignee.username(),
-                                    task.deadline()
-                                )
-                            );
-                        }
-                    }
+        final Map<String, Issue> open = new HashMap<>();
+        this.invoiceTasks(project, this.closedTasks(project, open));
+        final Batch missed = new Batch(null);
+        if(!open.isEmpty()) {
+            final LocalDateTime now = this.dateTimeSupplier.get();
+            for(final Task task : project.tasks().dueBefore(now)) {
+                final Issue issue = open.get(task.issueId());
+                if(issue == null) {
+                    continue;
+                }
+                final Due due = new Due(task);
+                if(due.missed(now)) {
+                    missed.add(task, issue, task.assignee());
+                } else if(due.remind(now)) {
+                    this.remind(project, task, issue, task.assignee(), now);
                 }
             }
         }
+        this.resignTasks(project, missed);
         LOG.debug(
             "Finished checking the assigned tasks of project "
             + project.repoFullName() + " at " + project.provider()
         );
     }
 
+    /**
+     * The assigned Tasks of the Project whose Issues are closed, grouped
+     * by Contract. The unassigned Tasks are skipped without looking up
+     * their Issues, so the sweep still invoices the closed Tasks even if
+     * the "closed" Issue event never came.
+     * @param project Project.
+     * @param open Receives the open Issues of the other assigned Tasks,
+     *  by Issue id, so they are not looked up again.
+     * @return Batches of closed Tasks.
+     */
+    private Collection<Batch> closedTasks(
+        final Project project,
+        final Map<String, Issue> open
+    ) {
+        final Map<Contract.Id, Batch> closed = new LinkedHashMap<>();
+        for(final Task task : project.tasks()) {
+            final Contributor assignee = task.assignee();
+            if(assignee == null) {
+                continue;
+            }
+            final Issue issue = task.issue();
+            if(issue.isClosed()) {
+                LOG.debug(
+                    "Task #" + issue.issueId()
+                        + " of Contributor " + assignee.username()
+                        + " is closed. Invoicing... "
+                );
+                final Contract contract = task.contract();
+                closed.computeIfAbsent(
+                    contract.contractId(), id -> new Batch(contract)
+                ).add(task, issue, assignee);
+            } else {
+                open.put(task.issueId(), issue);
+            }
+        }
+        return closed.values();
+    }
+
+    /**
+     * Remind the assignee of the Task's deadline and record it, so the
+     * reminder is sent only once. The reminder is recorded first, so
+     * nothing is sent if the Tasks cannot record it.
+     * @param project Project.
+     * @param task Task.
+     * @param issue Issue of the Task.
+     * @param assignee Assignee of the Task.
+     * @param now Current time.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    private void remind(
+        final Project project,
+        final Task task,
+        final Issue issue,
+        final Contributor assignee,
+        final LocalDateTime now
+    ) {
+        final Outbox outbox = this.storage.outbox();
+        outbox.together(
+            () -> {
+                final Task reminded = this.storage.tasks().remind(task, now);
+                outbox.send(
+                    issue,
+                    Outbox.Message.comment(
+                        project.language().reply(
+                            "taskDeadlineReminder.comment",
+                            assignee.username(),
+                            task.deadline()
+                        )
+                    )
+                );
+                return reminded;
+            }
+        );
+    }
+
+    /**
+     * Invoice the finished Tasks, one batch per Contract, and take them
+     * out of scope with a single removal. The comments are posted last,
+     * so a failing comment never leaves an invoiced Task in scope.
+     * @param project Project.
+     * @param batches Finished Tasks, grouped by Contract.
+     */
+    private void invoiceTasks(
+        final Project project,
+        final Collection<Batch> batches
+    ) {
+        final Batch invoiced = new Batch(null);
+        for(final Batch batch : batches) {
+            final List<InvoicedTask> registered = batch.contract
+                .invoices()
+                .active()
+                .registerAll(batch.tasks, this.commission);
+            for(int idx = 0; idx < registered.size(); ++idx) {
+                if(registered.get(idx) != null) {
+                    invoiced.add(
+                        batch.tasks.get(idx),
+                        batch.issues.get(idx),
+                        batch.assignees.get(idx)
+                    );
+                }
+            }
+        }
+        if(!invoiced.tasks.isEmpty()) {
+            this.storage.tasks().removeAll(invoiced.tasks);
+            for(int idx = 0; idx < invoiced.tasks.size(); ++idx) {
+                final Issue issue = invoiced.issues.get(idx);
+                this.storage.outbox().send(
+                    issue,
+                    Outbox.Message.comment(
+                        project.language().reply(
+                            "taskInvoiced.comment",
+                            invoiced.assignees.get(idx).username()
+                        )
+                    )
+                );
+                LOG.debug(
+                    "Task #" + issue.issueId() + " successfully"
+                        + " invoiced and taken out of scope."
+                );
+            }
+        }
+    }
+
+    /**
+     * Resign the Contributors who missed their deadlines, registering
+     * all the Resignations at once.
+     * @param project Project.
+     * @param missed Tasks with missed deadlines.
+     */
+    private void resignTasks(final Project project, final Batch missed) {
+        if(!missed.tasks.isEmpty()) {
+            this.storage.resignations().registerAll(
+                missed.tasks, Resignations.Reason.DEADLINE
+            );
+            for(int idx = 0; idx < missed.tasks.size(); ++idx) {
+                final Task task = missed.tasks.get(idx);
+                task.unassign();
+                this.storage.outbox().send(
+                    missed.issues.get(idx),
+                    Outbox.Message.comment(
+                        project.language().reply(
+                            "taskDeadlineMissed.comment",
+                            missed.assignees.get(idx).username(),
+                            task.deadline()
+                        )
+                    )
+                );
+            }
+        }
+    }
+
     @Override
     public void comment(final Event event) {
         final Comment comment = event.comment();
@@ -509,22 +685,9 @@ public final class StoredProjectManager implements ProjectManager {
                 "Received comment [" + comment.body()
                 + "] from @" + comment.author() + ". Starting conversation..."
             );
-            final Conversation conversation = new IgnoreBots(
-                new Understand(
-                    new Hello(
-                        new Status(
-                            new Resign(
-                                new Deregister(
-                                    new Register(
-                                        new Confused()
-                                    )
-                                )
-                            )
-                        )
-                    )
-                )
+            final Step steps = StoredProjectManager.CONVERSATION.start(
+                event
             );
-            final Step steps = conversation.start(event);
             LOG.debug("Executing steps...");
             steps.perform(event);
             LOG.debug("Conversation ended.");
@@ -595,4 +758,55 @@ public final class StoredProjectManager implements ProjectManager {
             );
         }
     }
+
+    /**
+     * Assigned Tasks handled together, with their Issues and assignees,
+     * which are read only once.
+     */
+    private static final class Batch {
+
+        /**
+         * Contract of the Tasks, if they share one.
+         */
+        private final Contract contract;
+
+        /**
+         * Tasks.
+         */
+        private final List<Task> tasks = new ArrayList<>();
+
+        /**
+         * Issue of each Task.
+         */
+        private final List<Issue> issues = new ArrayList<>();
+
+        /**
+         * Assignee of each Task.
+         */
+        private final List<Contributor> assignees = new ArrayList<>();
+
+        /**
+         * Ctor.
+         * @param contract Contract of the Tasks, if they share one.
+         */
+        Batch(final Contract contract) {
+            this.contract = contract;
+        }
+
+        /**
+         * Add a Task to this batch.
+         * @param task Task.
+         * @param issue Its Issue.
+         * @param assignee Its assignee.
+         */
+        void add(
+            final Task task,
+            final Issue issue,
+            final Contributor assignee
+        ) {
+            this.tasks.add(task);
+            this.issues.add(issue);
+            this.assignees.add(assignee);
+        }
+    }
 }
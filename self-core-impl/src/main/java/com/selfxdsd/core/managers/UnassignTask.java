@@ -69,12 +69,22 @@ public final class UnassignTask extends Intermediary {
                 + "#" + issueId + " of project " + project.repoFullName()
                 + " at " + project.provider()
             );
-            task.resignations().register(task, Resignations.Reason.ASKED);
-            final Task unassigned = task.unassign();
             final Issue issue = event.issue();
-            if(issue.assignee() != null) {
-                issue.unassign(issue.assignee());
-            }
+            final Outbox outbox = project.storage().outbox();
+            final Task unassigned = outbox.together(
+                () -> {
+                    task.resignations().register(
+                        task, Resignations.Reason.ASKED
+                    );
+                    final Task done = task.unassign();
+                    if(issue.assignee() != null) {
+                        outbox.send(
+                            issue, Outbox.Message.unassign(issue.assignee())
+                        );
+                    }
+                    return done;
+                }
+            );
             if(unassigned.assignee() == null) {
                 LOG.debug("Resignation successful!");
             } else {
@@ -74,6 +74,11 @@ public final class Understand implements Conversation {
                 public Project project() {
                     return event.project();
                 }
+
+                @Override
+                public Deadline deadline() {
+                    return event.deadline();
+                }
             }
         );
     }
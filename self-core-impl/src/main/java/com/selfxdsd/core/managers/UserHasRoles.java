@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Intermediary step where we check if a user has certain Contributor roles.
@@ -53,14 +54,14 @@ public abstract class UserHasRoles extends PreconditionCheck {
     );
 
     /**
-     * User we're interested in (login username).
+     * User we're interested in (login username), read from the Event.
      */
-    private final String user;
+    private final Function<Event, String> user;
 
     /**
-     * Roles.
+     * Roles, read from the Event.
      */
-    private final List<String> roles;
+    private final Function<Event, List<String>> roles;
 
     /**
      * Ctor.
@@ -74,42 +75,61 @@ public abstract class UserHasRoles extends PreconditionCheck {
         final Step onFalse,
         final String user,
         final String... roles
+    ) {
+        this(onTrue, onFalse, event -> user, event -> Arrays.asList(roles));
+    }
+
+    /**
+     * Ctor. Use this one when the user and the roles have to be read
+     * from the Event, so the step can be built once and reused.
+     * @param onTrue Step to follow if the author has on of the given roles.
+     * @param onFalse Step to follow if the author none of the given roles.
+     * @param user Reads the user we're interested in from the Event.
+     * @param roles Reads the roles from the Event.
+     */
+    public UserHasRoles(
+        final Step onTrue,
+        final Step onFalse,
+        final Function<Event, String> user,
+        final Function<Event, List<String>> roles
     ) {
         super(onTrue, onFalse);
         this.user = user;
-        this.roles = Arrays.asList(roles);
+        this.roles = roles;
     }
 
     @Override
     public final void perform(final Event event) {
+        final String user = this.user.apply(event);
+        final List<String> roles = this.roles.apply(event);
         final Project project = event.project();
         final Contributor contributor = project
             .contributors()
-            .getById(this.user, project.provider());
+            .getById(user, project.provider());
         if (contributor == null) {
-            LOG.debug("User " + this.user + " is not a contributor "
+            LOG.debug("User " + user + " is not a contributor "
                 + " of this project.");
             this.onFalse().perform(event);
         } else {
             boolean hasRole = false;
-            if(this.roles.contains(Contract.Roles.ANY)) {
+            if(roles.contains(Contract.Roles.ANY)) {
                 hasRole = true;
             } else {
                 final Contracts contracts = project.contracts()
                     .ofContributor(contributor);
                 for (final Contract contract : contracts) {
-                    if (this.roles.contains(contract.role())) {
+                    if (roles.contains(contract.role())) {
                         hasRole = true;
                         break;
                     }
                 }
             }
             if (hasRole) {
-                LOG.debug("User " + this.user + " has the right role.");
+                LOG.debug("User " + user + " has the right role.");
                 this.onTrue().perform(event);
             } else {
                 LOG.debug(
-                    "User " + this.user
+                    "User " + user
                     + " does NOT have the right role."
                 );
                 this.onFalse().perform(event);
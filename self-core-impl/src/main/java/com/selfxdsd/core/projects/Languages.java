@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.projects;
+
+import com.selfxdsd.api.Language;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The Languages which Self speaks, each loaded only once. Loading a
+ * Language reads its properties files from the classpath and parses
+ * the replies, so it should not happen for every event.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Languages {
+
+    /**
+     * Code of the English language.
+     */
+    public static final String ENGLISH = "en";
+
+    /**
+     * The known Languages, by code.
+     */
+    private static final Map<String, Supplier<Language>> KNOWN = Map.of(
+        Languages.ENGLISH, English::new
+    );
+
+    /**
+     * The Languages loaded so far.
+     */
+    private static final Map<String, Language> LOADED =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Hidden ctor.
+     */
+    private Languages() { }
+
+    /**
+     * The Language with the given code.
+     * @param code Language code (e.g. "en").
+     * @return Language, loaded on first use.
+     * @throws IllegalArgumentException If the language is not known.
+     */
+    public static Language of(final String code) {
+        return Languages.LOADED.computeIfAbsent(
+            code,
+            known -> {
+                final Supplier<Language> language = Languages.KNOWN.get(
+                    known
+                );
+                if(language == null) {
+                    throw new IllegalArgumentException(
+                        "Unknown language: " + known + "."
+                    );
+                }
+                return language.get();
+            }
+        );
+    }
+}
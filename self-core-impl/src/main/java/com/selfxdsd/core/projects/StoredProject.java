@@ -26,6 +26,9 @@ import com.selfxdsd.api.*;
 import com.selfxdsd.api.exceptions.WalletAlreadyExistsException;
 import com.selfxdsd.api.storage.Storage;
 import com.selfxdsd.core.Env;
+import com.selfxdsd.core.Identities;
+import com.selfxdsd.core.Lanes;
+import com.selfxdsd.core.managers.Async;
 import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
 import com.stripe.model.Customer;
@@ -74,6 +77,11 @@ public final class StoredProject implements Project {
      */
     private final Storage storage;
 
+    /**
+     * Lanes in which the Events are resolved.
+     */
+    private final Lanes lanes;
+
     /**
      * Constructor.
      * @param owner Owner of the project/repo.
@@ -89,12 +97,37 @@ public final class StoredProject implements Project {
         final String webHookToken,
         final ProjectManager projectManager,
         final Storage storage
+    ) {
+        this(
+            owner, repoFullName, webHookToken, projectManager, storage,
+            Lanes.shared()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param owner Owner of the project/repo.
+     * @param repoFullName Repo full name.
+     * @param webHookToken Webhook token.
+     * @param projectManager Manager in charge.
+     * @param storage Storage of Self.
+     * @param lanes Lanes in which the Events are resolved.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    public StoredProject(
+        final User owner,
+        final String repoFullName,
+        final String webHookToken,
+        final ProjectManager projectManager,
+        final Storage storage,
+        final Lanes lanes
     ) {
         this.owner = owner;
-        this.repoFullName = repoFullName;
+        this.repoFullName = Identities.name(repoFullName);
         this.webHookToken = webHookToken;
         this.projectManager = projectManager;
         this.storage = storage;
+        this.lanes = lanes;
     }
 
     @Override
@@ -158,34 +191,27 @@ public final class StoredProject implements Project {
 
     @Override
     public Language language() {
-        return new English();
+        return Languages.of(Languages.ENGLISH);
     }
 
+    /**
+     * Resolve the Event in its Lane (the sweeps in the background, the
+     * comments and the other Events first) and wait for it. Its Deadline
+     * (or the caller's, if earlier) is the current one of the resolving
+     * thread, so the calls to the Provider and to the Storage are bounded
+     * by it.
+     * @param event Event.
+     */
     @Override
     public void resolve(final Event event) {
-        final String type = event.type();
-        switch (type) {
-            case Event.Type.ACTIVATE:
-                this.projectManager.newProject(event);
-                break;
-            case Event.Type.NEW_ISSUE:
-                this.projectManager.newIssue(event);
-                break;
-            case Event.Type.REOPENED_ISSUE:
-                this.projectManager.reopenedIssue(event);
-                break;
-            case Event.Type.UNASSIGNED_TASKS:
-                this.projectManager.unassignedTasks(event);
-                break;
-            case Event.Type.ASSIGNED_TASKS:
-                this.projectManager.assignedTasks(event);
-                break;
-            case Event.Type.ISSUE_COMMENT:
-                this.projectManager.comment(event);
-                break;
-            default:
-                break;
-        }
+        final Deadline deadline = Deadline.current().earliest(
+            event.deadline()
+        );
+        Async.await(
+            this.lanes.resolve(
+                event, () -> deadline.run(() -> this.dispatch(event))
+            )
+        );
     }
 
     @Override
@@ -255,4 +281,37 @@ public final class StoredProject implements Project {
         return this.repoFullName.equals(other.repoFullName())
             && this.provider().equals(other.provider());
     }
+
+    /**
+     * Hand the Event to the ProjectManager.
+     * @param event Event.
+     */
+    private void dispatch(final Event event) {
+        final String type = event.type();
+        switch (type) {
+            case Event.Type.ACTIVATE:
+                this.projectManager.newProject(event);
+                break;
+            case Event.Type.NEW_ISSUE:
+                this.projectManager.newIssue(event);
+                break;
+            case Event.Type.REOPENED_ISSUE:
+                this.projectManager.reopenedIssue(event);
+                break;
+            case Event.Type.CLOSED_ISSUE:
+                this.projectManager.closedIssue(event);
+                break;
+            case Event.Type.UNASSIGNED_TASKS:
+                this.projectManager.unassignedTasks(event);
+                break;
+            case Event.Type.ASSIGNED_TASKS:
+                this.projectManager.assignedTasks(event);
+                break;
+            case Event.Type.ISSUE_COMMENT:
+                this.projectManager.comment(event);
+                break;
+            default:
+                break;
+        }
+    }
 }
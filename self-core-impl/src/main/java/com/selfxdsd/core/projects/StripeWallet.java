@@ -27,6 +27,7 @@ import com.selfxdsd.api.exceptions.InvoiceException;
 import com.selfxdsd.api.exceptions.WalletPaymentException;
 import com.selfxdsd.api.storage.Storage;
 import com.selfxdsd.core.Env;
+import com.selfxdsd.core.Money;
 import com.selfxdsd.core.contracts.invoices.StoredInvoice;
 import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
@@ -130,19 +131,25 @@ public final class StripeWallet implements Wallet {
         return this.limit;
     }
 
+    @Override
+    public BigDecimal debt() {
+        return this.storage.debts().ofProject(this.project);
+    }
+
     @Override
     public Wallet pay(final Invoice invoice) {
         if (invoice.isPaid()) {
             throw new InvoiceException.AlreadyPaid(invoice);
         }
 
-        final BigDecimal newLimit = this.limit.subtract(invoice.totalAmount());
-        if (newLimit.longValueExact() < 0L) {
+        final Money total = Money.of(invoice.totalAmount());
+        final Money newLimit = Money.of(this.limit).subtract(total);
+        if (newLimit.signum() < 0) {
             throw new WalletPaymentException("No cash available in wallet "
                 + "for paying invoice #" + invoice.invoiceId()
                 + ". Please increase the limit from your dashboard with"
-                + " at least " + newLimit.abs().add(invoice.totalAmount())
-                .divide(BigDecimal.valueOf(1000), RoundingMode.HALF_UP) + "$."
+                + " at least " + total.subtract(newLimit)
+                .divide(1000, RoundingMode.HALF_UP) + "$."
             );
         }
 
@@ -175,7 +182,7 @@ public final class StripeWallet implements Wallet {
             final PaymentIntent paymentIntent = PaymentIntent
                 .create(PaymentIntentCreateParams.builder()
                     .setCurrency("usd")
-                    .setAmount(invoice.totalAmount().longValueExact())
+                    .setAmount(total.whole(RoundingMode.HALF_UP))
                     .setCustomer(payoutMethod.identifier())
                     .setPaymentMethod(paymentMethod.identifier())
                     .setConfirm(true)
@@ -208,7 +215,7 @@ public final class StripeWallet implements Wallet {
                 ex
             );
         }
-        return this.updateCash(newLimit);
+        return this.updateCash(newLimit.toBigDecimal());
     }
 
     /**
@@ -0,0 +1,332 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contracts;
+import com.selfxdsd.api.Contributors;
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.InvoicedTasks;
+import com.selfxdsd.api.Invoices;
+import com.selfxdsd.api.Outbox;
+import com.selfxdsd.api.PaymentMethods;
+import com.selfxdsd.api.PayoutMethods;
+import com.selfxdsd.api.PostedComments;
+import com.selfxdsd.api.ProjectManagers;
+import com.selfxdsd.api.Projects;
+import com.selfxdsd.api.Resignations;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.Users;
+import com.selfxdsd.api.Wallets;
+import com.selfxdsd.api.Workloads;
+import com.selfxdsd.api.storage.Storage;
+
+import javax.json.JsonObject;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Self Storage kept in files, for running Self without an external
+ * database. The data lives in a {@link MemoryStorage}; every write
+ * is appended to a write-ahead log before the call returns.
+ * When the log grows large enough, it is compacted into a snapshot
+ * of the current rows and emptied.<br><br>
+ * At startup, the snapshot is replayed, then the tail of the log.
+ * A record torn by a crash ends the replay and is cut from the log.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class FileStorage implements Storage {
+
+    /**
+     * Default number of logged records after which the log is compacted.
+     */
+    private static final long COMPACT_EVERY = 10000;
+
+    /**
+     * Path of the snapshot.
+     */
+    private final Path snapshot;
+
+    /**
+     * The data.
+     */
+    private final MemoryStorage memory;
+
+    /**
+     * Write-ahead log.
+     */
+    private final WriteAheadLog log;
+
+    /**
+     * Number of logged records after which the log is compacted.
+     */
+    private final long threshold;
+
+    /**
+     * Runs the compactions triggered by writes.
+     */
+    private final ExecutorService compactor;
+
+    /**
+     * Is a compaction scheduled?
+     */
+    private final AtomicBoolean scheduled;
+
+    /**
+     * Ctor.
+     * @param directory Directory holding the files.
+     */
+    public FileStorage(final Path directory) {
+        this(directory, FileStorage.COMPACT_EVERY);
+    }
+
+    /**
+     * Ctor.
+     * @param directory Directory holding the files.
+     * @param threshold Number of logged records after which the log
+     *  is compacted.
+     */
+    public FileStorage(final Path directory, final long threshold) {
+        this.snapshot = directory.resolve("snapshot.log");
+        this.threshold = threshold;
+        this.memory = new MemoryStorage(this::append);
+        final Path wal = directory.resolve("wal.log");
+        try {
+            Files.createDirectories(directory);
+            new LogFile(this.snapshot).replay(this.memory::replay);
+            final long valid = new LogFile(wal).replay(this.memory::replay);
+            if(Files.exists(wal)) {
+                try (
+                    final FileChannel channel = FileChannel.open(
+                        wal, StandardOpenOption.WRITE
+                    )
+                ) {
+                    channel.truncate(valid);
+                }
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                "Couldn't recover the Storage from " + directory, ex
+            );
+        }
+        this.log = new WriteAheadLog(wal);
+        this.scheduled = new AtomicBoolean();
+        this.compactor = Executors.newSingleThreadExecutor(
+            task -> {
+                final Thread thread = new Thread(task, "self-compactor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    @Override
+    public Users users() {
+        return this.memory.users();
+    }
+
+    @Override
+    public ProjectManagers projectManagers() {
+        return this.memory.projectManagers();
+    }
+
+    @Override
+    public Projects projects() {
+        return this.memory.projects();
+    }
+
+    @Override
+    public Wallets wallets() {
+        return this.memory.wallets();
+    }
+
+    @Override
+    public Contracts contracts() {
+        return this.memory.contracts();
+    }
+
+    @Override
+    public Invoices invoices() {
+        return this.memory.invoices();
+    }
+
+    @Override
+    public InvoicedTasks invoicedTasks() {
+        return this.memory.invoicedTasks();
+    }
+
+    @Override
+    public Contributors contributors() {
+        return this.memory.contributors();
+    }
+
+    @Override
+    public Tasks tasks() {
+        return this.memory.tasks();
+    }
+
+    @Override
+    public Resignations resignations() {
+        return this.memory.resignations();
+    }
+
+    @Override
+    public PayoutMethods payoutMethods() {
+        return this.memory.payoutMethods();
+    }
+
+    @Override
+    public PaymentMethods paymentMethods() {
+        return this.memory.paymentMethods();
+    }
+
+    @Override
+    public Debts debts() {
+        return this.memory.debts();
+    }
+
+    @Override
+    public Workloads workloads() {
+        return this.memory.workloads();
+    }
+
+    @Override
+    public Outbox outbox() {
+        return this.memory.outbox();
+    }
+
+    @Override
+    public PostedComments postedComments() {
+        return this.memory.postedComments();
+    }
+
+    /**
+     * Write a snapshot of all the rows and empty the log. Writes wait
+     * while the snapshot is written. The snapshot is first written to a
+     * temporary file, then moved over the old one, so a crash leaves
+     * either the old snapshot and the full log, or the new snapshot.
+     */
+    public void compact() {
+        this.log.exclusive(
+            () -> {
+                final Path temp = this.snapshot.resolveSibling(
+                    "snapshot.tmp"
+                );
+                try (
+                    final FileOutputStream file = new FileOutputStream(
+                        temp.toFile()
+                    );
+                    final OutputStream out = new BufferedOutputStream(file)
+                ) {
+                    this.memory.snapshot(
+                        record -> FileStorage.write(out, record)
+                    );
+                    out.flush();
+                    file.getChannel().force(true);
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(
+                        "Couldn't write snapshot " + temp, ex
+                    );
+                }
+                try {
+                    Files.move(
+                        temp, this.snapshot,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING
+                    );
+                } catch (final IOException ex) {
+                    throw new IllegalStateException(
+                        "Couldn't replace snapshot " + this.snapshot, ex
+                    );
+                }
+                this.log.truncate();
+            }
+        );
+    }
+
+    /**
+     * Compact the log one last time and close the files.
+     */
+    @Override
+    public void close() {
+        this.compactor.shutdown();
+        try {
+            this.compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.compact();
+        this.log.close();
+    }
+
+    /**
+     * Log a record, scheduling a compaction if the log is large enough.
+     * @param record Record.
+     */
+    private void append(final JsonObject record) {
+        this.log.append(record);
+        if(this.log.size() >= this.threshold
+            && !this.compactor.isShutdown()
+            && this.scheduled.compareAndSet(false, true)) {
+            this.compactor.execute(
+                () -> {
+                    try {
+                        this.compact();
+                    } finally {
+                        this.scheduled.set(false);
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Write a record to the snapshot.
+     * @param out Snapshot being written.
+     * @param record Record.
+     */
+    private static void write(
+        final OutputStream out,
+        final JsonObject record
+    ) {
+        try {
+            out.write(LogFile.line(record));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                "Couldn't write record to snapshot.", ex
+            );
+        }
+    }
+}
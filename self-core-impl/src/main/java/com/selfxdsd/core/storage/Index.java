@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concurrent secondary index, mapping a key (e.g. a Project's key)
+ * to the primary keys of the rows it refers to (e.g. the Project's Tasks).
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ * @param <K> Type of the indexed key.
+ * @param <V> Type of the primary keys.
+ */
+final class Index<K, V> {
+
+    /**
+     * The index.
+     */
+    private final Map<K, Set<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Add a primary key under the given key.
+     * @param key Indexed key.
+     * @param value Primary key.
+     */
+    void add(final K key, final V value) {
+        this.entries.compute(
+            key,
+            (k, values) -> {
+                final Set<V> added;
+                if(values == null) {
+                    added = ConcurrentHashMap.newKeySet();
+                } else {
+                    added = values;
+                }
+                added.add(value);
+                return added;
+            }
+        );
+    }
+
+    /**
+     * Remove a primary key from under the given key.
+     * @param key Indexed key.
+     * @param value Primary key.
+     */
+    void remove(final K key, final V value) {
+        this.entries.computeIfPresent(
+            key,
+            (k, values) -> {
+                values.remove(value);
+                final Set<V> left;
+                if(values.isEmpty()) {
+                    left = null;
+                } else {
+                    left = values;
+                }
+                return left;
+            }
+        );
+    }
+
+    /**
+     * Primary keys found under the given key.
+     * @param key Indexed key.
+     * @return Read-only set, never null.
+     */
+    Set<V> get(final K key) {
+        final Set<V> found = this.entries.get(key);
+        final Set<V> result;
+        if(found == null) {
+            result = Collections.emptySet();
+        } else {
+            result = Collections.unmodifiableSet(found);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import java.util.Arrays;
+
+/**
+ * Composite primary key of an in-memory "table". The hash code is
+ * computed only once, since these keys are looked up in several
+ * indexes on every read.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class Key implements Comparable<Key> {
+
+    /**
+     * Parts of the key (e.g. repo full name and provider).
+     */
+    private final String[] parts;
+
+    /**
+     * Cached hash code.
+     */
+    private final int hash;
+
+    /**
+     * Ctor.
+     * @param parts Parts of the key.
+     */
+    Key(final String... parts) {
+        this.parts = parts;
+        this.hash = Arrays.hashCode(parts);
+    }
+
+    /**
+     * Get a part of this key.
+     * @param index Index of the part.
+     * @return String.
+     */
+    String part(final int index) {
+        return this.parts[index];
+    }
+
+    @Override
+    public int compareTo(final Key other) {
+        int result = Integer.compare(this.parts.length, other.parts.length);
+        for(int idx = 0; result == 0 && idx < this.parts.length; ++idx) {
+            result = this.parts[idx].compareTo(other.parts[idx]);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof Key
+            && this.hash == ((Key) obj).hash
+            && Arrays.equals(this.parts, ((Key) obj).parts);
+    }
+
+    @Override
+    public String toString() {
+        return String.join("/", this.parts);
+    }
+}
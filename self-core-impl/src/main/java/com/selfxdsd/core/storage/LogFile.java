@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * A file of journal records, one per line. Each line is the CRC32
+ * of the record (8 hex digits), a space and the record as JSON, so
+ * a record torn by a crash is recognized and never replayed.<br><br>
+ * The file is read through a memory-mapped buffer, which is
+ * the fastest way to get the snapshot back at startup. Files larger
+ * than 2GB are not supported.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class LogFile {
+
+    /**
+     * Length of the checksum prefix, including the space.
+     */
+    private static final int PREFIX = 9;
+
+    /**
+     * Path of the file.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     * @param path Path of the file.
+     */
+    LogFile(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Read the records of this file, in order, until the end or until
+     * the first torn record.
+     * @param consumer Consumer of the records.
+     * @return Length of the valid part of the file, in bytes.
+     */
+    long replay(final Consumer<JsonObject> consumer) {
+        long valid = 0;
+        if(Files.exists(this.path)) {
+            try (
+                final FileChannel channel = FileChannel.open(
+                    this.path, StandardOpenOption.READ
+                )
+            ) {
+                final long size = channel.size();
+                if(size > Integer.MAX_VALUE) {
+                    throw new IllegalStateException(
+                        "Log file " + this.path + " is larger than 2GB."
+                    );
+                }
+                final MappedByteBuffer mapped = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0, size
+                );
+                valid = LogFile.replay(mapped, consumer);
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    "Couldn't read log file " + this.path, ex
+                );
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Encode a record as a line of a LogFile.
+     * @param record Record.
+     * @return Bytes of the line, ending with a new line.
+     */
+    static byte[] line(final JsonObject record) {
+        final byte[] json = record.toString()
+            .getBytes(StandardCharsets.UTF_8);
+        final CRC32 crc = new CRC32();
+        crc.update(json);
+        final byte[] prefix = String.format(
+            Locale.ENGLISH, "%08x ", crc.getValue()
+        ).getBytes(StandardCharsets.US_ASCII);
+        final byte[] line = new byte[prefix.length + json.length + 1];
+        System.arraycopy(prefix, 0, line, 0, prefix.length);
+        System.arraycopy(json, 0, line, prefix.length, json.length);
+        line[line.length - 1] = '\n';
+        return line;
+    }
+
+    /**
+     * Read the records in the given buffer.
+     * @param buffer Buffer.
+     * @param consumer Consumer of the records.
+     * @return Position after the last valid record.
+     */
+    private static long replay(
+        final ByteBuffer buffer,
+        final Consumer<JsonObject> consumer
+    ) {
+        int start = 0;
+        boolean torn = false;
+        for(int pos = 0; !torn && pos < buffer.limit(); ++pos) {
+            if(buffer.get(pos) == '\n') {
+                final JsonObject record = LogFile.record(buffer, start, pos);
+                if(record == null) {
+                    torn = true;
+                } else {
+                    consumer.accept(record);
+                    start = pos + 1;
+                }
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Decode the line between the given positions.
+     * @param buffer Buffer.
+     * @param start Start of the line.
+     * @param end Position of the new line character.
+     * @return Record or null, if the line is torn.
+     */
+    private static JsonObject record(
+        final ByteBuffer buffer,
+        final int start,
+        final int end
+    ) {
+        JsonObject record = null;
+        if(end - start > LogFile.PREFIX) {
+            final byte[] json = new byte[end - start - LogFile.PREFIX];
+            final byte[] prefix = new byte[LogFile.PREFIX - 1];
+            final ByteBuffer line = buffer.duplicate();
+            line.position(start);
+            line.get(prefix);
+            line.position(start + LogFile.PREFIX);
+            line.get(json);
+            final CRC32 crc = new CRC32();
+            crc.update(json);
+            final String expected = String.format(
+                Locale.ENGLISH, "%08x", crc.getValue()
+            );
+            final String actual = new String(
+                prefix, StandardCharsets.US_ASCII
+            );
+            if(expected.equals(actual)) {
+                try (
+                    final JsonReader reader = Json.createReader(
+                        new StringReader(
+                            new String(json, StandardCharsets.UTF_8)
+                        )
+                    )
+                ) {
+                    record = reader.readObject();
+                } catch (final JsonException ex) {
+                    record = null;
+                }
+            }
+        }
+        return record;
+    }
+}
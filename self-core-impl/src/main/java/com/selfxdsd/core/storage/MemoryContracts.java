@@ -0,0 +1,292 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contracts;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.exceptions.ContractsException;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.ContributorContracts;
+import com.selfxdsd.core.contracts.ProjectContracts;
+import com.selfxdsd.core.contracts.StoredContract;
+
+import javax.json.JsonObject;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Contracts kept in memory, indexed by Project and by Contributor.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryContracts implements Contracts {
+
+    /**
+     * Contracts "table".
+     */
+    private final Map<Contract.Id, Contract> contracts =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Contracts indexed by Project.
+     */
+    private final Index<Key, Contract.Id> byProject = new Index<>();
+
+    /**
+     * Contracts indexed by Contributor.
+     */
+    private final Index<Key, Contract.Id> byContributor = new Index<>();
+
+    /**
+     * Write locks.
+     */
+    private final Stripes stripes = new Stripes();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryContracts(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryContracts(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Contracts ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        final List<Contract> ofProject = this.lookup(
+            this.byProject.get(new Key(repoFullName, repoProvider))
+        );
+        return new ProjectContracts(
+            repoFullName, repoProvider, ofProject::stream, this.storage
+        );
+    }
+
+    @Override
+    public Contracts ofContributor(final Contributor contributor) {
+        final Key key = new Key(
+            contributor.username(), contributor.provider()
+        );
+        return new ContributorContracts(
+            contributor,
+            () -> this.lookup(this.byContributor.get(key)).stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Contract addContract(
+        final String repoFullName,
+        final String contributorUsername,
+        final String provider,
+        final BigDecimal hourlyRate,
+        final String role
+    ) {
+        final Contract.Id id = new Contract.Id(
+            repoFullName, contributorUsername, provider, role
+        );
+        final Project project = this.storage.projects()
+            .getProjectById(repoFullName, provider);
+        if(project == null) {
+            throw new ContractsException.Single.Add(
+                id, "project was not found in storage."
+            );
+        }
+        final Contributor contributor = this.storage.contributors()
+            .getById(contributorUsername, provider);
+        if(contributor == null) {
+            throw new ContractsException.Single.Add(
+                id, "contributor was not found in storage."
+            );
+        }
+        return this.stripes.write(
+            id,
+            () -> {
+                if(this.contracts.containsKey(id)) {
+                    throw new ContractsException.Single.Add(
+                        id, "is already registered."
+                    );
+                }
+                return this.put(
+                    new StoredContract(
+                        project, contributor, hourlyRate, role, this.storage
+                    )
+                );
+            }
+        );
+    }
+
+    @Override
+    public Contract findById(final Contract.Id id) {
+        return this.contracts.get(id);
+    }
+
+    @Override
+    public Contract update(
+        final Contract contract,
+        final BigDecimal hourlyRate
+    ) {
+        final Contract.Id id = contract.contractId();
+        return this.stripes.write(
+            id,
+            () -> {
+                final Contract old = this.contracts.get(id);
+                Contract updated = null;
+                if(old != null) {
+                    updated = this.put(
+                        new StoredContract(
+                            old.project(), old.contributor(),
+                            hourlyRate, old.role(), this.storage
+                        )
+                    );
+                }
+                return updated;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<Contract> iterator() {
+        return this.contracts.values().iterator();
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final String provider = record.getString("provider");
+        final Contract contract = new StoredContract(
+            this.storage.projects().getProjectById(
+                record.getString("repo"), provider
+            ),
+            this.storage.contributors().getById(
+                record.getString("username"), provider
+            ),
+            Record.decimal(record, "hourlyRate"),
+            record.getString("role"),
+            this.storage
+        );
+        this.save(contract.contractId(), contract);
+    }
+
+    /**
+     * Write all the Contracts to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.contracts.forEach(
+            (id, contract) -> snapshot.append(
+                MemoryContracts.record(id, contract)
+            )
+        );
+    }
+
+    /**
+     * Save a Contract, replacing the previous version, if any.
+     * @param contract Contract.
+     * @return The saved Contract.
+     */
+    private Contract put(final Contract contract) {
+        final Contract.Id id = contract.contractId();
+        this.journal.append(MemoryContracts.record(id, contract));
+        this.save(id, contract);
+        return contract;
+    }
+
+    /**
+     * Add a Contract to the "table" and its indexes.
+     * @param id Contract id.
+     * @param contract Contract.
+     */
+    private void save(final Contract.Id id, final Contract contract) {
+        this.contracts.put(id, contract);
+        this.byProject.add(
+            new Key(id.getRepoFullName(), id.getProvider()), id
+        );
+        this.byContributor.add(
+            new Key(id.getContributorUsername(), id.getProvider()), id
+        );
+    }
+
+    /**
+     * Record of a Contract.
+     * @param id Contract id.
+     * @param contract Contract.
+     * @return JsonObject.
+     */
+    private static JsonObject record(
+        final Contract.Id id,
+        final Contract contract
+    ) {
+        return new Record("contracts", Record.PUT)
+            .with("repo", id.getRepoFullName())
+            .with("username", id.getContributorUsername())
+            .with("provider", id.getProvider())
+            .with("role", id.getRole())
+            .with("hourlyRate", contract.hourlyRate())
+            .json();
+    }
+
+    /**
+     * Resolve the Contracts with the given ids.
+     * @param ids Ids from an index.
+     * @return List of Contracts.
+     */
+    private List<Contract> lookup(final Set<Contract.Id> ids) {
+        return ids.stream()
+            .map(this.contracts::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+}
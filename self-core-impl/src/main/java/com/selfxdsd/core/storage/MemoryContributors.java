@@ -0,0 +1,249 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Contributors;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.exceptions.ContributorsException;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.BasePaged;
+import com.selfxdsd.core.contributors.ElectionStrategy;
+import com.selfxdsd.core.contributors.ProjectContributors;
+import com.selfxdsd.core.contributors.ProviderContributors;
+import com.selfxdsd.core.contributors.RoundRobinStrategy;
+import com.selfxdsd.core.contributors.StoredContributor;
+
+import javax.json.JsonObject;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.StreamSupport;
+
+/**
+ * Contributors kept in memory, indexed by provider. The Contributors
+ * of a Project are found through the Project's Contracts.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryContributors extends BasePaged
+    implements Contributors {
+
+    /**
+     * Contributors "table", sorted so pages are stable.
+     */
+    private final ConcurrentNavigableMap<Key, Contributor> contributors;
+
+    /**
+     * Contributors indexed by provider.
+     */
+    private final Index<String, Key> byProvider;
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Round-robin of the elections, if configured. It remembers who was
+     * chosen before, so it is kept for the whole Storage.
+     */
+    private final ElectionStrategy roundRobin;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryContributors(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryContributors(final Storage storage, final Journal journal) {
+        this(
+            storage, journal, new ConcurrentSkipListMap<>(),
+            new Index<>(), new RoundRobinStrategy(), Page.all()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     * @param contributors Contributors "table".
+     * @param byProvider Index by provider.
+     * @param roundRobin Round-robin of the elections.
+     * @param page Current page.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    private MemoryContributors(
+        final Storage storage,
+        final Journal journal,
+        final ConcurrentNavigableMap<Key, Contributor> contributors,
+        final Index<String, Key> byProvider,
+        final ElectionStrategy roundRobin,
+        final Page page
+    ) {
+        super(page, contributors::size);
+        this.storage = storage;
+        this.journal = journal;
+        this.contributors = contributors;
+        this.byProvider = byProvider;
+        this.roundRobin = roundRobin;
+    }
+
+    @Override
+    public Contributor register(
+        final String username,
+        final String provider
+    ) {
+        final Key key = new Key(username, provider);
+        final Contributor registered = new StoredContributor(
+            username, provider, this.storage
+        );
+        if(this.contributors.putIfAbsent(key, registered) != null) {
+            throw new ContributorsException.Single.Add(username, provider);
+        }
+        try {
+            this.journal.append(MemoryContributors.record(key));
+        } catch (final RuntimeException ex) {
+            this.contributors.remove(key, registered);
+            throw ex;
+        }
+        this.byProvider.add(provider, key);
+        return registered;
+    }
+
+    @Override
+    public Contributor getById(
+        final String username,
+        final String provider
+    ) {
+        return this.contributors.get(new Key(username, provider));
+    }
+
+    @Override
+    public Contributors ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return new ProjectContributors(
+            this.storage.projects().getProjectById(
+                repoFullName, repoProvider
+            ),
+            () -> StreamSupport.stream(
+                this.storage.contracts()
+                    .ofProject(repoFullName, repoProvider)
+                    .spliterator(),
+                false
+            ).map(Contract::contractId)
+                .map(
+                    id -> new Key(id.getContributorUsername(), id.getProvider())
+                )
+                .distinct()
+                .map(this.contributors::get)
+                .filter(Objects::nonNull),
+            this.storage,
+            ProjectContributors.strategy(this.storage, this.roundRobin)
+        );
+    }
+
+    @Override
+    public Contributors ofProvider(final String provider) {
+        return new ProviderContributors(
+            provider,
+            () -> this.byProvider.get(provider)
+                .stream()
+                .map(this.contributors::get)
+                .filter(Objects::nonNull),
+            this.storage,
+            this.roundRobin
+        );
+    }
+
+    @Override
+    public Contributors page(final Page page) {
+        return new MemoryContributors(
+            this.storage, this.journal, this.contributors,
+            this.byProvider, this.roundRobin, page
+        );
+    }
+
+    @Override
+    public Contributor elect(final Task task) {
+        throw new ContributorsException.Election();
+    }
+
+    @Override
+    public Iterator<Contributor> iterator() {
+        throw new ContributorsException.List();
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final String username = record.getString("username");
+        final String provider = record.getString("provider");
+        final Key key = new Key(username, provider);
+        this.contributors.put(
+            key, new StoredContributor(username, provider, this.storage)
+        );
+        this.byProvider.add(provider, key);
+    }
+
+    /**
+     * Write all the Contributors to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.contributors.keySet().forEach(
+            key -> snapshot.append(MemoryContributors.record(key))
+        );
+    }
+
+    /**
+     * Record of a Contributor.
+     * @param key Primary key.
+     * @return JsonObject.
+     */
+    private static JsonObject record(final Key key) {
+        return new Record("contributors", Record.PUT)
+            .with("username", key.part(0))
+            .with("provider", key.part(1))
+            .json();
+    }
+}
@@ -0,0 +1,364 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.InvoicedTask;
+import com.selfxdsd.api.InvoicedTasks;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.Money;
+import com.selfxdsd.core.contracts.invoices.InvoiceTasks;
+import com.selfxdsd.core.contracts.invoices.StoredInvoicedTask;
+import com.selfxdsd.core.tasks.StoredTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.json.JsonObject;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * InvoicedTasks kept in memory, indexed by Invoice. The totals of
+ * each Invoice are kept as well, updated atomically with every
+ * registration.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryInvoicedTasks implements InvoicedTasks {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        MemoryInvoicedTasks.class
+    );
+
+    /**
+     * InvoicedTasks "table".
+     */
+    private final Map<Integer, InvoicedTask> tasks =
+        new ConcurrentHashMap<>();
+
+    /**
+     * InvoicedTasks indexed by Invoice id.
+     */
+    private final Index<Integer, Integer> byInvoice = new Index<>();
+
+    /**
+     * Totals of each Invoice, by Invoice id.
+     */
+    private final Map<Integer, Running> totals =
+        new ConcurrentHashMap<>();
+
+    /**
+     * ID generator.
+     */
+    private final AtomicInteger ids = new AtomicInteger();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryInvoicedTasks(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryInvoicedTasks(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public InvoicedTasks ofInvoice(final Invoice invoice) {
+        return new InvoiceTasks(
+            invoice,
+            () -> this.byInvoice.get(invoice.invoiceId())
+                .stream()
+                .map(this.tasks::get)
+                .filter(Objects::nonNull),
+            this.storage
+        );
+    }
+
+    @Override
+    public InvoicedTask register(
+        final Invoice invoice,
+        final Task finished,
+        final BigDecimal commission
+    ) {
+        final InvoicedTask registered = new StoredInvoicedTask(
+            this.ids.incrementAndGet(),
+            invoice.invoiceId(),
+            finished.value(),
+            commission,
+            finished,
+            this.storage
+        );
+        this.journal.append(
+            MemoryInvoicedTasks.record(invoice.invoiceId(), registered)
+        );
+        this.save(invoice.invoiceId(), registered);
+        return registered;
+    }
+
+    @Override
+    public Invoice.Totals totals(final Invoice invoice) {
+        return this.totals.getOrDefault(
+            invoice.invoiceId(), Running.NONE
+        ).totals();
+    }
+
+    @Override
+    public boolean verify(final Invoice invoice) {
+        final boolean[] correct = {true};
+        this.totals.compute(
+            invoice.invoiceId(),
+            (id, kept) -> {
+                final Running actual = Running.of(this.ofInvoice(invoice));
+                final Running was;
+                if(kept == null) {
+                    was = Running.NONE;
+                } else {
+                    was = kept;
+                }
+                if(!actual.equals(was)) {
+                    correct[0] = false;
+                    LOG.warn(
+                        "Totals of Invoice #" + id + " were " + was.totals()
+                        + ", should be " + actual.totals() + ". Corrected."
+                    );
+                }
+                return actual;
+            }
+        );
+        return correct[0];
+    }
+
+    @Override
+    public Iterator<InvoicedTask> iterator() {
+        throw new UnsupportedOperationException(
+            "It is not possible to iterate over all invoiced tasks. "
+            + "Call #ofInvoice(...) first."
+        );
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final int id = record.getInt("id");
+        final int invoice = record.getInt("invoice");
+        this.ids.accumulateAndGet(id, Math::max);
+        final Task task = new StoredTask(
+            this.storage.contracts().findById(
+                new Contract.Id(
+                    record.getString("repo"),
+                    record.getString("username"),
+                    record.getString("provider"),
+                    record.getString("role")
+                )
+            ),
+            record.getString("issueId"),
+            this.storage,
+            Record.time(record, "assignmentDate"),
+            Record.time(record, "deadline"),
+            record.getInt("estimation")
+        );
+        this.save(
+            invoice,
+            new StoredInvoicedTask(
+                id,
+                invoice,
+                Record.decimal(record, "value"),
+                Record.decimal(record, "commission"),
+                task,
+                this.storage
+            )
+        );
+    }
+
+    /**
+     * Write all the InvoicedTasks to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.tasks.values().forEach(
+            task -> snapshot.append(
+                MemoryInvoicedTasks.record(
+                    task.invoice().invoiceId(), task
+                )
+            )
+        );
+    }
+
+    /**
+     * Add an InvoicedTask to the "table" and its index, updating the
+     * totals of its Invoice. Everything happens while the Invoice's
+     * totals are locked, so they always match its InvoicedTasks.
+     * @param invoice Invoice id.
+     * @param task InvoicedTask.
+     */
+    private void save(final int invoice, final InvoicedTask task) {
+        this.totals.compute(
+            invoice,
+            (id, kept) -> {
+                this.tasks.put(task.invoicedTaskId(), task);
+                this.byInvoice.add(invoice, task.invoicedTaskId());
+                final Running updated;
+                if(kept == null) {
+                    updated = Running.NONE.with(task);
+                } else {
+                    updated = kept.with(task);
+                }
+                return updated;
+            }
+        );
+    }
+
+    /**
+     * Record of an InvoicedTask.
+     * @param invoice Invoice id.
+     * @param invoiced InvoicedTask.
+     * @return JsonObject.
+     */
+    private static JsonObject record(
+        final int invoice,
+        final InvoicedTask invoiced
+    ) {
+        final Task task = invoiced.task();
+        final Contract.Id contract = task.contract().contractId();
+        return new Record("invoicedTasks", Record.PUT)
+            .with("id", invoiced.invoicedTaskId())
+            .with("invoice", invoice)
+            .with("value", invoiced.value())
+            .with("commission", invoiced.commission())
+            .with("issueId", task.issueId())
+            .with("repo", contract.getRepoFullName())
+            .with("username", contract.getContributorUsername())
+            .with("provider", contract.getProvider())
+            .with("role", contract.getRole())
+            .with("assignmentDate", task.assignmentDate())
+            .with("deadline", task.deadline())
+            .with("estimation", task.estimation())
+            .json();
+    }
+
+    /**
+     * Running totals of an Invoice, added up as Money.
+     */
+    private static final class Running {
+
+        /**
+         * Totals of an empty Invoice.
+         */
+        static final Running NONE = new Running(Money.ZERO, 0);
+
+        /**
+         * Total amount.
+         */
+        private final Money amount;
+
+        /**
+         * Number of invoiced tasks.
+         */
+        private final int count;
+
+        /**
+         * Ctor.
+         * @param amount Total amount.
+         * @param count Number of invoiced tasks.
+         */
+        Running(final Money amount, final int count) {
+            this.amount = amount;
+            this.count = count;
+        }
+
+        /**
+         * Add up the given invoiced tasks.
+         * @param tasks InvoicedTasks.
+         * @return Running totals.
+         */
+        static Running of(final Iterable<InvoicedTask> tasks) {
+            Running running = NONE;
+            for(final InvoicedTask task : tasks) {
+                running = running.with(task);
+            }
+            return running;
+        }
+
+        /**
+         * Totals after one more task was invoiced.
+         * @param task InvoicedTask.
+         * @return Running totals.
+         */
+        Running with(final InvoicedTask task) {
+            return new Running(
+                this.amount.add(Money.of(task.totalAmount())),
+                this.count + 1
+            );
+        }
+
+        /**
+         * These totals, as seen through the API.
+         * @return Totals.
+         */
+        Invoice.Totals totals() {
+            return new Invoice.Totals(this.amount.toBigDecimal(), this.count);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || (obj instanceof Running
+                && this.amount.equals(((Running) obj).amount)
+                && this.count == ((Running) obj).count);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.amount.hashCode() + this.count;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.Invoices;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.invoices.ContractInvoices;
+import com.selfxdsd.core.contracts.invoices.StoredInvoice;
+
+import javax.json.JsonObject;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Invoices kept in memory, indexed by Contract. The active Invoice of
+ * each Contract is pointed to as well, so it is found (or created)
+ * atomically and without looking at the Contract's older Invoices.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryInvoices implements Invoices {
+
+    /**
+     * Pointer to the active Invoice of a Contract which has none.
+     */
+    private static final int NONE = 0;
+
+    /**
+     * Invoices "table".
+     */
+    private final Map<Integer, Invoice> invoices = new ConcurrentHashMap<>();
+
+    /**
+     * Invoices indexed by Contract.
+     */
+    private final Index<Contract.Id, Integer> byContract = new Index<>();
+
+    /**
+     * Id of the active Invoice of each Contract, or NONE if the Contract
+     * has none. Missing if it was not looked up yet.
+     */
+    private final Map<Contract.Id, Integer> actives =
+        new ConcurrentHashMap<>();
+
+    /**
+     * ID generator.
+     */
+    private final AtomicInteger ids = new AtomicInteger();
+
+    /**
+     * Write locks.
+     */
+    private final Stripes stripes = new Stripes();
+
+    /**
+     * Locks of the Contracts whose active Invoice is being set. Always
+     * taken before the write locks and never while holding them or
+     * while updating the active pointers, so the two cannot deadlock.
+     */
+    private final Stripes activations = new Stripes();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryInvoices(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryInvoices(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Invoice getById(final int id) {
+        return this.invoices.get(id);
+    }
+
+    @Override
+    public Invoice createNewInvoice(final Contract.Id contractId) {
+        return this.activations.write(
+            contractId,
+            () -> {
+                final Invoice created = this.create(contractId);
+                this.actives.replace(
+                    contractId, MemoryInvoices.NONE, created.invoiceId()
+                );
+                return created;
+            }
+        );
+    }
+
+    @Override
+    public Invoice activeOf(final Contract.Id contractId) {
+        Invoice active = this.pointed(contractId);
+        if(active == null) {
+            active = this.activations.write(
+                contractId,
+                () -> {
+                    Invoice found = this.pointed(contractId);
+                    if(found == null) {
+                        int id = MemoryInvoices.NONE;
+                        if(!this.actives.containsKey(contractId)) {
+                            id = this.oldestUnpaid(contractId);
+                        }
+                        if(id == MemoryInvoices.NONE) {
+                            id = this.create(contractId).invoiceId();
+                        }
+                        this.actives.put(contractId, id);
+                        found = this.invoices.get(id);
+                    }
+                    return found;
+                }
+            );
+        }
+        return active;
+    }
+
+    @Override
+    public Invoice active() {
+        throw new UnsupportedOperationException(
+            "It's not possible to get an active Invoice here. "
+            + "Call Invoices.ofContract(...) first."
+        );
+    }
+
+    @Override
+    public Invoices ofContract(final Contract.Id id) {
+        return new ContractInvoices(
+            id,
+            () -> this.byContract.get(id)
+                .stream()
+                .map(this.invoices::get)
+                .filter(Objects::nonNull),
+            () -> this.activeOf(id),
+            this.storage
+        );
+    }
+
+    @Override
+    public boolean registerAsPaid(final Invoice invoice) {
+        final int id = invoice.invoiceId();
+        return this.stripes.write(
+            id,
+            () -> {
+                final Invoice unpaid = this.invoices.get(id);
+                if(unpaid != null) {
+                    this.put(
+                        new StoredInvoice(
+                            id,
+                            unpaid.contract(),
+                            unpaid.createdAt(),
+                            invoice.paymentTime(),
+                            invoice.transactionId(),
+                            this.storage
+                        )
+                    );
+                    this.actives.replace(
+                        unpaid.contract().contractId(), id, MemoryInvoices.NONE
+                    );
+                }
+                return unpaid != null;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<Invoice> iterator() {
+        throw new UnsupportedOperationException(
+            "It's not possible to see all the invoices in Self. "
+            + "Add a filter first (e.g. Invoices.ofContract(...)."
+        );
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final int id = record.getInt("id");
+        this.ids.accumulateAndGet(id, Math::max);
+        this.save(
+            new StoredInvoice(
+                id,
+                this.storage.contracts().findById(
+                    new Contract.Id(
+                        record.getString("repo"),
+                        record.getString("username"),
+                        record.getString("provider"),
+                        record.getString("role")
+                    )
+                ),
+                Record.time(record, "createdAt"),
+                Record.time(record, "paymentTime"),
+                Record.text(record, "transactionId"),
+                this.storage
+            )
+        );
+    }
+
+    /**
+     * Write all the Invoices to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.invoices.values().forEach(
+            invoice -> snapshot.append(MemoryInvoices.record(invoice))
+        );
+    }
+
+    /**
+     * Create a new Invoice for a Contract.
+     * @param contractId Contract id.
+     * @return Created Invoice.
+     */
+    private Invoice create(final Contract.Id contractId) {
+        final int id = this.ids.incrementAndGet();
+        return this.stripes.write(
+            id,
+            () -> this.put(
+                new StoredInvoice(
+                    id,
+                    this.storage.contracts().findById(contractId),
+                    LocalDateTime.now(),
+                    null,
+                    null,
+                    this.storage
+                )
+            )
+        );
+    }
+
+    /**
+     * The unpaid Invoice which the active pointer of a Contract points to.
+     * @param contractId Contract id.
+     * @return Invoice or null if the pointer is missing, NONE or points
+     *  to a paid Invoice.
+     */
+    private Invoice pointed(final Contract.Id contractId) {
+        final Integer pointer = this.actives.get(contractId);
+        Invoice active = null;
+        if(pointer != null && pointer != MemoryInvoices.NONE) {
+            final Invoice invoice = this.invoices.get(pointer);
+            if(!invoice.isPaid()) {
+                active = invoice;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Id of the oldest unpaid Invoice of a Contract, found by looking
+     * at all its Invoices.
+     * @param contractId Contract id.
+     * @return Invoice id or NONE if all the Invoices are paid.
+     */
+    private int oldestUnpaid(final Contract.Id contractId) {
+        return this.byContract.get(contractId)
+            .stream()
+            .map(this.invoices::get)
+            .filter(invoice -> invoice != null && !invoice.isPaid())
+            .min(Comparator.comparing(Invoice::createdAt))
+            .map(Invoice::invoiceId)
+            .orElse(MemoryInvoices.NONE);
+    }
+
+    /**
+     * Save an Invoice, replacing the previous version, if any.
+     * @param invoice Invoice.
+     * @return The saved Invoice.
+     */
+    private Invoice put(final Invoice invoice) {
+        this.journal.append(MemoryInvoices.record(invoice));
+        this.save(invoice);
+        return invoice;
+    }
+
+    /**
+     * Add an Invoice to the "table" and its index.
+     * @param invoice Invoice.
+     */
+    private void save(final Invoice invoice) {
+        this.invoices.put(invoice.invoiceId(), invoice);
+        this.byContract.add(
+            invoice.contract().contractId(), invoice.invoiceId()
+        );
+    }
+
+    /**
+     * Record of an Invoice.
+     * @param invoice Invoice.
+     * @return JsonObject.
+     */
+    private static JsonObject record(final Invoice invoice) {
+        final Contract.Id contract = invoice.contract().contractId();
+        return new Record("invoices", Record.PUT)
+            .with("id", invoice.invoiceId())
+            .with("repo", contract.getRepoFullName())
+            .with("username", contract.getContributorUsername())
+            .with("provider", contract.getProvider())
+            .with("role", contract.getRole())
+            .with("createdAt", invoice.createdAt())
+            .with("paymentTime", invoice.paymentTime())
+            .with("transactionId", invoice.transactionId())
+            .json();
+    }
+}
@@ -0,0 +1,334 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Outbox;
+
+import javax.json.JsonObject;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Outbox kept in memory, in the order the Messages were sent.
+ * The Messages sent by the work done {@link #together(Supplier)} are
+ * kept aside and queued only after the work returns, so a failed work
+ * leaves none of them. The memory has no transactions, though: the
+ * work's own changes are not rolled back.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryOutbox implements Outbox {
+
+    /**
+     * Waiting messages, by id.
+     */
+    private final ConcurrentNavigableMap<Integer, Entry> waiting =
+        new ConcurrentSkipListMap<>();
+
+    /**
+     * Ids of the waiting messages, by Issue and Message, so an identical
+     * Message is not queued twice.
+     */
+    private final Map<Key, Integer> identical = new ConcurrentHashMap<>();
+
+    /**
+     * Sends kept aside by the work done together, on its thread.
+     */
+    private final ThreadLocal<List<Runnable>> staged = new ThreadLocal<>();
+
+    /**
+     * ID generator.
+     */
+    private final AtomicInteger ids = new AtomicInteger();
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     */
+    public MemoryOutbox() {
+        this(Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param journal Journal of the writes.
+     */
+    MemoryOutbox(final Journal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public void send(final Issue issue, final Message message) {
+        final List<Runnable> staged = this.staged.get();
+        if(staged == null) {
+            this.queue(issue, message);
+        } else {
+            staged.add(() -> this.queue(issue, message));
+        }
+    }
+
+    @Override
+    public <T> T together(final Supplier<T> work) {
+        final T result;
+        if(this.staged.get() == null) {
+            final List<Runnable> staged = new ArrayList<>();
+            this.staged.set(staged);
+            try {
+                result = work.get();
+            } finally {
+                this.staged.remove();
+            }
+            staged.forEach(Runnable::run);
+        } else {
+            result = work.get();
+        }
+        return result;
+    }
+
+    @Override
+    public List<Pending> due(final LocalDateTime moment, final int limit) {
+        final Set<Key> postponed = new HashSet<>();
+        final List<Pending> due = new ArrayList<>();
+        for(final Entry entry : this.waiting.values()) {
+            if(due.size() >= limit) {
+                break;
+            }
+            final Key issue = entry.issue();
+            if(entry.due.isAfter(moment)) {
+                postponed.add(issue);
+            } else if(!postponed.contains(issue)) {
+                due.add(entry.pending);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Claim a due Message by replacing its entry with one due at the
+     * end of the claim, if nobody replaced it since it was read.
+     * The claims are not journaled: after a restart, nobody holds them.
+     * @param pending Pending message.
+     * @param until When the claim expires.
+     * @return True if the Message was claimed.
+     */
+    @Override
+    public boolean claim(final Pending pending, final LocalDateTime until) {
+        final int id = (int) pending.id();
+        final Entry entry = this.waiting.get(id);
+        return entry != null
+            && entry.pending.attempts() == pending.attempts()
+            && !entry.due.isAfter(LocalDateTime.now())
+            && this.waiting.replace(id, entry, new Entry(entry.pending, until));
+    }
+
+    @Override
+    public void sent(final Pending pending) {
+        final int id = (int) pending.id();
+        final Entry entry = this.waiting.remove(id);
+        if(entry != null) {
+            try {
+                this.journal.append(
+                    new Record("outbox", Record.REMOVE)
+                        .with("id", id)
+                        .json()
+                );
+            } catch (final RuntimeException ex) {
+                this.waiting.putIfAbsent(id, entry);
+                throw ex;
+            }
+            this.identical.remove(entry.key(), id);
+        }
+    }
+
+    @Override
+    public void retry(final Pending pending, final LocalDateTime next) {
+        final Entry retried = new Entry(
+            new Pending(
+                pending.id(), pending.repoFullName(), pending.provider(),
+                pending.issueId(), pending.message(), pending.attempts() + 1
+            ),
+            next
+        );
+        final int id = (int) pending.id();
+        final Entry previous = this.waiting.replace(id, retried);
+        if(previous != null) {
+            try {
+                this.journal.append(retried.record());
+            } catch (final RuntimeException ex) {
+                this.waiting.replace(id, retried, previous);
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Queue a Message, unless an identical one waits for the Issue.
+     * @param issue Issue.
+     * @param message Message.
+     */
+    private void queue(final Issue issue, final Message message) {
+        final int id = this.ids.incrementAndGet();
+        final Entry entry = new Entry(
+            new Pending(
+                id, issue.repoFullName(), issue.provider(),
+                issue.issueId(), message, 0
+            ),
+            LocalDateTime.now()
+        );
+        if(this.identical.putIfAbsent(entry.key(), id) == null) {
+            try {
+                this.journal.append(entry.record());
+            } catch (final RuntimeException ex) {
+                this.identical.remove(entry.key(), id);
+                throw ex;
+            }
+            this.waiting.put(id, entry);
+        }
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final int id = record.getInt("id");
+        this.ids.accumulateAndGet(id, Math::max);
+        if(Record.is(record, Record.REMOVE)) {
+            final Entry entry = this.waiting.remove(id);
+            if(entry != null) {
+                this.identical.remove(entry.key(), id);
+            }
+        } else {
+            final Entry entry = new Entry(
+                new Pending(
+                    id,
+                    record.getString("repo"),
+                    record.getString("provider"),
+                    record.getString("issueId"),
+                    new Message(
+                        record.getString("type"),
+                        record.getString("argument")
+                    ),
+                    record.getInt("attempts")
+                ),
+                Record.time(record, "due")
+            );
+            this.waiting.put(id, entry);
+            this.identical.put(entry.key(), id);
+        }
+    }
+
+    /**
+     * Write all the waiting Messages to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.waiting.values().forEach(
+            entry -> snapshot.append(entry.record())
+        );
+    }
+
+    /**
+     * A waiting Message and when it is due.
+     */
+    private static final class Entry {
+
+        /**
+         * The Message.
+         */
+        private final Pending pending;
+
+        /**
+         * When it is due.
+         */
+        private final LocalDateTime due;
+
+        /**
+         * Ctor.
+         * @param pending The Message.
+         * @param due When it is due.
+         */
+        Entry(final Pending pending, final LocalDateTime due) {
+            this.pending = pending;
+            this.due = due;
+        }
+
+        /**
+         * Key of the Issue and Message.
+         * @return Key.
+         */
+        Key key() {
+            return new Key(
+                this.pending.repoFullName(),
+                this.pending.provider(),
+                this.pending.issueId(),
+                this.pending.message().type(),
+                this.pending.message().argument()
+            );
+        }
+
+        /**
+         * Key of the Issue.
+         * @return Key.
+         */
+        Key issue() {
+            return new Key(
+                this.pending.repoFullName(),
+                this.pending.provider(),
+                this.pending.issueId()
+            );
+        }
+
+        /**
+         * Record of this entry.
+         * @return JsonObject.
+         */
+        JsonObject record() {
+            return new Record("outbox", Record.PUT)
+                .with("id", (int) this.pending.id())
+                .with("repo", this.pending.repoFullName())
+                .with("provider", this.pending.provider())
+                .with("issueId", this.pending.issueId())
+                .with("type", this.pending.message().type())
+                .with("argument", this.pending.message().argument())
+                .with("attempts", this.pending.attempts())
+                .with("due", this.due)
+                .json();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.PaymentMethod;
+import com.selfxdsd.api.PaymentMethods;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Wallet;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.projects.StoredPaymentMethod;
+import com.selfxdsd.core.projects.WalletPaymentMethods;
+
+import javax.json.JsonObject;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PaymentMethods kept in memory, indexed by Wallet.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryPaymentMethods implements PaymentMethods {
+
+    /**
+     * PaymentMethods "table", keyed by the Wallet's key and identifier.
+     */
+    private final Map<Key, PaymentMethod> methods =
+        new ConcurrentHashMap<>();
+
+    /**
+     * PaymentMethods indexed by Wallet.
+     */
+    private final Index<Key, Key> byWallet = new Index<>();
+
+    /**
+     * Writes on the same Wallet are serialized, so at most one
+     * of its PaymentMethods is active at any time.
+     */
+    private final Stripes stripes = new Stripes();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryPaymentMethods(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryPaymentMethods(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public PaymentMethod register(
+        final Wallet wallet,
+        final String identifier
+    ) {
+        final Key owner = MemoryPaymentMethods.owner(wallet);
+        return this.stripes.write(
+            owner,
+            () -> this.put(
+                MemoryPaymentMethods.key(owner, identifier),
+                new StoredPaymentMethod(
+                    this.storage, identifier, wallet, false
+                )
+            )
+        );
+    }
+
+    @Override
+    public boolean remove(final PaymentMethod paymentMethod) {
+        final Key owner = MemoryPaymentMethods.owner(paymentMethod.wallet());
+        final Key key = MemoryPaymentMethods.key(
+            owner, paymentMethod.identifier()
+        );
+        return this.stripes.write(
+            owner,
+            () -> {
+                final boolean found = this.methods.containsKey(key);
+                if(found) {
+                    this.journal.append(
+                        new Record("paymentMethods", Record.REMOVE)
+                            .with("repo", key.part(0))
+                            .with("provider", key.part(1))
+                            .with("type", key.part(2))
+                            .with("identifier", key.part(3))
+                            .json()
+                    );
+                    this.delete(key);
+                }
+                return found;
+            }
+        );
+    }
+
+    @Override
+    public PaymentMethods ofWallet(final Wallet wallet) {
+        final Key owner = MemoryPaymentMethods.owner(wallet);
+        return new WalletPaymentMethods(
+            wallet,
+            () -> this.byWallet.get(owner)
+                .stream()
+                .map(this.methods::get)
+                .filter(Objects::nonNull),
+            this.storage
+        );
+    }
+
+    @Override
+    public PaymentMethod active() {
+        throw new UnsupportedOperationException(
+            "You cannot get the active PaymentMethod "
+            + "out of all PaymentMethods in Self. "
+            + "Call #ofWallet(...) first."
+        );
+    }
+
+    @Override
+    public PaymentMethod activate(final PaymentMethod paymentMethod) {
+        final Wallet wallet = paymentMethod.wallet();
+        final Key owner = MemoryPaymentMethods.owner(wallet);
+        return this.stripes.write(
+            owner,
+            () -> {
+                PaymentMethod activated = null;
+                for(final Key key : this.byWallet.get(owner)) {
+                    final PaymentMethod method = this.methods.get(key);
+                    final boolean active = method.identifier()
+                        .equals(paymentMethod.identifier());
+                    final PaymentMethod updated = this.put(
+                        key,
+                        new StoredPaymentMethod(
+                            this.storage, method.identifier(), wallet, active
+                        )
+                    );
+                    if(active) {
+                        activated = updated;
+                    }
+                }
+                return activated;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<PaymentMethod> iterator() {
+        throw new UnsupportedOperationException(
+            "You cannot iterate over all PaymentMethods in Self. "
+            + "Call #ofWallet(...) first."
+        );
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final Key key = new Key(
+            record.getString("repo"),
+            record.getString("provider"),
+            record.getString("type"),
+            record.getString("identifier")
+        );
+        if(Record.is(record, Record.REMOVE)) {
+            this.delete(key);
+        } else {
+            Wallet wallet = null;
+            final Project project = this.storage.projects().getProjectById(
+                key.part(0), key.part(1)
+            );
+            for(final Wallet candidate : project.wallets()) {
+                if(candidate.type().equals(key.part(2))) {
+                    wallet = candidate;
+                    break;
+                }
+            }
+            this.save(
+                key,
+                new StoredPaymentMethod(
+                    this.storage, key.part(3), wallet,
+                    record.getBoolean("active")
+                )
+            );
+        }
+    }
+
+    /**
+     * Write all the PaymentMethods to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.methods.forEach(
+            (key, method) -> snapshot.append(
+                MemoryPaymentMethods.record(key, method)
+            )
+        );
+    }
+
+    /**
+     * Save a PaymentMethod and journal the write.
+     * @param key Primary key.
+     * @param method PaymentMethod.
+     * @return The saved PaymentMethod.
+     */
+    private PaymentMethod put(final Key key, final PaymentMethod method) {
+        this.journal.append(MemoryPaymentMethods.record(key, method));
+        this.save(key, method);
+        return method;
+    }
+
+    /**
+     * Add a PaymentMethod to the "table" and its index.
+     * @param key Primary key.
+     * @param method PaymentMethod.
+     */
+    private void save(final Key key, final PaymentMethod method) {
+        this.methods.put(key, method);
+        this.byWallet.add(
+            new Key(key.part(0), key.part(1), key.part(2)), key
+        );
+    }
+
+    /**
+     * Delete a PaymentMethod from the "table" and its index.
+     * @param key Primary key.
+     * @return True if it was found, false otherwise.
+     */
+    private boolean delete(final Key key) {
+        this.byWallet.remove(
+            new Key(key.part(0), key.part(1), key.part(2)), key
+        );
+        return this.methods.remove(key) != null;
+    }
+
+    /**
+     * Record of a PaymentMethod.
+     * @param key Primary key.
+     * @param method PaymentMethod.
+     * @return JsonObject.
+     */
+    private static JsonObject record(
+        final Key key,
+        final PaymentMethod method
+    ) {
+        return new Record("paymentMethods", Record.PUT)
+            .with("repo", key.part(0))
+            .with("provider", key.part(1))
+            .with("type", key.part(2))
+            .with("identifier", key.part(3))
+            .with("active", method.active())
+            .json();
+    }
+
+    /**
+     * Key of the Wallet owning some PaymentMethods.
+     * @param wallet Wallet.
+     * @return Key.
+     */
+    private static Key owner(final Wallet wallet) {
+        final Project project = wallet.project();
+        return new Key(
+            project.repoFullName(), project.provider(), wallet.type()
+        );
+    }
+
+    /**
+     * Primary key of a PaymentMethod.
+     * @param owner Key of the Wallet.
+     * @param identifier Identifier of the PaymentMethod.
+     * @return Key.
+     */
+    private static Key key(final Key owner, final String identifier) {
+        return new Key(
+            owner.part(0), owner.part(1), owner.part(2), identifier
+        );
+    }
+}
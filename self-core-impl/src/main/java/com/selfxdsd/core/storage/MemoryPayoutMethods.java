@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.PayoutMethod;
+import com.selfxdsd.api.PayoutMethods;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contributors.ContributorPayoutMethods;
+import com.selfxdsd.core.contributors.StripePayoutMethod;
+
+import javax.json.JsonObject;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * PayoutMethods kept in memory, indexed by Contributor.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryPayoutMethods implements PayoutMethods {
+
+    /**
+     * PayoutMethods "table", keyed by username, provider and type.
+     */
+    private final Map<Key, PayoutMethod> methods = new ConcurrentHashMap<>();
+
+    /**
+     * PayoutMethods indexed by Contributor.
+     */
+    private final Index<Key, Key> byContributor = new Index<>();
+
+    /**
+     * Writes on the same Contributor are serialized, so at most one
+     * of their PayoutMethods is active at any time.
+     */
+    private final Stripes stripes = new Stripes();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryPayoutMethods(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryPayoutMethods(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public PayoutMethod register(
+        final Contributor contributor,
+        final String type,
+        final String identifier
+    ) {
+        final Key owner = MemoryPayoutMethods.owner(contributor);
+        final Key key = new Key(owner.part(0), owner.part(1), type);
+        return this.stripes.write(
+            owner,
+            () -> this.put(
+                key, new StripePayoutMethod(contributor, identifier, false)
+            )
+        );
+    }
+
+    @Override
+    public PayoutMethods ofContributor(final Contributor contributor) {
+        final List<PayoutMethod> ofContributor = this.byContributor
+            .get(MemoryPayoutMethods.owner(contributor))
+            .stream()
+            .map(this.methods::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        return new ContributorPayoutMethods(
+            contributor, ofContributor, this.storage
+        );
+    }
+
+    @Override
+    public PayoutMethod active() {
+        throw new UnsupportedOperationException(
+            "You cannot get the active PayoutMethod "
+            + "out of all PayoutMethods in Self. "
+            + "Call #ofContributor(...) first."
+        );
+    }
+
+    @Override
+    public PayoutMethod activate(final PayoutMethod payoutMethod) {
+        final Contributor contributor = payoutMethod.contributor();
+        final Key owner = MemoryPayoutMethods.owner(contributor);
+        return this.stripes.write(
+            owner,
+            () -> {
+                PayoutMethod activated = null;
+                for(final Key key : this.byContributor.get(owner)) {
+                    final PayoutMethod method = this.methods.get(key);
+                    final boolean active = method.identifier()
+                        .equals(payoutMethod.identifier());
+                    final PayoutMethod updated = this.put(
+                        key,
+                        new StripePayoutMethod(
+                            contributor, method.identifier(), active
+                        )
+                    );
+                    if(active) {
+                        activated = updated;
+                    }
+                }
+                return activated;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<PayoutMethod> iterator() {
+        throw new UnsupportedOperationException(
+            "You cannot iterate over all PayoutMethods in Self. "
+            + "Call #ofContributor(...) first."
+        );
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final String username = record.getString("username");
+        final String provider = record.getString("provider");
+        this.save(
+            new Key(username, provider, record.getString("type")),
+            new StripePayoutMethod(
+                this.storage.contributors().getById(username, provider),
+                Record.text(record, "identifier"),
+                record.getBoolean("active")
+            )
+        );
+    }
+
+    /**
+     * Write all the PayoutMethods to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.methods.forEach(
+            (key, method) -> snapshot.append(
+                MemoryPayoutMethods.record(key, method)
+            )
+        );
+    }
+
+    /**
+     * Save a PayoutMethod and journal the write.
+     * @param key Primary key.
+     * @param method PayoutMethod.
+     * @return The saved PayoutMethod.
+     */
+    private PayoutMethod put(final Key key, final PayoutMethod method) {
+        this.journal.append(MemoryPayoutMethods.record(key, method));
+        this.save(key, method);
+        return method;
+    }
+
+    /**
+     * Add a PayoutMethod to the "table" and its index.
+     * @param key Primary key.
+     * @param method PayoutMethod.
+     */
+    private void save(final Key key, final PayoutMethod method) {
+        this.methods.put(key, method);
+        this.byContributor.add(new Key(key.part(0), key.part(1)), key);
+    }
+
+    /**
+     * Record of a PayoutMethod.
+     * @param key Primary key.
+     * @param method PayoutMethod.
+     * @return JsonObject.
+     */
+    private static JsonObject record(
+        final Key key,
+        final PayoutMethod method
+    ) {
+        return new Record("payoutMethods", Record.PUT)
+            .with("username", key.part(0))
+            .with("provider", key.part(1))
+            .with("type", key.part(2))
+            .with("identifier", method.identifier())
+            .with("active", method.active())
+            .json();
+    }
+
+    /**
+     * Key of the Contributor owning some PayoutMethods.
+     * @param contributor Contributor.
+     * @return Key.
+     */
+    private static Key owner(final Contributor contributor) {
+        return new Key(contributor.username(), contributor.provider());
+    }
+}
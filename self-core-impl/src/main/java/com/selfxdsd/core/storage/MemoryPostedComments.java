@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Comment;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.PostedComments;
+
+import javax.json.JsonObject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the posted comments, kept in memory, by Issue.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryPostedComments implements PostedComments {
+
+    /**
+     * Posted comments "table", keyed by Issue and digest of the body.
+     * The values hold the comment's id and author.
+     */
+    private final Map<Key, Key> comments = new ConcurrentHashMap<>();
+
+    /**
+     * Posted comments indexed by Issue.
+     */
+    private final Index<Key, Key> byIssue = new Index<>();
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     */
+    public MemoryPostedComments() {
+        this(Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param journal Journal of the writes.
+     */
+    MemoryPostedComments(final Journal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public boolean indexed(final Issue issue) {
+        return !this.byIssue.get(MemoryPostedComments.issue(issue)).isEmpty();
+    }
+
+    @Override
+    public Comment find(final Issue issue, final String body) {
+        final Key posted = this.comments.get(
+            MemoryPostedComments.key(
+                issue, new PostedComments.Digest(body).hex()
+            )
+        );
+        final Comment found;
+        if(posted == null) {
+            found = null;
+        } else {
+            found = new PostedComments.Indexed(
+                posted.part(0), posted.part(1), body
+            );
+        }
+        return found;
+    }
+
+    @Override
+    public void add(final Issue issue, final Comment comment) {
+        final Key key = MemoryPostedComments.key(
+            issue, new PostedComments.Digest(comment.body()).hex()
+        );
+        final Key posted = new Key(comment.commentId(), comment.author());
+        if(this.comments.putIfAbsent(key, posted) == null) {
+            try {
+                this.journal.append(
+                    MemoryPostedComments.record(key, posted)
+                );
+            } catch (final RuntimeException ex) {
+                this.comments.remove(key, posted);
+                throw ex;
+            }
+            this.byIssue.add(MemoryPostedComments.issue(issue), key);
+        }
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final Key key = new Key(
+            record.getString("repo"),
+            record.getString("provider"),
+            record.getString("issueId"),
+            record.getString("digest")
+        );
+        this.comments.put(
+            key,
+            new Key(record.getString("commentId"), record.getString("author"))
+        );
+        this.byIssue.add(
+            new Key(key.part(0), key.part(1), key.part(2)), key
+        );
+    }
+
+    /**
+     * Write all the posted comments to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.comments.forEach(
+            (key, posted) -> snapshot.append(
+                MemoryPostedComments.record(key, posted)
+            )
+        );
+    }
+
+    /**
+     * Key of an Issue.
+     * @param issue Issue.
+     * @return Key.
+     */
+    private static Key issue(final Issue issue) {
+        return new Key(issue.repoFullName(), issue.provider(), issue.issueId());
+    }
+
+    /**
+     * Primary key of a posted comment.
+     * @param issue Issue.
+     * @param digest Digest of the body.
+     * @return Key.
+     */
+    private static Key key(final Issue issue, final String digest) {
+        return new Key(
+            issue.repoFullName(), issue.provider(), issue.issueId(), digest
+        );
+    }
+
+    /**
+     * Record of a posted comment.
+     * @param key Primary key.
+     * @param posted Comment id and author.
+     * @return JsonObject.
+     */
+    private static JsonObject record(final Key key, final Key posted) {
+        return new Record("postedComments", Record.PUT)
+            .with("repo", key.part(0))
+            .with("provider", key.part(1))
+            .with("issueId", key.part(2))
+            .with("digest", key.part(3))
+            .with("commentId", posted.part(0))
+            .with("author", posted.part(1))
+            .json();
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.ProjectManagers;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.managers.StoredProjectManager;
+
+import javax.json.JsonObject;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Project Managers kept in memory.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryProjectManagers implements ProjectManagers {
+
+    /**
+     * PMs "table".
+     */
+    private final Map<Integer, ProjectManager> managers =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Records of the PMs, since the access token is not exposed
+     * by the ProjectManager interface.
+     */
+    private final Map<Integer, JsonObject> records =
+        new ConcurrentHashMap<>();
+
+    /**
+     * PMs indexed by lower-case username and provider.
+     */
+    private final Map<Key, ProjectManager> byUsername =
+        new ConcurrentHashMap<>();
+
+    /**
+     * First registered PM of each provider, returned by #pick(...).
+     */
+    private final Map<String, ProjectManager> byProvider =
+        new ConcurrentHashMap<>();
+
+    /**
+     * ID generator.
+     */
+    private final AtomicInteger ids = new AtomicInteger();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryProjectManagers(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryProjectManagers(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public ProjectManager getById(final int id) {
+        return this.managers.get(id);
+    }
+
+    @Override
+    public ProjectManager getByUsername(
+        final String username,
+        final String provider
+    ) {
+        return this.byUsername.get(
+            MemoryProjectManagers.key(username, provider)
+        );
+    }
+
+    @Override
+    public ProjectManager pick(final String provider) {
+        return this.byProvider.get(provider);
+    }
+
+    @Override
+    public ProjectManager register(
+        final String userId,
+        final String username,
+        final String provider,
+        final String accessToken,
+        final BigDecimal commission
+    ) {
+        final JsonObject record = new Record("managers", Record.PUT)
+            .with("id", this.ids.incrementAndGet())
+            .with("userId", userId)
+            .with("username", username)
+            .with("provider", provider)
+            .with("accessToken", accessToken)
+            .with("commission", commission)
+            .json();
+        this.journal.append(record);
+        final ProjectManager manager = this.put(record);
+        return manager;
+    }
+
+    @Override
+    public Iterator<ProjectManager> iterator() {
+        return this.managers.values().iterator();
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        this.ids.accumulateAndGet(record.getInt("id"), Math::max);
+        this.put(record);
+    }
+
+    /**
+     * Write all the PMs to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.records.values().forEach(snapshot::append);
+    }
+
+    /**
+     * Save the PM described by the given record.
+     * @param record Record.
+     * @return The saved PM.
+     */
+    private ProjectManager put(final JsonObject record) {
+        final String username = record.getString("username");
+        final String provider = record.getString("provider");
+        final ProjectManager manager = new StoredProjectManager(
+            record.getInt("id"),
+            Record.text(record, "userId"),
+            username,
+            provider,
+            Record.text(record, "accessToken"),
+            Record.decimal(record, "commission"),
+            this.storage
+        );
+        this.records.put(manager.id(), record);
+        this.managers.put(manager.id(), manager);
+        this.byUsername.put(
+            MemoryProjectManagers.key(username, provider), manager
+        );
+        this.byProvider.merge(
+            provider,
+            manager,
+            (first, other) -> {
+                final ProjectManager picked;
+                if(first.id() <= other.id()) {
+                    picked = first;
+                } else {
+                    picked = other;
+                }
+                return picked;
+            }
+        );
+        return manager;
+    }
+
+    /**
+     * PMs are looked up by username case-insensitively.
+     * @param username Username.
+     * @param provider Provider.
+     * @return Key.
+     */
+    private static Key key(final String username, final String provider) {
+        return new Key(
+            username.toLowerCase(Locale.ENGLISH),
+            provider.toLowerCase(Locale.ENGLISH)
+        );
+    }
+}
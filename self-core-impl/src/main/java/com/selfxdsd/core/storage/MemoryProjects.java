@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.Projects;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.exceptions.ProjectsException;
+import com.selfxdsd.api.storage.Paged;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.BasePaged;
+import com.selfxdsd.core.StoredUser;
+import com.selfxdsd.core.projects.PmProjects;
+import com.selfxdsd.core.projects.StoredProject;
+import com.selfxdsd.core.projects.UserProjects;
+
+import javax.json.JsonObject;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Projects kept in memory. The "table" is sorted, so pages are
+ * stable, and it is indexed by PM and by owner, so the views never
+ * have to scan all the Projects.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryProjects extends BasePaged implements Projects {
+
+    /**
+     * Projects "table".
+     */
+    private final ConcurrentNavigableMap<Key, Project> projects;
+
+    /**
+     * Projects indexed by PM id.
+     */
+    private final Index<Integer, Key> byManager;
+
+    /**
+     * Projects indexed by owner.
+     */
+    private final Index<Key, Key> byOwner;
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryProjects(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryProjects(final Storage storage, final Journal journal) {
+        this(
+            storage, journal, new ConcurrentSkipListMap<>(),
+            new Index<>(), new Index<>(), new Page(1, 10)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     * @param projects Projects "table".
+     * @param byManager Index by PM.
+     * @param byOwner Index by owner.
+     * @param page Current page.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    private MemoryProjects(
+        final Storage storage,
+        final Journal journal,
+        final ConcurrentNavigableMap<Key, Project> projects,
+        final Index<Integer, Key> byManager,
+        final Index<Key, Key> byOwner,
+        final Page page
+    ) {
+        super(page, projects::size);
+        this.storage = storage;
+        this.journal = journal;
+        this.projects = projects;
+        this.byManager = byManager;
+        this.byOwner = byOwner;
+    }
+
+    @Override
+    public Project register(
+        final Repo repo,
+        final ProjectManager manager,
+        final String webHookToken
+    ) {
+        if(manager == null
+            || this.storage.projectManagers().getById(manager.id()) == null) {
+            throw new ProjectsException.Single.Add(
+                repo.fullName(),
+                repo.provider(),
+                "PM is missing or not registered!"
+            );
+        }
+        final Key key = new Key(repo.fullName(), repo.provider());
+        final User owner = repo.owner();
+        final Project project = new StoredProject(
+            owner, repo.fullName(), webHookToken, manager, this.storage
+        );
+        if(this.projects.putIfAbsent(key, project) != null) {
+            throw new ProjectsException.Single.Add(
+                repo.fullName(),
+                repo.provider(),
+                "already exists."
+            );
+        }
+        try {
+            this.journal.append(MemoryProjects.record(project));
+        } catch (final RuntimeException ex) {
+            this.projects.remove(key, project);
+            throw ex;
+        }
+        this.index(key, project);
+        return project;
+    }
+
+    @Override
+    public Projects assignedTo(final int projectManagerId) {
+        return new PmProjects(
+            projectManagerId,
+            () -> this.lookup(this.byManager.get(projectManagerId).stream())
+        );
+    }
+
+    @Override
+    public Projects ownedBy(final User user) {
+        final Key owner = new Key(user.username(), user.provider().name());
+        return new UserProjects(
+            user,
+            () -> this.lookup(this.byOwner.get(owner).stream())
+        );
+    }
+
+    @Override
+    public Project getProjectById(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return this.projects.get(new Key(repoFullName, repoProvider));
+    }
+
+    @Override
+    public Projects page(final Paged.Page page) {
+        return new MemoryProjects(
+            this.storage, this.journal, this.projects,
+            this.byManager, this.byOwner, page
+        );
+    }
+
+    @Override
+    public Iterator<Project> iterator() {
+        final Page page = super.current();
+        return this.projects.values()
+            .stream()
+            .skip((long) (page.getNumber() - 1) * page.getSize())
+            .limit(page.getSize())
+            .iterator();
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final String provider = record.getString("provider");
+        final String username = record.getString("owner");
+        User owner = this.storage.users().user(username, provider);
+        if(owner == null) {
+            owner = new StoredUser(
+                username,
+                Record.text(record, "ownerEmail"),
+                Record.text(record, "ownerRole"),
+                provider,
+                this.storage
+            );
+        }
+        final Project project = new StoredProject(
+            owner,
+            record.getString("repo"),
+            Record.text(record, "webHookToken"),
+            this.storage.projectManagers().getById(record.getInt("manager")),
+            this.storage
+        );
+        final Key key = new Key(project.repoFullName(), provider);
+        this.projects.put(key, project);
+        this.index(key, project);
+    }
+
+    /**
+     * Write all the Projects to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.projects.values().forEach(
+            project -> snapshot.append(MemoryProjects.record(project))
+        );
+    }
+
+    /**
+     * Add a Project to the indexes.
+     * @param key Primary key.
+     * @param project Project.
+     */
+    private void index(final Key key, final Project project) {
+        final User owner = project.owner();
+        this.byManager.add(project.projectManager().id(), key);
+        this.byOwner.add(
+            new Key(owner.username(), owner.provider().name()), key
+        );
+    }
+
+    /**
+     * Record of a Project.
+     * @param project Project.
+     * @return JsonObject.
+     */
+    private static JsonObject record(final Project project) {
+        final User owner = project.owner();
+        return new Record("projects", Record.PUT)
+            .with("repo", project.repoFullName())
+            .with("provider", project.provider())
+            .with("owner", owner.username())
+            .with("ownerEmail", owner.email())
+            .with("ownerRole", owner.role())
+            .with("webHookToken", project.webHookToken())
+            .with("manager", project.projectManager().id())
+            .json();
+    }
+
+    /**
+     * Resolve the Projects of the given keys.
+     * @param keys Keys from an index.
+     * @return Stream of Projects.
+     */
+    private Stream<Project> lookup(final Stream<Key> keys) {
+        return keys.map(this.projects::get).filter(Objects::nonNull);
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Resignation;
+import com.selfxdsd.api.Resignations;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.tasks.StoredResignation;
+import com.selfxdsd.core.tasks.StoredTask;
+import com.selfxdsd.core.tasks.TaskResignations;
+
+import javax.json.JsonObject;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resignations kept in memory, indexed by Task.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryResignations implements Resignations {
+
+    /**
+     * Resignations "table", keyed by the Task's key and the username
+     * of the Contributor who resigned.
+     */
+    private final Map<Key, Resignation> resignations =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Resignations indexed by Task.
+     */
+    private final Index<Key, Key> byTask = new Index<>();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryResignations(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryResignations(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Resignations ofTask(final Task task) {
+        final Project project = task.project();
+        final Key key = new Key(
+            project.repoFullName(), project.provider(), task.issueId()
+        );
+        return new TaskResignations(
+            task,
+            () -> this.byTask.get(key)
+                .stream()
+                .map(this.resignations::get)
+                .filter(Objects::nonNull),
+            this.storage
+        );
+    }
+
+    @Override
+    public Resignation register(final Task task, final String reason) {
+        final Contributor assignee = task.assignee();
+        if(assignee == null) {
+            throw new IllegalStateException(
+                "Can't resign from an unassigned Task."
+            );
+        }
+        final Project project = task.project();
+        final Resignation resignation = new StoredResignation(
+            new StoredTask(
+                project,
+                task.issueId(),
+                task.role(),
+                task.estimation(),
+                this.storage
+            ),
+            assignee,
+            LocalDateTime.now(),
+            reason
+        );
+        final Key key = new Key(
+            project.repoFullName(), project.provider(),
+            task.issueId(), assignee.username()
+        );
+        this.journal.append(MemoryResignations.record(key, resignation));
+        this.save(key, resignation);
+        return resignation;
+    }
+
+    @Override
+    public Iterator<Resignation> iterator() {
+        throw new UnsupportedOperationException(
+            "You cannot iterate over all Resignations in Self."
+        );
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final String repo = record.getString("repo");
+        final String provider = record.getString("provider");
+        final String issueId = record.getString("issueId");
+        final String username = record.getString("username");
+        this.save(
+            new Key(repo, provider, issueId, username),
+            new StoredResignation(
+                new StoredTask(
+                    this.storage.projects().getProjectById(repo, provider),
+                    issueId,
+                    record.getString("role"),
+                    record.getInt("estimation"),
+                    this.storage
+                ),
+                this.storage.contributors().getById(username, provider),
+                Record.time(record, "timestamp"),
+                Record.text(record, "reason")
+            )
+        );
+    }
+
+    /**
+     * Write all the Resignations to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.resignations.forEach(
+            (key, resignation) -> snapshot.append(
+                MemoryResignations.record(key, resignation)
+            )
+        );
+    }
+
+    /**
+     * Add a Resignation to the "table" and its index.
+     * @param key Primary key.
+     * @param resignation Resignation.
+     */
+    private void save(final Key key, final Resignation resignation) {
+        this.resignations.put(key, resignation);
+        this.byTask.add(
+            new Key(key.part(0), key.part(1), key.part(2)), key
+        );
+    }
+
+    /**
+     * Record of a Resignation.
+     * @param key Primary key.
+     * @param resignation Resignation.
+     * @return JsonObject.
+     */
+    private static JsonObject record(
+        final Key key,
+        final Resignation resignation
+    ) {
+        final Task task = resignation.task();
+        return new Record("resignations", Record.PUT)
+            .with("repo", key.part(0))
+            .with("provider", key.part(1))
+            .with("issueId", key.part(2))
+            .with("username", key.part(3))
+            .with("role", task.role())
+            .with("estimation", task.estimation())
+            .with("timestamp", resignation.timestamp())
+            .with("reason", resignation.reason())
+            .json();
+    }
+}
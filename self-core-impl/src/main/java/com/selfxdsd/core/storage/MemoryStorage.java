@@ -0,0 +1,361 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contracts;
+import com.selfxdsd.api.Contributors;
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.InvoicedTasks;
+import com.selfxdsd.api.Invoices;
+import com.selfxdsd.api.Outbox;
+import com.selfxdsd.api.PaymentMethods;
+import com.selfxdsd.api.PayoutMethods;
+import com.selfxdsd.api.PostedComments;
+import com.selfxdsd.api.ProjectManagers;
+import com.selfxdsd.api.Projects;
+import com.selfxdsd.api.Resignations;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.Users;
+import com.selfxdsd.api.Wallets;
+import com.selfxdsd.api.Workloads;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.ledger.CountedTasks;
+import com.selfxdsd.core.ledger.Counters;
+import com.selfxdsd.core.ledger.Ledger;
+import com.selfxdsd.core.ledger.LedgerContracts;
+import com.selfxdsd.core.ledger.LedgerInvoicedTasks;
+import com.selfxdsd.core.ledger.LedgerInvoices;
+import com.selfxdsd.core.ledger.LedgerTasks;
+import com.selfxdsd.core.managers.CachedProjectManagers;
+
+import javax.json.JsonObject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Self Storage kept in memory. It is thread-safe: every "table" is a
+ * concurrent map with its own secondary indexes, so the lookups done by
+ * the views (e.g. the Tasks of a Contributor) never scan the whole
+ * "table". Useful for tests, demos and as a cache in front of a
+ * persistent Storage.<br><br>
+ * Every write is also appended to a {@link Journal}, which is how
+ * {@link FileStorage} makes this Storage durable.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryStorage implements Storage {
+
+    /**
+     * Users.
+     */
+    private final MemoryUsers users;
+
+    /**
+     * Project managers.
+     */
+    private final MemoryProjectManagers managers;
+
+    /**
+     * Projects.
+     */
+    private final MemoryProjects projects;
+
+    /**
+     * Wallets.
+     */
+    private final MemoryWallets wallets;
+
+    /**
+     * Contracts.
+     */
+    private final MemoryContracts contracts;
+
+    /**
+     * Invoices.
+     */
+    private final MemoryInvoices invoices;
+
+    /**
+     * Invoiced tasks.
+     */
+    private final MemoryInvoicedTasks invoiced;
+
+    /**
+     * Contributors.
+     */
+    private final MemoryContributors contributors;
+
+    /**
+     * Tasks.
+     */
+    private final MemoryTasks tasks;
+
+    /**
+     * Resignations.
+     */
+    private final MemoryResignations resignations;
+
+    /**
+     * Payout methods.
+     */
+    private final MemoryPayoutMethods payouts;
+
+    /**
+     * Payment methods.
+     */
+    private final MemoryPaymentMethods payments;
+
+    /**
+     * Debts of the Projects.
+     */
+    private final Ledger ledger;
+
+    /**
+     * Workloads of the Contributors.
+     */
+    private final Counters counters;
+
+    /**
+     * Messages waiting to be sent to the Provider.
+     */
+    private final MemoryOutbox outbox;
+
+    /**
+     * Comments posted on the Providers' Issues.
+     */
+    private final MemoryPostedComments posted;
+
+    /**
+     * Contracts, updating the Ledger.
+     */
+    private final Contracts ledgerContracts;
+
+    /**
+     * Invoices, updating the Ledger.
+     */
+    private final Invoices ledgerInvoices;
+
+    /**
+     * Invoiced tasks, updating the Ledger.
+     */
+    private final InvoicedTasks ledgerInvoiced;
+
+    /**
+     * Tasks, updating the Ledger and the Counters.
+     */
+    private final Tasks ledgerTasks;
+
+    /**
+     * Project managers, knowing their usernames.
+     */
+    private final ProjectManagers cachedManagers;
+
+    /**
+     * Replay functions of the tables, by table name.
+     */
+    private final Map<String, Consumer<JsonObject>> replays;
+
+    /**
+     * Ctor.
+     */
+    public MemoryStorage() {
+        this(Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param journal Journal of the writes.
+     */
+    MemoryStorage(final Journal journal) {
+        this.users = new MemoryUsers(this, journal);
+        this.managers = new MemoryProjectManagers(this, journal);
+        this.projects = new MemoryProjects(this, journal);
+        this.wallets = new MemoryWallets(this, journal);
+        this.contracts = new MemoryContracts(this, journal);
+        this.invoices = new MemoryInvoices(this, journal);
+        this.invoiced = new MemoryInvoicedTasks(this, journal);
+        this.contributors = new MemoryContributors(this, journal);
+        this.tasks = new MemoryTasks(this, journal);
+        this.resignations = new MemoryResignations(this, journal);
+        this.payouts = new MemoryPayoutMethods(this, journal);
+        this.payments = new MemoryPaymentMethods(this, journal);
+        this.outbox = new MemoryOutbox(journal);
+        this.posted = new MemoryPostedComments(journal);
+        this.ledger = new Ledger();
+        this.ledgerContracts = new LedgerContracts(
+            this.contracts, this.ledger
+        );
+        this.ledgerInvoices = new LedgerInvoices(this.invoices, this.ledger);
+        this.ledgerInvoiced = new LedgerInvoicedTasks(
+            this.invoiced, this.ledger
+        );
+        this.counters = new Counters(new Workloads.Counted(this));
+        this.ledgerTasks = new CountedTasks(
+            new LedgerTasks(this.tasks, this.ledger), this.counters
+        );
+        this.cachedManagers = new CachedProjectManagers(this.managers);
+        this.replays = new HashMap<>();
+        this.replays.put("users", this.users::replay);
+        this.replays.put("managers", this.managers::replay);
+        this.replays.put("projects", this.projects::replay);
+        this.replays.put("wallets", this.wallets::replay);
+        this.replays.put("contributors", this.contributors::replay);
+        this.replays.put("contracts", this.contracts::replay);
+        this.replays.put("invoices", this.invoices::replay);
+        this.replays.put("invoicedTasks", this.invoiced::replay);
+        this.replays.put("tasks", this.tasks::replay);
+        this.replays.put("resignations", this.resignations::replay);
+        this.replays.put("payoutMethods", this.payouts::replay);
+        this.replays.put("paymentMethods", this.payments::replay);
+        this.replays.put("outbox", this.outbox::replay);
+        this.replays.put("postedComments", this.posted::replay);
+    }
+
+    @Override
+    public Users users() {
+        return this.users;
+    }
+
+    @Override
+    public ProjectManagers projectManagers() {
+        return this.cachedManagers;
+    }
+
+    @Override
+    public Projects projects() {
+        return this.projects;
+    }
+
+    @Override
+    public Wallets wallets() {
+        return this.wallets;
+    }
+
+    @Override
+    public Contracts contracts() {
+        return this.ledgerContracts;
+    }
+
+    @Override
+    public Invoices invoices() {
+        return this.ledgerInvoices;
+    }
+
+    @Override
+    public InvoicedTasks invoicedTasks() {
+        return this.ledgerInvoiced;
+    }
+
+    @Override
+    public Contributors contributors() {
+        return this.contributors;
+    }
+
+    @Override
+    public Tasks tasks() {
+        return this.ledgerTasks;
+    }
+
+    @Override
+    public Resignations resignations() {
+        return this.resignations;
+    }
+
+    @Override
+    public PayoutMethods payoutMethods() {
+        return this.payouts;
+    }
+
+    @Override
+    public PaymentMethods paymentMethods() {
+        return this.payments;
+    }
+
+    @Override
+    public Debts debts() {
+        return this.ledger;
+    }
+
+    @Override
+    public Workloads workloads() {
+        return this.counters;
+    }
+
+    @Override
+    public Outbox outbox() {
+        return this.outbox;
+    }
+
+    @Override
+    public PostedComments postedComments() {
+        return this.posted;
+    }
+
+    /**
+     * Nothing to close, everything is in memory.
+     */
+    @Override
+    public void close() {
+        //nothing to close
+    }
+
+    /**
+     * Replay a record of the Journal, without journaling it again.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final String table = record.getString(Record.TABLE);
+        final Consumer<JsonObject> replay = this.replays.get(table);
+        if(replay == null) {
+            throw new IllegalStateException(
+                "Unknown table in journal record: " + table
+            );
+        }
+        replay.accept(record);
+    }
+
+    /**
+     * Write every row to the given Journal. The tables are written in
+     * the order of their references (e.g. Projects before Contracts),
+     * so the snapshot can be replayed from start to end.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.users.snapshot(snapshot);
+        this.managers.snapshot(snapshot);
+        this.projects.snapshot(snapshot);
+        this.wallets.snapshot(snapshot);
+        this.contributors.snapshot(snapshot);
+        this.contracts.snapshot(snapshot);
+        this.invoices.snapshot(snapshot);
+        this.invoiced.snapshot(snapshot);
+        this.tasks.snapshot(snapshot);
+        this.resignations.snapshot(snapshot);
+        this.payouts.snapshot(snapshot);
+        this.payments.snapshot(snapshot);
+        this.outbox.snapshot(snapshot);
+        this.posted.snapshot(snapshot);
+    }
+}
@@ -0,0 +1,492 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.exceptions.ProjectsException;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.tasks.ContractTasks;
+import com.selfxdsd.core.tasks.ContributorTasks;
+import com.selfxdsd.core.tasks.Due;
+import com.selfxdsd.core.tasks.DueTasks;
+import com.selfxdsd.core.tasks.ProjectTasks;
+import com.selfxdsd.core.tasks.StoredTask;
+import com.selfxdsd.core.tasks.UnassignedTasks;
+
+import javax.json.JsonObject;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Tasks kept in memory, indexed by Project, Contributor, Contract and
+ * next due time, with the unassigned Tasks kept apart. A Task and its
+ * index entries are always written together, under the lock of the
+ * Task's stripe.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryTasks implements Tasks {
+
+    /**
+     * Tasks "table", keyed by repo full name, provider and issue id.
+     */
+    private final Map<Key, Task> tasks = new ConcurrentHashMap<>();
+
+    /**
+     * Tasks indexed by Project.
+     */
+    private final Index<Key, Key> byProject = new Index<>();
+
+    /**
+     * Tasks indexed by assignee.
+     */
+    private final Index<Key, Key> byContributor = new Index<>();
+
+    /**
+     * Tasks indexed by Contract.
+     */
+    private final Index<Contract.Id, Key> byContract = new Index<>();
+
+    /**
+     * Assigned Tasks indexed by the moment they are due.
+     */
+    private final Schedule byDue = new Schedule();
+
+    /**
+     * Keys of the unassigned Tasks.
+     */
+    private final Set<Key> unassigned = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Write locks.
+     */
+    private final Stripes stripes = new Stripes();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryTasks(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryTasks(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Task getById(
+        final String issueId,
+        final String repoFullName,
+        final String provider
+    ) {
+        return this.tasks.get(new Key(repoFullName, provider, issueId));
+    }
+
+    @Override
+    public Task register(final Issue issue) {
+        final Project project = this.storage.projects().getProjectById(
+            issue.repoFullName(), issue.provider()
+        );
+        if(project == null) {
+            throw new ProjectsException.Single.NotFound(
+                issue.repoFullName(),
+                issue.provider()
+            );
+        }
+        final Task registered = new StoredTask(
+            project,
+            issue.issueId(),
+            issue.role(),
+            issue.estimation(),
+            this.storage
+        );
+        return this.put(
+            new Key(issue.repoFullName(), issue.provider(), issue.issueId()),
+            registered
+        );
+    }
+
+    @Override
+    public Task assign(
+        final Task task,
+        final Contract contract,
+        final int days
+    ) {
+        final LocalDateTime assignmentDate = LocalDateTime.now();
+        return this.put(
+            MemoryTasks.key(task),
+            new StoredTask(
+                contract,
+                task.issueId(),
+                this.storage,
+                assignmentDate,
+                assignmentDate.plusDays(days),
+                task.estimation()
+            )
+        );
+    }
+
+    @Override
+    public Task unassign(final Task task) {
+        return this.put(
+            MemoryTasks.key(task),
+            new StoredTask(
+                task.project(),
+                task.issueId(),
+                task.role(),
+                task.estimation(),
+                this.storage
+            )
+        );
+    }
+
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        return this.put(
+            MemoryTasks.key(task),
+            new StoredTask(
+                task.contract(),
+                task.issueId(),
+                this.storage,
+                task.assignmentDate(),
+                task.deadline(),
+                task.estimation(),
+                moment,
+                task.reminders() + 1
+            )
+        );
+    }
+
+    @Override
+    public Tasks ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        final Key project = new Key(repoFullName, repoProvider);
+        return new ProjectTasks(
+            repoFullName,
+            repoProvider,
+            () -> this.lookup(this.byProject.get(project)),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks ofContributor(
+        final String username,
+        final String provider
+    ) {
+        final Key contributor = new Key(username, provider);
+        return new ContributorTasks(
+            username,
+            provider,
+            () -> this.lookup(this.byContributor.get(contributor)),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks ofContract(final Contract.Id id) {
+        return new ContractTasks(
+            id,
+            () -> this.lookup(this.byContract.get(id)),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks unassigned() {
+        return new UnassignedTasks(
+            () -> this.lookup(this.unassigned),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return new DueTasks(
+            () -> this.lookup(this.byDue.until(moment)),
+            this.storage
+        );
+    }
+
+    @Override
+    public boolean remove(final Task task) {
+        final Key key = MemoryTasks.key(task);
+        return this.stripes.write(
+            key,
+            () -> {
+                final boolean found = this.tasks.containsKey(key);
+                if(found) {
+                    this.journal.append(
+                        new Record("tasks", Record.REMOVE)
+                            .with("repo", key.part(0))
+                            .with("provider", key.part(1))
+                            .with("issueId", key.part(2))
+                            .json()
+                    );
+                    this.delete(key);
+                }
+                return found;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return this.tasks.values().iterator();
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final String repo = record.getString("repo");
+        final String provider = record.getString("provider");
+        final String issueId = record.getString("issueId");
+        final Key key = new Key(repo, provider, issueId);
+        if(Record.is(record, Record.REMOVE)) {
+            this.delete(key);
+        } else {
+            final String role = record.getString("role");
+            final String assignee = Record.text(record, "assignee");
+            final Task task;
+            if(assignee == null) {
+                task = new StoredTask(
+                    this.storage.projects().getProjectById(repo, provider),
+                    issueId,
+                    role,
+                    record.getInt("estimation"),
+                    this.storage
+                );
+            } else {
+                task = new StoredTask(
+                    this.storage.contracts().findById(
+                        new Contract.Id(repo, assignee, provider, role)
+                    ),
+                    issueId,
+                    this.storage,
+                    Record.time(record, "assignmentDate"),
+                    Record.time(record, "deadline"),
+                    record.getInt("estimation"),
+                    MemoryTasks.reminded(record),
+                    record.getInt("reminders", 0)
+                );
+            }
+            this.save(key, task);
+        }
+    }
+
+    /**
+     * Write all the Tasks to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.tasks.forEach(
+            (key, task) -> snapshot.append(MemoryTasks.record(key, task))
+        );
+    }
+
+    /**
+     * Save a Task, replacing the previous version, if any,
+     * and journal the write.
+     * @param key Primary key.
+     * @param task Task to save.
+     * @return The saved Task.
+     */
+    private Task put(final Key key, final Task task) {
+        return this.stripes.write(
+            key,
+            () -> {
+                this.journal.append(MemoryTasks.record(key, task));
+                this.save(key, task);
+                return task;
+            }
+        );
+    }
+
+    /**
+     * Save a Task in the "table" and the indexes, replacing the
+     * previous version, if any.
+     * @param key Primary key.
+     * @param task Task to save.
+     */
+    private void save(final Key key, final Task task) {
+        final Task previous = this.tasks.put(key, task);
+        if(previous != null) {
+            this.unindex(key, previous);
+        }
+        this.index(key, task);
+    }
+
+    /**
+     * Delete a Task from the "table" and the indexes.
+     * @param key Primary key.
+     * @return True if the Task was found, false otherwise.
+     */
+    private boolean delete(final Key key) {
+        final Task removed = this.tasks.remove(key);
+        if(removed != null) {
+            this.unindex(key, removed);
+        }
+        return removed != null;
+    }
+
+    /**
+     * Add a Task to the indexes.
+     * @param key Primary key.
+     * @param task Task.
+     */
+    private void index(final Key key, final Task task) {
+        this.byProject.add(new Key(key.part(0), key.part(1)), key);
+        final Contributor assignee = task.assignee();
+        if(assignee == null) {
+            this.unassigned.add(key);
+        } else {
+            this.byContributor.add(
+                new Key(assignee.username(), assignee.provider()), key
+            );
+            this.byContract.add(task.contract().contractId(), key);
+            final LocalDateTime due = new Due(task).next();
+            if(due != null) {
+                this.byDue.add(due, key);
+            }
+        }
+    }
+
+    /**
+     * Remove a Task from the indexes.
+     * @param key Primary key.
+     * @param task Task.
+     */
+    private void unindex(final Key key, final Task task) {
+        this.byProject.remove(new Key(key.part(0), key.part(1)), key);
+        final Contributor assignee = task.assignee();
+        if(assignee == null) {
+            this.unassigned.remove(key);
+        } else {
+            this.byContributor.remove(
+                new Key(assignee.username(), assignee.provider()), key
+            );
+            this.byContract.remove(task.contract().contractId(), key);
+            final LocalDateTime due = new Due(task).next();
+            if(due != null) {
+                this.byDue.remove(due, key);
+            }
+        }
+    }
+
+    /**
+     * Resolve the Tasks with the given keys.
+     * @param keys Keys from an index.
+     * @return Stream of Tasks.
+     */
+    private Stream<Task> lookup(final Set<Key> keys) {
+        return keys.stream().map(this.tasks::get).filter(Objects::nonNull);
+    }
+
+    /**
+     * Record of a Task.
+     * @param key Primary key.
+     * @param task Task.
+     * @return JsonObject.
+     */
+    private static JsonObject record(final Key key, final Task task) {
+        final Contributor assignee = task.assignee();
+        final String username;
+        if(assignee == null) {
+            username = null;
+        } else {
+            username = assignee.username();
+        }
+        return new Record("tasks", Record.PUT)
+            .with("repo", key.part(0))
+            .with("provider", key.part(1))
+            .with("issueId", key.part(2))
+            .with("role", task.role())
+            .with("estimation", task.estimation())
+            .with("assignee", username)
+            .with("assignmentDate", task.assignmentDate())
+            .with("deadline", task.deadline())
+            .with("reminded", task.reminded())
+            .with("reminders", task.reminders())
+            .json();
+    }
+
+    /**
+     * When the assignee of a recorded Task was last reminded. Records
+     * written before the reminders were kept have none.
+     * @param record Record.
+     * @return LocalDateTime or null.
+     */
+    private static LocalDateTime reminded(final JsonObject record) {
+        final LocalDateTime reminded;
+        if(record.containsKey("reminded")) {
+            reminded = Record.time(record, "reminded");
+        } else {
+            reminded = null;
+        }
+        return reminded;
+    }
+
+    /**
+     * Primary key of a Task.
+     * @param task Task.
+     * @return Key.
+     */
+    private static Key key(final Task task) {
+        final Project project = task.project();
+        return new Key(
+            project.repoFullName(), project.provider(), task.issueId()
+        );
+    }
+}
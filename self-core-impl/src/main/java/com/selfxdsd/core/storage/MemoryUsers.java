@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.Users;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.StoredUser;
+
+import javax.json.JsonObject;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Users kept in memory.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryUsers implements Users {
+
+    /**
+     * Users "table".
+     */
+    private final Map<Key, User> users = new ConcurrentHashMap<>();
+
+    /**
+     * Write locks.
+     */
+    private final Stripes stripes = new Stripes();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryUsers(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryUsers(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public User signUp(
+        final String username,
+        final String provider,
+        final String email,
+        final String role
+    ) {
+        final Key key = new Key(username, provider);
+        User user = this.users.get(key);
+        if(user == null) {
+            user = this.stripes.write(
+                key,
+                () -> {
+                    User found = this.users.get(key);
+                    if(found == null) {
+                        found = new StoredUser(
+                            username, email, role, provider, this.storage
+                        );
+                        this.journal.append(MemoryUsers.record(key, found));
+                        this.users.put(key, found);
+                    }
+                    return found;
+                }
+            );
+        }
+        return user;
+    }
+
+    @Override
+    public User user(final String username, final String provider) {
+        return this.users.get(new Key(username, provider));
+    }
+
+    @Override
+    public Iterator<User> iterator() {
+        return this.users.values().iterator();
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final String username = record.getString("username");
+        final String provider = record.getString("provider");
+        this.users.put(
+            new Key(username, provider),
+            new StoredUser(
+                username,
+                Record.text(record, "email"),
+                Record.text(record, "role"),
+                provider,
+                this.storage
+            )
+        );
+    }
+
+    /**
+     * Write all the Users to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.users.forEach(
+            (key, user) -> snapshot.append(MemoryUsers.record(key, user))
+        );
+    }
+
+    /**
+     * Record of a User.
+     * @param key Primary key.
+     * @param user User.
+     * @return JsonObject.
+     */
+    private static JsonObject record(final Key key, final User user) {
+        return new Record("users", Record.PUT)
+            .with("username", key.part(0))
+            .with("provider", key.part(1))
+            .with("email", user.email())
+            .with("role", user.role())
+            .json();
+    }
+}
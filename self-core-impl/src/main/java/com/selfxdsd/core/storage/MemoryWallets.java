@@ -0,0 +1,321 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Wallet;
+import com.selfxdsd.api.Wallets;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.projects.ProjectWallets;
+import com.selfxdsd.core.projects.StripeWallet;
+
+import javax.json.JsonObject;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Wallets kept in memory, indexed by Project.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryWallets implements Wallets {
+
+    /**
+     * Wallets "table", keyed by repo full name, provider and wallet type.
+     */
+    private final Map<Key, Row> wallets = new ConcurrentHashMap<>();
+
+    /**
+     * Wallets indexed by Project.
+     */
+    private final Index<Key, Key> byProject = new Index<>();
+
+    /**
+     * Writes on the same Project are serialized, so at most one
+     * of its Wallets is active at any time.
+     */
+    private final Stripes stripes = new Stripes();
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Journal of the writes.
+     */
+    private final Journal journal;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     */
+    public MemoryWallets(final Storage storage) {
+        this(storage, Journal.NONE);
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param journal Journal of the writes.
+     */
+    MemoryWallets(final Storage storage, final Journal journal) {
+        this.storage = storage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Wallet register(
+        final Project project,
+        final String type,
+        final BigDecimal cash,
+        final String identifier
+    ) {
+        final Key key = MemoryWallets.key(project, type);
+        return this.stripes.write(
+            MemoryWallets.owner(project),
+            () -> this.put(key, project, cash, identifier, false).wallet
+        );
+    }
+
+    @Override
+    public Wallets ofProject(final Project project) {
+        final List<Wallet> ofProject = this.byProject
+            .get(MemoryWallets.owner(project))
+            .stream()
+            .map(this.wallets::get)
+            .filter(Objects::nonNull)
+            .map(row -> row.wallet)
+            .collect(Collectors.toList());
+        return new ProjectWallets(project, ofProject, this.storage);
+    }
+
+    @Override
+    public Wallet active() {
+        throw new UnsupportedOperationException(
+            "You cannot get the active wallet out of all wallets in Self. "
+            + "Call #ofProject(...) first."
+        );
+    }
+
+    @Override
+    public Wallet activate(final Wallet wallet) {
+        final Project project = wallet.project();
+        final Key owner = MemoryWallets.owner(project);
+        return this.stripes.write(
+            owner,
+            () -> {
+                Wallet activated = null;
+                for(final Key key : this.byProject.get(owner)) {
+                    final Row row = this.wallets.get(key);
+                    final boolean active = key.part(2).equals(wallet.type());
+                    final Row updated = this.put(
+                        key, project, row.wallet.cash(), row.identifier, active
+                    );
+                    if(active) {
+                        activated = updated.wallet;
+                    }
+                }
+                return activated;
+            }
+        );
+    }
+
+    @Override
+    public Wallet updateCash(final Wallet wallet, final BigDecimal cash) {
+        final Project project = wallet.project();
+        final Key key = MemoryWallets.key(project, wallet.type());
+        return this.stripes.write(
+            MemoryWallets.owner(project),
+            () -> {
+                final Row row = this.wallets.get(key);
+                return this.put(
+                    key, project, cash, row.identifier, row.wallet.active()
+                ).wallet;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<Wallet> iterator() {
+        throw new UnsupportedOperationException(
+            "You cannot iterate over all wallets in Self. "
+            + "Call #ofProject(...) first."
+        );
+    }
+
+    /**
+     * Replay a record of the Journal.
+     * @param record Record.
+     */
+    void replay(final JsonObject record) {
+        final Project project = this.storage.projects().getProjectById(
+            record.getString("repo"), record.getString("provider")
+        );
+        final Row row = this.row(
+            project,
+            record.getString("type"),
+            Record.decimal(record, "cash"),
+            Record.text(record, "identifier"),
+            record.getBoolean("active")
+        );
+        final Key key = MemoryWallets.key(project, row.wallet.type());
+        this.wallets.put(key, row);
+        this.byProject.add(MemoryWallets.owner(project), key);
+    }
+
+    /**
+     * Write all the Wallets to the given Journal.
+     * @param snapshot Journal receiving the snapshot.
+     */
+    void snapshot(final Journal snapshot) {
+        this.wallets.forEach(
+            (key, row) -> snapshot.append(MemoryWallets.record(key, row))
+        );
+    }
+
+    /**
+     * Save a Wallet, replacing the previous version, if any.
+     * @param key Primary key.
+     * @param project Project.
+     * @param cash Cash limit.
+     * @param identifier Identifier.
+     * @param active Is it active?
+     * @return Saved row.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    private Row put(
+        final Key key,
+        final Project project,
+        final BigDecimal cash,
+        final String identifier,
+        final boolean active
+    ) {
+        final Row row = this.row(
+            project, key.part(2), cash, identifier, active
+        );
+        this.journal.append(MemoryWallets.record(key, row));
+        this.wallets.put(key, row);
+        this.byProject.add(MemoryWallets.owner(project), key);
+        return row;
+    }
+
+    /**
+     * Build a Wallet according to its type.
+     * @param project Project.
+     * @param type Wallet type.
+     * @param cash Cash limit.
+     * @param identifier Identifier.
+     * @param active Is it active?
+     * @return Row holding the Wallet.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    private Row row(
+        final Project project,
+        final String type,
+        final BigDecimal cash,
+        final String identifier,
+        final boolean active
+    ) {
+        final Wallet wallet;
+        if(Wallet.Type.STRIPE.equals(type)) {
+            wallet = new StripeWallet(
+                this.storage, project, cash, identifier, active
+            );
+        } else {
+            wallet = new Wallet.Missing(
+                project, cash, active, identifier, this.storage.debts()
+            );
+        }
+        return new Row(wallet, identifier);
+    }
+
+    /**
+     * Record of a Wallet.
+     * @param key Primary key.
+     * @param row Row holding the Wallet.
+     * @return JsonObject.
+     */
+    private static JsonObject record(final Key key, final Row row) {
+        return new Record("wallets", Record.PUT)
+            .with("repo", key.part(0))
+            .with("provider", key.part(1))
+            .with("type", key.part(2))
+            .with("cash", row.wallet.cash())
+            .with("identifier", row.identifier)
+            .with("active", row.wallet.active())
+            .json();
+    }
+
+    /**
+     * Key of the Project owning some Wallets.
+     * @param project Project.
+     * @return Key.
+     */
+    private static Key owner(final Project project) {
+        return new Key(project.repoFullName(), project.provider());
+    }
+
+    /**
+     * Primary key of a Wallet.
+     * @param project Project.
+     * @param type Wallet type.
+     * @return Key.
+     */
+    private static Key key(final Project project, final String type) {
+        return new Key(project.repoFullName(), project.provider(), type);
+    }
+
+    /**
+     * Stored Wallet, together with its identifier, which is not
+     * exposed by the Wallet interface.
+     */
+    private static final class Row {
+
+        /**
+         * The Wallet.
+         */
+        private final Wallet wallet;
+
+        /**
+         * Its identifier.
+         */
+        private final String identifier;
+
+        /**
+         * Ctor.
+         * @param wallet Wallet.
+         * @param identifier Identifier.
+         */
+        Row(final Wallet wallet, final String identifier) {
+            this.wallet = wallet;
+            this.identifier = identifier;
+        }
+    }
+}
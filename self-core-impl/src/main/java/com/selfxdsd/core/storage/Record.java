@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A record of the {@link Journal}: the table, the operation
+ * and the columns of the written row.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class Record {
+
+    /**
+     * Insert or replace a row.
+     */
+    static final String PUT = "put";
+
+    /**
+     * Remove a row.
+     */
+    static final String REMOVE = "remove";
+
+    /**
+     * Name of the table attribute.
+     */
+    static final String TABLE = "table";
+
+    /**
+     * Name of the operation attribute.
+     */
+    static final String OPERATION = "op";
+
+    /**
+     * Builder of the record.
+     */
+    private final JsonObjectBuilder builder;
+
+    /**
+     * Ctor.
+     * @param table Table name.
+     * @param operation Operation (put or remove).
+     */
+    Record(final String table, final String operation) {
+        this.builder = Json.createObjectBuilder()
+            .add(Record.TABLE, table)
+            .add(Record.OPERATION, operation);
+    }
+
+    /**
+     * Add a text column.
+     * @param name Column name.
+     * @param value Value, can be null.
+     * @return This record.
+     */
+    Record with(final String name, final String value) {
+        if(value == null) {
+            this.builder.addNull(name);
+        } else {
+            this.builder.add(name, value);
+        }
+        return this;
+    }
+
+    /**
+     * Add a decimal column.
+     * @param name Column name.
+     * @param value Value, can be null.
+     * @return This record.
+     */
+    Record with(final String name, final BigDecimal value) {
+        if(value == null) {
+            this.builder.addNull(name);
+        } else {
+            this.builder.add(name, value);
+        }
+        return this;
+    }
+
+    /**
+     * Add a timestamp column.
+     * @param name Column name.
+     * @param value Value, can be null.
+     * @return This record.
+     */
+    Record with(final String name, final LocalDateTime value) {
+        if(value == null) {
+            this.builder.addNull(name);
+        } else {
+            this.builder.add(name, value.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Add an integer column.
+     * @param name Column name.
+     * @param value Value.
+     * @return This record.
+     */
+    Record with(final String name, final int value) {
+        this.builder.add(name, value);
+        return this;
+    }
+
+    /**
+     * Add a boolean column.
+     * @param name Column name.
+     * @param value Value.
+     * @return This record.
+     */
+    Record with(final String name, final boolean value) {
+        this.builder.add(name, value);
+        return this;
+    }
+
+    /**
+     * The record as JSON.
+     * @return JsonObject.
+     */
+    JsonObject json() {
+        return this.builder.build();
+    }
+
+    /**
+     * Read a text column.
+     * @param record Record.
+     * @param name Column name.
+     * @return String or null.
+     */
+    static String text(final JsonObject record, final String name) {
+        final String value;
+        if(record.isNull(name)) {
+            value = null;
+        } else {
+            value = record.getString(name);
+        }
+        return value;
+    }
+
+    /**
+     * Read a decimal column.
+     * @param record Record.
+     * @param name Column name.
+     * @return BigDecimal or null.
+     */
+    static BigDecimal decimal(final JsonObject record, final String name) {
+        final BigDecimal value;
+        if(record.isNull(name)) {
+            value = null;
+        } else {
+            value = record.getJsonNumber(name).bigDecimalValue();
+        }
+        return value;
+    }
+
+    /**
+     * Read a timestamp column.
+     * @param record Record.
+     * @param name Column name.
+     * @return LocalDateTime or null.
+     */
+    static LocalDateTime time(final JsonObject record, final String name) {
+        final LocalDateTime value;
+        if(record.isNull(name)) {
+            value = null;
+        } else {
+            value = LocalDateTime.parse(record.getString(name));
+        }
+        return value;
+    }
+
+    /**
+     * Is the record of the given operation?
+     * @param record Record.
+     * @param operation Operation.
+     * @return True or false.
+     */
+    static boolean is(final JsonObject record, final String operation) {
+        return operation.equals(record.getString(Record.OPERATION));
+    }
+}
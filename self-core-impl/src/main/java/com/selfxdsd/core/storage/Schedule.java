@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Concurrent secondary index sorted by time, mapping a moment
+ * (e.g. when a Task is due) to the primary keys of the rows it refers to.
+ * Reading the keys up to some moment only touches those entries.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class Schedule {
+
+    /**
+     * The index.
+     */
+    private final ConcurrentNavigableMap<LocalDateTime, Set<Key>> entries =
+        new ConcurrentSkipListMap<>();
+
+    /**
+     * Add a primary key at the given moment.
+     * @param moment Moment.
+     * @param key Primary key.
+     */
+    void add(final LocalDateTime moment, final Key key) {
+        this.entries.compute(
+            moment,
+            (m, keys) -> {
+                final Set<Key> added;
+                if(keys == null) {
+                    added = ConcurrentHashMap.newKeySet();
+                } else {
+                    added = keys;
+                }
+                added.add(key);
+                return added;
+            }
+        );
+    }
+
+    /**
+     * Remove a primary key from the given moment.
+     * @param moment Moment.
+     * @param key Primary key.
+     */
+    void remove(final LocalDateTime moment, final Key key) {
+        this.entries.computeIfPresent(
+            moment,
+            (m, keys) -> {
+                keys.remove(key);
+                final Set<Key> left;
+                if(keys.isEmpty()) {
+                    left = null;
+                } else {
+                    left = keys;
+                }
+                return left;
+            }
+        );
+    }
+
+    /**
+     * Primary keys scheduled at or before the given moment.
+     * @param moment Moment.
+     * @return Set of keys, never null.
+     */
+    Set<Key> until(final LocalDateTime moment) {
+        return this.entries.headMap(moment, true)
+            .values()
+            .stream()
+            .flatMap(Set::stream)
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped write locks. Writes on the same key are serialized, so the
+ * "table" and its secondary indexes are always updated together, while
+ * writes on different keys usually run in parallel. Reads never lock.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class Stripes {
+
+    /**
+     * Default number of stripes.
+     */
+    private static final int DEFAULT = 64;
+
+    /**
+     * The locks.
+     */
+    private final Lock[] locks;
+
+    /**
+     * Ctor.
+     */
+    Stripes() {
+        this(Stripes.DEFAULT);
+    }
+
+    /**
+     * Ctor.
+     * @param size Number of stripes.
+     */
+    Stripes(final int size) {
+        this.locks = new Lock[size];
+        for(int idx = 0; idx < size; ++idx) {
+            this.locks[idx] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Run the given write while holding the lock of the given key.
+     * @param key Key being written.
+     * @param write Write to perform.
+     * @param <T> Type of the result.
+     * @return Result of the write.
+     */
+    <T> T write(final Object key, final Supplier<T> write) {
+        final Lock lock = this.locks[
+            Math.floorMod(key.hashCode(), this.locks.length)
+        ];
+        lock.lock();
+        try {
+            return write.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import javax.json.JsonObject;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Append-only write-ahead log with group commit. Writers only queue
+ * their records; a single flusher thread writes everything queued so
+ * far with one write and one fsync, then releases all the writers of
+ * that group. Under load, many records share the same fsync.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class WriteAheadLog implements Journal, AutoCloseable {
+
+    /**
+     * Channel of the log file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Records waiting to be written.
+     */
+    private final BlockingQueue<Pending> queue;
+
+    /**
+     * Appends hold the read lock; #exclusive(...) holds the write lock,
+     * so it runs while no record is in flight.
+     */
+    private final ReadWriteLock gate;
+
+    /**
+     * Number of records written since the log was last truncated.
+     */
+    private final AtomicLong records;
+
+    /**
+     * Is the log open? It is closed by #close() or by a failed write,
+     * after which no record is accepted anymore.
+     */
+    private final AtomicBoolean open;
+
+    /**
+     * The flusher thread.
+     */
+    private final Thread flusher;
+
+    /**
+     * Ctor.
+     * @param path Path of the log file. Records are appended at its end.
+     */
+    WriteAheadLog(final Path path) {
+        try {
+            this.channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE
+            );
+            this.channel.position(this.channel.size());
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                "Couldn't open write-ahead log " + path, ex
+            );
+        }
+        this.queue = new LinkedBlockingQueue<>();
+        this.gate = new ReentrantReadWriteLock();
+        this.records = new AtomicLong();
+        this.open = new AtomicBoolean(true);
+        this.flusher = new Thread(this::flush, "self-wal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void append(final JsonObject record) {
+        final Pending pending = new Pending(LogFile.line(record));
+        this.gate.readLock().lock();
+        try {
+            if(!this.open.get()) {
+                throw new IllegalStateException(
+                    "Write-ahead log is closed."
+                );
+            }
+            this.queue.add(pending);
+            pending.done.join();
+        } catch (final CompletionException ex) {
+            throw new IllegalStateException(
+                "Couldn't write to the write-ahead log.", ex.getCause()
+            );
+        } finally {
+            this.gate.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of records appended since the log was last truncated.
+     * @return Long.
+     */
+    long size() {
+        return this.records.get();
+    }
+
+    /**
+     * Run the given action while no record is being appended.
+     * Appends started meanwhile wait for the action to finish.
+     * @param action Action to run.
+     */
+    void exclusive(final Runnable action) {
+        this.gate.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            this.gate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Empty the log. Call it only from #exclusive(...), after the records
+     * have been saved somewhere else (e.g. in a snapshot).
+     */
+    void truncate() {
+        try {
+            this.channel.truncate(0);
+            this.channel.position(0);
+            this.channel.force(true);
+            this.records.set(0);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                "Couldn't truncate the write-ahead log.", ex
+            );
+        }
+    }
+
+    @Override
+    public void close() {
+        this.exclusive(
+            () -> {
+                this.open.set(false);
+                this.flusher.interrupt();
+            }
+        );
+        try {
+            this.flusher.join();
+            this.channel.close();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                "Couldn't close the write-ahead log.", ex
+            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                "Interrupted while closing the write-ahead log.", ex
+            );
+        }
+    }
+
+    /**
+     * Loop of the flusher thread: write and fsync the queued records
+     * in groups, until interrupted.
+     */
+    private void flush() {
+        final List<Pending> group = new ArrayList<>();
+        while(!Thread.currentThread().isInterrupted()) {
+            try {
+                group.add(this.queue.take());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            this.queue.drainTo(group);
+            if(!group.isEmpty()) {
+                this.write(group);
+                group.clear();
+            }
+        }
+    }
+
+    /**
+     * Write and fsync a group of records, then release their writers.
+     * After a failed write, the log may end with a torn record, so
+     * nothing else is written after it.
+     * @param group Records to write.
+     */
+    private void write(final List<Pending> group) {
+        if(this.open.get()) {
+            final ByteBuffer[] lines = new ByteBuffer[group.size()];
+            long left = 0;
+            for(int idx = 0; idx < lines.length; ++idx) {
+                lines[idx] = ByteBuffer.wrap(group.get(idx).line);
+                left += lines[idx].remaining();
+            }
+            try {
+                while(left > 0) {
+                    left -= this.channel.write(lines);
+                }
+                this.channel.force(false);
+                this.records.addAndGet(lines.length);
+                group.forEach(pending -> pending.done.complete(null));
+            } catch (final IOException ex) {
+                this.open.set(false);
+                WriteAheadLog.fail(group, ex);
+            }
+        } else {
+            WriteAheadLog.fail(
+                group,
+                new IOException("A previous write to the log failed.")
+            );
+        }
+    }
+
+    /**
+     * Release the writers of the given records with an error.
+     * @param group Records which were not written.
+     * @param error Error.
+     */
+    private static void fail(
+        final List<Pending> group,
+        final IOException error
+    ) {
+        group.forEach(pending -> pending.done.completeExceptionally(error));
+    }
+
+    /**
+     * A record waiting to be written.
+     */
+    private static final class Pending {
+
+        /**
+         * The encoded record.
+         */
+        private final byte[] line;
+
+        /**
+         * Completed once the record is durable.
+         */
+        private final CompletableFuture<Void> done;
+
+        /**
+         * Ctor.
+         * @param line Encoded record.
+         */
+        Pending(final byte[] line) {
+            this.line = line;
+            this.done = new CompletableFuture<>();
+        }
+    }
+}
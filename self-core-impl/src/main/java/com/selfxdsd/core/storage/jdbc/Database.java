@@ -0,0 +1,450 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Deadline;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
+
+/**
+ * The database behind {@link JdbcStorage}. It keeps a few idle
+ * Sessions (connections with their cached prepared statements) and
+ * lends them to the calling threads. All the calls made by a thread
+ * inside {@link #transaction(Supplier)} share the same Session.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class Database implements AutoCloseable {
+
+    /**
+     * Max number of idle Sessions kept open.
+     */
+    private static final int IDLE = 8;
+
+    /**
+     * Source of connections.
+     */
+    private final Connections connections;
+
+    /**
+     * Idle Sessions.
+     */
+    private final Deque<Session> idle = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Session of the current thread, if it runs a transaction.
+     */
+    private final ThreadLocal<Session> current = new ThreadLocal<>();
+
+    /**
+     * Ctor.
+     * @param connections Source of connections.
+     */
+    Database(final Connections connections) {
+        this.connections = connections;
+    }
+
+    /**
+     * Run a SELECT.
+     * @param sql SQL.
+     * @param rows Mapping of the rows.
+     * @param params Parameters.
+     * @param <T> Type of the rows.
+     * @return Mapped rows.
+     */
+    <T> List<T> select(
+        final String sql,
+        final Rows<T> rows,
+        final Object... params
+    ) {
+        return this.call(
+            sql,
+            session -> {
+                final PreparedStatement statement = session.prepare(sql);
+                Database.bind(statement, params);
+                final List<T> mapped = new ArrayList<>();
+                try (final ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        mapped.add(rows.map(result));
+                    }
+                }
+                return mapped;
+            }
+        );
+    }
+
+    /**
+     * Run a SELECT which should return at most one row.
+     * @param sql SQL.
+     * @param rows Mapping of the row.
+     * @param params Parameters.
+     * @param <T> Type of the row.
+     * @return Mapped row or null, if there is no row.
+     */
+    <T> T one(
+        final String sql,
+        final Rows<T> rows,
+        final Object... params
+    ) {
+        final List<T> found = this.select(sql, rows, params);
+        final T one;
+        if(found.isEmpty()) {
+            one = null;
+        } else {
+            one = found.get(0);
+        }
+        return one;
+    }
+
+    /**
+     * Run an UPDATE or a DELETE.
+     * @param sql SQL.
+     * @param params Parameters.
+     * @return Number of affected rows.
+     */
+    int update(final String sql, final Object... params) {
+        return this.call(
+            sql,
+            session -> {
+                final PreparedStatement statement = session.prepare(sql);
+                Database.bind(statement, params);
+                return statement.executeUpdate();
+            }
+        );
+    }
+
+    /**
+     * Run an INSERT which might violate a unique constraint.
+     * @param sql SQL.
+     * @param params Parameters.
+     * @return True if the row was inserted, false if it already existed.
+     */
+    boolean insert(final String sql, final Object... params) {
+        return this.call(
+            sql,
+            session -> {
+                final PreparedStatement statement = session.prepare(sql);
+                Database.bind(statement, params);
+                boolean inserted;
+                try {
+                    inserted = statement.executeUpdate() > 0;
+                } catch (final SQLIntegrityConstraintViolationException ex) {
+                    inserted = false;
+                }
+                return inserted;
+            }
+        );
+    }
+
+    /**
+     * Run an INSERT into a table with a generated id.
+     * @param sql SQL.
+     * @param params Parameters.
+     * @return Generated id.
+     */
+    int insertKey(final String sql, final Object... params) {
+        return this.call(
+            sql,
+            session -> {
+                final PreparedStatement statement = session.insert(sql);
+                Database.bind(statement, params);
+                statement.executeUpdate();
+                return Database.keys(statement).get(0);
+            }
+        );
+    }
+
+    /**
+     * Run the same INSERT for many rows, as a JDBC batch, in
+     * one round-trip.
+     * @param sql SQL.
+     * @param params Parameters of each row.
+     * @return Generated ids, in the order of the rows.
+     */
+    List<Integer> batch(final String sql, final List<Object[]> params) {
+        final List<Integer> keys;
+        if(params.isEmpty()) {
+            keys = new ArrayList<>();
+        } else {
+            keys = this.transaction(
+                () -> this.call(
+                    sql,
+                    session -> {
+                        final PreparedStatement statement = session
+                            .insert(sql);
+                        for(final Object[] row : params) {
+                            Database.bind(statement, row);
+                            statement.addBatch();
+                        }
+                        statement.executeBatch();
+                        return Database.keys(statement);
+                    }
+                )
+            );
+        }
+        return keys;
+    }
+
+    /**
+     * Run the same UPDATE or DELETE for many rows, as a JDBC batch, in
+     * one round-trip.
+     * @param sql SQL.
+     * @param params Parameters of each row.
+     * @return Number of affected rows.
+     */
+    int updates(final String sql, final List<Object[]> params) {
+        int affected = 0;
+        if(!params.isEmpty()) {
+            final int[] counts = this.transaction(
+                () -> this.call(
+                    sql,
+                    session -> {
+                        final PreparedStatement statement = session
+                            .prepare(sql);
+                        for(final Object[] row : params) {
+                            Database.bind(statement, row);
+                            statement.addBatch();
+                        }
+                        return statement.executeBatch();
+                    }
+                )
+            );
+            for(final int count : counts) {
+                if(count > 0) {
+                    affected = affected + count;
+                } else if(count == Statement.SUCCESS_NO_INFO) {
+                    affected = affected + 1;
+                }
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Run the given work in a transaction. All the database calls made
+     * by it use the same Session.
+     * @param work Work.
+     * @param <T> Type of the result.
+     * @return Result.
+     */
+    <T> T transaction(final Supplier<T> work) {
+        return this.call(
+            "COMMIT",
+            session -> {
+                final T result;
+                if(session.connection().getAutoCommit()) {
+                    session.connection().setAutoCommit(false);
+                    try {
+                        result = work.get();
+                        session.connection().commit();
+                    } catch (final RuntimeException | Error ex) {
+                        session.connection().rollback();
+                        throw ex;
+                    } finally {
+                        session.connection().setAutoCommit(true);
+                    }
+                } else {
+                    result = work.get();
+                }
+                return result;
+            }
+        );
+    }
+
+    @Override
+    public void close() throws SQLException {
+        Session session = this.idle.poll();
+        while (session != null) {
+            session.close();
+            session = this.idle.poll();
+        }
+    }
+
+    /**
+     * Run some work with a Session: the Session of the current
+     * transaction, if any, or an idle one. Nothing runs once the
+     * current Deadline has passed.
+     * @param sql SQL, for the error message.
+     * @param work Work.
+     * @param <T> Type of the result.
+     * @return Result.
+     */
+    private <T> T call(final String sql, final Work<T> work) {
+        Deadline.current().check();
+        final Session bound = this.current.get();
+        final T result;
+        if(bound == null) {
+            final Session session = this.borrow();
+            boolean healthy = false;
+            this.current.set(session);
+            try {
+                result = work.run(session);
+                healthy = true;
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(
+                    "Couldn't run SQL: " + sql, ex
+                );
+            } finally {
+                this.current.remove();
+                this.release(session, healthy);
+            }
+        } else {
+            try {
+                result = work.run(bound);
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(
+                    "Couldn't run SQL: " + sql, ex
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Take an idle Session or open a new one.
+     * @return Session.
+     */
+    private Session borrow() {
+        Session session = this.idle.poll();
+        if(session == null) {
+            try {
+                session = new Session(this.connections.open());
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(
+                    "Couldn't open a database connection.", ex
+                );
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Give back a Session. A Session which failed, or which is not
+     * needed anymore, is closed.
+     * @param session Session.
+     * @param healthy Did the work succeed?
+     */
+    private void release(final Session session, final boolean healthy) {
+        if(healthy && this.idle.size() < Database.IDLE) {
+            this.idle.push(session);
+        } else {
+            try {
+                session.close();
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(
+                    "Couldn't close a database connection.", ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Bind the parameters of a statement.
+     * @param statement Statement.
+     * @param params Parameters.
+     * @throws SQLException If something goes wrong.
+     */
+    private static void bind(
+        final PreparedStatement statement,
+        final Object... params
+    ) throws SQLException {
+        for(int idx = 0; idx < params.length; ++idx) {
+            final Object param = params[idx];
+            if(param == null) {
+                statement.setNull(idx + 1, Types.NULL);
+            } else if(param instanceof LocalDateTime) {
+                statement.setTimestamp(
+                    idx + 1, Timestamp.valueOf((LocalDateTime) param)
+                );
+            } else {
+                statement.setObject(idx + 1, param);
+            }
+        }
+    }
+
+    /**
+     * Read the keys generated by an INSERT.
+     * @param statement Statement.
+     * @return Generated keys.
+     * @throws SQLException If something goes wrong.
+     */
+    private static List<Integer> keys(
+        final PreparedStatement statement
+    ) throws SQLException {
+        final List<Integer> keys = new ArrayList<>();
+        try (final ResultSet generated = statement.getGeneratedKeys()) {
+            while (generated.next()) {
+                keys.add(generated.getInt(1));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Read a timestamp column.
+     * @param row Row.
+     * @param column Column label.
+     * @return LocalDateTime or null.
+     * @throws SQLException If something goes wrong.
+     */
+    static LocalDateTime time(
+        final ResultSet row,
+        final String column
+    ) throws SQLException {
+        final Timestamp timestamp = row.getTimestamp(column);
+        LocalDateTime time = null;
+        if(timestamp != null) {
+            time = timestamp.toLocalDateTime();
+        }
+        return time;
+    }
+
+    /**
+     * Work done with a Session.
+     * @param <T> Type of the result.
+     */
+    @FunctionalInterface
+    private interface Work<T> {
+
+        /**
+         * Run the work.
+         * @param session Session.
+         * @return Result.
+         * @throws SQLException If something goes wrong.
+         */
+        T run(Session session) throws SQLException;
+    }
+}
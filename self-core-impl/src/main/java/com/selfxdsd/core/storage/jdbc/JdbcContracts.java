@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contracts;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.exceptions.ContractsException;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.ContributorContracts;
+import com.selfxdsd.core.contracts.ProjectContracts;
+import com.selfxdsd.core.contracts.StoredContract;
+import com.selfxdsd.core.contributors.StoredContributor;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Contracts in a SQL database. The Contracts of a Project are read
+ * with one query and share the same Project instance.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcContracts implements Contracts {
+
+    /**
+     * Columns of a Contract.
+     */
+    private static final String COLUMNS = "SELECT repo_fullname, provider, "
+        + "username, role, hourly_rate FROM slf_contracts_xdsd";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcContracts(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public Contracts ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return new ProjectContracts(
+            repoFullName,
+            repoProvider,
+            () -> {
+                final Project project = this.storage.projects()
+                    .getProjectById(repoFullName, repoProvider);
+                return this.database.select(
+                    JdbcContracts.COLUMNS
+                    + " WHERE repo_fullname = ? AND provider = ?",
+                    row -> this.contract(project, row),
+                    repoFullName, repoProvider
+                ).stream();
+            },
+            this.storage
+        );
+    }
+
+    @Override
+    public Contracts ofContributor(final Contributor contributor) {
+        return new ContributorContracts(
+            contributor,
+            () -> this.database.select(
+                JdbcContracts.COLUMNS + " WHERE username = ? AND provider = ?",
+                this::contract,
+                contributor.username(), contributor.provider()
+            ).stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Contract addContract(
+        final String repoFullName,
+        final String contributorUsername,
+        final String provider,
+        final BigDecimal hourlyRate,
+        final String role
+    ) {
+        final Contract.Id id = new Contract.Id(
+            repoFullName, contributorUsername, provider, role
+        );
+        final Project project = this.storage.projects()
+            .getProjectById(repoFullName, provider);
+        if(project == null) {
+            throw new ContractsException.Single.Add(
+                id, "project was not found in storage."
+            );
+        }
+        final Contributor contributor = this.storage.contributors()
+            .getById(contributorUsername, provider);
+        if(contributor == null) {
+            throw new ContractsException.Single.Add(
+                id, "contributor was not found in storage."
+            );
+        }
+        final boolean inserted = this.database.insert(
+            "INSERT INTO slf_contracts_xdsd (repo_fullname, provider, "
+            + "username, role, hourly_rate) VALUES (?, ?, ?, ?, ?)",
+            repoFullName, provider, contributorUsername, role, hourlyRate
+        );
+        if(!inserted) {
+            throw new ContractsException.Single.Add(
+                id, "is already registered."
+            );
+        }
+        return new StoredContract(
+            project, contributor, hourlyRate, role, this.storage
+        );
+    }
+
+    @Override
+    public Contract findById(final Contract.Id id) {
+        return this.database.one(
+            JdbcContracts.COLUMNS + " WHERE repo_fullname = ? "
+            + "AND provider = ? AND username = ? AND role = ?",
+            this::contract,
+            id.getRepoFullName(), id.getProvider(),
+            id.getContributorUsername(), id.getRole()
+        );
+    }
+
+    @Override
+    public Contract update(
+        final Contract contract,
+        final BigDecimal hourlyRate
+    ) {
+        final Contract.Id id = contract.contractId();
+        final int updated = this.database.update(
+            "UPDATE slf_contracts_xdsd SET hourly_rate = ? "
+            + "WHERE repo_fullname = ? AND provider = ? "
+            + "AND username = ? AND role = ?",
+            hourlyRate, id.getRepoFullName(), id.getProvider(),
+            id.getContributorUsername(), id.getRole()
+        );
+        Contract result = null;
+        if(updated > 0) {
+            result = new StoredContract(id, hourlyRate, this.storage);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<Contract> iterator() {
+        return this.database.select(JdbcContracts.COLUMNS, this::contract)
+            .iterator();
+    }
+
+    /**
+     * Map a row to a Contract, whose Project and Contributor are
+     * read only when needed.
+     * @param row Row.
+     * @return Contract.
+     * @throws SQLException If something goes wrong.
+     */
+    private Contract contract(final ResultSet row) throws SQLException {
+        return new StoredContract(
+            new Contract.Id(
+                row.getString("repo_fullname"),
+                row.getString("username"),
+                row.getString("provider"),
+                row.getString("role")
+            ),
+            row.getBigDecimal("hourly_rate"),
+            this.storage
+        );
+    }
+
+    /**
+     * Map a row to a Contract of the given Project.
+     * @param project Project, already read.
+     * @param row Row.
+     * @return Contract.
+     * @throws SQLException If something goes wrong.
+     */
+    private Contract contract(
+        final Project project,
+        final ResultSet row
+    ) throws SQLException {
+        final Contract contract;
+        if(project == null) {
+            contract = this.contract(row);
+        } else {
+            contract = new StoredContract(
+                project,
+                new StoredContributor(
+                    row.getString("username"),
+                    row.getString("provider"),
+                    this.storage
+                ),
+                row.getBigDecimal("hourly_rate"),
+                row.getString("role"),
+                this.storage
+            );
+        }
+        return contract;
+    }
+}
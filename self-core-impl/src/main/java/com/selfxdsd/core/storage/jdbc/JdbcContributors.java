@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Contributors;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.exceptions.ContributorsException;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contributors.ElectionStrategy;
+import com.selfxdsd.core.contributors.ProjectContributors;
+import com.selfxdsd.core.contributors.ProviderContributors;
+import com.selfxdsd.core.contributors.RoundRobinStrategy;
+import com.selfxdsd.core.contributors.StoredContributor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Contributors in a SQL database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcContributors implements Contributors {
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Round-robin of the elections, if configured. It remembers who was
+     * chosen before, so it is kept for the whole Storage.
+     */
+    private final ElectionStrategy roundRobin;
+
+    /**
+     * Current page.
+     */
+    private final Page page;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcContributors(final Storage storage, final Database database) {
+        this(storage, database, new RoundRobinStrategy(), Page.all());
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     * @param roundRobin Round-robin of the elections.
+     * @param page Current page.
+     */
+    private JdbcContributors(
+        final Storage storage,
+        final Database database,
+        final ElectionStrategy roundRobin,
+        final Page page
+    ) {
+        this.storage = storage;
+        this.database = database;
+        this.roundRobin = roundRobin;
+        this.page = page;
+    }
+
+    @Override
+    public Contributor register(
+        final String username,
+        final String provider
+    ) {
+        final boolean inserted = this.database.insert(
+            "INSERT INTO slf_contributors_xdsd (username, provider) "
+            + "VALUES (?, ?)",
+            username, provider
+        );
+        if(!inserted) {
+            throw new ContributorsException.Single.Add(username, provider);
+        }
+        return new StoredContributor(username, provider, this.storage);
+    }
+
+    @Override
+    public Contributor getById(
+        final String username,
+        final String provider
+    ) {
+        return this.database.one(
+            "SELECT username, provider FROM slf_contributors_xdsd "
+            + "WHERE username = ? AND provider = ?",
+            this::contributor,
+            username, provider
+        );
+    }
+
+    @Override
+    public Contributors ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return new ProjectContributors(
+            this.storage.projects().getProjectById(
+                repoFullName, repoProvider
+            ),
+            () -> this.database.select(
+                "SELECT DISTINCT username, provider FROM slf_contracts_xdsd "
+                + "WHERE repo_fullname = ? AND provider = ?",
+                this::contributor,
+                repoFullName, repoProvider
+            ).stream(),
+            this.storage,
+            ProjectContributors.strategy(this.storage, this.roundRobin)
+        );
+    }
+
+    @Override
+    public Contributors ofProvider(final String provider) {
+        return new ProviderContributors(
+            provider,
+            () -> this.database.select(
+                "SELECT username, provider FROM slf_contributors_xdsd "
+                + "WHERE provider = ?",
+                this::contributor,
+                provider
+            ).stream(),
+            this.storage,
+            this.roundRobin
+        );
+    }
+
+    @Override
+    public Contributors page(final Page page) {
+        final Contributors paged = new JdbcContributors(
+            this.storage, this.database, this.roundRobin, page
+        );
+        final int total = paged.totalPages();
+        if(page.getNumber() < 1 || page.getNumber() > total) {
+            throw new IllegalStateException(
+                "Invalid page number " + page.getNumber()
+                + ". Must be between 1 and " + total
+            );
+        }
+        return paged;
+    }
+
+    @Override
+    public Page current() {
+        return this.page;
+    }
+
+    @Override
+    public int totalPages() {
+        final int records = this.database.one(
+            "SELECT COUNT(*) FROM slf_contributors_xdsd",
+            row -> row.getInt(1)
+        );
+        final int size = this.page.getSize();
+        return Math.max(1, (int) ((records + (long) size - 1) / size));
+    }
+
+    @Override
+    public Contributor elect(final Task task) {
+        throw new ContributorsException.Election();
+    }
+
+    @Override
+    public Iterator<Contributor> iterator() {
+        throw new ContributorsException.List();
+    }
+
+    /**
+     * Map a row to a Contributor.
+     * @param row Row.
+     * @return Contributor.
+     * @throws SQLException If something goes wrong.
+     */
+    private Contributor contributor(final ResultSet row) throws SQLException {
+        return new StoredContributor(
+            row.getString("username"), row.getString("provider"), this.storage
+        );
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.InvoicedTask;
+import com.selfxdsd.api.InvoicedTasks;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.Money;
+import com.selfxdsd.core.contracts.StoredContract;
+import com.selfxdsd.core.contracts.invoices.InvoiceTasks;
+import com.selfxdsd.core.contracts.invoices.StoredInvoicedTask;
+import com.selfxdsd.core.tasks.StoredTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Invoiced Tasks in a SQL database. The totals of each Invoice are kept
+ * in its row, updated in the same transaction as the registration.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcInvoicedTasks implements InvoicedTasks {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        JdbcInvoicedTasks.class
+    );
+
+    /**
+     * INSERT of an invoiced Task.
+     */
+    private static final String INSERT = "INSERT INTO slf_invoicedtasks_xdsd "
+        + "(invoice_id, repo_fullname, provider, username, role, issue_id, "
+        + "task_value, commission, assignment_date, deadline, estimation) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * UPDATE of the totals of an Invoice, when Tasks are registered.
+     */
+    private static final String ADD = "UPDATE slf_invoices_xdsd "
+        + "SET total_amount = total_amount + ?, tasks_count = tasks_count + ? "
+        + "WHERE id = ?";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcInvoicedTasks(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public InvoicedTasks ofInvoice(final Invoice invoice) {
+        return new InvoiceTasks(
+            invoice,
+            () -> this.database.select(
+                "SELECT t.id, t.invoice_id, t.repo_fullname, t.provider, "
+                + "t.username, t.role, t.issue_id, t.task_value, "
+                + "t.commission, t.assignment_date, t.deadline, "
+                + "t.estimation, c.hourly_rate "
+                + "FROM slf_invoicedtasks_xdsd t "
+                + "JOIN slf_contracts_xdsd c "
+                + "ON c.repo_fullname = t.repo_fullname "
+                + "AND c.provider = t.provider AND c.username = t.username "
+                + "AND c.role = t.role WHERE t.invoice_id = ?",
+                this::invoiced,
+                invoice.invoiceId()
+            ).stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public InvoicedTask register(
+        final Invoice invoice,
+        final Task finished,
+        final BigDecimal commission
+    ) {
+        return this.database.transaction(
+            () -> {
+                final int id = this.database.insertKey(
+                    JdbcInvoicedTasks.INSERT,
+                    JdbcInvoicedTasks.params(invoice, finished, commission)
+                );
+                final InvoicedTask registered = new StoredInvoicedTask(
+                    id, invoice.invoiceId(), finished.value(), commission,
+                    finished, this.storage
+                );
+                this.database.update(
+                    JdbcInvoicedTasks.ADD,
+                    registered.totalAmount(), 1, invoice.invoiceId()
+                );
+                return registered;
+            }
+        );
+    }
+
+    @Override
+    public List<InvoicedTask> registerAll(
+        final Invoice invoice,
+        final List<Task> finished,
+        final BigDecimal commission
+    ) {
+        final List<Object[]> rows = new ArrayList<>(finished.size());
+        for(final Task task : finished) {
+            rows.add(JdbcInvoicedTasks.params(invoice, task, commission));
+        }
+        return this.database.transaction(
+            () -> {
+                final List<Integer> ids = this.database.batch(
+                    JdbcInvoicedTasks.INSERT, rows
+                );
+                final List<InvoicedTask> registered = new ArrayList<>(
+                    ids.size()
+                );
+                Money added = Money.ZERO;
+                for(int idx = 0; idx < ids.size(); ++idx) {
+                    final Task task = finished.get(idx);
+                    final InvoicedTask invoiced = new StoredInvoicedTask(
+                        ids.get(idx), invoice.invoiceId(), task.value(),
+                        commission, task, this.storage
+                    );
+                    registered.add(invoiced);
+                    added = added.add(Money.of(invoiced.totalAmount()));
+                }
+                if(!registered.isEmpty()) {
+                    this.database.update(
+                        JdbcInvoicedTasks.ADD, added.toBigDecimal(),
+                        registered.size(), invoice.invoiceId()
+                    );
+                }
+                return registered;
+            }
+        );
+    }
+
+    @Override
+    public Invoice.Totals totals(final Invoice invoice) {
+        final Invoice.Totals kept = this.database.one(
+            "SELECT total_amount, tasks_count FROM slf_invoices_xdsd "
+            + "WHERE id = ?",
+            JdbcInvoicedTasks::totals,
+            invoice.invoiceId()
+        );
+        final Invoice.Totals totals;
+        if(kept == null) {
+            totals = Invoice.Totals.NONE;
+        } else {
+            totals = kept;
+        }
+        return totals;
+    }
+
+    @Override
+    public boolean verify(final Invoice invoice) {
+        return this.database.transaction(
+            () -> {
+                final Invoice.Totals kept = this.totals(invoice);
+                final Invoice.Totals actual = this.database.one(
+                    "SELECT COALESCE(SUM(task_value + commission), 0) "
+                    + "AS total_amount, COUNT(*) AS tasks_count "
+                    + "FROM slf_invoicedtasks_xdsd WHERE invoice_id = ?",
+                    JdbcInvoicedTasks::totals,
+                    invoice.invoiceId()
+                );
+                final boolean correct = kept.equals(actual);
+                if(!correct) {
+                    LOG.warn(
+                        "Totals of Invoice #" + invoice.invoiceId()
+                        + " were " + kept + ", should be " + actual
+                        + ". Corrected."
+                    );
+                    this.database.update(
+                        "UPDATE slf_invoices_xdsd SET total_amount = ?, "
+                        + "tasks_count = ? WHERE id = ?",
+                        actual.amount(), actual.count(), invoice.invoiceId()
+                    );
+                }
+                return correct;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<InvoicedTask> iterator() {
+        throw new UnsupportedOperationException(
+            "It is not possible to iterate over all invoiced tasks. "
+            + "Call #ofInvoice(...) first."
+        );
+    }
+
+    /**
+     * Map a row to an InvoicedTask.
+     * @param row Row.
+     * @return InvoicedTask.
+     * @throws SQLException If something goes wrong.
+     */
+    private InvoicedTask invoiced(final ResultSet row) throws SQLException {
+        return new StoredInvoicedTask(
+            row.getInt("id"),
+            row.getInt("invoice_id"),
+            row.getBigDecimal("task_value"),
+            row.getBigDecimal("commission"),
+            new StoredTask(
+                new StoredContract(
+                    new Contract.Id(
+                        row.getString("repo_fullname"),
+                        row.getString("username"),
+                        row.getString("provider"),
+                        row.getString("role")
+                    ),
+                    row.getBigDecimal("hourly_rate"),
+                    this.storage
+                ),
+                row.getString("issue_id"),
+                this.storage,
+                Database.time(row, "assignment_date"),
+                Database.time(row, "deadline"),
+                row.getInt("estimation")
+            ),
+            this.storage
+        );
+    }
+
+    /**
+     * Map a row to the Totals of an Invoice.
+     * @param row Row.
+     * @return Totals.
+     * @throws SQLException If something goes wrong.
+     */
+    private static Invoice.Totals totals(final ResultSet row)
+        throws SQLException {
+        return new Invoice.Totals(
+            row.getBigDecimal("total_amount"),
+            row.getInt("tasks_count")
+        );
+    }
+
+    /**
+     * Parameters of the INSERT of an invoiced Task.
+     * @param invoice Invoice.
+     * @param task Finished Task.
+     * @param commission Commission.
+     * @return Parameters.
+     */
+    private static Object[] params(
+        final Invoice invoice,
+        final Task task,
+        final BigDecimal commission
+    ) {
+        final Contract.Id contract = task.contract().contractId();
+        return new Object[] {
+            invoice.invoiceId(),
+            contract.getRepoFullName(),
+            contract.getProvider(),
+            contract.getContributorUsername(),
+            contract.getRole(),
+            task.issueId(),
+            task.value(),
+            commission,
+            task.assignmentDate(),
+            task.deadline(),
+            task.estimation()
+        };
+    }
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.Invoices;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.StoredContract;
+import com.selfxdsd.core.contracts.invoices.ContractInvoices;
+import com.selfxdsd.core.contracts.invoices.StoredInvoice;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+/**
+ * Invoices in a SQL database. The Invoices of a Contract are found
+ * through an index on the Contract and the payment time. The active
+ * Invoice is pointed to by its Contract's row, which is locked while
+ * it is looked up or created.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcInvoices implements Invoices {
+
+    /**
+     * Columns of an Invoice and of its Contract.
+     */
+    private static final String COLUMNS = "SELECT i.id, i.repo_fullname, "
+        + "i.provider, i.username, i.role, i.created_at, i.payment_time, "
+        + "i.transaction_id, c.hourly_rate FROM slf_invoices_xdsd i "
+        + "JOIN slf_contracts_xdsd c ON c.repo_fullname = i.repo_fullname "
+        + "AND c.provider = i.provider AND c.username = i.username "
+        + "AND c.role = i.role";
+
+    /**
+     * WHERE clause on the primary key of a Contract.
+     */
+    private static final String CONTRACT = " WHERE repo_fullname = ? "
+        + "AND provider = ? AND username = ? AND role = ?";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcInvoices(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public Invoice getById(final int id) {
+        return this.database.one(
+            JdbcInvoices.COLUMNS + " WHERE i.id = ?", this::invoice, id
+        );
+    }
+
+    @Override
+    public Invoice createNewInvoice(final Contract.Id contractId) {
+        final LocalDateTime createdAt = LocalDateTime.now();
+        final int id = this.database.insertKey(
+            "INSERT INTO slf_invoices_xdsd (repo_fullname, provider, "
+            + "username, role, created_at) VALUES (?, ?, ?, ?, ?)",
+            contractId.getRepoFullName(), contractId.getProvider(),
+            contractId.getContributorUsername(), contractId.getRole(),
+            createdAt
+        );
+        return new StoredInvoice(
+            id,
+            this.storage.contracts().findById(contractId),
+            createdAt,
+            null,
+            null,
+            this.storage
+        );
+    }
+
+    @Override
+    public Invoice active() {
+        throw new UnsupportedOperationException(
+            "It's not possible to get an active Invoice here. "
+            + "Call Invoices.ofContract(...) first."
+        );
+    }
+
+    @Override
+    public Invoice activeOf(final Contract.Id contractId) {
+        final Object[] key = {
+            contractId.getRepoFullName(), contractId.getProvider(),
+            contractId.getContributorUsername(), contractId.getRole()
+        };
+        return this.database.transaction(
+            () -> {
+                final Integer pointer = this.database.one(
+                    "SELECT active_invoice FROM slf_contracts_xdsd"
+                    + JdbcInvoices.CONTRACT + " FOR UPDATE",
+                    row -> row.getObject("active_invoice", Integer.class),
+                    key
+                );
+                Invoice active = null;
+                if(pointer != null) {
+                    active = this.getById(pointer);
+                }
+                if(active == null || active.isPaid()) {
+                    active = this.database.one(
+                        JdbcInvoices.COLUMNS + " WHERE i.repo_fullname = ? "
+                        + "AND i.provider = ? AND i.username = ? "
+                        + "AND i.role = ? AND i.payment_time IS NULL "
+                        + "ORDER BY i.created_at LIMIT 1",
+                        this::invoice,
+                        key
+                    );
+                    if(active == null) {
+                        active = this.createNewInvoice(contractId);
+                    }
+                    this.database.update(
+                        "UPDATE slf_contracts_xdsd SET active_invoice = ?"
+                        + JdbcInvoices.CONTRACT,
+                        active.invoiceId(), contractId.getRepoFullName(),
+                        contractId.getProvider(),
+                        contractId.getContributorUsername(),
+                        contractId.getRole()
+                    );
+                }
+                return active;
+            }
+        );
+    }
+
+    @Override
+    public Invoices ofContract(final Contract.Id id) {
+        return new ContractInvoices(
+            id,
+            () -> this.database.select(
+                JdbcInvoices.COLUMNS + " WHERE i.repo_fullname = ? "
+                + "AND i.provider = ? AND i.username = ? AND i.role = ?",
+                this::invoice,
+                id.getRepoFullName(), id.getProvider(),
+                id.getContributorUsername(), id.getRole()
+            ).stream(),
+            () -> this.activeOf(id),
+            this.storage
+        );
+    }
+
+    @Override
+    public boolean registerAsPaid(final Invoice invoice) {
+        return this.database.update(
+            "UPDATE slf_invoices_xdsd SET payment_time = ?, "
+            + "transaction_id = ? WHERE id = ?",
+            invoice.paymentTime(), invoice.transactionId(),
+            invoice.invoiceId()
+        ) > 0;
+    }
+
+    @Override
+    public Iterator<Invoice> iterator() {
+        throw new UnsupportedOperationException(
+            "It's not possible to see all the invoices in Self. "
+            + "Add a filter first (e.g. Invoices.ofContract(...)."
+        );
+    }
+
+    /**
+     * Map a row to an Invoice.
+     * @param row Row.
+     * @return Invoice.
+     * @throws SQLException If something goes wrong.
+     */
+    private Invoice invoice(final ResultSet row) throws SQLException {
+        return new StoredInvoice(
+            row.getInt("id"),
+            new StoredContract(
+                new Contract.Id(
+                    row.getString("repo_fullname"),
+                    row.getString("username"),
+                    row.getString("provider"),
+                    row.getString("role")
+                ),
+                row.getBigDecimal("hourly_rate"),
+                this.storage
+            ),
+            Database.time(row, "created_at"),
+            Database.time(row, "payment_time"),
+            row.getString("transaction_id"),
+            this.storage
+        );
+    }
+}
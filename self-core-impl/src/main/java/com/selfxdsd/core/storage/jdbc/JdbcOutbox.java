@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Outbox in a SQL database. The Messages are written with the
+ * same Session as the other tables, so {@link #together(Supplier)}
+ * commits the changes and their Messages in one transaction.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcOutbox implements Outbox {
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param database Database.
+     */
+    JdbcOutbox(final Database database) {
+        this.database = database;
+    }
+
+    @Override
+    public void send(final Issue issue, final Message message) {
+        this.database.insert(
+            "INSERT INTO slf_outbox_xdsd (repo_fullname, provider, issue_id, "
+            + "type, argument, digest, attempts, due) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            issue.repoFullName(),
+            issue.provider(),
+            issue.issueId(),
+            message.type(),
+            message.argument(),
+            JdbcOutbox.digest(message.argument()),
+            0,
+            LocalDateTime.now()
+        );
+    }
+
+    @Override
+    public <T> T together(final Supplier<T> work) {
+        return this.database.transaction(work);
+    }
+
+    @Override
+    public List<Pending> due(final LocalDateTime moment, final int limit) {
+        return this.database.select(
+            "SELECT id, repo_fullname, provider, issue_id, type, argument, "
+            + "attempts FROM slf_outbox_xdsd o WHERE due <= ? "
+            + "AND NOT EXISTS (SELECT 1 FROM slf_outbox_xdsd e "
+            + "WHERE e.repo_fullname = o.repo_fullname "
+            + "AND e.provider = o.provider AND e.issue_id = o.issue_id "
+            + "AND e.id < o.id AND e.due > ?) ORDER BY id LIMIT ?",
+            JdbcOutbox::pending,
+            moment, moment, limit
+        );
+    }
+
+    /**
+     * Claim a due Message by moving its due time to the end of the
+     * claim. The update is conditional, so only one of the couriers
+     * (threads or processes) claiming the Message changes the row.
+     * @param pending Pending message.
+     * @param until When the claim expires.
+     * @return True if the Message was claimed.
+     */
+    @Override
+    public boolean claim(final Pending pending, final LocalDateTime until) {
+        return this.database.update(
+            "UPDATE slf_outbox_xdsd SET due = ? WHERE id = ? "
+            + "AND attempts = ? AND due <= ?",
+            until, (int) pending.id(), pending.attempts(), LocalDateTime.now()
+        ) == 1;
+    }
+
+    @Override
+    public void sent(final Pending pending) {
+        this.database.update(
+            "DELETE FROM slf_outbox_xdsd WHERE id = ?",
+            (int) pending.id()
+        );
+    }
+
+    @Override
+    public void retry(final Pending pending, final LocalDateTime next) {
+        this.database.update(
+            "UPDATE slf_outbox_xdsd SET attempts = ?, due = ? WHERE id = ?",
+            pending.attempts() + 1, next, (int) pending.id()
+        );
+    }
+
+    /**
+     * Map a row to a Pending message.
+     * @param row Row.
+     * @return Pending.
+     * @throws SQLException If something goes wrong.
+     */
+    private static Pending pending(final ResultSet row) throws SQLException {
+        return new Pending(
+            row.getInt("id"),
+            row.getString("repo_fullname"),
+            row.getString("provider"),
+            row.getString("issue_id"),
+            new Message(row.getString("type"), row.getString("argument")),
+            row.getInt("attempts")
+        );
+    }
+
+    /**
+     * Digest of a Message's argument, so the unique key of the
+     * table can hold long comments.
+     * @param argument Argument.
+     * @return Hex SHA-256.
+     */
+    private static String digest(final String argument) {
+        try {
+            final StringBuilder hex = new StringBuilder();
+            for(final byte octet : MessageDigest.getInstance("SHA-256")
+                .digest(argument.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", octet));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available.", ex);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.PaymentMethod;
+import com.selfxdsd.api.PaymentMethods;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Wallet;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.projects.StoredPaymentMethod;
+import com.selfxdsd.core.projects.WalletPaymentMethods;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Payment Methods in a SQL database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcPaymentMethods implements PaymentMethods {
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcPaymentMethods(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public PaymentMethod register(
+        final Wallet wallet,
+        final String identifier
+    ) {
+        final Project project = wallet.project();
+        this.database.update(
+            "INSERT INTO slf_paymentmethods_xdsd (repo_fullname, provider, "
+            + "type, identifier, active) VALUES (?, ?, ?, ?, ?)",
+            project.repoFullName(), project.provider(), wallet.type(),
+            identifier, Boolean.FALSE
+        );
+        return new StoredPaymentMethod(this.storage, identifier, wallet, false);
+    }
+
+    @Override
+    public boolean remove(final PaymentMethod paymentMethod) {
+        final Wallet wallet = paymentMethod.wallet();
+        final Project project = wallet.project();
+        return this.database.update(
+            "DELETE FROM slf_paymentmethods_xdsd WHERE repo_fullname = ? "
+            + "AND provider = ? AND type = ? AND identifier = ?",
+            project.repoFullName(), project.provider(), wallet.type(),
+            paymentMethod.identifier()
+        ) > 0;
+    }
+
+    @Override
+    public PaymentMethods ofWallet(final Wallet wallet) {
+        return new WalletPaymentMethods(
+            wallet, () -> this.select(wallet).stream(), this.storage
+        );
+    }
+
+    @Override
+    public PaymentMethod active() {
+        throw new UnsupportedOperationException(
+            "You cannot get the active PaymentMethod "
+            + "out of all PaymentMethods in Self. "
+            + "Call #ofWallet(...) first."
+        );
+    }
+
+    @Override
+    public PaymentMethod activate(final PaymentMethod paymentMethod) {
+        final Wallet wallet = paymentMethod.wallet();
+        final Project project = wallet.project();
+        return this.database.transaction(
+            () -> {
+                this.database.update(
+                    "UPDATE slf_paymentmethods_xdsd SET active = "
+                    + "(identifier = ?) WHERE repo_fullname = ? "
+                    + "AND provider = ? AND type = ?",
+                    paymentMethod.identifier(), project.repoFullName(),
+                    project.provider(), wallet.type()
+                );
+                PaymentMethod activated = null;
+                for(final PaymentMethod method : this.select(wallet)) {
+                    if(method.active()) {
+                        activated = method;
+                    }
+                }
+                return activated;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<PaymentMethod> iterator() {
+        throw new UnsupportedOperationException(
+            "You cannot iterate over all PaymentMethods in Self. "
+            + "Call #ofWallet(...) first."
+        );
+    }
+
+    /**
+     * Select the PaymentMethods of a Wallet.
+     * @param wallet Wallet.
+     * @return List of PaymentMethods.
+     */
+    private List<PaymentMethod> select(final Wallet wallet) {
+        final Project project = wallet.project();
+        return this.database.select(
+            "SELECT identifier, active FROM slf_paymentmethods_xdsd "
+            + "WHERE repo_fullname = ? AND provider = ? AND type = ?",
+            row -> new StoredPaymentMethod(
+                this.storage,
+                row.getString("identifier"),
+                wallet,
+                row.getBoolean("active")
+            ),
+            project.repoFullName(), project.provider(), wallet.type()
+        );
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.PayoutMethod;
+import com.selfxdsd.api.PayoutMethods;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contributors.ContributorPayoutMethods;
+import com.selfxdsd.core.contributors.StripePayoutMethod;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Payout Methods in a SQL database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcPayoutMethods implements PayoutMethods {
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcPayoutMethods(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public PayoutMethod register(
+        final Contributor contributor,
+        final String type,
+        final String identifier
+    ) {
+        this.database.update(
+            "INSERT INTO slf_payoutmethods_xdsd (username, provider, type, "
+            + "identifier, active) VALUES (?, ?, ?, ?, ?)",
+            contributor.username(), contributor.provider(), type,
+            identifier, Boolean.FALSE
+        );
+        return new StripePayoutMethod(contributor, identifier, false);
+    }
+
+    @Override
+    public PayoutMethods ofContributor(final Contributor contributor) {
+        return new ContributorPayoutMethods(
+            contributor, this.select(contributor), this.storage
+        );
+    }
+
+    @Override
+    public PayoutMethod active() {
+        throw new UnsupportedOperationException(
+            "You cannot get the active PayoutMethod "
+            + "out of all PayoutMethods in Self. "
+            + "Call #ofContributor(...) first."
+        );
+    }
+
+    @Override
+    public PayoutMethod activate(final PayoutMethod payoutMethod) {
+        final Contributor contributor = payoutMethod.contributor();
+        return this.database.transaction(
+            () -> {
+                this.database.update(
+                    "UPDATE slf_payoutmethods_xdsd SET active = "
+                    + "(identifier = ?) WHERE username = ? AND provider = ?",
+                    payoutMethod.identifier(), contributor.username(),
+                    contributor.provider()
+                );
+                PayoutMethod activated = null;
+                for(final PayoutMethod method : this.select(contributor)) {
+                    if(method.active()) {
+                        activated = method;
+                    }
+                }
+                return activated;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<PayoutMethod> iterator() {
+        throw new UnsupportedOperationException(
+            "You cannot iterate over all PayoutMethods in Self. "
+            + "Call #ofContributor(...) first."
+        );
+    }
+
+    /**
+     * Select the PayoutMethods of a Contributor.
+     * @param contributor Contributor.
+     * @return List of PayoutMethods.
+     */
+    private List<PayoutMethod> select(final Contributor contributor) {
+        return this.database.select(
+            "SELECT identifier, active FROM slf_payoutmethods_xdsd "
+            + "WHERE username = ? AND provider = ?",
+            row -> new StripePayoutMethod(
+                contributor,
+                row.getString("identifier"),
+                row.getBoolean("active")
+            ),
+            contributor.username(), contributor.provider()
+        );
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Comment;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.PostedComments;
+
+/**
+ * Index of the posted comments in a SQL database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcPostedComments implements PostedComments {
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param database Database.
+     */
+    JdbcPostedComments(final Database database) {
+        this.database = database;
+    }
+
+    @Override
+    public boolean indexed(final Issue issue) {
+        return this.database.one(
+            "SELECT 1 FROM slf_postedcomments_xdsd WHERE repo_fullname = ? "
+            + "AND provider = ? AND issue_id = ? LIMIT 1",
+            row -> Boolean.TRUE,
+            issue.repoFullName(), issue.provider(), issue.issueId()
+        ) != null;
+    }
+
+    @Override
+    public Comment find(final Issue issue, final String body) {
+        return this.database.one(
+            "SELECT comment_id, author FROM slf_postedcomments_xdsd "
+            + "WHERE repo_fullname = ? AND provider = ? AND issue_id = ? "
+            + "AND digest = ?",
+            row -> new PostedComments.Indexed(
+                row.getString("comment_id"), row.getString("author"), body
+            ),
+            issue.repoFullName(), issue.provider(), issue.issueId(),
+            new PostedComments.Digest(body).hex()
+        );
+    }
+
+    @Override
+    public void add(final Issue issue, final Comment comment) {
+        this.database.insert(
+            "INSERT INTO slf_postedcomments_xdsd (repo_fullname, provider, "
+            + "issue_id, digest, comment_id, author) "
+            + "VALUES (?, ?, ?, ?, ?, ?)",
+            issue.repoFullName(),
+            issue.provider(),
+            issue.issueId(),
+            new PostedComments.Digest(comment.body()).hex(),
+            comment.commentId(),
+            comment.author()
+        );
+    }
+}
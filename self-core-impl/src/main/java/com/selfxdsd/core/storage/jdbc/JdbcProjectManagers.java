@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.ProjectManagers;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.managers.StoredProjectManager;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Project Managers in a SQL database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcProjectManagers implements ProjectManagers {
+
+    /**
+     * Columns of a PM.
+     */
+    private static final String COLUMNS = "SELECT id, user_id, username, "
+        + "provider, access_token, commission FROM slf_pms_xdsd";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcProjectManagers(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public ProjectManager getById(final int id) {
+        return this.database.one(
+            JdbcProjectManagers.COLUMNS + " WHERE id = ?",
+            this::manager,
+            id
+        );
+    }
+
+    @Override
+    public ProjectManager getByUsername(
+        final String username,
+        final String provider
+    ) {
+        return this.database.one(
+            JdbcProjectManagers.COLUMNS
+            + " WHERE LOWER(username) = ? AND LOWER(provider) = ?",
+            this::manager,
+            username.toLowerCase(Locale.ENGLISH),
+            provider.toLowerCase(Locale.ENGLISH)
+        );
+    }
+
+    @Override
+    public ProjectManager pick(final String provider) {
+        return this.database.one(
+            JdbcProjectManagers.COLUMNS
+            + " WHERE provider = ? ORDER BY id LIMIT 1",
+            this::manager,
+            provider
+        );
+    }
+
+    @Override
+    public ProjectManager register(
+        final String userId,
+        final String username,
+        final String provider,
+        final String accessToken,
+        final BigDecimal commission
+    ) {
+        final int id = this.database.insertKey(
+            "INSERT INTO slf_pms_xdsd (user_id, username, provider, "
+            + "access_token, commission) VALUES (?, ?, ?, ?, ?)",
+            userId, username, provider, accessToken, commission
+        );
+        final ProjectManager manager = new StoredProjectManager(
+            id, userId, username, provider, accessToken, commission,
+            this.storage
+        );
+        return manager;
+    }
+
+    @Override
+    public Iterator<ProjectManager> iterator() {
+        return this.database.select(
+            JdbcProjectManagers.COLUMNS + " ORDER BY id", this::manager
+        ).iterator();
+    }
+
+    /**
+     * Map a row to a PM.
+     * @param row Row.
+     * @return ProjectManager.
+     * @throws SQLException If something goes wrong.
+     */
+    private ProjectManager manager(final ResultSet row) throws SQLException {
+        return new StoredProjectManager(
+            row.getInt("id"),
+            row.getString("user_id"),
+            row.getString("username"),
+            row.getString("provider"),
+            row.getString("access_token"),
+            row.getBigDecimal("commission"),
+            this.storage
+        );
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.Projects;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.exceptions.ProjectsException;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.StoredUser;
+import com.selfxdsd.core.managers.StoredProjectManager;
+import com.selfxdsd.core.projects.PmProjects;
+import com.selfxdsd.core.projects.StoredProject;
+import com.selfxdsd.core.projects.UserProjects;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Projects in a SQL database. A Project is read together with its
+ * owner and its PM, in one query.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcProjects implements Projects {
+
+    /**
+     * Columns of a Project, its owner and its PM.
+     */
+    private static final String COLUMNS = "SELECT p.repo_fullname, "
+        + "p.provider, p.username, p.webhook_token, u.email, u.role, "
+        + "m.id, m.user_id, m.username AS pm_username, "
+        + "m.provider AS pm_provider, m.access_token, m.commission "
+        + "FROM slf_projects_xdsd p "
+        + "JOIN slf_pms_xdsd m ON m.id = p.pm_id "
+        + "LEFT JOIN slf_users_xdsd u "
+        + "ON u.username = p.username AND u.provider = p.provider";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Current page.
+     */
+    private final Page page;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcProjects(final Storage storage, final Database database) {
+        this(storage, database, new Page(1, 10));
+    }
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     * @param page Current page.
+     */
+    private JdbcProjects(
+        final Storage storage,
+        final Database database,
+        final Page page
+    ) {
+        this.storage = storage;
+        this.database = database;
+        this.page = page;
+    }
+
+    @Override
+    public Project register(
+        final Repo repo,
+        final ProjectManager manager,
+        final String webHookToken
+    ) {
+        if(manager == null
+            || this.storage.projectManagers().getById(manager.id()) == null) {
+            throw new ProjectsException.Single.Add(
+                repo.fullName(),
+                repo.provider(),
+                "PM is missing or not registered!"
+            );
+        }
+        final User owner = repo.owner();
+        final boolean inserted = this.database.insert(
+            "INSERT INTO slf_projects_xdsd (repo_fullname, provider, "
+            + "username, webhook_token, pm_id) VALUES (?, ?, ?, ?, ?)",
+            repo.fullName(), repo.provider(), owner.username(),
+            webHookToken, manager.id()
+        );
+        if(!inserted) {
+            throw new ProjectsException.Single.Add(
+                repo.fullName(),
+                repo.provider(),
+                "already exists."
+            );
+        }
+        return new StoredProject(
+            owner, repo.fullName(), webHookToken, manager, this.storage
+        );
+    }
+
+    @Override
+    public Projects assignedTo(final int projectManagerId) {
+        return new PmProjects(
+            projectManagerId,
+            () -> this.database.select(
+                JdbcProjects.COLUMNS + " WHERE p.pm_id = ?",
+                this::project,
+                projectManagerId
+            ).stream()
+        );
+    }
+
+    @Override
+    public Projects ownedBy(final User user) {
+        return new UserProjects(
+            user,
+            () -> this.database.select(
+                JdbcProjects.COLUMNS
+                + " WHERE p.username = ? AND p.provider = ?",
+                this::project,
+                user.username(), user.provider().name()
+            ).stream()
+        );
+    }
+
+    @Override
+    public Project getProjectById(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return this.database.one(
+            JdbcProjects.COLUMNS
+            + " WHERE p.repo_fullname = ? AND p.provider = ?",
+            this::project,
+            repoFullName, repoProvider
+        );
+    }
+
+    @Override
+    public Projects page(final Page page) {
+        final Projects paged = new JdbcProjects(
+            this.storage, this.database, page
+        );
+        final int total = paged.totalPages();
+        if(page.getNumber() < 1 || page.getNumber() > total) {
+            throw new IllegalStateException(
+                "Invalid page number " + page.getNumber()
+                + ". Must be between 1 and " + total
+            );
+        }
+        return paged;
+    }
+
+    @Override
+    public Page current() {
+        return this.page;
+    }
+
+    @Override
+    public int totalPages() {
+        final int records = this.database.one(
+            "SELECT COUNT(*) FROM slf_projects_xdsd",
+            row -> row.getInt(1)
+        );
+        final int size = this.page.getSize();
+        return Math.max(1, (int) ((records + (long) size - 1) / size));
+    }
+
+    @Override
+    public Iterator<Project> iterator() {
+        return this.database.select(
+            JdbcProjects.COLUMNS
+            + " ORDER BY p.repo_fullname, p.provider LIMIT ? OFFSET ?",
+            this::project,
+            this.page.getSize(),
+            (long) (this.page.getNumber() - 1) * this.page.getSize()
+        ).iterator();
+    }
+
+    /**
+     * Map a row to a Project.
+     * @param row Row.
+     * @return Project.
+     * @throws SQLException If something goes wrong.
+     */
+    private Project project(final ResultSet row) throws SQLException {
+        final String provider = row.getString("provider");
+        return new StoredProject(
+            new StoredUser(
+                row.getString("username"),
+                row.getString("email"),
+                row.getString("role"),
+                provider,
+                this.storage
+            ),
+            row.getString("repo_fullname"),
+            row.getString("webhook_token"),
+            new StoredProjectManager(
+                row.getInt("id"),
+                row.getString("user_id"),
+                row.getString("pm_username"),
+                row.getString("pm_provider"),
+                row.getString("access_token"),
+                row.getBigDecimal("commission"),
+                this.storage
+            ),
+            this.storage
+        );
+    }
+}
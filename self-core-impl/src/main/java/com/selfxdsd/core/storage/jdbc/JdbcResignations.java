@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Resignation;
+import com.selfxdsd.api.Resignations;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contributors.StoredContributor;
+import com.selfxdsd.core.tasks.StoredResignation;
+import com.selfxdsd.core.tasks.StoredTask;
+import com.selfxdsd.core.tasks.TaskResignations;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Resignations in a SQL database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcResignations implements Resignations {
+
+    /**
+     * INSERT of a Resignation.
+     */
+    private static final String INSERT = "INSERT INTO slf_resignations_xdsd "
+        + "(repo_fullname, provider, issue_id, username, role, estimation, "
+        + "resigned_at, reason) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcResignations(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public Resignations ofTask(final Task task) {
+        final Project project = task.project();
+        return new TaskResignations(
+            task,
+            () -> this.database.select(
+                "SELECT issue_id, username, provider, role, estimation, "
+                + "resigned_at, reason FROM slf_resignations_xdsd "
+                + "WHERE repo_fullname = ? AND provider = ? AND issue_id = ?",
+                row -> this.resignation(project, row),
+                project.repoFullName(), project.provider(), task.issueId()
+            ).stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Resignation register(final Task task, final String reason) {
+        final LocalDateTime timestamp = LocalDateTime.now();
+        this.database.update(
+            JdbcResignations.INSERT,
+            JdbcResignations.params(task, timestamp, reason)
+        );
+        return this.resignation(task, timestamp, reason);
+    }
+
+    @Override
+    public List<Resignation> registerAll(
+        final List<Task> tasks,
+        final String reason
+    ) {
+        final LocalDateTime timestamp = LocalDateTime.now();
+        final List<Object[]> rows = new ArrayList<>(tasks.size());
+        for(final Task task : tasks) {
+            rows.add(JdbcResignations.params(task, timestamp, reason));
+        }
+        this.database.batch(JdbcResignations.INSERT, rows);
+        final List<Resignation> registered = new ArrayList<>(tasks.size());
+        for(final Task task : tasks) {
+            registered.add(this.resignation(task, timestamp, reason));
+        }
+        return registered;
+    }
+
+    @Override
+    public Iterator<Resignation> iterator() {
+        throw new UnsupportedOperationException(
+            "You cannot iterate over all Resignations in Self."
+        );
+    }
+
+    /**
+     * Resignation from the given Task.
+     * @param task Task.
+     * @param timestamp Timestamp.
+     * @param reason Reason.
+     * @return Resignation.
+     */
+    private Resignation resignation(
+        final Task task,
+        final LocalDateTime timestamp,
+        final String reason
+    ) {
+        return new StoredResignation(
+            new StoredTask(
+                task.project(),
+                task.issueId(),
+                task.role(),
+                task.estimation(),
+                this.storage
+            ),
+            task.assignee(),
+            timestamp,
+            reason
+        );
+    }
+
+    /**
+     * Map a row to a Resignation.
+     * @param project Project of the Task.
+     * @param row Row.
+     * @return Resignation.
+     * @throws SQLException If something goes wrong.
+     */
+    private Resignation resignation(
+        final Project project,
+        final ResultSet row
+    ) throws SQLException {
+        return new StoredResignation(
+            new StoredTask(
+                project,
+                row.getString("issue_id"),
+                row.getString("role"),
+                row.getInt("estimation"),
+                this.storage
+            ),
+            new StoredContributor(
+                row.getString("username"),
+                row.getString("provider"),
+                this.storage
+            ),
+            Database.time(row, "resigned_at"),
+            row.getString("reason")
+        );
+    }
+
+    /**
+     * Parameters of the INSERT of a Resignation.
+     * @param task Task.
+     * @param timestamp Timestamp.
+     * @param reason Reason.
+     * @return Parameters.
+     */
+    private static Object[] params(
+        final Task task,
+        final LocalDateTime timestamp,
+        final String reason
+    ) {
+        final Contributor assignee = task.assignee();
+        if(assignee == null) {
+            throw new IllegalStateException(
+                "Can't resign from an unassigned Task."
+            );
+        }
+        final Project project = task.project();
+        return new Object[] {
+            project.repoFullName(),
+            project.provider(),
+            task.issueId(),
+            assignee.username(),
+            task.role(),
+            task.estimation(),
+            timestamp,
+            reason
+        };
+    }
+}
@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contracts;
+import com.selfxdsd.api.Contributors;
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.InvoicedTasks;
+import com.selfxdsd.api.Invoices;
+import com.selfxdsd.api.Outbox;
+import com.selfxdsd.api.PaymentMethods;
+import com.selfxdsd.api.PayoutMethods;
+import com.selfxdsd.api.PostedComments;
+import com.selfxdsd.api.ProjectManagers;
+import com.selfxdsd.api.Projects;
+import com.selfxdsd.api.Resignations;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.Users;
+import com.selfxdsd.api.Wallets;
+import com.selfxdsd.api.Workloads;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.ledger.CountedTasks;
+import com.selfxdsd.core.ledger.Counters;
+import com.selfxdsd.core.ledger.Ledger;
+import com.selfxdsd.core.ledger.LedgerContracts;
+import com.selfxdsd.core.ledger.LedgerInvoicedTasks;
+import com.selfxdsd.core.ledger.LedgerInvoices;
+import com.selfxdsd.core.ledger.LedgerTasks;
+import com.selfxdsd.core.managers.CachedProjectManagers;
+import com.selfxdsd.core.Env;
+
+import javax.sql.DataSource;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Self Storage in a SQL database, over plain JDBC. The connections
+ * come from {@link Connections}, which is the hook for a connection
+ * pool; by default they are opened with the DriverManager, using the
+ * {@link Env#DB_URL}, {@link Env#DB_USER} and {@link Env#DB_PASSWORD}
+ * env variables.<br><br>
+ * The connections are kept open together with their prepared statements,
+ * so a statement is prepared only once per connection. Use
+ * {@link #transaction(Supplier)} to run many reads and writes
+ * (e.g. a sweep over a Project) on the same connection.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcStorage implements Storage {
+
+    /**
+     * How long a kept debt is trusted, since other processes may
+     * write to the same database.
+     */
+    private static final Duration DEBTS_LIFETIME = Duration.ofMinutes(1);
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Debts of the Projects.
+     */
+    private final Ledger ledger;
+
+    /**
+     * Workloads of the Contributors.
+     */
+    private final Counters counters;
+
+    /**
+     * Users.
+     */
+    private final Users users;
+
+    /**
+     * Project managers.
+     */
+    private final ProjectManagers managers;
+
+    /**
+     * Projects.
+     */
+    private final Projects projects;
+
+    /**
+     * Wallets.
+     */
+    private final Wallets wallets;
+
+    /**
+     * Contracts.
+     */
+    private final Contracts contracts;
+
+    /**
+     * Invoices.
+     */
+    private final Invoices invoices;
+
+    /**
+     * Invoiced tasks.
+     */
+    private final InvoicedTasks invoiced;
+
+    /**
+     * Contributors.
+     */
+    private final Contributors contributors;
+
+    /**
+     * Tasks.
+     */
+    private final Tasks tasks;
+
+    /**
+     * Resignations.
+     */
+    private final Resignations resignations;
+
+    /**
+     * Payout methods.
+     */
+    private final PayoutMethods payouts;
+
+    /**
+     * Payment methods.
+     */
+    private final PaymentMethods payments;
+
+    /**
+     * Messages waiting to be sent to the Provider.
+     */
+    private final Outbox outbox;
+
+    /**
+     * Comments posted on the Providers' Issues.
+     */
+    private final PostedComments posted;
+
+    /**
+     * Ctor. The connections are opened with the DriverManager,
+     * according to the env variables.
+     */
+    public JdbcStorage() {
+        this(
+            () -> DriverManager.getConnection(
+                System.getenv(Env.DB_URL),
+                System.getenv(Env.DB_USER),
+                System.getenv(Env.DB_PASSWORD)
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param source DataSource (e.g. a connection pool).
+     */
+    public JdbcStorage(final DataSource source) {
+        this(source::getConnection);
+    }
+
+    /**
+     * Ctor.
+     * @param connections Source of connections.
+     */
+    public JdbcStorage(final Connections connections) {
+        this.database = new Database(connections);
+        this.ledger = new Ledger(JdbcStorage.DEBTS_LIFETIME);
+        this.counters = new Counters(new Workloads.Counted(this));
+        this.users = new JdbcUsers(this, this.database);
+        this.managers = new CachedProjectManagers(
+            new JdbcProjectManagers(this, this.database)
+        );
+        this.projects = new JdbcProjects(this, this.database);
+        this.wallets = new JdbcWallets(this, this.database);
+        this.contracts = new LedgerContracts(
+            new JdbcContracts(this, this.database), this.ledger
+        );
+        this.invoices = new LedgerInvoices(
+            new JdbcInvoices(this, this.database), this.ledger
+        );
+        this.invoiced = new LedgerInvoicedTasks(
+            new JdbcInvoicedTasks(this, this.database), this.ledger
+        );
+        this.contributors = new JdbcContributors(this, this.database);
+        this.tasks = new CountedTasks(
+            new LedgerTasks(new JdbcTasks(this, this.database), this.ledger),
+            this.counters
+        );
+        this.resignations = new JdbcResignations(this, this.database);
+        this.payouts = new JdbcPayoutMethods(this, this.database);
+        this.payments = new JdbcPaymentMethods(this, this.database);
+        this.outbox = new JdbcOutbox(this.database);
+        this.posted = new JdbcPostedComments(this.database);
+    }
+
+    @Override
+    public Users users() {
+        return this.users;
+    }
+
+    @Override
+    public ProjectManagers projectManagers() {
+        return this.managers;
+    }
+
+    @Override
+    public Projects projects() {
+        return this.projects;
+    }
+
+    @Override
+    public Wallets wallets() {
+        return this.wallets;
+    }
+
+    @Override
+    public Contracts contracts() {
+        return this.contracts;
+    }
+
+    @Override
+    public Invoices invoices() {
+        return this.invoices;
+    }
+
+    @Override
+    public InvoicedTasks invoicedTasks() {
+        return this.invoiced;
+    }
+
+    @Override
+    public Contributors contributors() {
+        return this.contributors;
+    }
+
+    @Override
+    public Tasks tasks() {
+        return this.tasks;
+    }
+
+    @Override
+    public Resignations resignations() {
+        return this.resignations;
+    }
+
+    @Override
+    public PayoutMethods payoutMethods() {
+        return this.payouts;
+    }
+
+    @Override
+    public PaymentMethods paymentMethods() {
+        return this.payments;
+    }
+
+    @Override
+    public Debts debts() {
+        return this.ledger;
+    }
+
+    @Override
+    public Workloads workloads() {
+        return this.counters;
+    }
+
+    @Override
+    public Outbox outbox() {
+        return this.outbox;
+    }
+
+    @Override
+    public PostedComments postedComments() {
+        return this.posted;
+    }
+
+    /**
+     * Run the given work in a transaction, on a single connection.
+     * The debts it changes are updated only after the commit, and
+     * forgotten if it is rolled back.
+     * @param work Work, which uses this Storage.
+     * @param <T> Type of the result.
+     * @return Result.
+     */
+    public <T> T transaction(final Supplier<T> work) {
+        return this.ledger.transaction(
+            () -> this.database.transaction(work)
+        );
+    }
+
+    /**
+     * Close the idle connections.
+     * @throws SQLException If a connection cannot be closed.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.database.close();
+    }
+}
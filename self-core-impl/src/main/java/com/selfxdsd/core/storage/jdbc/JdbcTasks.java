@@ -0,0 +1,385 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.exceptions.ProjectsException;
+import com.selfxdsd.api.exceptions.TasksException;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.StoredContract;
+import com.selfxdsd.core.contributors.StoredContributor;
+import com.selfxdsd.core.tasks.ContractTasks;
+import com.selfxdsd.core.tasks.ContributorTasks;
+import com.selfxdsd.core.tasks.Due;
+import com.selfxdsd.core.tasks.DueTasks;
+import com.selfxdsd.core.tasks.ProjectTasks;
+import com.selfxdsd.core.tasks.StoredTask;
+import com.selfxdsd.core.tasks.UnassignedTasks;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tasks in a SQL database. A Task is read together with its Contract
+ * and the Tasks of one query share the Project instances, so reading
+ * all the Tasks of a Project takes two queries, no matter how many
+ * Tasks there are.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcTasks implements Tasks {
+
+    /**
+     * Columns of a Task and of its Contract.
+     */
+    private static final String COLUMNS = "SELECT t.repo_fullname, "
+        + "t.provider, t.issue_id, t.role, t.estimation, t.username, "
+        + "t.assignment_date, t.deadline, t.reminded_at, t.reminders, "
+        + "c.hourly_rate "
+        + "FROM slf_tasks_xdsd t LEFT JOIN slf_contracts_xdsd c "
+        + "ON c.repo_fullname = t.repo_fullname AND c.provider = t.provider "
+        + "AND c.username = t.username AND c.role = t.role";
+
+    /**
+     * DELETE of a Task.
+     */
+    private static final String DELETE = "DELETE FROM slf_tasks_xdsd "
+        + "WHERE repo_fullname = ? AND provider = ? AND issue_id = ?";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcTasks(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public Task getById(
+        final String issueId,
+        final String repoFullName,
+        final String provider
+    ) {
+        final List<Task> found = this.select(
+            " WHERE t.repo_fullname = ? AND t.provider = ? AND t.issue_id = ?",
+            repoFullName, provider, issueId
+        );
+        Task task = null;
+        if(!found.isEmpty()) {
+            task = found.get(0);
+        }
+        return task;
+    }
+
+    @Override
+    public Task register(final Issue issue) {
+        final Project project = this.storage.projects().getProjectById(
+            issue.repoFullName(), issue.provider()
+        );
+        if(project == null) {
+            throw new ProjectsException.Single.NotFound(
+                issue.repoFullName(),
+                issue.provider()
+            );
+        }
+        final boolean inserted = this.database.insert(
+            "INSERT INTO slf_tasks_xdsd (repo_fullname, provider, issue_id, "
+            + "role, estimation) VALUES (?, ?, ?, ?, ?)",
+            issue.repoFullName(), issue.provider(), issue.issueId(),
+            issue.role(), issue.estimation()
+        );
+        if(!inserted) {
+            throw new TasksException.Single.Add(
+                issue.issueId(), "Task is already registered."
+            );
+        }
+        return new StoredTask(
+            project,
+            issue.issueId(),
+            issue.role(),
+            issue.estimation(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Task assign(
+        final Task task,
+        final Contract contract,
+        final int days
+    ) {
+        final Project project = task.project();
+        final LocalDateTime assignmentDate = LocalDateTime.now();
+        final LocalDateTime deadline = assignmentDate.plusDays(days);
+        this.database.update(
+            "UPDATE slf_tasks_xdsd SET username = ?, assignment_date = ?, "
+            + "deadline = ?, due_date = ?, reminded_at = NULL, "
+            + "reminders = 0 WHERE repo_fullname = ? "
+            + "AND provider = ? AND issue_id = ?",
+            contract.contractId().getContributorUsername(),
+            assignmentDate, deadline,
+            new Due(assignmentDate, deadline).next(),
+            project.repoFullName(), project.provider(), task.issueId()
+        );
+        return new StoredTask(
+            contract,
+            task.issueId(),
+            this.storage,
+            assignmentDate,
+            deadline,
+            task.estimation()
+        );
+    }
+
+    @Override
+    public Task unassign(final Task task) {
+        final Project project = task.project();
+        this.database.update(
+            "UPDATE slf_tasks_xdsd SET username = NULL, "
+            + "assignment_date = NULL, deadline = NULL, due_date = NULL, "
+            + "reminded_at = NULL, reminders = 0 WHERE repo_fullname = ? "
+            + "AND provider = ? AND issue_id = ?",
+            project.repoFullName(), project.provider(), task.issueId()
+        );
+        return new StoredTask(
+            project,
+            task.issueId(),
+            task.role(),
+            task.estimation(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        final Project project = task.project();
+        final int reminders = task.reminders() + 1;
+        this.database.update(
+            "UPDATE slf_tasks_xdsd SET reminded_at = ?, reminders = ?, "
+            + "due_date = ? WHERE repo_fullname = ? AND provider = ? "
+            + "AND issue_id = ?",
+            moment, reminders,
+            new Due(task.assignmentDate(), task.deadline(), reminders).next(),
+            project.repoFullName(), project.provider(), task.issueId()
+        );
+        return new StoredTask(
+            task.contract(),
+            task.issueId(),
+            this.storage,
+            task.assignmentDate(),
+            task.deadline(),
+            task.estimation(),
+            moment,
+            reminders
+        );
+    }
+
+    @Override
+    public Tasks ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return new ProjectTasks(
+            repoFullName,
+            repoProvider,
+            () -> this.select(
+                " WHERE t.repo_fullname = ? AND t.provider = ?",
+                repoFullName, repoProvider
+            ).stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks ofContributor(
+        final String username,
+        final String provider
+    ) {
+        return new ContributorTasks(
+            username,
+            provider,
+            () -> this.select(
+                " WHERE t.username = ? AND t.provider = ?",
+                username, provider
+            ).stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks ofContract(final Contract.Id id) {
+        return new ContractTasks(
+            id,
+            () -> this.select(
+                " WHERE t.username = ? AND t.provider = ? "
+                + "AND t.repo_fullname = ? AND t.role = ?",
+                id.getContributorUsername(), id.getProvider(),
+                id.getRepoFullName(), id.getRole()
+            ).stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks unassigned() {
+        return new UnassignedTasks(
+            () -> this.select(" WHERE t.username IS NULL").stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return new DueTasks(
+            () -> this.select(" WHERE t.due_date <= ?", moment).stream(),
+            this.storage
+        );
+    }
+
+    @Override
+    public boolean remove(final Task task) {
+        final Project project = task.project();
+        return this.database.update(
+            JdbcTasks.DELETE,
+            project.repoFullName(), project.provider(), task.issueId()
+        ) > 0;
+    }
+
+    @Override
+    public int removeAll(final List<Task> tasks) {
+        final List<Object[]> rows = new ArrayList<>(tasks.size());
+        for(final Task task : tasks) {
+            final Project project = task.project();
+            rows.add(
+                new Object[] {
+                    project.repoFullName(), project.provider(), task.issueId()
+                }
+            );
+        }
+        return this.database.updates(JdbcTasks.DELETE, rows);
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return this.select("").iterator();
+    }
+
+    /**
+     * Select Tasks. Each Project is read once per call, not once
+     * per Task.
+     * @param where WHERE clause.
+     * @param params Parameters.
+     * @return List of Tasks.
+     */
+    private List<Task> select(final String where, final Object... params) {
+        final Map<List<String>, Project> projects = new HashMap<>();
+        return this.database.select(
+            JdbcTasks.COLUMNS + where,
+            row -> this.task(row, projects),
+            params
+        );
+    }
+
+    /**
+     * Map a row to a Task.
+     * @param row Row.
+     * @param projects Projects read so far.
+     * @return Task.
+     * @throws SQLException If something goes wrong.
+     */
+    private Task task(
+        final ResultSet row,
+        final Map<List<String>, Project> projects
+    ) throws SQLException {
+        final String repo = row.getString("repo_fullname");
+        final String provider = row.getString("provider");
+        final String username = row.getString("username");
+        final Project project = projects.computeIfAbsent(
+            List.of(repo, provider),
+            key -> this.storage.projects().getProjectById(repo, provider)
+        );
+        final Task task;
+        if(username == null) {
+            task = new StoredTask(
+                project,
+                row.getString("issue_id"),
+                row.getString("role"),
+                row.getInt("estimation"),
+                this.storage
+            );
+        } else {
+            final Contract contract;
+            if(project == null) {
+                contract = new StoredContract(
+                    new Contract.Id(
+                        repo, username, provider, row.getString("role")
+                    ),
+                    row.getBigDecimal("hourly_rate"),
+                    this.storage
+                );
+            } else {
+                contract = new StoredContract(
+                    project,
+                    new StoredContributor(username, provider, this.storage),
+                    row.getBigDecimal("hourly_rate"),
+                    row.getString("role"),
+                    this.storage
+                );
+            }
+            task = new StoredTask(
+                contract,
+                row.getString("issue_id"),
+                this.storage,
+                Database.time(row, "assignment_date"),
+                Database.time(row, "deadline"),
+                row.getInt("estimation"),
+                Database.time(row, "reminded_at"),
+                row.getInt("reminders")
+            );
+        }
+        return task;
+    }
+}
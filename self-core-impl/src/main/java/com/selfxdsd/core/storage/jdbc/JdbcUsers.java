@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.Users;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.StoredUser;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Users in a SQL database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcUsers implements Users {
+
+    /**
+     * Columns of a User.
+     */
+    private static final String COLUMNS =
+        "SELECT username, provider, email, role FROM slf_users_xdsd";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcUsers(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public User signUp(
+        final String username,
+        final String provider,
+        final String email,
+        final String role
+    ) {
+        User user = this.user(username, provider);
+        if(user == null) {
+            this.database.insert(
+                "INSERT INTO slf_users_xdsd (username, provider, email, role)"
+                + " VALUES (?, ?, ?, ?)",
+                username, provider, email, role
+            );
+            user = this.user(username, provider);
+        }
+        return user;
+    }
+
+    @Override
+    public User user(final String username, final String provider) {
+        return this.database.one(
+            JdbcUsers.COLUMNS + " WHERE username = ? AND provider = ?",
+            this::user,
+            username, provider
+        );
+    }
+
+    @Override
+    public Iterator<User> iterator() {
+        return this.database.select(JdbcUsers.COLUMNS, this::user)
+            .iterator();
+    }
+
+    /**
+     * Map a row to a User.
+     * @param row Row.
+     * @return User.
+     * @throws SQLException If something goes wrong.
+     */
+    private User user(final ResultSet row) throws SQLException {
+        return new StoredUser(
+            row.getString("username"),
+            row.getString("email"),
+            row.getString("role"),
+            row.getString("provider"),
+            this.storage
+        );
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Wallet;
+import com.selfxdsd.api.Wallets;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.projects.ProjectWallets;
+import com.selfxdsd.core.projects.StripeWallet;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Wallets in a SQL database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcWallets implements Wallets {
+
+    /**
+     * Columns of a Wallet.
+     */
+    private static final String COLUMNS = "SELECT type, cash, identifier, "
+        + "active FROM slf_wallets_xdsd "
+        + "WHERE repo_fullname = ? AND provider = ?";
+
+    /**
+     * Parent storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Database.
+     */
+    private final Database database;
+
+    /**
+     * Ctor.
+     * @param storage Parent storage.
+     * @param database Database.
+     */
+    JdbcWallets(final Storage storage, final Database database) {
+        this.storage = storage;
+        this.database = database;
+    }
+
+    @Override
+    public Wallet register(
+        final Project project,
+        final String type,
+        final BigDecimal cash,
+        final String identifier
+    ) {
+        this.database.update(
+            "INSERT INTO slf_wallets_xdsd (repo_fullname, provider, type, "
+            + "cash, identifier, active) VALUES (?, ?, ?, ?, ?, ?)",
+            project.repoFullName(), project.provider(), type, cash,
+            identifier, Boolean.FALSE
+        );
+        return this.wallet(project, type, cash, identifier, false);
+    }
+
+    @Override
+    public Wallets ofProject(final Project project) {
+        return new ProjectWallets(
+            project, this.select(project), this.storage
+        );
+    }
+
+    @Override
+    public Wallet active() {
+        throw new UnsupportedOperationException(
+            "You cannot get the active wallet out of all wallets in Self. "
+            + "Call #ofProject(...) first."
+        );
+    }
+
+    @Override
+    public Wallet activate(final Wallet wallet) {
+        final Project project = wallet.project();
+        return this.database.transaction(
+            () -> {
+                this.database.update(
+                    "UPDATE slf_wallets_xdsd SET active = (type = ?) "
+                    + "WHERE repo_fullname = ? AND provider = ?",
+                    wallet.type(), project.repoFullName(), project.provider()
+                );
+                Wallet activated = null;
+                for(final Wallet candidate : this.select(project)) {
+                    if(candidate.active()) {
+                        activated = candidate;
+                    }
+                }
+                return activated;
+            }
+        );
+    }
+
+    @Override
+    public Wallet updateCash(final Wallet wallet, final BigDecimal cash) {
+        final Project project = wallet.project();
+        final String type = wallet.type();
+        return this.database.transaction(
+            () -> {
+                this.database.update(
+                    "UPDATE slf_wallets_xdsd SET cash = ? "
+                    + "WHERE repo_fullname = ? AND provider = ? AND type = ?",
+                    cash, project.repoFullName(), project.provider(), type
+                );
+                Wallet updated = null;
+                for(final Wallet candidate : this.select(project)) {
+                    if(candidate.type().equals(type)) {
+                        updated = candidate;
+                    }
+                }
+                return updated;
+            }
+        );
+    }
+
+    @Override
+    public Iterator<Wallet> iterator() {
+        throw new UnsupportedOperationException(
+            "You cannot iterate over all wallets in Self. "
+            + "Call #ofProject(...) first."
+        );
+    }
+
+    /**
+     * Select the Wallets of a Project.
+     * @param project Project.
+     * @return List of Wallets.
+     */
+    private List<Wallet> select(final Project project) {
+        return this.database.select(
+            JdbcWallets.COLUMNS,
+            row -> this.wallet(project, row),
+            project.repoFullName(), project.provider()
+        );
+    }
+
+    /**
+     * Map a row to a Wallet.
+     * @param project Project.
+     * @param row Row.
+     * @return Wallet.
+     * @throws SQLException If something goes wrong.
+     */
+    private Wallet wallet(
+        final Project project,
+        final ResultSet row
+    ) throws SQLException {
+        return this.wallet(
+            project,
+            row.getString("type"),
+            row.getBigDecimal("cash"),
+            row.getString("identifier"),
+            row.getBoolean("active")
+        );
+    }
+
+    /**
+     * Build a Wallet according to its type.
+     * @param project Project.
+     * @param type Wallet type.
+     * @param cash Cash limit.
+     * @param identifier Identifier.
+     * @param active Is it active?
+     * @return Wallet.
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    private Wallet wallet(
+        final Project project,
+        final String type,
+        final BigDecimal cash,
+        final String identifier,
+        final boolean active
+    ) {
+        final Wallet wallet;
+        if(Wallet.Type.STRIPE.equals(type)) {
+            wallet = new StripeWallet(
+                this.storage, project, cash, identifier, active
+            );
+        } else {
+            wallet = new Wallet.Missing(
+                project, cash, active, identifier, this.storage.debts()
+            );
+        }
+        return wallet;
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Schema of {@link JdbcStorage}: the tables and the indexes of the
+ * common lookups. The script (schema.sql) is idempotent and is
+ * meant for embedded databases (e.g. H2); a standalone database
+ * should have its schema managed by migrations.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Schema {
+
+    /**
+     * Source of connections.
+     */
+    private final Connections connections;
+
+    /**
+     * Ctor.
+     * @param connections Source of connections.
+     */
+    public Schema(final Connections connections) {
+        this.connections = connections;
+    }
+
+    /**
+     * Create the tables and indexes which do not exist yet.
+     */
+    public void create() {
+        try (
+            final Connection connection = this.connections.open();
+            final Statement statement = connection.createStatement()
+        ) {
+            for(final String sql : Schema.statements()) {
+                statement.execute(sql);
+            }
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(
+                "Couldn't create the database schema.", ex
+            );
+        }
+    }
+
+    /**
+     * Read the statements of schema.sql.
+     * @return List of statements.
+     */
+    private static List<String> statements() {
+        final String script;
+        try (
+            final InputStream input = Schema.class.getResourceAsStream(
+                "schema.sql"
+            )
+        ) {
+            script = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                "Couldn't read schema.sql.", ex
+            );
+        }
+        final List<String> statements = new ArrayList<>();
+        final StringBuilder current = new StringBuilder();
+        for(final String line : script.split("\n")) {
+            if(!line.trim().startsWith("--")) {
+                current.append(line).append('\n');
+            }
+            if(line.trim().endsWith(";")) {
+                final String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        return statements;
+    }
+}
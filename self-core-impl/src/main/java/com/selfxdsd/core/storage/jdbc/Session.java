@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Deadline;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An open Connection, together with the statements prepared on it.
+ * The statements are cached by SQL (LRU), so a statement is prepared
+ * once and then reused for as long as the Connection lives.<br><br>
+ * A Session is used by one thread at a time, it is not thread-safe.
+ * The statements time out by the current Deadline of the thread.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class Session implements AutoCloseable {
+
+    /**
+     * Max number of cached statements.
+     */
+    static final int CACHED = 64;
+
+    /**
+     * Longest query timeout, when there is a Deadline.
+     */
+    private static final Duration LONGEST = Duration.ofHours(1);
+
+    /**
+     * The Connection.
+     */
+    private final Connection connection;
+
+    /**
+     * Cached statements, by SQL, in access order.
+     */
+    private final Map<String, PreparedStatement> statements =
+        new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Cached statements which return the generated keys, by SQL.
+     */
+    private final Map<String, PreparedStatement> inserts =
+        new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Ctor.
+     * @param connection Connection.
+     */
+    Session(final Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Get the prepared statement of the given SQL.
+     * @param sql SQL.
+     * @return PreparedStatement.
+     * @throws SQLException If the statement cannot be prepared.
+     */
+    PreparedStatement prepare(final String sql) throws SQLException {
+        PreparedStatement statement = this.statements.get(sql);
+        if(statement == null) {
+            Session.evict(this.statements);
+            statement = this.connection.prepareStatement(sql);
+            this.statements.put(sql, statement);
+        }
+        statement.setQueryTimeout(Session.timeout());
+        return statement;
+    }
+
+    /**
+     * Get the prepared statement of the given INSERT, which returns
+     * the generated keys.
+     * @param sql SQL.
+     * @return PreparedStatement.
+     * @throws SQLException If the statement cannot be prepared.
+     */
+    PreparedStatement insert(final String sql) throws SQLException {
+        PreparedStatement statement = this.inserts.get(sql);
+        if(statement == null) {
+            Session.evict(this.inserts);
+            statement = this.connection.prepareStatement(
+                sql, Statement.RETURN_GENERATED_KEYS
+            );
+            this.inserts.put(sql, statement);
+        }
+        statement.setQueryTimeout(Session.timeout());
+        return statement;
+    }
+
+    /**
+     * Number of cached statements.
+     * @return Integer.
+     */
+    int cached() {
+        return this.statements.size() + this.inserts.size();
+    }
+
+    /**
+     * The Connection.
+     * @return Connection.
+     */
+    Connection connection() {
+        return this.connection;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            for(final PreparedStatement statement : this.statements.values()) {
+                statement.close();
+            }
+            for(final PreparedStatement statement : this.inserts.values()) {
+                statement.close();
+            }
+        } finally {
+            this.statements.clear();
+            this.inserts.clear();
+            this.connection.close();
+        }
+    }
+
+    /**
+     * Query timeout in seconds, by the current Deadline.
+     * @return Seconds, at least 1, or 0 if there is no Deadline.
+     */
+    private static int timeout() {
+        final Deadline deadline = Deadline.current();
+        final int seconds;
+        if(deadline.bounded()) {
+            final long millis = deadline.remaining(Session.LONGEST).toMillis();
+            seconds = (int) Math.max(1L, (millis + 999L) / 1000L);
+        } else {
+            seconds = 0;
+        }
+        return seconds;
+    }
+
+    /**
+     * Close the least recently used statement, if the cache is full.
+     * @param cache Cache.
+     * @throws SQLException If the statement cannot be closed.
+     */
+    private static void evict(
+        final Map<String, PreparedStatement> cache
+    ) throws SQLException {
+        if(cache.size() >= Session.CACHED) {
+            final Iterator<PreparedStatement> eldest = cache.values()
+                .iterator();
+            final PreparedStatement statement = eldest.next();
+            eldest.remove();
+            statement.close();
+        }
+    }
+}
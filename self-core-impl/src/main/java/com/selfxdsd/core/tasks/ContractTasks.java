@@ -7,6 +7,7 @@ import com.selfxdsd.api.Tasks;
 import com.selfxdsd.api.exceptions.TasksException;
 import com.selfxdsd.api.storage.Storage;
 
+import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -111,6 +112,13 @@ public final class ContractTasks implements Tasks {
             + " contract, no unassigned tasks here.");
     }
 
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return this.storage.tasks().dueBefore(moment).ofContract(
+            this.contractId
+        );
+    }
+
     @Override
     public boolean remove(final Task task) {
         boolean contains = this.getById(
@@ -168,4 +176,9 @@ public final class ContractTasks implements Tasks {
         }
         return this.storage.tasks().unassign(task);
     }
+
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        return this.storage.tasks().remind(task, moment);
+    }
 }
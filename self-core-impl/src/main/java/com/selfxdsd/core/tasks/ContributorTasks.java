@@ -7,6 +7,7 @@ import com.selfxdsd.api.Tasks;
 import com.selfxdsd.api.exceptions.TasksException;
 import com.selfxdsd.api.storage.Storage;
 
+import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -97,6 +98,11 @@ public final class ContributorTasks implements Tasks {
         return this.storage.tasks().unassign(task);
     }
 
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        return this.storage.tasks().remind(task, moment);
+    }
+
     @Override
     public Tasks ofProject(final String repoFullName,
                            final String repoProvider) {
@@ -140,6 +146,13 @@ public final class ContributorTasks implements Tasks {
         );
     }
 
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return this.storage.tasks().dueBefore(moment).ofContributor(
+            this.username, this.provider
+        );
+    }
+
     @Override
     public boolean remove(final Task task) {
         boolean contains = this.getById(
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.tasks;
+
+import com.selfxdsd.api.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * When an assigned Task needs attention: the schedule of the deadline
+ * notifications. The contributor is reminded of the deadline once less
+ * than half of the allotted days are left; that is the only reminder
+ * tier, each sent once. After it, the Task needs attention again only
+ * at the deadline. The next moment is never after the deadline, so it
+ * is enough to index the Tasks by it.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class Due {
+
+    /**
+     * Number of reminder tiers.
+     */
+    private static final int TIERS = 1;
+
+    /**
+     * Assignment date.
+     */
+    private final LocalDateTime assignment;
+
+    /**
+     * Deadline.
+     */
+    private final LocalDateTime deadline;
+
+    /**
+     * Reminders sent so far.
+     */
+    private final int reminders;
+
+    /**
+     * Ctor.
+     * @param task Task.
+     */
+    public Due(final Task task) {
+        this(task.assignmentDate(), task.deadline(), task.reminders());
+    }
+
+    /**
+     * Ctor.
+     * @param assignment Assignment date, null if the Task is unassigned.
+     * @param deadline Deadline, null if the Task is unassigned.
+     */
+    public Due(final LocalDateTime assignment, final LocalDateTime deadline) {
+        this(assignment, deadline, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param assignment Assignment date, null if the Task is unassigned.
+     * @param deadline Deadline, null if the Task is unassigned.
+     * @param reminders Reminders sent so far.
+     */
+    public Due(
+        final LocalDateTime assignment,
+        final LocalDateTime deadline,
+        final int reminders
+    ) {
+        this.assignment = assignment;
+        this.deadline = deadline;
+        this.reminders = reminders;
+    }
+
+    /**
+     * The reminder time: the start of the day from which no more than
+     * half of the allotted days are left.
+     * @return LocalDateTime or null, if the Task is unassigned.
+     */
+    public LocalDateTime reminder() {
+        final LocalDateTime reminder;
+        if(this.assignment == null || this.deadline == null) {
+            reminder = null;
+        } else {
+            final LocalDate last = this.deadline.toLocalDate();
+            final long days = ChronoUnit.DAYS.between(
+                this.assignment.toLocalDate(), last
+            );
+            reminder = last.minusDays(days / 2).atStartOfDay();
+        }
+        return reminder;
+    }
+
+    /**
+     * The next moment when the Task needs attention: the reminder time,
+     * while there are reminders left to send, the deadline otherwise.
+     * @return LocalDateTime or null, if the Task is unassigned.
+     */
+    public LocalDateTime next() {
+        final LocalDateTime next;
+        if(this.reminders < Due.TIERS) {
+            next = this.reminder();
+        } else {
+            next = this.deadline;
+        }
+        return next;
+    }
+
+    /**
+     * Does the Task need attention by the given moment?
+     * @param moment Moment.
+     * @return True or false. Always false if the Task is unassigned.
+     */
+    public boolean before(final LocalDateTime moment) {
+        final LocalDateTime next = this.next();
+        return next != null && !next.isAfter(moment);
+    }
+
+    /**
+     * Should the contributor be reminded of the deadline now? Only if
+     * a reminder tier was reached and not sent yet, and the deadline
+     * was not missed.
+     * @param now Current time.
+     * @return True or false. Always false if the Task is unassigned.
+     */
+    public boolean remind(final LocalDateTime now) {
+        final LocalDateTime reminder = this.reminder();
+        return this.reminders < Due.TIERS
+            && reminder != null && !reminder.isAfter(now)
+            && !this.missed(now);
+    }
+
+    /**
+     * Was the deadline missed?
+     * @param now Current time.
+     * @return True or false. Always false if the Task is unassigned.
+     */
+    public boolean missed(final LocalDateTime now) {
+        return this.deadline != null
+            && now.until(this.deadline, ChronoUnit.MINUTES) < 0;
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.tasks;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.storage.Storage;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Assigned Tasks which need attention by some moment. This class
+ * <b>just represents</b> the tasks. The actual filtering has to be
+ * done in an upper layer.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class DueTasks implements Tasks {
+
+    /**
+     * The due tasks.
+     */
+    private final Supplier<Stream<Task>> tasks;
+
+    /**
+     * Self storage.
+     */
+    private final Storage storage;
+
+    /**
+     * Ctor.
+     * @param tasks Due tasks.
+     * @param storage Storage.
+     */
+    public DueTasks(
+        final Supplier<Stream<Task>> tasks,
+        final Storage storage
+    ) {
+        this.tasks = tasks;
+        this.storage = storage;
+    }
+
+    @Override
+    public Task getById(
+        final String issueId,
+        final String repoFullName,
+        final String provider
+    ) {
+        return this.tasks.get()
+            .filter(t -> t.issueId().equals(issueId)
+                && t.project().repoFullName().equals(repoFullName)
+                && t.project().provider().equals(provider))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Override
+    public Task register(final Issue issue) {
+        return this.storage.tasks().register(issue);
+    }
+
+    @Override
+    public Task assign(
+        final Task task,
+        final Contract contract,
+        final int days
+    ) {
+        return this.storage.tasks().assign(task, contract, days);
+    }
+
+    @Override
+    public Task unassign(final Task task) {
+        return this.storage.tasks().unassign(task);
+    }
+
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        return this.storage.tasks().remind(task, moment);
+    }
+
+    @Override
+    public Tasks ofProject(
+        final String repoFullName,
+        final String repoProvider
+    ) {
+        return new DueTasks(
+            () -> this.tasks.get()
+                .filter(t -> t.project().repoFullName().equals(repoFullName)
+                    && t.project().provider().equals(repoProvider)),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks ofContributor(
+        final String username,
+        final String provider
+    ) {
+        return new DueTasks(
+            () -> this.tasks.get()
+                .filter(t -> t.assignee() != null
+                    && t.assignee().username().equals(username)
+                    && t.assignee().provider().equals(provider)),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks ofContract(final Contract.Id id) {
+        return new DueTasks(
+            () -> this.tasks.get()
+                .filter(t -> t.contract().contractId().equals(id)),
+            this.storage
+        );
+    }
+
+    @Override
+    public Tasks unassigned() {
+        return new UnassignedTasks(Stream::empty, this.storage);
+    }
+
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return new DueTasks(
+            () -> this.tasks.get().filter(t -> new Due(t).before(moment)),
+            this.storage
+        );
+    }
+
+    @Override
+    public boolean remove(final Task task) {
+        return this.storage.tasks().remove(task);
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        return this.tasks.get().iterator();
+    }
+}
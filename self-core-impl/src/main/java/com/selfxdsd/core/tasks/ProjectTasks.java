@@ -29,6 +29,7 @@ import com.selfxdsd.api.Tasks;
 import com.selfxdsd.api.exceptions.TasksException;
 import com.selfxdsd.api.storage.Storage;
 
+import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -131,6 +132,11 @@ public final class ProjectTasks implements Tasks {
         return this.storage.tasks().unassign(task);
     }
 
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        return this.storage.tasks().remind(task, moment);
+    }
+
     @Override
     public Tasks ofProject(
         final String repoFullName,
@@ -173,6 +179,13 @@ public final class ProjectTasks implements Tasks {
         return new UnassignedTasks(unassigned, storage);
     }
 
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return this.storage.tasks().dueBefore(moment).ofProject(
+            this.repoFullName, this.provider
+        );
+    }
+
     @Override
     public boolean remove(final Task task) {
         boolean contains = this.getById(
@@ -25,6 +25,8 @@ package com.selfxdsd.core.tasks;
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.exceptions.TasksException;
 import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.Identities;
+import com.selfxdsd.core.Money;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -39,6 +41,18 @@ import java.util.Objects;
  */
 public final class StoredTask implements Task {
 
+    /**
+     * Minutes in an hour.
+     */
+    private static final long HOUR = 60;
+
+    /**
+     * Digits of a whole hourly rate which Money multiplies by any
+     * estimation without overflow. Larger rates are computed with
+     * BigDecimal.
+     */
+    private static final int DIGITS = 7;
+
     /**
      * Contract to which this task belongs.
      */
@@ -64,6 +78,16 @@ public final class StoredTask implements Task {
      */
     private final int estimation;
 
+    /**
+     * When the assignee was last reminded of the deadline.
+     */
+    private final LocalDateTime reminded;
+
+    /**
+     * Number of reminders sent to the assignee.
+     */
+    private final int reminders;
+
     /**
      * Self Storage.
      */
@@ -85,7 +109,7 @@ public final class StoredTask implements Task {
         final Storage storage
     ) {
         this(
-            new Unassigned(project, role),
+            new Unassigned(project, Identities.name(role)),
             issueId,
             storage,
             null,
@@ -110,6 +134,35 @@ public final class StoredTask implements Task {
         final LocalDateTime assignmentDate,
         final LocalDateTime deadline,
         final int estimation
+    ) {
+        this(
+            contract, issueId, storage, assignmentDate, deadline, estimation,
+            null, 0
+        );
+    }
+
+    /**
+     * Constructor for an assigned task whose assignee was reminded
+     * of the deadline.
+     * @param contract Contract to which this task is assigned.
+     * @param issueId Id of the Issue that this task represents.
+     * @param storage Storage.
+     * @param assignmentDate Timestamp when this task has been assigned.
+     * @param deadline Deadline by when this task should be finished.
+     * @param estimation Estimation in minutes.
+     * @param reminded When the assignee was last reminded, can be null.
+     * @param reminders Number of reminders sent to the assignee.
+     * @checkstyle ParameterNumber (15 lines)
+     */
+    public StoredTask(
+        final Contract contract,
+        final String issueId,
+        final Storage storage,
+        final LocalDateTime assignmentDate,
+        final LocalDateTime deadline,
+        final int estimation,
+        final LocalDateTime reminded,
+        final int reminders
     ) {
         this.contract = contract;
         this.issueId = issueId;
@@ -117,6 +170,8 @@ public final class StoredTask implements Task {
         this.assignmentDate = assignmentDate;
         this.deadline = deadline;
         this.estimation = estimation;
+        this.reminded = reminded;
+        this.reminders = reminders;
     }
 
     @Override
@@ -213,14 +268,33 @@ public final class StoredTask implements Task {
         return this.deadline;
     }
 
+    @Override
+    public LocalDateTime reminded() {
+        return this.reminded;
+    }
+
+    @Override
+    public int reminders() {
+        return this.reminders;
+    }
+
     @Override
     public BigDecimal value() {
-        return this.contract.hourlyRate().multiply(
-            BigDecimal.valueOf(this.estimation)
-        ).divide(
-            BigDecimal.valueOf(60),
-            RoundingMode.HALF_UP
-        );
+        final BigDecimal rate = this.contract.hourlyRate();
+        final BigDecimal value;
+        if(rate.scale() == 0 && rate.precision() <= StoredTask.DIGITS) {
+            value = BigDecimal.valueOf(
+                Money.of(rate.longValue())
+                    .multiply(this.estimation)
+                    .whole(StoredTask.HOUR, RoundingMode.HALF_UP)
+            );
+        } else {
+            value = rate.multiply(BigDecimal.valueOf(this.estimation))
+                .divide(
+                    BigDecimal.valueOf(StoredTask.HOUR), 0, RoundingMode.HALF_UP
+                );
+        }
+        return value;
     }
 
     @Override
@@ -230,24 +304,67 @@ public final class StoredTask implements Task {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.issueId,
-            this.contract.project().repoFullName(),
-            this.contract.project().provider());
+        return Objects.hash(this.issueId, this.repo(), this.provider());
     }
 
+    /**
+     * Tasks are equal if they are about the same Issue. Only the locally
+     * held keys of a StoredTask are compared, so it can be used in hash
+     * based collections without calling the provider or the Storage.
+     * @param obj Other object.
+     * @return True or false.
+     */
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
             return true;
         }
+        if (obj instanceof StoredTask) {
+            final StoredTask other = (StoredTask) obj;
+            return this.issueId.equals(other.issueId)
+                && this.repo().equals(other.repo())
+                && this.provider().equals(other.provider());
+        }
         if (!(obj instanceof Task)) {
             return false;
         }
         final Task other = (Task) obj;
         final Project otherProject = other.project();
-        return this.issueId.equals(other.issue().issueId())
-            && this.project().repoFullName().equals(otherProject.repoFullName())
-            && this.project().provider().equals(otherProject.provider());
+        return this.issueId.equals(other.issueId())
+            && this.repo().equals(otherProject.repoFullName())
+            && this.provider().equals(otherProject.provider());
+    }
+
+    /**
+     * Full name of the Task's repo, from the Contract's id or, if the
+     * Task is unassigned, from the Project it holds.
+     * @return String.
+     */
+    private String repo() {
+        final Contract.Id id = this.contract.contractId();
+        final String repo;
+        if(id == null) {
+            repo = this.contract.project().repoFullName();
+        } else {
+            repo = id.getRepoFullName();
+        }
+        return repo;
+    }
+
+    /**
+     * Provider of the Task's repo, from the Contract's id or, if the
+     * Task is unassigned, from the Project it holds.
+     * @return String.
+     */
+    private String provider() {
+        final Contract.Id id = this.contract.contractId();
+        final String provider;
+        if(id == null) {
+            provider = this.contract.project().provider();
+        } else {
+            provider = id.getProvider();
+        }
+        return provider;
     }
 
     /**
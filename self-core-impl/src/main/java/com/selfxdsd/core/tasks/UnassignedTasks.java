@@ -7,6 +7,7 @@ import com.selfxdsd.api.Tasks;
 import com.selfxdsd.api.exceptions.TasksException;
 import com.selfxdsd.api.storage.Storage;
 
+import java.time.LocalDateTime;
 import java.util.Iterator;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -75,6 +76,12 @@ public final class UnassignedTasks implements Tasks {
             + "UnassignedTasks. These tasks are already unassigned.");
     }
 
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        throw new TasksException.OfUnassigned("Can't remind anyone of "
+            + "UnassignedTasks. These tasks are not assigned.");
+    }
+
     @Override
     public Tasks ofProject(final String repoFullName,
                            final String repoProvider) {
@@ -103,6 +110,11 @@ public final class UnassignedTasks implements Tasks {
         return this;
     }
 
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        return new UnassignedTasks(Stream::empty, this.storage);
+    }
+
     @Override
     public boolean remove(final Task task) {
         boolean contains = this.getById(
@@ -0,0 +1,174 @@
+-- Schema of JdbcStorage. Every statement ends with a semicolon.
+-- The indexes back the common lookups: tasks by issue, by contributor
+-- and by contract, contracts by project, invoices by contract.
+CREATE TABLE IF NOT EXISTS slf_users_xdsd (
+    username VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    email VARCHAR(256),
+    role VARCHAR(32),
+    PRIMARY KEY (username, provider)
+);
+CREATE TABLE IF NOT EXISTS slf_pms_xdsd (
+    id INT NOT NULL AUTO_INCREMENT,
+    user_id VARCHAR(256) NOT NULL,
+    username VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    access_token VARCHAR(512),
+    commission DECIMAL(20, 2),
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS slf_pms_provider ON slf_pms_xdsd (provider, id);
+CREATE TABLE IF NOT EXISTS slf_projects_xdsd (
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    username VARCHAR(256) NOT NULL,
+    webhook_token VARCHAR(256),
+    pm_id INT NOT NULL,
+    PRIMARY KEY (repo_fullname, provider),
+    FOREIGN KEY (pm_id) REFERENCES slf_pms_xdsd (id)
+);
+CREATE INDEX IF NOT EXISTS slf_projects_pm ON slf_projects_xdsd (pm_id);
+CREATE INDEX IF NOT EXISTS slf_projects_owner
+    ON slf_projects_xdsd (username, provider);
+CREATE TABLE IF NOT EXISTS slf_wallets_xdsd (
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    cash DECIMAL(20, 2) NOT NULL,
+    identifier VARCHAR(256),
+    active BOOLEAN NOT NULL,
+    PRIMARY KEY (repo_fullname, provider, type),
+    FOREIGN KEY (repo_fullname, provider)
+        REFERENCES slf_projects_xdsd (repo_fullname, provider)
+);
+CREATE TABLE IF NOT EXISTS slf_contributors_xdsd (
+    username VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    PRIMARY KEY (username, provider)
+);
+CREATE TABLE IF NOT EXISTS slf_contracts_xdsd (
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    username VARCHAR(256) NOT NULL,
+    role VARCHAR(32) NOT NULL,
+    hourly_rate DECIMAL(20, 2) NOT NULL,
+    active_invoice INT NULL,
+    PRIMARY KEY (repo_fullname, provider, username, role),
+    FOREIGN KEY (repo_fullname, provider)
+        REFERENCES slf_projects_xdsd (repo_fullname, provider),
+    FOREIGN KEY (username, provider)
+        REFERENCES slf_contributors_xdsd (username, provider)
+);
+CREATE INDEX IF NOT EXISTS slf_contracts_contributor
+    ON slf_contracts_xdsd (username, provider);
+CREATE TABLE IF NOT EXISTS slf_invoices_xdsd (
+    id INT NOT NULL AUTO_INCREMENT,
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    username VARCHAR(256) NOT NULL,
+    role VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    payment_time TIMESTAMP NULL,
+    transaction_id VARCHAR(256),
+    total_amount DECIMAL(20, 2) NOT NULL DEFAULT 0,
+    tasks_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    FOREIGN KEY (repo_fullname, provider, username, role)
+        REFERENCES slf_contracts_xdsd (repo_fullname, provider, username, role)
+);
+CREATE INDEX IF NOT EXISTS slf_invoices_contract
+    ON slf_invoices_xdsd (
+        repo_fullname, provider, username, role, payment_time
+    );
+CREATE TABLE IF NOT EXISTS slf_invoicedtasks_xdsd (
+    id INT NOT NULL AUTO_INCREMENT,
+    invoice_id INT NOT NULL,
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    username VARCHAR(256) NOT NULL,
+    role VARCHAR(32) NOT NULL,
+    issue_id VARCHAR(64) NOT NULL,
+    task_value DECIMAL(20, 2) NOT NULL,
+    commission DECIMAL(20, 2) NOT NULL,
+    assignment_date TIMESTAMP NULL,
+    deadline TIMESTAMP NULL,
+    estimation INT NOT NULL,
+    PRIMARY KEY (id),
+    FOREIGN KEY (invoice_id) REFERENCES slf_invoices_xdsd (id)
+);
+CREATE INDEX IF NOT EXISTS slf_invoicedtasks_invoice
+    ON slf_invoicedtasks_xdsd (invoice_id);
+CREATE TABLE IF NOT EXISTS slf_tasks_xdsd (
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    issue_id VARCHAR(64) NOT NULL,
+    role VARCHAR(32) NOT NULL,
+    estimation INT NOT NULL,
+    username VARCHAR(256) NULL,
+    assignment_date TIMESTAMP NULL,
+    deadline TIMESTAMP NULL,
+    due_date TIMESTAMP NULL,
+    reminded_at TIMESTAMP NULL,
+    reminders INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (repo_fullname, provider, issue_id),
+    FOREIGN KEY (repo_fullname, provider)
+        REFERENCES slf_projects_xdsd (repo_fullname, provider)
+);
+CREATE INDEX IF NOT EXISTS slf_tasks_contributor
+    ON slf_tasks_xdsd (username, provider, repo_fullname, role);
+CREATE INDEX IF NOT EXISTS slf_tasks_due
+    ON slf_tasks_xdsd (due_date);
+CREATE TABLE IF NOT EXISTS slf_resignations_xdsd (
+    id INT NOT NULL AUTO_INCREMENT,
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    issue_id VARCHAR(64) NOT NULL,
+    username VARCHAR(256) NOT NULL,
+    role VARCHAR(32) NOT NULL,
+    estimation INT NOT NULL,
+    resigned_at TIMESTAMP NOT NULL,
+    reason VARCHAR(64),
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS slf_resignations_task
+    ON slf_resignations_xdsd (repo_fullname, provider, issue_id);
+CREATE TABLE IF NOT EXISTS slf_payoutmethods_xdsd (
+    username VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    identifier VARCHAR(256) NOT NULL,
+    active BOOLEAN NOT NULL,
+    PRIMARY KEY (username, provider, type)
+);
+CREATE TABLE IF NOT EXISTS slf_paymentmethods_xdsd (
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    identifier VARCHAR(256) NOT NULL,
+    active BOOLEAN NOT NULL,
+    PRIMARY KEY (repo_fullname, provider, type, identifier)
+);
+CREATE TABLE IF NOT EXISTS slf_outbox_xdsd (
+    id INT NOT NULL AUTO_INCREMENT,
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    issue_id VARCHAR(64) NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    argument TEXT NOT NULL,
+    digest VARCHAR(64) NOT NULL,
+    attempts INT NOT NULL,
+    due TIMESTAMP NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (repo_fullname, provider, issue_id, type, digest)
+);
+CREATE INDEX IF NOT EXISTS slf_outbox_due
+    ON slf_outbox_xdsd (due);
+CREATE TABLE IF NOT EXISTS slf_postedcomments_xdsd (
+    repo_fullname VARCHAR(256) NOT NULL,
+    provider VARCHAR(32) NOT NULL,
+    issue_id VARCHAR(64) NOT NULL,
+    digest VARCHAR(64) NOT NULL,
+    comment_id VARCHAR(64) NOT NULL,
+    author VARCHAR(256) NOT NULL,
+    PRIMARY KEY (repo_fullname, provider, issue_id, digest)
+);
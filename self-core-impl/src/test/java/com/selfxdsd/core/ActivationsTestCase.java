@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.exceptions.RepoException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link Activations}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class ActivationsTestCase {
+
+    /**
+     * Each Repo's result is reported, in the order of the Repos,
+     * and a failure does not stop the other activations.
+     */
+    @Test
+    public void reportsEachRepo() {
+        final Project project = Mockito.mock(Project.class);
+        final Repo first = Mockito.mock(Repo.class);
+        Mockito.when(first.activate()).thenReturn(project);
+        final Repo second = Mockito.mock(Repo.class);
+        Mockito.when(second.activate()).thenThrow(
+            new RepoException.AlreadyActive("mihai/test")
+        );
+        final Repo third = Mockito.mock(Repo.class);
+        Mockito.when(third.activate()).thenReturn(project);
+
+        final List<Activations.Activation> results = new Activations(
+            List.of(first, second, third), 2
+        ).activate();
+
+        MatcherAssert.assertThat(results, Matchers.iterableWithSize(3));
+        MatcherAssert.assertThat(results.get(0).repo(), Matchers.is(first));
+        MatcherAssert.assertThat(
+            results.get(0).successful(), Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            results.get(0).project(), Matchers.is(project)
+        );
+        MatcherAssert.assertThat(results.get(1).repo(), Matchers.is(second));
+        MatcherAssert.assertThat(
+            results.get(1).successful(), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            results.get(1).failure(),
+            Matchers.instanceOf(RepoException.AlreadyActive.class)
+        );
+        MatcherAssert.assertThat(
+            results.get(1).project(), Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            results.get(2).successful(), Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * No more than the given number of Repos are activated at once,
+     * but they do overlap, on numbered threads.
+     */
+    @Test
+    public void boundsConcurrency() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger most = new AtomicInteger();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final List<Repo> repos = new ArrayList<>();
+        for(int idx = 0; idx < 20; ++idx) {
+            final Repo repo = Mockito.mock(Repo.class);
+            Mockito.when(repo.activate()).thenAnswer(
+                invocation -> {
+                    most.accumulateAndGet(
+                        running.incrementAndGet(), Math::max
+                    );
+                    threads.add(Thread.currentThread().getName());
+                    Thread.sleep(20);
+                    running.decrementAndGet();
+                    return Mockito.mock(Project.class);
+                }
+            );
+            repos.add(repo);
+        }
+        final List<Activations.Activation> results = new Activations(
+            repos, 3
+        ).activate();
+        MatcherAssert.assertThat(results, Matchers.iterableWithSize(20));
+        MatcherAssert.assertThat(most.get(), Matchers.lessThanOrEqualTo(3));
+        MatcherAssert.assertThat(most.get(), Matchers.greaterThan(1));
+        MatcherAssert.assertThat(
+            threads,
+            Matchers.everyItem(Matchers.startsWith("self-activations-"))
+        );
+        MatcherAssert.assertThat(threads.size(), Matchers.greaterThan(1));
+    }
+
+    /**
+     * The concurrency must be positive.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void complainsAboutNoConcurrency() {
+        new Activations(List.of(), 0);
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.exceptions.DeadlineExceededException;
+import com.selfxdsd.api.pm.Intermediary;
+import com.selfxdsd.api.pm.Step;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link Deadline}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class DeadlineTestCase {
+
+    /**
+     * NONE never expires and leaves timeouts as they are.
+     */
+    @Test
+    public void noneNeverExpires() {
+        MatcherAssert.assertThat(
+            Deadline.NONE.expired(), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            Deadline.NONE.remaining(Duration.ofSeconds(10)),
+            Matchers.equalTo(Duration.ofSeconds(10))
+        );
+        Deadline.NONE.check();
+    }
+
+    /**
+     * The time left is bounded by the Deadline.
+     */
+    @Test
+    public void boundsRemainingTime() {
+        final Deadline deadline = Deadline.in(Duration.ofSeconds(5));
+        MatcherAssert.assertThat(
+            deadline.remaining(Duration.ofMinutes(1)),
+            Matchers.lessThanOrEqualTo(Duration.ofSeconds(5))
+        );
+        MatcherAssert.assertThat(
+            deadline.remaining(Duration.ofSeconds(1)),
+            Matchers.equalTo(Duration.ofSeconds(1))
+        );
+        MatcherAssert.assertThat(
+            Deadline.in(Duration.ofSeconds(-1))
+                .remaining(Duration.ofSeconds(1)),
+            Matchers.equalTo(Duration.ZERO)
+        );
+    }
+
+    /**
+     * A passed Deadline fails the check.
+     */
+    @Test(expected = DeadlineExceededException.class)
+    public void checksExpiry() {
+        Deadline.in(Duration.ZERO).check();
+    }
+
+    /**
+     * The earliest of two Deadlines is kept.
+     */
+    @Test
+    public void picksEarliest() {
+        final Deadline soon = Deadline.in(Duration.ofSeconds(1));
+        final Deadline later = Deadline.in(Duration.ofMinutes(1));
+        MatcherAssert.assertThat(soon.earliest(later), Matchers.is(soon));
+        MatcherAssert.assertThat(later.earliest(soon), Matchers.is(soon));
+        MatcherAssert.assertThat(
+            Deadline.NONE.earliest(soon), Matchers.is(soon)
+        );
+        MatcherAssert.assertThat(soon.earliest(null), Matchers.is(soon));
+        MatcherAssert.assertThat(
+            soon.earliest(Deadline.NONE), Matchers.is(soon)
+        );
+    }
+
+    /**
+     * The Deadline is the current one of the thread only while the
+     * work runs, and a later Deadline can't extend the current one.
+     */
+    @Test
+    public void scopesCurrentDeadline() {
+        final Deadline soon = Deadline.in(Duration.ofSeconds(1));
+        soon.run(
+            () -> {
+                MatcherAssert.assertThat(
+                    Deadline.current(), Matchers.is(soon)
+                );
+                Deadline.in(Duration.ofMinutes(1)).run(
+                    () -> MatcherAssert.assertThat(
+                        Deadline.current(), Matchers.is(soon)
+                    )
+                );
+            }
+        );
+        MatcherAssert.assertThat(
+            Deadline.current(), Matchers.is(Deadline.NONE)
+        );
+    }
+
+    /**
+     * The follow-up steps are cancelled once the Deadline passes.
+     */
+    @Test
+    public void cancelsRemainingSteps() {
+        final AtomicInteger performed = new AtomicInteger();
+        final Step first = new Intermediary(
+            event -> performed.incrementAndGet()
+        ) {
+            @Override
+            public void perform(final Event event) {
+                performed.incrementAndGet();
+                this.next().perform(event);
+            }
+        };
+        first.perform(Mockito.mock(Event.class));
+        MatcherAssert.assertThat(performed.get(), Matchers.is(2));
+        try {
+            Deadline.in(Duration.ZERO).run(
+                () -> first.perform(Mockito.mock(Event.class))
+            );
+            MatcherAssert.assertThat("Should have been cancelled.", false);
+        } catch (final DeadlineExceededException ex) {
+            MatcherAssert.assertThat(performed.get(), Matchers.is(3));
+        }
+    }
+
+    /**
+     * No HTTP request is made once the Deadline has passed.
+     */
+    @Test(expected = DeadlineExceededException.class)
+    public void skipsHttpAfterDeadline() {
+        Deadline.in(Duration.ZERO).run(
+            () -> new JsonResources.JdkHttp().get(
+                URI.create("http://localhost:1/never")
+            )
+        );
+    }
+}
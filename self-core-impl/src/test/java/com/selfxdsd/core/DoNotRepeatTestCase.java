@@ -24,12 +24,16 @@ package com.selfxdsd.core;
 
 import com.selfxdsd.api.Comment;
 import com.selfxdsd.api.Comments;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.PostedComments;
+import com.selfxdsd.core.storage.MemoryPostedComments;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import javax.json.JsonObject;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -49,7 +53,9 @@ public final class DoNotRepeatTestCase {
         final Iterator<Comment> iterator = Mockito.mock(Iterator.class);
         final Comments origin = Mockito.mock(Comments.class);
         Mockito.when(origin.iterator()).thenReturn(iterator);
-        final Comments doNotRepeat = new DoNotRepeat(origin);
+        final Comments doNotRepeat = new DoNotRepeat(
+            origin, Mockito.mock(Issue.class), new PostedComments.None()
+        );
         MatcherAssert.assertThat(
             doNotRepeat.iterator(),
             Matchers.is(iterator)
@@ -73,7 +79,9 @@ public final class DoNotRepeatTestCase {
         Mockito.when(origin.post(Mockito.anyString())).thenThrow(
             new IllegalStateException("Comment should not be posted!")
         );
-        final Comments doNotRepeat = new DoNotRepeat(origin);
+        final Comments doNotRepeat = new DoNotRepeat(
+            origin, Mockito.mock(Issue.class), new PostedComments.None()
+        );
         final Comment comment = doNotRepeat.post("hey there");
         MatcherAssert.assertThat(
             comment.body(),
@@ -102,7 +110,9 @@ public final class DoNotRepeatTestCase {
         Mockito.when(origin.post(Mockito.anyString())).thenReturn(
             newComment
         );
-        final Comments doNotRepeat = new DoNotRepeat(origin);
+        final Comments doNotRepeat = new DoNotRepeat(
+            origin, Mockito.mock(Issue.class), new PostedComments.None()
+        );
         final Comment comment = doNotRepeat.post("new comment");
         MatcherAssert.assertThat(
             comment, Matchers.is(newComment)
@@ -113,6 +123,98 @@ public final class DoNotRepeatTestCase {
         );
     }
 
+    /**
+     * DoNotRepeat finds a comment it posted in the index, without
+     * reading the comments from the Provider.
+     */
+    @Test
+    public void findsDuplicateInIndex() {
+        final Comment posted = this.mockComment("hello world");
+        Mockito.when(posted.commentId()).thenReturn("123");
+        Mockito.when(posted.author()).thenReturn("zoeself");
+        final Comments origin = Mockito.mock(Comments.class);
+        Mockito.when(origin.iterator())
+            .thenReturn(new ArrayList<Comment>().iterator());
+        Mockito.when(origin.post("hello world")).thenReturn(posted);
+        final Comments doNotRepeat = new DoNotRepeat(
+            origin, this.mockIssue(), new MemoryPostedComments()
+        );
+        doNotRepeat.post("hello world");
+        final Comment repeated = doNotRepeat.post("Hello World");
+        MatcherAssert.assertThat(
+            repeated.commentId(), Matchers.equalTo("123")
+        );
+        MatcherAssert.assertThat(
+            repeated.author(), Matchers.equalTo("zoeself")
+        );
+        Mockito.verify(origin, Mockito.times(1)).post(Mockito.anyString());
+        Mockito.verify(origin, Mockito.times(1)).iterator();
+    }
+
+    /**
+     * DoNotRepeat reads the comments from the Provider only while
+     * nothing is indexed for the Issue.
+     */
+    @Test
+    public void readsProviderOnlyForNewIssue() {
+        final Comment existing = this.mockComment("hey there");
+        Mockito.when(existing.commentId()).thenReturn("1");
+        Mockito.when(existing.author()).thenReturn("zoeself");
+        final Comment posted = this.mockComment("new comment");
+        Mockito.when(posted.commentId()).thenReturn("2");
+        Mockito.when(posted.author()).thenReturn("zoeself");
+        final Comments origin = Mockito.mock(Comments.class);
+        Mockito.when(origin.iterator())
+            .thenReturn(List.of(existing).iterator());
+        Mockito.when(origin.post("new comment")).thenReturn(posted);
+        final PostedComments index = new MemoryPostedComments();
+        final Issue issue = this.mockIssue();
+        new DoNotRepeat(origin, issue, index).post("hey there");
+        new DoNotRepeat(origin, issue, index).post("new comment");
+        new DoNotRepeat(origin, issue, index).post("hey there");
+        Mockito.verify(origin, Mockito.times(1)).iterator();
+        Mockito.verify(origin, Mockito.times(1)).post(Mockito.anyString());
+        MatcherAssert.assertThat(
+            index.find(issue, "NEW COMMENT").commentId(),
+            Matchers.equalTo("2")
+        );
+    }
+
+    /**
+     * DoNotRepeat indexes all the comments of an Issue the first time it
+     * reads them from the Provider, so it finds the older comments which
+     * didn't match the first post, too.
+     */
+    @Test
+    public void indexesAllCommentsOfNewIssue() {
+        final Comment first = this.mockComment("hey there");
+        Mockito.when(first.commentId()).thenReturn("1");
+        Mockito.when(first.author()).thenReturn("zoeself");
+        final Comment second = this.mockComment("hello world");
+        Mockito.when(second.commentId()).thenReturn("2");
+        Mockito.when(second.author()).thenReturn("zoeself");
+        final Comments origin = Mockito.mock(Comments.class);
+        Mockito.when(origin.iterator())
+            .thenReturn(List.of(first, second).iterator());
+        Mockito.when(origin.post(Mockito.anyString())).thenThrow(
+            new IllegalStateException("Comment should not be posted!")
+        );
+        final PostedComments index = new MemoryPostedComments();
+        final Issue issue = this.mockIssue();
+        MatcherAssert.assertThat(
+            new DoNotRepeat(origin, issue, index).post("hey there")
+                .commentId(),
+            Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            new DoNotRepeat(origin, issue, index).post("Hello World")
+                .commentId(),
+            Matchers.equalTo("2")
+        );
+        Mockito.verify(origin, Mockito.times(1)).iterator();
+        Mockito.verify(origin, Mockito.never()).post(Mockito.anyString());
+    }
+
     /**
      * DoNotRepeat delegates comment receival to origin.
      */
@@ -124,7 +226,9 @@ public final class DoNotRepeatTestCase {
         final Comments origin = Mockito.mock(Comments.class);
         Mockito.when(origin.received(json)).thenReturn(received);
 
-        final Comments doNotRepeat = new DoNotRepeat(origin);
+        final Comments doNotRepeat = new DoNotRepeat(
+            origin, Mockito.mock(Issue.class), new PostedComments.None()
+        );
         MatcherAssert.assertThat(
             doNotRepeat.received(json),
             Matchers.is(received)
@@ -135,6 +239,18 @@ public final class DoNotRepeatTestCase {
         );
     }
 
+    /**
+     * Mock Issue #1 of mihai/test at Github.
+     * @return Issue.
+     */
+    public Issue mockIssue() {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn("1");
+        Mockito.when(issue.repoFullName()).thenReturn("mihai/test");
+        Mockito.when(issue.provider()).thenReturn("github");
+        return issue;
+    }
+
     /**
      * Mock a Comment for test.
      * @param body Comment body.
@@ -29,6 +29,7 @@ import com.selfxdsd.core.mock.InMemory;
 import com.selfxdsd.core.mock.MockJsonResources;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -140,6 +141,68 @@ public final class GithubRepoTestCase {
 
         MatcherAssert.assertThat(project, Matchers.is(activated));
         Mockito.verify(project, Mockito.times(1)).resolve(Mockito.any());
+        Mockito.verify(wallets, Mockito.times(1)).register(
+            Mockito.eq(activated),
+            Mockito.eq(Wallet.Type.FAKE),
+            Mockito.any(),
+            Mockito.anyString()
+        );
+        Mockito.verify(wallets, Mockito.times(1)).activate(Mockito.any());
+    }
+
+    /**
+     * A GithubRepo is not onboarded by the PM if its Wallet cannot be
+     * set up.
+     */
+    @Test
+    public void doesNotOnboardWithoutWallet() {
+        final Project activated = Mockito.mock(Project.class);
+        final Wallets wallets = Mockito.mock(Wallets.class);
+        Mockito.when(activated.wallets()).thenReturn(wallets);
+        Mockito.when(
+            wallets.register(
+                Mockito.eq(activated),
+                Mockito.eq(Wallet.Type.FAKE),
+                Mockito.any(),
+                Mockito.anyString()
+            )
+        ).thenThrow(new IllegalStateException("Wallet not registered."));
+
+        final ProjectManager manager = Mockito.mock(ProjectManager.class);
+        final ProjectManagers managers = Mockito.mock(ProjectManagers.class);
+        Mockito.when(managers.pick(Provider.Names.GITHUB)).thenReturn(manager);
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.projectManagers()).thenReturn(managers);
+        Mockito.when(storage.projects())
+            .thenReturn(Mockito.mock(Projects.class));
+
+        final User owner = Mockito.mock(User.class);
+        final Provider provider = Mockito.mock(Provider.class);
+        Mockito.when(provider.name()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(owner.provider()).thenReturn(provider);
+
+        final JsonResources res = new MockJsonResources(request -> {
+            return new MockJsonResources
+                .MockResource(200, Json.createObjectBuilder()
+                .add("full_name", "john/test")
+                .build());
+        });
+        final Repo repo = new GithubRepo(
+            res,
+            URI.create("http://localhost:8080/repos/mihai/test/"),
+            owner,
+            storage
+        );
+
+        Mockito.when(manager.assign(repo)).thenReturn(activated);
+
+        try {
+            repo.activate();
+            Assert.fail("IllegalStateException was expected.");
+        } catch (final IllegalStateException ex) {
+            Mockito.verify(activated, Mockito.never())
+                .resolve(Mockito.any());
+        }
     }
 
     /**
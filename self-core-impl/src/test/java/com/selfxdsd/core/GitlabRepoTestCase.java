@@ -79,6 +79,13 @@ public final class GitlabRepoTestCase {
 
         MatcherAssert.assertThat(project, Matchers.is(activated));
         Mockito.verify(project, Mockito.times(1)).resolve(Mockito.any());
+        Mockito.verify(wallets, Mockito.times(1)).register(
+            Mockito.eq(activated),
+            Mockito.eq(Wallet.Type.FAKE),
+            Mockito.any(),
+            Mockito.anyString()
+        );
+        Mockito.verify(wallets, Mockito.times(1)).activate(Mockito.any());
     }
 
     /**
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Provider;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Function;
+
+/**
+ * Heap footprint of the Contract ids of many Tasks, as read from
+ * the database (each row with fresh copies of the names), with and
+ * without {@link Identities}. The numbers are logged, the assertion
+ * only checks that interning saves memory.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class IdentitiesITCase {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        IdentitiesITCase.class
+    );
+
+    /**
+     * Number of Tasks (rows).
+     */
+    private static final int TASKS = 50_000;
+
+    /**
+     * Number of distinct Contracts the Tasks are assigned to.
+     */
+    private static final int CONTRACTS = 200;
+
+    /**
+     * Compare the heap retained by the Contract ids of the Tasks.
+     */
+    @Test
+    public void internedIdsSaveHeap() {
+        final long fresh = IdentitiesITCase.retained(
+            row -> new Contract.Id(
+                new String("amihaiemil/repository-" + row),
+                new String("contributor-" + row),
+                new String(Provider.Names.GITHUB),
+                new String(Contract.Roles.DEV)
+            )
+        );
+        final long interned = IdentitiesITCase.retained(
+            row -> Identities.contract(
+                new String("amihaiemil/repository-" + row),
+                new String("contributor-" + row),
+                new String(Provider.Names.GITHUB),
+                new String(Contract.Roles.DEV)
+            )
+        );
+        IdentitiesITCase.LOG.info(
+            "Contract ids of {} Tasks in {} Contracts: "
+            + "fresh {} KB, interned {} KB.",
+            IdentitiesITCase.TASKS, IdentitiesITCase.CONTRACTS,
+            fresh / 1024, interned / 1024
+        );
+        MatcherAssert.assertThat(interned, Matchers.lessThan(fresh));
+    }
+
+    /**
+     * Heap retained by the Contract ids of all the Tasks.
+     * @param read Reads the Contract id of a row.
+     * @return Bytes.
+     */
+    private static long retained(final Function<Integer, Contract.Id> read) {
+        final long before = IdentitiesITCase.used();
+        final Contract.Id[] ids = new Contract.Id[IdentitiesITCase.TASKS];
+        for(int row = 0; row < ids.length; ++row) {
+            ids[row] = read.apply(row % IdentitiesITCase.CONTRACTS);
+        }
+        final long after = IdentitiesITCase.used();
+        MatcherAssert.assertThat(
+            ids[ids.length - 1], Matchers.notNullValue()
+        );
+        return after - before;
+    }
+
+    /**
+     * Used heap, after a few garbage collections.
+     * @return Bytes.
+     */
+    private static long used() {
+        final Runtime runtime = Runtime.getRuntime();
+        for(int idx = 0; idx < 3; ++idx) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.StoredContract;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+
+/**
+ * Unit tests for {@link Identities}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class IdentitiesTestCase {
+
+    /**
+     * Equal names are the same instance.
+     */
+    @Test
+    public void internsNames() {
+        MatcherAssert.assertThat(
+            Identities.name(new String("amihaiemil/docker-java-api")),
+            Matchers.sameInstance(
+                Identities.name(new String("amihaiemil/docker-java-api"))
+            )
+        );
+    }
+
+    /**
+     * Equal Contract ids are the same instance, made of canonical names.
+     */
+    @Test
+    public void internsContractIds() {
+        final Contract.Id first = Identities.contract(
+            new String("john/interned"),
+            new String("mihai"),
+            Provider.Names.GITHUB,
+            Contract.Roles.DEV
+        );
+        final Contract.Id second = Identities.contract(
+            new Contract.Id(
+                new String("john/interned"),
+                new String("mihai"),
+                Provider.Names.GITHUB,
+                Contract.Roles.DEV
+            )
+        );
+        MatcherAssert.assertThat(first, Matchers.sameInstance(second));
+        MatcherAssert.assertThat(
+            first.getRepoFullName(),
+            Matchers.sameInstance(Identities.name(new String("john/interned")))
+        );
+    }
+
+    /**
+     * StoredContracts with equal ids share the same Contract.Id instance.
+     */
+    @Test
+    public void storedContractsShareIds() {
+        final Storage storage = Mockito.mock(Storage.class);
+        final Contract first = new StoredContract(
+            new Contract.Id(
+                new String("john/shared"), new String("vlad"),
+                Provider.Names.GITLAB, Contract.Roles.REV
+            ),
+            BigDecimal.TEN,
+            storage
+        );
+        final Contract second = new StoredContract(
+            new Contract.Id(
+                new String("john/shared"), new String("vlad"),
+                Provider.Names.GITLAB, Contract.Roles.REV
+            ),
+            BigDecimal.ONE,
+            storage
+        );
+        MatcherAssert.assertThat(
+            first.contractId(), Matchers.sameInstance(second.contractId())
+        );
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for {@link Interner}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class InternerTestCase {
+
+    /**
+     * Equal values are interned to the first instance.
+     */
+    @Test
+    public void returnsFirstInstance() {
+        final Interner<String> interner = new Interner<>();
+        final String first = new String("john/test");
+        final String second = new String("john/test");
+        MatcherAssert.assertThat(
+            interner.intern(first), Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(
+            interner.intern(second), Matchers.sameInstance(first)
+        );
+        MatcherAssert.assertThat(interner.size(), Matchers.is(1));
+    }
+
+    /**
+     * The copy is what is kept in the pool.
+     */
+    @Test
+    public void keepsCopy() {
+        final Interner<String> interner = new Interner<>();
+        final String copy = new String("mihai");
+        MatcherAssert.assertThat(
+            interner.intern(new String("mihai"), value -> copy),
+            Matchers.sameInstance(copy)
+        );
+        MatcherAssert.assertThat(
+            interner.intern(new String("mihai")), Matchers.sameInstance(copy)
+        );
+    }
+
+    /**
+     * Null is not interned.
+     */
+    @Test
+    public void ignoresNull() {
+        final Interner<String> interner = new Interner<>();
+        MatcherAssert.assertThat(interner.intern(null), Matchers.nullValue());
+        MatcherAssert.assertThat(interner.size(), Matchers.is(0));
+    }
+
+    /**
+     * Threads interning equal values at the same time get the same
+     * instance. The instances are held by the test, so none of them
+     * is collected meanwhile.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(timeout = 60000)
+    public void internsConcurrently() throws Exception {
+        final Interner<String> interner = new Interner<>();
+        final Set<String> canonical = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>())
+        );
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> done = new ArrayList<>();
+            for(int idx = 0; idx < 8; ++idx) {
+                done.add(
+                    threads.submit(
+                        () -> {
+                            start.await();
+                            for(int name = 0; name < 1000; ++name) {
+                                canonical.add(
+                                    interner.intern(
+                                        new String("user" + name % 10)
+                                    )
+                                );
+                            }
+                            return null;
+                        }
+                    )
+                );
+            }
+            start.countDown();
+            for(final Future<?> future : done) {
+                future.get();
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        MatcherAssert.assertThat(canonical, Matchers.iterableWithSize(10));
+        MatcherAssert.assertThat(interner.size(), Matchers.is(10));
+    }
+}
@@ -0,0 +1,318 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.exceptions.DeadlineExceededException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link Lanes}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LanesTestCase {
+
+    /**
+     * Lanes resolves the Event with its Project.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void resolvesEvent() throws Exception {
+        final Project project = Mockito.mock(Project.class);
+        final Event event = LanesTestCase.event(
+            Event.Type.ISSUE_COMMENT, project
+        );
+        try (final Lanes lanes = new Lanes(2)) {
+            lanes.resolve(event).get(1, TimeUnit.MINUTES);
+        }
+        Mockito.verify(project, Mockito.times(1)).resolve(event);
+    }
+
+    /**
+     * An Event resolved by a worker, while it resolves another Event,
+     * is resolved right away instead of waiting for a free worker.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void resolvesNestedEventRightAway() throws Exception {
+        final Project project = Mockito.mock(Project.class);
+        final Event outer = LanesTestCase.event(
+            Event.Type.ISSUE_COMMENT, project
+        );
+        final Event inner = LanesTestCase.event(
+            Event.Type.NEW_ISSUE, project
+        );
+        try (final Lanes lanes = new Lanes(1)) {
+            lanes.resolve(
+                outer,
+                () -> lanes.resolve(inner).join()
+            ).get(1, TimeUnit.MINUTES);
+        }
+        Mockito.verify(project, Mockito.times(1)).resolve(inner);
+    }
+
+    /**
+     * The interactive Events are resolved before the queued background
+     * Events.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void resolvesInteractiveFirst() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> resolved = new CopyOnWriteArrayList<>();
+        final Project project = LanesTestCase.recording(
+            started, release, resolved
+        );
+        try (final Lanes lanes = LanesTestCase.lanes(1, 1)) {
+            final CompletableFuture<Void> first = lanes.resolve(
+                LanesTestCase.event(Event.Type.ASSIGNED_TASKS, project)
+            );
+            started.await(1, TimeUnit.MINUTES);
+            for(int idx = 0; idx < 3; ++idx) {
+                lanes.resolve(
+                    LanesTestCase.event(Event.Type.UNASSIGNED_TASKS, project)
+                );
+            }
+            final CompletableFuture<Void> comment = lanes.resolve(
+                LanesTestCase.event(Event.Type.ISSUE_COMMENT, project)
+            );
+            release.countDown();
+            first.get(1, TimeUnit.MINUTES);
+            comment.get(1, TimeUnit.MINUTES);
+            MatcherAssert.assertThat(
+                resolved.subList(0, 2),
+                Matchers.contains(
+                    Event.Type.ASSIGNED_TASKS, Event.Type.ISSUE_COMMENT
+                )
+            );
+        }
+    }
+
+    /**
+     * A running sweep does not keep the workers from resolving the
+     * interactive Events, since the background Lane may use only
+     * some of them.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void sweepLeavesRoomForReplies() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> resolved = new CopyOnWriteArrayList<>();
+        final Project project = LanesTestCase.recording(
+            started, release, resolved
+        );
+        try (final Lanes lanes = LanesTestCase.lanes(2, 1)) {
+            final CompletableFuture<Void> first = lanes.resolve(
+                LanesTestCase.event(Event.Type.ASSIGNED_TASKS, project)
+            );
+            final CompletableFuture<Void> second = lanes.resolve(
+                LanesTestCase.event(Event.Type.UNASSIGNED_TASKS, project)
+            );
+            final Project replies = Mockito.mock(Project.class);
+            lanes.resolve(
+                LanesTestCase.event(Event.Type.ISSUE_COMMENT, replies)
+            ).get(1, TimeUnit.MINUTES);
+            MatcherAssert.assertThat(
+                second.isDone(), Matchers.is(Boolean.FALSE)
+            );
+            release.countDown();
+            first.get(1, TimeUnit.MINUTES);
+            second.get(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * An Event is rejected if its Lane is full.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void rejectsEventWhenLaneIsFull() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Project project = LanesTestCase.recording(
+            started, release, new CopyOnWriteArrayList<>()
+        );
+        final Lanes.Lane lane = new Lanes.Lane("test", 1, 1, 1, 1000);
+        try (final Lanes lanes = new Lanes(1, Map.of(), lane)) {
+            final CompletableFuture<Void> running = lanes.resolve(
+                LanesTestCase.event(Event.Type.ISSUE_COMMENT, project)
+            );
+            started.await(1, TimeUnit.MINUTES);
+            final CompletableFuture<Void> queued = lanes.resolve(
+                LanesTestCase.event(Event.Type.ISSUE_COMMENT, project)
+            );
+            final CompletableFuture<Void> rejected = lanes.resolve(
+                LanesTestCase.event(Event.Type.ISSUE_COMMENT, project)
+            );
+            LanesTestCase.assertFails(
+                rejected, RejectedExecutionException.class
+            );
+            release.countDown();
+            running.get(1, TimeUnit.MINUTES);
+            queued.get(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * An Event whose Deadline passed while it was queued is not resolved.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void dropsExpiredEvent() throws Exception {
+        final Project project = Mockito.mock(Project.class);
+        final Event event = LanesTestCase.event(
+            Event.Type.ISSUE_COMMENT, project
+        );
+        Mockito.when(event.deadline()).thenReturn(Deadline.in(Duration.ZERO));
+        try (final Lanes lanes = new Lanes(1)) {
+            LanesTestCase.assertFails(
+                lanes.resolve(event), DeadlineExceededException.class
+            );
+        }
+        Mockito.verify(project, Mockito.never()).resolve(event);
+    }
+
+    /**
+     * The budget gives a second's worth of tokens, then makes the
+     * Lane wait for the next one.
+     */
+    @Test
+    public void budgetWaitsForTokens() {
+        final Lanes.Budget budget = new Lanes.Budget(2);
+        final long start = System.nanoTime();
+        MatcherAssert.assertThat(budget.delay(start), Matchers.is(0L));
+        budget.take(start);
+        budget.take(start);
+        MatcherAssert.assertThat(
+            budget.delay(start),
+            Matchers.allOf(
+                Matchers.greaterThan(0L),
+                Matchers.lessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500))
+            )
+        );
+        MatcherAssert.assertThat(
+            budget.delay(start + TimeUnit.MILLISECONDS.toNanos(500)),
+            Matchers.is(0L)
+        );
+    }
+
+    /**
+     * Lanes with an interactive Lane and a background Lane, for the
+     * sweeps.
+     * @param workers Number of workers.
+     * @param background Concurrency of the background Lane.
+     * @return Lanes.
+     */
+    private static Lanes lanes(final int workers, final int background) {
+        final Lanes.Lane sweeps = new Lanes.Lane(
+            "background", 1, background, 10, 1000
+        );
+        return new Lanes(
+            workers,
+            Map.of(
+                Event.Type.ASSIGNED_TASKS, sweeps,
+                Event.Type.UNASSIGNED_TASKS, sweeps
+            ),
+            new Lanes.Lane("interactive", 8, workers, 10, 1000)
+        );
+    }
+
+    /**
+     * Mock Event.
+     * @param type Type.
+     * @param project Project.
+     * @return Event.
+     */
+    private static Event event(final String type, final Project project) {
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.type()).thenReturn(type);
+        Mockito.when(event.project()).thenReturn(project);
+        Mockito.when(event.deadline()).thenReturn(Deadline.NONE);
+        return event;
+    }
+
+    /**
+     * Mock Project which records the types of the resolved Events.
+     * Resolving an Event waits for the release.
+     * @param started Counted down when an Event is started.
+     * @param release Released when the Events may be resolved.
+     * @param resolved Types of the resolved Events.
+     * @return Project.
+     */
+    private static Project recording(
+        final CountDownLatch started,
+        final CountDownLatch release,
+        final List<String> resolved
+    ) {
+        final Project project = Mockito.mock(Project.class);
+        Mockito.doAnswer(
+            invocation -> {
+                final Event event = (Event) invocation.getArguments()[0];
+                started.countDown();
+                release.await(1, TimeUnit.MINUTES);
+                resolved.add(event.type());
+                return null;
+            }
+        ).when(project).resolve(Mockito.any(Event.class));
+        return project;
+    }
+
+    /**
+     * Assert that the future fails with the given exception.
+     * @param future Future.
+     * @param type Type of the exception.
+     * @throws Exception If something goes wrong.
+     */
+    private static void assertFails(
+        final CompletableFuture<Void> future,
+        final Class<? extends Exception> type
+    ) throws Exception {
+        try {
+            future.get(1, TimeUnit.MINUTES);
+            throw new AssertionError("Expected " + type.getSimpleName());
+        } catch (final ExecutionException ex) {
+            MatcherAssert.assertThat(
+                ex.getCause(), Matchers.instanceOf(type)
+            );
+        }
+    }
+}
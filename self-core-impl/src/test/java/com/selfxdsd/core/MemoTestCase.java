@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Unit tests for {@link Memo}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoTestCase {
+
+    /**
+     * Memo computes the value only once.
+     */
+    @Test
+    public void computesOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo<String> memo = new Memo<>(
+            () -> "value" + calls.incrementAndGet()
+        );
+        MatcherAssert.assertThat(memo.get(), Matchers.equalTo("value1"));
+        MatcherAssert.assertThat(memo.get(), Matchers.equalTo("value1"));
+        MatcherAssert.assertThat(calls.get(), Matchers.is(1));
+    }
+
+    /**
+     * Memo remembers null too.
+     */
+    @Test
+    public void remembersNull() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo<String> memo = new Memo<>(
+            () -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        MatcherAssert.assertThat(memo.get(), Matchers.nullValue());
+        MatcherAssert.assertThat(memo.get(), Matchers.nullValue());
+        MatcherAssert.assertThat(calls.get(), Matchers.is(1));
+    }
+
+    /**
+     * Memo computes the value again after a refresh.
+     */
+    @Test
+    public void computesAgainAfterRefresh() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo<Integer> memo = new Memo<>(calls::incrementAndGet);
+        MatcherAssert.assertThat(memo.get(), Matchers.is(1));
+        memo.refresh();
+        MatcherAssert.assertThat(memo.get(), Matchers.is(2));
+        MatcherAssert.assertThat(memo.get(), Matchers.is(2));
+    }
+
+    /**
+     * A known value is returned without computing it, until a refresh.
+     */
+    @Test
+    public void returnsKnownValue() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo<Integer> memo = new Memo<>(0, calls::incrementAndGet);
+        MatcherAssert.assertThat(memo.get(), Matchers.is(0));
+        MatcherAssert.assertThat(calls.get(), Matchers.is(0));
+        memo.refresh();
+        MatcherAssert.assertThat(memo.get(), Matchers.is(1));
+    }
+
+    /**
+     * Threads racing for the value compute it only once.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void computesOnceConcurrently() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Memo<Integer> memo = new Memo<>(calls::incrementAndGet);
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<Integer>> reads = IntStream.range(0, 100)
+                .mapToObj(i -> (Callable<Integer>) memo::get)
+                .collect(Collectors.toList());
+            for(final Future<Integer> read : threads.invokeAll(reads)) {
+                MatcherAssert.assertThat(read.get(), Matchers.is(1));
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        MatcherAssert.assertThat(calls.get(), Matchers.is(1));
+    }
+}
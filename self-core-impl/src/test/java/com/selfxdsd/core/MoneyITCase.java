@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Benchmark of {@link Money} against the BigDecimal arithmetic it
+ * replaces: the debt of a Project, as the sum of the value of its Tasks
+ * plus the PM commission. The numbers are logged, the assertions are
+ * only sanity checks.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MoneyITCase {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        MoneyITCase.class
+    );
+
+    /**
+     * Number of Tasks in a debt.
+     */
+    private static final int TASKS = 1_000;
+
+    /**
+     * Number of measured rounds, after as many warm-up rounds.
+     */
+    private static final int ROUNDS = 2_000;
+
+    /**
+     * Compare the time it takes to add up a debt with BigDecimal
+     * and with Money.
+     */
+    @Test
+    public void debtArithmetic() {
+        final BigDecimal[] rates = new BigDecimal[MoneyITCase.TASKS];
+        final int[] estimations = new int[MoneyITCase.TASKS];
+        for(int idx = 0; idx < MoneyITCase.TASKS; ++idx) {
+            rates[idx] = BigDecimal.valueOf(2500 + idx * 37 % 7500);
+            estimations[idx] = 30 + idx % 90;
+        }
+        final BigDecimal commission = BigDecimal.valueOf(6.5);
+        MatcherAssert.assertThat(
+            MoneyITCase.money(rates, estimations, commission).toBigDecimal(),
+            Matchers.comparesEqualTo(
+                MoneyITCase.decimal(rates, estimations, commission)
+            )
+        );
+        MoneyITCase.decimalRounds(rates, estimations, commission);
+        final long decimal = MoneyITCase.decimalRounds(
+            rates, estimations, commission
+        );
+        MoneyITCase.moneyRounds(rates, estimations, commission);
+        final long money = MoneyITCase.moneyRounds(
+            rates, estimations, commission
+        );
+        MoneyITCase.LOG.info(
+            "Debt of {} Tasks, {} rounds: BigDecimal {} ns/op, Money {} ns/op.",
+            MoneyITCase.TASKS, MoneyITCase.ROUNDS,
+            decimal / MoneyITCase.ROUNDS, money / MoneyITCase.ROUNDS
+        );
+    }
+
+    /**
+     * Time some rounds of the BigDecimal arithmetic.
+     * @param rates Hourly rates.
+     * @param estimations Estimations, in minutes.
+     * @param commission PM commission.
+     * @return Elapsed nanoseconds.
+     */
+    private static long decimalRounds(
+        final BigDecimal[] rates,
+        final int[] estimations,
+        final BigDecimal commission
+    ) {
+        final long start = System.nanoTime();
+        BigDecimal sink = BigDecimal.ZERO;
+        for(int round = 0; round < MoneyITCase.ROUNDS; ++round) {
+            sink = sink.max(
+                MoneyITCase.decimal(rates, estimations, commission)
+            );
+        }
+        final long elapsed = System.nanoTime() - start;
+        MatcherAssert.assertThat(sink.signum(), Matchers.equalTo(1));
+        return elapsed;
+    }
+
+    /**
+     * Time some rounds of the Money arithmetic.
+     * @param rates Hourly rates.
+     * @param estimations Estimations, in minutes.
+     * @param commission PM commission.
+     * @return Elapsed nanoseconds.
+     */
+    private static long moneyRounds(
+        final BigDecimal[] rates,
+        final int[] estimations,
+        final BigDecimal commission
+    ) {
+        final Money[] amounts = new Money[rates.length];
+        for(int idx = 0; idx < rates.length; ++idx) {
+            amounts[idx] = Money.of(rates[idx]);
+        }
+        final long start = System.nanoTime();
+        Money sink = Money.ZERO;
+        for(int round = 0; round < MoneyITCase.ROUNDS; ++round) {
+            final Money debt = MoneyITCase.money(
+                amounts, estimations, Money.of(commission)
+            );
+            if(debt.compareTo(sink) > 0) {
+                sink = debt;
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+        MatcherAssert.assertThat(sink.signum(), Matchers.equalTo(1));
+        return elapsed;
+    }
+
+    /**
+     * Debt computed with BigDecimal, as StoredTask used to.
+     * @param rates Hourly rates.
+     * @param estimations Estimations, in minutes.
+     * @param commission PM commission.
+     * @return Debt.
+     */
+    private static BigDecimal decimal(
+        final BigDecimal[] rates,
+        final int[] estimations,
+        final BigDecimal commission
+    ) {
+        BigDecimal debt = BigDecimal.valueOf(0);
+        for(int idx = 0; idx < rates.length; ++idx) {
+            debt = debt.add(
+                rates[idx].multiply(BigDecimal.valueOf(estimations[idx]))
+                    .divide(BigDecimal.valueOf(60), 0, RoundingMode.HALF_UP)
+            ).add(commission);
+        }
+        return debt;
+    }
+
+    /**
+     * Debt computed with Money, converting the rates first.
+     * @param rates Hourly rates.
+     * @param estimations Estimations, in minutes.
+     * @param commission PM commission.
+     * @return Debt.
+     */
+    private static Money money(
+        final BigDecimal[] rates,
+        final int[] estimations,
+        final BigDecimal commission
+    ) {
+        final Money[] amounts = new Money[rates.length];
+        for(int idx = 0; idx < rates.length; ++idx) {
+            amounts[idx] = Money.of(rates[idx]);
+        }
+        return MoneyITCase.money(amounts, estimations, Money.of(commission));
+    }
+
+    /**
+     * Debt computed with Money.
+     * @param rates Hourly rates.
+     * @param estimations Estimations, in minutes.
+     * @param commission PM commission.
+     * @return Debt.
+     */
+    private static Money money(
+        final Money[] rates,
+        final int[] estimations,
+        final Money commission
+    ) {
+        Money debt = Money.ZERO;
+        for(int idx = 0; idx < rates.length; ++idx) {
+            debt = debt.add(
+                Money.of(
+                    rates[idx].multiply(estimations[idx])
+                        .whole(60, RoundingMode.HALF_UP)
+                )
+            ).add(commission);
+        }
+        return debt;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Unit tests for {@link Money}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MoneyTestCase {
+
+    /**
+     * Money keeps hundredths and trailing zeros, it does not round.
+     */
+    @Test
+    public void keepsHundredths() {
+        MatcherAssert.assertThat(
+            Money.of(BigDecimal.valueOf(-6.51)).toBigDecimal(),
+            Matchers.equalTo(new BigDecimal("-6.51"))
+        );
+        MatcherAssert.assertThat(
+            Money.of(new BigDecimal("6.500")).toBigDecimal(),
+            Matchers.equalTo(new BigDecimal("6.50"))
+        );
+        MatcherAssert.assertThat(
+            Money.of(new BigDecimal("10000.00")).toBigDecimal(),
+            Matchers.equalTo(BigDecimal.valueOf(10000))
+        );
+    }
+
+    /**
+     * Money rejects an amount with more than two decimals.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void rejectsThousandths() {
+        Money.of(BigDecimal.valueOf(6.505));
+    }
+
+    /**
+     * Money adds, subtracts and multiplies exactly.
+     */
+    @Test
+    public void computesExactly() {
+        final Money money = Money.of(BigDecimal.valueOf(6.5))
+            .add(Money.of(100))
+            .subtract(Money.of(BigDecimal.valueOf(0.25)))
+            .multiply(3);
+        MatcherAssert.assertThat(
+            money.toBigDecimal(), Matchers.equalTo(new BigDecimal("318.75"))
+        );
+        MatcherAssert.assertThat(money.signum(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            money.negate().signum(), Matchers.equalTo(-1)
+        );
+        MatcherAssert.assertThat(
+            money, Matchers.equalTo(Money.of(new BigDecimal("318.750")))
+        );
+        MatcherAssert.assertThat(
+            money.toString(), Matchers.equalTo("318.75")
+        );
+    }
+
+    /**
+     * Money divides like BigDecimal does, with the given rounding.
+     */
+    @Test
+    public void dividesLikeBigDecimal() {
+        final long[] amounts = {0, 1, 5, 15, 25, 149, 150, 151, 10001, -151};
+        final long[] divisors = {1, 3, 60, 100, -7};
+        for(final RoundingMode rounding : RoundingMode.values()) {
+            if(rounding == RoundingMode.UNNECESSARY) {
+                continue;
+            }
+            for(final long amount : amounts) {
+                for(final long divisor : divisors) {
+                    final BigDecimal expected = BigDecimal.valueOf(amount, 2)
+                        .divide(BigDecimal.valueOf(divisor), 2, rounding);
+                    MatcherAssert.assertThat(
+                        amount + " / " + divisor + " " + rounding,
+                        Money.of(BigDecimal.valueOf(amount, 2))
+                            .divide(divisor, rounding),
+                        Matchers.equalTo(Money.of(expected))
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Money can be divided to a whole amount with a single rounding.
+     */
+    @Test
+    public void dividesToWhole() {
+        MatcherAssert.assertThat(
+            Money.of(1000).multiply(7).whole(60, RoundingMode.HALF_UP),
+            Matchers.equalTo(117L)
+        );
+        MatcherAssert.assertThat(
+            Money.of(BigDecimal.valueOf(29.7)).whole(60, RoundingMode.HALF_UP),
+            Matchers.equalTo(0L)
+        );
+        MatcherAssert.assertThat(
+            Money.of(-90).whole(60, RoundingMode.HALF_UP),
+            Matchers.equalTo(-2L)
+        );
+    }
+
+    /**
+     * Money can be rounded to a whole amount.
+     */
+    @Test
+    public void roundsToWholeAmount() {
+        MatcherAssert.assertThat(
+            Money.of(BigDecimal.valueOf(1525.5)).whole(RoundingMode.HALF_UP),
+            Matchers.equalTo(1526L)
+        );
+        MatcherAssert.assertThat(
+            Money.of(BigDecimal.valueOf(1525.5)).whole(RoundingMode.DOWN),
+            Matchers.equalTo(1525L)
+        );
+    }
+
+    /**
+     * Money complains if a rounding is necessary but not allowed.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void complainsOnUnnecessaryRounding() {
+        Money.of(1).divide(3, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Money complains on overflow.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void complainsOnOverflow() {
+        Money.of(Long.MAX_VALUE / 100).multiply(2);
+    }
+}
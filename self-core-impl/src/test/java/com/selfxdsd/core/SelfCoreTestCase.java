@@ -24,11 +24,14 @@ package com.selfxdsd.core;
 
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.storage.MemoryOutbox;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
+
 /**
  * Unit tests for {@link SelfCore}.
  *
@@ -78,4 +81,61 @@ public final class SelfCoreTestCase {
         self.close();
         Mockito.verify(storage, Mockito.times(1)).close();
     }
+
+    /**
+     * Once started, SelfCore runs the Courier, which delivers the messages
+     * queued in the Storage's outbox.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void deliversOutboxMessages() throws Exception {
+        final Comments comments = Mockito.mock(Comments.class);
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn("1");
+        Mockito.when(issue.repoFullName()).thenReturn("mihai/test");
+        Mockito.when(issue.provider()).thenReturn("github");
+        Mockito.when(issue.comments()).thenReturn(comments);
+        final Issues issues = Mockito.mock(Issues.class);
+        Mockito.when(issues.getById("1")).thenReturn(issue);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.issues()).thenReturn(issues);
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.repo()).thenReturn(repo);
+        final Projects projects = Mockito.mock(Projects.class);
+        Mockito.when(projects.getProjectById("mihai/test", "github"))
+            .thenReturn(project);
+        final Outbox outbox = new MemoryOutbox();
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.projects()).thenReturn(projects);
+        Mockito.when(storage.outbox()).thenReturn(outbox);
+
+        final Self self = new SelfCore(storage, Duration.ofMillis(50))
+            .start();
+        outbox.send(issue, Outbox.Message.comment("assigned"));
+        Mockito.verify(comments, Mockito.timeout(10000)).post("assigned");
+        self.close();
+    }
+
+    /**
+     * SelfCore starts no Courier when the outbox makes the writes right
+     * away.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void startsNoCourierForImmediateOutbox() throws Exception {
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.outbox()).thenReturn(new Outbox.Immediate());
+
+        final Self self = new SelfCore(storage, Duration.ofMillis(50))
+            .start();
+        MatcherAssert.assertThat(
+            Thread.getAllStackTraces().keySet().stream()
+                .map(Thread::getName)
+                .anyMatch("self-courier"::equals),
+            Matchers.is(false)
+        );
+        self.close();
+        Mockito.verify(storage).close();
+    }
 }
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core;
+
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.Project;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+/**
+ * Unit tests for {@link TimedEvent}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class TimedEventTestCase {
+
+    /**
+     * It delegates everything but the Deadline.
+     */
+    @Test
+    public void delegatesToOrigin() {
+        final Project project = Mockito.mock(Project.class);
+        final Event origin = Mockito.mock(Event.class);
+        Mockito.when(origin.type()).thenReturn(Event.Type.NEW_ISSUE);
+        Mockito.when(origin.project()).thenReturn(project);
+        final Event timed = new TimedEvent(origin, Duration.ofMinutes(1));
+        MatcherAssert.assertThat(
+            timed.type(), Matchers.equalTo(Event.Type.NEW_ISSUE)
+        );
+        MatcherAssert.assertThat(timed.project(), Matchers.is(project));
+        MatcherAssert.assertThat(
+            timed.deadline().bounded(), Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            timed.deadline().expired(), Matchers.is(Boolean.FALSE)
+        );
+    }
+
+    /**
+     * It keeps the earlier Deadline of the original Event.
+     */
+    @Test
+    public void keepsEarlierDeadline() {
+        final Deadline early = Deadline.in(Duration.ZERO);
+        final Event origin = Mockito.mock(Event.class);
+        Mockito.when(origin.deadline()).thenReturn(early);
+        MatcherAssert.assertThat(
+            new TimedEvent(origin, Duration.ofMinutes(1)).deadline(),
+            Matchers.is(early)
+        );
+    }
+}
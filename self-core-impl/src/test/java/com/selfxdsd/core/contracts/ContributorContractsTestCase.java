@@ -322,6 +322,11 @@ public final class ContributorContractsTestCase {
         Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
         Mockito.when(contributor.username()).thenReturn("john");
         Mockito.when(contract.role()).thenReturn(Contract.Roles.DEV);
+        Mockito.when(contract.contractId()).thenReturn(
+            new Contract.Id(
+                "john/test", "john", Provider.Names.GITHUB, Contract.Roles.DEV
+            )
+        );
         Mockito.when(contract.project()).thenReturn(project);
         Mockito.when(contract.contributor()).thenReturn(contributor);
 
@@ -8,7 +8,9 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Unit tests for {@link StoredContract}.
@@ -349,4 +351,88 @@ public final class StoredContractTestCase {
         MatcherAssert.assertThat(contract.hashCode(),
             Matchers.equalTo(contractTwo.hashCode()));
     }
+
+    /**
+     * StoredContracts are compared and hashed by their ids only,
+     * without looking anything up in the Storage.
+     */
+    @Test
+    public void comparesWithoutStorageLookups() {
+        final Storage storage = Mockito.mock(Storage.class);
+        final Contract.Id id = new Contract.Id(
+            "john/repo", "mihai", Provider.Names.GITHUB, Contract.Roles.DEV
+        );
+        final Contract contract = new StoredContract(
+            id, BigDecimal.ONE, storage
+        );
+        final Contract same = new StoredContract(
+            id, BigDecimal.TEN, storage
+        );
+        final Contract other = new StoredContract(
+            new Contract.Id(
+                "john/repo", "mihai", Provider.Names.GITHUB,
+                Contract.Roles.REV
+            ),
+            BigDecimal.ONE,
+            storage
+        );
+        final Set<Contract> set = new HashSet<>();
+        set.add(contract);
+        MatcherAssert.assertThat(set.contains(same), Matchers.is(true));
+        MatcherAssert.assertThat(set.contains(other), Matchers.is(false));
+        MatcherAssert.assertThat(
+            contract.equals(other), Matchers.is(false)
+        );
+        Mockito.verifyZeroInteractions(storage);
+    }
+
+    /**
+     * The Project and the Contributor are read from the Storage at most
+     * once, until the Contract is refreshed.
+     */
+    @Test
+    public void readsReferencesOnce() {
+        final Project project = Mockito.mock(Project.class);
+        final Projects projects = Mockito.mock(Projects.class);
+        Mockito.when(
+            projects.getProjectById("john/test", Provider.Names.GITHUB)
+        ).thenReturn(project);
+        final Contributor mihai = Mockito.mock(Contributor.class);
+        final Contributors contributors = Mockito.mock(Contributors.class);
+        Mockito.when(
+            contributors.getById("mihai", Provider.Names.GITHUB)
+        ).thenReturn(mihai);
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.projects()).thenReturn(projects);
+        Mockito.when(storage.contributors()).thenReturn(contributors);
+
+        final StoredContract contract = new StoredContract(
+            new Contract.Id(
+                "john/test",
+                "mihai",
+                Provider.Names.GITHUB,
+                Contract.Roles.DEV
+            ),
+            BigDecimal.valueOf(10000),
+            storage
+        );
+        for(int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(contract.project(), Matchers.is(project));
+            MatcherAssert.assertThat(
+                contract.contributor(), Matchers.is(mihai)
+            );
+        }
+        Mockito.verify(projects, Mockito.times(1))
+            .getProjectById("john/test", Provider.Names.GITHUB);
+        Mockito.verify(contributors, Mockito.times(1))
+            .getById("mihai", Provider.Names.GITHUB);
+
+        contract.refresh();
+        MatcherAssert.assertThat(contract.project(), Matchers.is(project));
+        MatcherAssert.assertThat(contract.contributor(), Matchers.is(mihai));
+        Mockito.verify(projects, Mockito.times(2))
+            .getProjectById("john/test", Provider.Names.GITHUB);
+        Mockito.verify(contributors, Mockito.times(2))
+            .getById("mihai", Provider.Names.GITHUB);
+    }
 }
@@ -34,6 +34,7 @@ import org.mockito.Mockito;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Unit tests for {@link ContractInvoices}.
@@ -363,6 +364,52 @@ public final class ContractInvoicesTestCase {
         MatcherAssert.assertThat(active, Matchers.is(created));
     }
 
+    /**
+     * Method active returns the Invoice given by the storage, if
+     * it points to the active Invoice.
+     */
+    @Test
+    public void activeReturnsPointedInvoice() {
+        final Contract.Id contractId = new Contract.Id(
+            "john/test",
+            "mihai",
+            Provider.Names.GITHUB,
+            Contract.Roles.DEV
+        );
+        final Invoice pointed = this.mockInvoice(contractId, Boolean.FALSE);
+        final Invoices invoices = new ContractInvoices(
+            contractId,
+            () -> {
+                throw new IllegalStateException("Should not be iterated.");
+            },
+            () -> pointed,
+            Mockito.mock(Storage.class)
+        );
+        MatcherAssert.assertThat(invoices.active(), Matchers.is(pointed));
+        MatcherAssert.assertThat(
+            invoices.activeOf(contractId), Matchers.is(pointed)
+        );
+    }
+
+    /**
+     * Method activeOf complains if the Contract is another one.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void activeOfComplainsOnOtherContract() {
+        final Invoices invoices = new ContractInvoices(
+            new Contract.Id(
+                "john/test", "mihai", Provider.Names.GITHUB, Contract.Roles.DEV
+            ),
+            Stream::empty,
+            Mockito.mock(Storage.class)
+        );
+        invoices.activeOf(
+            new Contract.Id(
+                "john/test", "vlad", Provider.Names.GITHUB, Contract.Roles.DEV
+            )
+        );
+    }
+
     /**
      * Mock an invoice for test.
      * @param contractId ContractId.
@@ -94,7 +94,7 @@ public final class StoredInvoiceTestCase {
     }
 
     /**
-     * Invoice can return its total amount.
+     * Invoice can return its total amount, as kept by the storage.
      */
     @Test
     public void returnsTotalAmount() {
@@ -108,21 +108,8 @@ public final class StoredInvoiceTestCase {
             storage
         );
         final InvoicedTasks all = Mockito.mock(InvoicedTasks.class);
-        Mockito.when(all.ofInvoice(invoice)).thenReturn(
-            new InvoiceTasks(
-                invoice,
-                () -> {
-                    final InvoicedTask task = Mockito.mock(InvoicedTask.class);
-                    Mockito.when(task.totalAmount())
-                        .thenReturn(BigDecimal.valueOf(1525));
-                    final List<InvoicedTask> tasks = new ArrayList<>();
-                    tasks.add(task);
-                    tasks.add(task);
-                    tasks.add(task);
-                    return tasks.stream();
-                },
-                storage
-            )
+        Mockito.when(all.totals(invoice)).thenReturn(
+            new Invoice.Totals(BigDecimal.valueOf(4575), 3)
         );
         Mockito.when(storage.invoicedTasks()).thenReturn(all);
 
@@ -130,6 +117,34 @@ public final class StoredInvoiceTestCase {
             invoice.totalAmount(),
             Matchers.equalTo(BigDecimal.valueOf(4575))
         );
+        MatcherAssert.assertThat(
+            invoice.totals().count(),
+            Matchers.equalTo(3)
+        );
+        Mockito.verify(all, Mockito.never()).ofInvoice(invoice);
+    }
+
+    /**
+     * Invoice totals can be recomputed from the invoiced tasks.
+     */
+    @Test
+    public void computesTotalsFromTasks() {
+        final InvoicedTask task = Mockito.mock(InvoicedTask.class);
+        Mockito.when(task.totalAmount()).thenReturn(BigDecimal.valueOf(1525));
+        final List<InvoicedTask> tasks = new ArrayList<>();
+        tasks.add(task);
+        tasks.add(task);
+        tasks.add(task);
+        MatcherAssert.assertThat(
+            Invoice.Totals.of(tasks),
+            Matchers.equalTo(
+                new Invoice.Totals(BigDecimal.valueOf(4575.00), 3)
+            )
+        );
+        MatcherAssert.assertThat(
+            Invoice.Totals.of(new ArrayList<>()),
+            Matchers.equalTo(Invoice.Totals.NONE)
+        );
     }
 
     /**
@@ -325,6 +340,65 @@ public final class StoredInvoiceTestCase {
         );
     }
 
+    /**
+     * StoredInvoice registers many Tasks with one call to the storage.
+     */
+    @Test
+    public void registersAllTasks() {
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.repoFullName()).thenReturn("john/test");
+        Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
+        final Contributor assignee = Mockito.mock(Contributor.class);
+        Mockito.when(assignee.username()).thenReturn("mihai");
+        final List<Task> tasks = new ArrayList<>();
+        for(int idx = 0; idx < 3; ++idx) {
+            final Task task = Mockito.mock(Task.class);
+            Mockito.when(task.project()).thenReturn(project);
+            Mockito.when(task.assignee()).thenReturn(assignee);
+            Mockito.when(task.role()).thenReturn(Contract.Roles.DEV);
+            tasks.add(task);
+        }
+        final Contract contract = Mockito.mock(Contract.class);
+        Mockito.when(contract.contractId()).thenReturn(
+            new Contract.Id(
+                "john/test",
+                "mihai",
+                Provider.Names.GITHUB,
+                Contract.Roles.DEV
+            )
+        );
+        final Storage storage = Mockito.mock(Storage.class);
+        final Invoice invoice = new StoredInvoice(
+            1,
+            contract,
+            LocalDateTime.now(),
+            null,
+            null,
+            storage
+        );
+        final BigDecimal commission = BigDecimal.valueOf(50);
+        final List<InvoicedTask> registered = List.of(
+            Mockito.mock(InvoicedTask.class),
+            Mockito.mock(InvoicedTask.class),
+            Mockito.mock(InvoicedTask.class)
+        );
+        final InvoicedTasks invoicedTasks = Mockito.mock(InvoicedTasks.class);
+        Mockito.when(
+            invoicedTasks.registerAll(invoice, tasks, commission)
+        ).thenReturn(registered);
+        Mockito.when(storage.invoicedTasks()).thenReturn(invoicedTasks);
+        MatcherAssert.assertThat(
+            invoice.registerAll(tasks, commission),
+            Matchers.is(registered)
+        );
+        Mockito.verify(invoicedTasks, Mockito.never())
+            .register(
+                Mockito.any(Invoice.class),
+                Mockito.any(Task.class),
+                Mockito.any(BigDecimal.class)
+            );
+    }
+
     /**
      * Can compare two StoredInvoice objects.
      */
@@ -161,4 +161,32 @@ public final class StoredInvoicedTaskTestCase {
         MatcherAssert.assertThat(task.invoice(), Matchers.is(invoiceOne));
     }
 
+    /**
+     * StoredInvoicedTask reads the Invoice from the storage only once,
+     * until it is refreshed.
+     */
+    @Test
+    public void readsInvoiceOnce() {
+        final Invoice invoiceOne = Mockito.mock(Invoice.class);
+        final Invoices all = Mockito.mock(Invoices.class);
+        Mockito.when(all.getById(1)).thenReturn(invoiceOne);
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.invoices()).thenReturn(all);
+
+        final StoredInvoicedTask task = new StoredInvoicedTask(
+            12,
+            1,
+            BigDecimal.valueOf(25000),
+            BigDecimal.valueOf(50),
+            Mockito.mock(Task.class),
+            storage
+        );
+        MatcherAssert.assertThat(task.invoice(), Matchers.is(invoiceOne));
+        MatcherAssert.assertThat(task.invoice(), Matchers.is(invoiceOne));
+        Mockito.verify(all, Mockito.times(1)).getById(1);
+
+        task.refresh();
+        MatcherAssert.assertThat(task.invoice(), Matchers.is(invoiceOne));
+        Mockito.verify(all, Mockito.times(2)).getById(1);
+    }
 }
@@ -0,0 +1,288 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.contributors;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Resignation;
+import com.selfxdsd.api.Resignations;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Workloads;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.ContributorContracts;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link Election}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class ElectionTestCase {
+
+    /**
+     * Only the Contributors the Project affords are elected.
+     */
+    @Test
+    public void electsAffordableContributor() {
+        final Contributor cheap = ElectionTestCase.contributor(
+            "mihai", 1000, "DEV"
+        );
+        final Election election = new Election(
+            BigDecimal.valueOf(1500),
+            BigDecimal.valueOf(100),
+            Stream.of(
+                ElectionTestCase.contributor("vlad", 5000, "DEV"),
+                cheap,
+                ElectionTestCase.contributor("mary", 2000, "DEV")
+            )
+        );
+        for(int idx = 0; idx < 20; ++idx) {
+            MatcherAssert.assertThat(
+                election.elect(ElectionTestCase.task("DEV", 60)),
+                Matchers.is(cheap)
+            );
+        }
+    }
+
+    /**
+     * Nobody is elected if the Project affords nobody.
+     */
+    @Test
+    public void electsNobodyIfTooExpensive() {
+        final Election election = new Election(
+            BigDecimal.valueOf(1000),
+            BigDecimal.valueOf(100),
+            Stream.of(ElectionTestCase.contributor("mihai", 1000, "DEV"))
+        );
+        MatcherAssert.assertThat(
+            election.elect(ElectionTestCase.task("DEV", 60)),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * Nobody is elected if nobody has the Task's role.
+     */
+    @Test
+    public void electsNobodyWithoutRole() {
+        final Election election = new Election(
+            BigDecimal.valueOf(100000),
+            BigDecimal.valueOf(100),
+            Stream.of(ElectionTestCase.contributor("mihai", 1000, "DEV"))
+        );
+        MatcherAssert.assertThat(
+            election.elect(ElectionTestCase.task("REV", 60)),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * The current assignee and the Contributors who resigned from
+     * the Task are never elected.
+     */
+    @Test
+    public void skipsAssigneeAndResigned() {
+        final Contributor assignee = ElectionTestCase.contributor(
+            "mihai", 1000, "DEV"
+        );
+        final Contributor resigned = ElectionTestCase.contributor(
+            "vlad", 1000, "DEV"
+        );
+        final Contributor other = ElectionTestCase.contributor(
+            "mary", 1000, "DEV"
+        );
+        final List<Contributor> all = new ArrayList<>();
+        for(int idx = 0; idx < 50; ++idx) {
+            all.add(assignee);
+            all.add(resigned);
+        }
+        all.add(other);
+        final Task task = ElectionTestCase.task("DEV", 60, resigned);
+        Mockito.when(task.assignee()).thenReturn(assignee);
+        final Election election = new Election(
+            BigDecimal.valueOf(100000), BigDecimal.valueOf(100), all.stream()
+        );
+        for(int idx = 0; idx < 20; ++idx) {
+            MatcherAssert.assertThat(
+                election.elect(task), Matchers.is(other)
+            );
+        }
+    }
+
+    /**
+     * Tasks elected together share the Project's budget.
+     */
+    @Test
+    public void electsAllWithinBudget() {
+        final Contributor mihai = ElectionTestCase.contributor(
+            "mihai", 1000, "DEV"
+        );
+        final Election election = new Election(
+            BigDecimal.valueOf(2500),
+            BigDecimal.valueOf(100),
+            Stream.of(mihai)
+        );
+        final List<Contributor> elected = election.electAll(
+            List.of(
+                ElectionTestCase.task("DEV", 60),
+                ElectionTestCase.task("DEV", 60),
+                ElectionTestCase.task("DEV", 60)
+            )
+        );
+        MatcherAssert.assertThat(elected, Matchers.iterableWithSize(3));
+        MatcherAssert.assertThat(elected.get(0), Matchers.is(mihai));
+        MatcherAssert.assertThat(elected.get(1), Matchers.is(mihai));
+        MatcherAssert.assertThat(elected.get(2), Matchers.nullValue());
+    }
+
+    /**
+     * The Tasks elected together are spread over the idle Contributors,
+     * although none of them is assigned yet.
+     */
+    @Test
+    public void spreadsBatchOverIdleContributors() {
+        final Contributor mihai = ElectionTestCase.contributor(
+            "mihai", 1000, "DEV"
+        );
+        final Contributor vlad = ElectionTestCase.contributor(
+            "vlad", 1000, "DEV"
+        );
+        final Workloads workloads = Mockito.mock(Workloads.class);
+        Mockito.when(workloads.ofContributor(Mockito.any(Contributor.class)))
+            .thenReturn(0);
+        final Election election = new Election(
+            BigDecimal.valueOf(100000),
+            BigDecimal.valueOf(100),
+            Stream.of(mihai, vlad),
+            new LeastLoadedStrategy(workloads)
+        );
+        final List<Task> tasks = new ArrayList<>();
+        for(int idx = 0; idx < 4; ++idx) {
+            tasks.add(ElectionTestCase.task("DEV", 60));
+        }
+        final List<Contributor> elected = election.electAll(tasks);
+        MatcherAssert.assertThat(
+            Collections.frequency(elected, mihai), Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            Collections.frequency(elected, vlad), Matchers.is(2)
+        );
+    }
+
+    /**
+     * The Contracts of each Contributor are read only once, no matter
+     * how many Tasks are elected.
+     */
+    @Test
+    public void readsContractsOnce() {
+        final List<Contributor> all = new ArrayList<>();
+        for(int idx = 0; idx < 1000; ++idx) {
+            all.add(
+                ElectionTestCase.contributor("c" + idx, 1000 + idx, "DEV")
+            );
+        }
+        final Election election = new Election(
+            BigDecimal.valueOf(1000000), BigDecimal.valueOf(100), all.stream()
+        );
+        final List<Task> tasks = new ArrayList<>();
+        for(int idx = 0; idx < 100; ++idx) {
+            tasks.add(ElectionTestCase.task("DEV", 60));
+        }
+        MatcherAssert.assertThat(
+            election.electAll(tasks),
+            Matchers.everyItem(Matchers.notNullValue(Contributor.class))
+        );
+        for(final Contributor contributor : all) {
+            Mockito.verify(contributor, Mockito.times(1)).contracts();
+        }
+    }
+
+    /**
+     * Mock a Contributor.
+     * @param username Username.
+     * @param rate Hourly rate.
+     * @param roles Roles.
+     * @return Contributor.
+     */
+    private static Contributor contributor(
+        final String username,
+        final int rate,
+        final String... roles
+    ) {
+        final Contributor contributor = Mockito.mock(Contributor.class);
+        Mockito.when(contributor.username()).thenReturn(username);
+        final List<Contract> contracts = new ArrayList<>();
+        for(final String role : roles) {
+            final Contract contract = Mockito.mock(Contract.class);
+            Mockito.when(contract.role()).thenReturn(role);
+            Mockito.when(contract.hourlyRate())
+                .thenReturn(BigDecimal.valueOf(rate));
+            contracts.add(contract);
+        }
+        Mockito.when(contributor.contracts()).thenReturn(
+            new ContributorContracts(
+                contributor, contracts::stream, Mockito.mock(Storage.class)
+            )
+        );
+        return contributor;
+    }
+
+    /**
+     * Mock an unassigned Task.
+     * @param role Role.
+     * @param estimation Estimation in minutes.
+     * @param resigned Contributors who resigned from it.
+     * @return Task.
+     */
+    private static Task task(
+        final String role,
+        final int estimation,
+        final Contributor... resigned
+    ) {
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.role()).thenReturn(role);
+        Mockito.when(task.estimation()).thenReturn(estimation);
+        final List<Resignation> resignations = new ArrayList<>();
+        for(final Contributor contributor : resigned) {
+            final Resignation resignation = Mockito.mock(Resignation.class);
+            Mockito.when(resignation.contributor()).thenReturn(contributor);
+            resignations.add(resignation);
+        }
+        final Resignations all = Mockito.mock(Resignations.class);
+        Mockito.when(all.spliterator()).thenAnswer(
+            invocation -> resignations.spliterator()
+        );
+        Mockito.when(task.resignations()).thenReturn(all);
+        return task;
+    }
+}
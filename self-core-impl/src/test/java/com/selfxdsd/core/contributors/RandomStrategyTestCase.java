@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.contributors;
+
+import com.selfxdsd.api.Contributor;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link RandomStrategy}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class RandomStrategyTestCase {
+
+    /**
+     * It never chooses an excluded Contributor.
+     */
+    @Test
+    public void skipsExcluded() {
+        final Contributor excluded = Mockito.mock(Contributor.class);
+        final List<Contributor> affordable = new ArrayList<>();
+        for(int idx = 0; idx < 100; ++idx) {
+            affordable.add(excluded);
+        }
+        affordable.add(Mockito.mock(Contributor.class));
+        final ElectionStrategy strategy = new RandomStrategy();
+        for(int idx = 0; idx < 20; ++idx) {
+            MatcherAssert.assertThat(
+                strategy.choose(affordable, c -> c == excluded),
+                Matchers.equalTo(100)
+            );
+        }
+    }
+
+    /**
+     * It returns -1 if everybody is excluded.
+     */
+    @Test
+    public void choosesNobodyIfAllExcluded() {
+        MatcherAssert.assertThat(
+            new RandomStrategy().choose(
+                List.of(Mockito.mock(Contributor.class)), c -> true
+            ),
+            Matchers.equalTo(-1)
+        );
+    }
+}
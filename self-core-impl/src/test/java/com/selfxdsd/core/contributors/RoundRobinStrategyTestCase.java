@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.contributors;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Task;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link RoundRobinStrategy}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class RoundRobinStrategyTestCase {
+
+    /**
+     * With equal weights, the Contributors take turns.
+     */
+    @Test
+    public void takesTurns() {
+        final List<Contributor> affordable = List.of(
+            RoundRobinStrategyTestCase.contributor("mihai"),
+            RoundRobinStrategyTestCase.contributor("vlad"),
+            RoundRobinStrategyTestCase.contributor("mary")
+        );
+        final ElectionStrategy strategy = new RoundRobinStrategy();
+        final List<Integer> chosen = new ArrayList<>();
+        for(int idx = 0; idx < 6; ++idx) {
+            chosen.add(strategy.choose(affordable, c -> false));
+        }
+        MatcherAssert.assertThat(
+            chosen, Matchers.contains(0, 1, 2, 0, 1, 2)
+        );
+    }
+
+    /**
+     * Contributors are chosen in proportion to their weights,
+     * spread out over the elections.
+     */
+    @Test
+    public void followsWeights() {
+        final Contributor heavy = RoundRobinStrategyTestCase.contributor(
+            "mihai"
+        );
+        final Contributor light = RoundRobinStrategyTestCase.contributor(
+            "vlad"
+        );
+        final ElectionStrategy strategy = new RoundRobinStrategy(
+            c -> {
+                final int weight;
+                if(c == heavy) {
+                    weight = 2;
+                } else {
+                    weight = 1;
+                }
+                return weight;
+            }
+        );
+        final List<Integer> chosen = new ArrayList<>();
+        for(int idx = 0; idx < 6; ++idx) {
+            chosen.add(strategy.choose(List.of(heavy, light), c -> false));
+        }
+        MatcherAssert.assertThat(
+            chosen, Matchers.contains(0, 1, 0, 0, 1, 0)
+        );
+    }
+
+    /**
+     * Excluded Contributors are skipped.
+     */
+    @Test
+    public void skipsExcluded() {
+        final Contributor excluded = RoundRobinStrategyTestCase.contributor(
+            "mihai"
+        );
+        final List<Contributor> affordable = List.of(
+            excluded, RoundRobinStrategyTestCase.contributor("vlad")
+        );
+        final ElectionStrategy strategy = new RoundRobinStrategy();
+        for(int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                strategy.choose(affordable, c -> c == excluded),
+                Matchers.equalTo(1)
+            );
+        }
+        MatcherAssert.assertThat(
+            strategy.choose(affordable, c -> true),
+            Matchers.equalTo(-1)
+        );
+    }
+
+    /**
+     * Each Project and role takes its own turns.
+     */
+    @Test
+    public void takesTurnsPerProjectAndRole() {
+        final List<Contributor> affordable = List.of(
+            RoundRobinStrategyTestCase.contributor("mihai"),
+            RoundRobinStrategyTestCase.contributor("vlad")
+        );
+        final Task first = RoundRobinStrategyTestCase.task("a/first", "DEV");
+        final Task second = RoundRobinStrategyTestCase.task("a/second", "DEV");
+        final Task review = RoundRobinStrategyTestCase.task("a/first", "REV");
+        final ElectionStrategy strategy = new RoundRobinStrategy();
+        final List<Integer> chosen = new ArrayList<>();
+        for(final Task task : List.of(first, second, review, first)) {
+            chosen.add(
+                strategy.choose(task, affordable, c -> false, c -> 0)
+            );
+        }
+        MatcherAssert.assertThat(chosen, Matchers.contains(0, 0, 0, 1));
+    }
+
+    /**
+     * Only the turns of the most recently used Projects and roles are
+     * remembered.
+     */
+    @Test
+    public void forgetsLeastRecentlyUsedTurns() {
+        final List<Contributor> affordable = List.of(
+            RoundRobinStrategyTestCase.contributor("mihai"),
+            RoundRobinStrategyTestCase.contributor("vlad")
+        );
+        final Task first = RoundRobinStrategyTestCase.task("a/first", "DEV");
+        final Task second = RoundRobinStrategyTestCase.task("a/second", "DEV");
+        final ElectionStrategy strategy = new RoundRobinStrategy(c -> 1, 1);
+        final List<Integer> chosen = new ArrayList<>();
+        for(final Task task : List.of(first, second, first)) {
+            chosen.add(
+                strategy.choose(task, affordable, c -> false, c -> 0)
+            );
+        }
+        MatcherAssert.assertThat(chosen, Matchers.contains(0, 0, 0));
+    }
+
+    /**
+     * Mock a Github Contributor.
+     * @param username Username.
+     * @return Contributor.
+     */
+    private static Contributor contributor(final String username) {
+        final Contributor contributor = Mockito.mock(Contributor.class);
+        Mockito.when(contributor.username()).thenReturn(username);
+        Mockito.when(contributor.provider())
+            .thenReturn(Provider.Names.GITHUB);
+        return contributor;
+    }
+
+    /**
+     * Mock a Task.
+     * @param repo Full name of the repo.
+     * @param role Role.
+     * @return Task.
+     */
+    private static Task task(final String repo, final String role) {
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.repoFullName()).thenReturn(repo);
+        Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.project()).thenReturn(project);
+        Mockito.when(task.role()).thenReturn(role);
+        return task;
+    }
+}
@@ -393,4 +393,28 @@ public final class StoredContributorTestCase {
         Mockito.when(contract.contractId()).thenReturn(contractId);
         return contract;
     }
+
+    /**
+     * StoredContributor reads his Contracts from the Storage only once,
+     * until he is refreshed.
+     */
+    @Test
+    public void readsContractsOnce() {
+        final Storage storage = Mockito.mock(Storage.class);
+        final StoredContributor mihai = new StoredContributor(
+            "mihai", "github", storage
+        );
+        final Contracts all = Mockito.mock(Contracts.class);
+        final Contracts contracts = Mockito.mock(Contracts.class);
+        Mockito.when(all.ofContributor(mihai)).thenReturn(contracts);
+        Mockito.when(storage.contracts()).thenReturn(all);
+
+        MatcherAssert.assertThat(mihai.contracts(), Matchers.is(contracts));
+        MatcherAssert.assertThat(mihai.contracts(), Matchers.is(contracts));
+        Mockito.verify(all, Mockito.times(1)).ofContributor(mihai);
+
+        mihai.refresh();
+        MatcherAssert.assertThat(mihai.contracts(), Matchers.is(contracts));
+        Mockito.verify(all, Mockito.times(2)).ofContributor(mihai);
+    }
 }
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.Workloads;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link CountedTasks}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class CountedTasksTestCase {
+
+    /**
+     * Assigning a Task adds it to the assignee's workload and,
+     * when it is reassigned, takes it off the previous one's.
+     */
+    @Test
+    public void countsAssignedTask() {
+        final Contributor mihai = CountersTestCase.contributor("mihai");
+        final Contributor vlad = CountersTestCase.contributor("vlad");
+        final Counters counters = CountedTasksTestCase.counters(mihai, vlad);
+        final Task task = CountedTasksTestCase.task(vlad);
+        final Contract contract = Mockito.mock(Contract.class);
+        final Task assigned = CountedTasksTestCase.task(mihai);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(origin.assign(task, contract, 10)).thenReturn(assigned);
+        MatcherAssert.assertThat(
+            new CountedTasks(origin, counters).assign(task, contract, 10),
+            Matchers.is(assigned)
+        );
+        MatcherAssert.assertThat(
+            counters.ofContributor(mihai), Matchers.equalTo(3)
+        );
+        MatcherAssert.assertThat(
+            counters.ofContributor(vlad), Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Unassigning and removing Tasks takes them off the workload.
+     */
+    @Test
+    public void countsUnassignedAndRemovedTasks() {
+        final Contributor mihai = CountersTestCase.contributor("mihai");
+        final Counters counters = CountedTasksTestCase.counters(mihai);
+        final Task first = CountedTasksTestCase.task(mihai);
+        final Task second = CountedTasksTestCase.task(mihai);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(origin.remove(second)).thenReturn(true);
+        final Tasks tasks = new CountedTasks(origin, counters);
+        tasks.unassign(first);
+        tasks.remove(second);
+        MatcherAssert.assertThat(
+            counters.ofContributor(mihai), Matchers.equalTo(0)
+        );
+    }
+
+    /**
+     * Removing many Tasks takes them all off the workload; if only
+     * some are removed, the workload is counted again.
+     */
+    @Test
+    public void countsRemovedAll() {
+        final Contributor mihai = CountersTestCase.contributor("mihai");
+        final Workloads counted = Mockito.mock(Workloads.class);
+        Mockito.when(counted.ofContributor(mihai)).thenReturn(2, 7);
+        final Counters counters = new Counters(counted);
+        counters.ofContributor(mihai);
+        final List<Task> both = List.of(
+            CountedTasksTestCase.task(mihai), CountedTasksTestCase.task(mihai)
+        );
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(origin.removeAll(both)).thenReturn(2, 1);
+        final Tasks tasks = new CountedTasks(origin, counters);
+        tasks.removeAll(both);
+        MatcherAssert.assertThat(
+            counters.ofContributor(mihai), Matchers.equalTo(0)
+        );
+        tasks.removeAll(both);
+        MatcherAssert.assertThat(
+            counters.ofContributor(mihai), Matchers.equalTo(7)
+        );
+    }
+
+    /**
+     * Counters keeping a workload of 2 for each of the given Contributors.
+     * @param contributors Contributors.
+     * @return Counters.
+     */
+    private static Counters counters(final Contributor... contributors) {
+        final Workloads counted = Mockito.mock(Workloads.class);
+        final Counters counters = new Counters(counted);
+        for(final Contributor contributor : contributors) {
+            Mockito.when(counted.ofContributor(contributor)).thenReturn(2);
+            counters.ofContributor(contributor);
+        }
+        return counters;
+    }
+
+    /**
+     * Mock a Task.
+     * @param assignee Assignee.
+     * @return Task.
+     */
+    private static Task task(final Contributor assignee) {
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.assignee()).thenReturn(assignee);
+        return task;
+    }
+}
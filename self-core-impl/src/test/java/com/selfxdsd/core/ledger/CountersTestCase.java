@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Workloads;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link Counters}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class CountersTestCase {
+
+    /**
+     * A workload is counted only the first time it is read,
+     * then it is kept up to date.
+     */
+    @Test
+    public void countsOnceThenKeeps() {
+        final Contributor mihai = CountersTestCase.contributor("mihai");
+        final Workloads counted = Mockito.mock(Workloads.class);
+        Mockito.when(counted.ofContributor(mihai)).thenReturn(2);
+        final Counters counters = new Counters(counted);
+        MatcherAssert.assertThat(
+            counters.ofContributor(mihai), Matchers.equalTo(2)
+        );
+        counters.add(mihai, 1);
+        counters.add(mihai, 1);
+        counters.add(mihai, -1);
+        MatcherAssert.assertThat(
+            counters.ofContributor(mihai), Matchers.equalTo(3)
+        );
+        Mockito.verify(counted, Mockito.times(1)).ofContributor(mihai);
+    }
+
+    /**
+     * Writes are ignored while a workload is not kept.
+     */
+    @Test
+    public void ignoresWorkloadNotKept() {
+        final Contributor mihai = CountersTestCase.contributor("mihai");
+        final Workloads counted = Mockito.mock(Workloads.class);
+        Mockito.when(counted.ofContributor(mihai)).thenReturn(2);
+        final Counters counters = new Counters(counted);
+        counters.add(mihai, 1);
+        MatcherAssert.assertThat(
+            counters.ofContributor(mihai), Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * A forgotten workload is counted again.
+     */
+    @Test
+    public void countsForgottenWorkloadAgain() {
+        final Contributor mihai = CountersTestCase.contributor("mihai");
+        final Workloads counted = Mockito.mock(Workloads.class);
+        Mockito.when(counted.ofContributor(mihai)).thenReturn(2, 4);
+        final Counters counters = new Counters(counted);
+        counters.ofContributor(mihai);
+        counters.forget(mihai);
+        MatcherAssert.assertThat(
+            counters.ofContributor(mihai), Matchers.equalTo(4)
+        );
+    }
+
+    /**
+     * Mock a Github Contributor.
+     * @param username Username.
+     * @return Contributor.
+     */
+    static Contributor contributor(final String username) {
+        final Contributor contributor = Mockito.mock(Contributor.class);
+        Mockito.when(contributor.username()).thenReturn(username);
+        Mockito.when(contributor.provider())
+            .thenReturn(Provider.Names.GITHUB);
+        return contributor;
+    }
+}
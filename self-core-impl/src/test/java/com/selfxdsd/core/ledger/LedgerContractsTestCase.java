@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contracts;
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.Project;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+
+/**
+ * Unit tests for {@link LedgerContracts}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerContractsTestCase {
+
+    /**
+     * Updating a Contract's hourly rate makes the Ledger compute
+     * the debt of its Project again.
+     */
+    @Test
+    public void forgetsDebtOnUpdate() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project)).thenReturn(
+            BigDecimal.valueOf(100), BigDecimal.valueOf(150)
+        );
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        final Contract contract = Mockito.mock(Contract.class);
+        Mockito.when(contract.project()).thenReturn(project);
+        final Contract updated = Mockito.mock(Contract.class);
+        final Contracts origin = Mockito.mock(Contracts.class);
+        Mockito.when(origin.update(contract, BigDecimal.TEN))
+            .thenReturn(updated);
+        MatcherAssert.assertThat(
+            new LedgerContracts(origin, ledger).update(
+                contract, BigDecimal.TEN
+            ),
+            Matchers.is(updated)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(150))
+        );
+    }
+}
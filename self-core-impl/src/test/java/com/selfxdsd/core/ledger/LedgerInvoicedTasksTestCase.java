@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.InvoicedTask;
+import com.selfxdsd.api.InvoicedTasks;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Task;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Unit tests for {@link LedgerInvoicedTasks}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerInvoicedTasksTestCase {
+
+    /**
+     * Invoicing a Task adds the invoiced amount to the debt.
+     */
+    @Test
+    public void addsInvoicedTask() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Ledger ledger = LedgerInvoicedTasksTestCase.ledger(project);
+        final Invoice invoice = Mockito.mock(Invoice.class);
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.project()).thenReturn(project);
+        final InvoicedTask invoiced = LedgerInvoicedTasksTestCase.invoiced();
+        final InvoicedTasks origin = Mockito.mock(InvoicedTasks.class);
+        Mockito.when(origin.register(invoice, task, BigDecimal.ONE))
+            .thenReturn(invoiced);
+        MatcherAssert.assertThat(
+            new LedgerInvoicedTasks(origin, ledger).register(
+                invoice, task, BigDecimal.ONE
+            ),
+            Matchers.is(invoiced)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(130))
+        );
+    }
+
+    /**
+     * Invoicing many Tasks adds all the invoiced amounts to the debt.
+     */
+    @Test
+    public void addsAllInvoicedTasks() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Ledger ledger = LedgerInvoicedTasksTestCase.ledger(project);
+        final Invoice invoice = Mockito.mock(Invoice.class);
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.project()).thenReturn(project);
+        final List<Task> tasks = List.of(task, task);
+        final List<InvoicedTask> invoiced = List.of(
+            LedgerInvoicedTasksTestCase.invoiced(),
+            LedgerInvoicedTasksTestCase.invoiced()
+        );
+        final InvoicedTasks origin = Mockito.mock(InvoicedTasks.class);
+        Mockito.when(origin.registerAll(invoice, tasks, BigDecimal.ONE))
+            .thenReturn(invoiced);
+        new LedgerInvoicedTasks(origin, ledger).registerAll(
+            invoice, tasks, BigDecimal.ONE
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(160))
+        );
+    }
+
+    /**
+     * Ledger keeping a debt of 100 for the given Project.
+     * @param project Project.
+     * @return Ledger.
+     */
+    private static Ledger ledger(final Project project) {
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        return ledger;
+    }
+
+    /**
+     * Mock an InvoicedTask of 30.
+     * @return InvoicedTask.
+     */
+    private static InvoicedTask invoiced() {
+        final InvoicedTask invoiced = Mockito.mock(InvoicedTask.class);
+        Mockito.when(invoiced.totalAmount())
+            .thenReturn(BigDecimal.valueOf(30));
+        return invoiced;
+    }
+}
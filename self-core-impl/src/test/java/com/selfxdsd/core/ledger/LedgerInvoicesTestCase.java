@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.Invoices;
+import com.selfxdsd.api.Project;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+
+/**
+ * Unit tests for {@link LedgerInvoices}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerInvoicesTestCase {
+
+    /**
+     * Paying an Invoice takes its total amount off the debt.
+     */
+    @Test
+    public void removesPaidInvoice() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        final Invoice invoice = LedgerInvoicesTestCase.invoice(project);
+        final Invoices origin = Mockito.mock(Invoices.class);
+        Mockito.when(origin.getById(1)).thenReturn(invoice);
+        Mockito.when(origin.registerAsPaid(invoice)).thenReturn(true);
+        MatcherAssert.assertThat(
+            new LedgerInvoices(origin, ledger).registerAsPaid(invoice),
+            Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(70))
+        );
+    }
+
+    /**
+     * The debt does not change if the Invoice could not be paid.
+     */
+    @Test
+    public void keepsDebtIfNotPaid() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        final Invoice invoice = LedgerInvoicesTestCase.invoice(project);
+        final Invoices origin = Mockito.mock(Invoices.class);
+        Mockito.when(origin.getById(1)).thenReturn(invoice);
+        Mockito.when(origin.registerAsPaid(invoice)).thenReturn(false);
+        MatcherAssert.assertThat(
+            new LedgerInvoices(origin, ledger).registerAsPaid(invoice),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(100))
+        );
+    }
+
+    /**
+     * Paying an Invoice which is already paid does not change the debt.
+     */
+    @Test
+    public void ignoresAlreadyPaidInvoice() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        final Invoice invoice = LedgerInvoicesTestCase.invoice(project);
+        Mockito.when(invoice.isPaid()).thenReturn(true);
+        final Invoices origin = Mockito.mock(Invoices.class);
+        Mockito.when(origin.getById(1)).thenReturn(invoice);
+        Mockito.when(origin.registerAsPaid(invoice)).thenReturn(true);
+        new LedgerInvoices(origin, ledger).registerAsPaid(invoice);
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(100))
+        );
+    }
+
+    /**
+     * Mock an Invoice of 30 on the given Project.
+     * @param project Project.
+     * @return Invoice.
+     */
+    private static Invoice invoice(final Project project) {
+        final Contract contract = Mockito.mock(Contract.class);
+        Mockito.when(contract.project()).thenReturn(project);
+        final Invoice invoice = Mockito.mock(Invoice.class);
+        Mockito.when(invoice.invoiceId()).thenReturn(1);
+        Mockito.when(invoice.contract()).thenReturn(contract);
+        Mockito.when(invoice.totalAmount()).thenReturn(BigDecimal.valueOf(30));
+        return invoice;
+    }
+}
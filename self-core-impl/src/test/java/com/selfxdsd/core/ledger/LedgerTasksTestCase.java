@@ -0,0 +1,371 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link LedgerTasks}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerTasksTestCase {
+
+    /**
+     * Assigning a Task adds its value and the PM's commission
+     * to the debt.
+     */
+    @Test
+    public void addsAssignedTask() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = LedgerTasksTestCase.ledger(project, 100);
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.issueId()).thenReturn("1");
+        Mockito.when(task.project()).thenReturn(project);
+        final Contract contract = Mockito.mock(Contract.class);
+        final Task assigned = LedgerTasksTestCase.assigned(project, 50);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(
+            origin.getById("1", "john/test", Provider.Names.GITHUB)
+        ).thenReturn(task);
+        Mockito.when(origin.assign(task, contract, 10)).thenReturn(assigned);
+        MatcherAssert.assertThat(
+            new LedgerTasks(origin, ledger).assign(task, contract, 10),
+            Matchers.is(assigned)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(155))
+        );
+    }
+
+    /**
+     * Reassigning a Task takes the cost of the previous assignment
+     * off the debt before adding the new one.
+     */
+    @Test
+    public void replacesReassignedTask() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = LedgerTasksTestCase.ledger(project, 100);
+        final Task previous = LedgerTasksTestCase.assigned(project, 50);
+        final Contract contract = Mockito.mock(Contract.class);
+        final Task assigned = LedgerTasksTestCase.assigned(project, 20);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(
+            origin.getById("1", "john/test", Provider.Names.GITHUB)
+        ).thenReturn(previous);
+        Mockito.when(origin.assign(previous, contract, 10))
+            .thenReturn(assigned);
+        new LedgerTasks(origin, ledger).assign(previous, contract, 10);
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(70))
+        );
+    }
+
+    /**
+     * The cost of a Task assigned in a transaction is added only
+     * when the transaction is over, and the debt is forgotten if
+     * the transaction fails.
+     */
+    @Test
+    public void addsAssignedTaskAfterTransaction() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = LedgerTasksTestCase.ledger(project, 100);
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.issueId()).thenReturn("1");
+        Mockito.when(task.project()).thenReturn(project);
+        final Contract contract = Mockito.mock(Contract.class);
+        final Task assigned = LedgerTasksTestCase.assigned(project, 50);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(origin.assign(task, contract, 10)).thenReturn(assigned);
+        final Tasks tasks = new LedgerTasks(origin, ledger);
+        ledger.transaction(
+            () -> {
+                tasks.assign(task, contract, 10);
+                MatcherAssert.assertThat(
+                    ledger.ofProject(project),
+                    Matchers.comparesEqualTo(BigDecimal.valueOf(100))
+                );
+                return null;
+            }
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(155))
+        );
+        try {
+            ledger.transaction(
+                () -> {
+                    tasks.assign(task, contract, 10);
+                    throw new IllegalStateException("Rolled back.");
+                }
+            );
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ledger.keeps(project), Matchers.is(Boolean.FALSE)
+            );
+        }
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(100))
+        );
+    }
+
+    /**
+     * Unassigning a Task takes its cost off the debt.
+     */
+    @Test
+    public void removesUnassignedTask() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = LedgerTasksTestCase.ledger(project, 100);
+        final Task assigned = LedgerTasksTestCase.assigned(project, 50);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(
+            origin.getById("1", "john/test", Provider.Names.GITHUB)
+        ).thenReturn(assigned);
+        new LedgerTasks(origin, ledger).unassign(assigned);
+        Mockito.verify(origin).unassign(assigned);
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(45))
+        );
+    }
+
+    /**
+     * Removing an unassigned Task does not change the debt.
+     */
+    @Test
+    public void ignoresRemovedUnassignedTask() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = LedgerTasksTestCase.ledger(project, 100);
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.issueId()).thenReturn("1");
+        Mockito.when(task.project()).thenReturn(project);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(
+            origin.getById("1", "john/test", Provider.Names.GITHUB)
+        ).thenReturn(task);
+        Mockito.when(origin.remove(task)).thenReturn(true);
+        MatcherAssert.assertThat(
+            new LedgerTasks(origin, ledger).remove(task),
+            Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(100))
+        );
+    }
+
+    /**
+     * Removing many assigned Tasks takes their cost off the debt.
+     */
+    @Test
+    public void removesAllAssignedTasks() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = LedgerTasksTestCase.ledger(project, 200);
+        final Task assigned = LedgerTasksTestCase.assigned(project, 50);
+        final List<Task> tasks = List.of(assigned, assigned);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(
+            origin.getById("1", "john/test", Provider.Names.GITHUB)
+        ).thenReturn(assigned);
+        Mockito.when(origin.removeAll(tasks)).thenReturn(2);
+        MatcherAssert.assertThat(
+            new LedgerTasks(origin, ledger).removeAll(tasks),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(90))
+        );
+    }
+
+    /**
+     * If only some of the Tasks are removed, the debt is forgotten.
+     */
+    @Test
+    public void forgetsDebtIfNotAllRemoved() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = LedgerTasksTestCase.ledger(project, 200);
+        final Task assigned = LedgerTasksTestCase.assigned(project, 50);
+        final List<Task> tasks = List.of(assigned, assigned);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(
+            origin.getById("1", "john/test", Provider.Names.GITHUB)
+        ).thenReturn(assigned);
+        Mockito.when(origin.removeAll(tasks)).thenReturn(1);
+        new LedgerTasks(origin, ledger).removeAll(tasks);
+        MatcherAssert.assertThat(
+            ledger.keeps(project), Matchers.is(Boolean.FALSE)
+        );
+    }
+
+    /**
+     * Tasks of a Project whose debt is not kept are not looked up.
+     */
+    @Test
+    public void doesNotLookUpIfNotKept() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = new Ledger(Mockito.mock(Debts.class));
+        final Task assigned = LedgerTasksTestCase.assigned(project, 50);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        new LedgerTasks(origin, ledger).unassign(assigned);
+        Mockito.verify(origin, Mockito.never()).getById(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyString()
+        );
+        Mockito.verify(origin).unassign(assigned);
+    }
+
+    /**
+     * Assigning a Task while it is assigned by someone else makes the
+     * Ledger forget the debt, which is computed again after both writes.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void forgetsDebtOfConcurrentAssign() throws Exception {
+        final Project project = LedgerTasksTestCase.project();
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project)).thenReturn(
+            BigDecimal.valueOf(100), BigDecimal.valueOf(155)
+        );
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.issueId()).thenReturn("1");
+        Mockito.when(task.project()).thenReturn(project);
+        final Contract contract = Mockito.mock(Contract.class);
+        final Task assigned = LedgerTasksTestCase.assigned(project, 50);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(
+            origin.getById("1", "john/test", Provider.Names.GITHUB)
+        ).thenReturn(task);
+        Mockito.when(origin.assign(task, contract, 10)).thenAnswer(
+            invocation -> {
+                if(calls.incrementAndGet() == 1) {
+                    started.countDown();
+                    release.await(1, TimeUnit.MINUTES);
+                }
+                return assigned;
+            }
+        );
+        final Tasks tasks = new LedgerTasks(origin, ledger);
+        final CompletableFuture<Task> first = CompletableFuture.supplyAsync(
+            () -> tasks.assign(task, contract, 10)
+        );
+        started.await(1, TimeUnit.MINUTES);
+        tasks.assign(task, contract, 10);
+        release.countDown();
+        first.get(1, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(155))
+        );
+        Mockito.verify(computed, Mockito.times(2)).ofProject(project);
+    }
+
+    /**
+     * The cost of an assigned Task is not worked out if the debt of its
+     * Project is not kept.
+     */
+    @Test
+    public void doesNotCostIfNotKept() {
+        final Project project = LedgerTasksTestCase.project();
+        final Ledger ledger = new Ledger(Mockito.mock(Debts.class));
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.issueId()).thenReturn("1");
+        Mockito.when(task.project()).thenReturn(project);
+        final Contract contract = Mockito.mock(Contract.class);
+        final Task assigned = LedgerTasksTestCase.assigned(project, 50);
+        final Tasks origin = Mockito.mock(Tasks.class);
+        Mockito.when(origin.assign(task, contract, 10)).thenReturn(assigned);
+        new LedgerTasks(origin, ledger).assign(task, contract, 10);
+        Mockito.verify(project, Mockito.never()).projectManager();
+        Mockito.verify(assigned, Mockito.never()).value();
+    }
+
+    /**
+     * Mock the Project john/test, with a PM commission of 5.
+     * @return Project.
+     */
+    private static Project project() {
+        final Project project = LedgerTestCase.project("john/test");
+        final ProjectManager manager = Mockito.mock(ProjectManager.class);
+        Mockito.when(manager.commission()).thenReturn(BigDecimal.valueOf(5));
+        Mockito.when(project.projectManager()).thenReturn(manager);
+        return project;
+    }
+
+    /**
+     * Ledger keeping the given debt of a Project.
+     * @param project Project.
+     * @param debt Debt.
+     * @return Ledger.
+     */
+    private static Ledger ledger(final Project project, final int debt) {
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(debt));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        return ledger;
+    }
+
+    /**
+     * Mock the assigned Task #1.
+     * @param project Project.
+     * @param value Value of the Task.
+     * @return Task.
+     */
+    private static Task assigned(final Project project, final int value) {
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.issueId()).thenReturn("1");
+        Mockito.when(task.project()).thenReturn(project);
+        Mockito.when(task.assignee())
+            .thenReturn(Mockito.mock(Contributor.class));
+        Mockito.when(task.value()).thenReturn(BigDecimal.valueOf(value));
+        return task;
+    }
+}
@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.ledger;
+
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.core.Money;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Unit tests for {@link Ledger}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LedgerTestCase {
+
+    /**
+     * The debt of a Project is computed only the first time it is read.
+     */
+    @Test
+    public void computesDebtOnlyOnce() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.equalTo(BigDecimal.valueOf(100))
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.equalTo(BigDecimal.valueOf(100))
+        );
+        Mockito.verify(computed, Mockito.times(1)).ofProject(project);
+    }
+
+    /**
+     * Amounts are added to the kept debt of a Project.
+     */
+    @Test
+    public void addsToKeptDebt() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        ledger.add(project, Money.of(50));
+        ledger.add(project, Money.of(-30));
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.equalTo(BigDecimal.valueOf(120))
+        );
+    }
+
+    /**
+     * Amounts are ignored while the debt of a Project is not kept.
+     */
+    @Test
+    public void ignoresDebtNotKept() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.add(project, Money.of(50));
+        MatcherAssert.assertThat(
+            ledger.keeps(project), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.equalTo(BigDecimal.valueOf(100))
+        );
+        MatcherAssert.assertThat(
+            ledger.keeps(project), Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * A forgotten debt is computed again.
+     */
+    @Test
+    public void computesForgottenDebtAgain() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project)).thenReturn(
+            BigDecimal.valueOf(100), BigDecimal.valueOf(80)
+        );
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        ledger.forget(project);
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.equalTo(BigDecimal.valueOf(80))
+        );
+    }
+
+    /**
+     * Debts of different Projects are kept apart.
+     */
+    @Test
+    public void keepsProjectsApart() {
+        final Project first = LedgerTestCase.project("john/test");
+        final Project second = LedgerTestCase.project("john/other");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(first))
+            .thenReturn(BigDecimal.valueOf(100));
+        Mockito.when(computed.ofProject(second))
+            .thenReturn(BigDecimal.valueOf(10));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(first);
+        ledger.ofProject(second);
+        ledger.add(first, Money.of(5));
+        MatcherAssert.assertThat(
+            ledger.ofProject(second),
+            Matchers.equalTo(BigDecimal.valueOf(10))
+        );
+    }
+
+    /**
+     * Check passes when the kept debt is the computed one.
+     */
+    @Test
+    public void checksCorrectDebt() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        MatcherAssert.assertThat(
+            ledger.check(project), Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * Check finds and corrects a kept debt which drifted.
+     */
+    @Test
+    public void checksAndCorrectsDrift() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        ledger.add(project, Money.of(7));
+        MatcherAssert.assertThat(
+            ledger.check(project), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.equalTo(BigDecimal.valueOf(100))
+        );
+    }
+
+    /**
+     * A debt computed while its Project is written is not kept, since
+     * it may or may not see the write.
+     */
+    @Test
+    public void keepsNoDebtComputedDuringWrite() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project)).thenReturn(
+            BigDecimal.valueOf(150), BigDecimal.valueOf(150)
+        );
+        final Ledger ledger = new Ledger(computed);
+        ledger.write(
+            project,
+            () -> {
+                MatcherAssert.assertThat(
+                    ledger.ofProject(project),
+                    Matchers.equalTo(BigDecimal.valueOf(150))
+                );
+                ledger.add(project, Money.of(50));
+                return null;
+            }
+        );
+        MatcherAssert.assertThat(
+            ledger.keeps(project), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.equalTo(BigDecimal.valueOf(150))
+        );
+    }
+
+    /**
+     * A debt is forgotten if its write fails.
+     */
+    @Test
+    public void forgetsDebtOfFailedWrite() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project))
+            .thenReturn(BigDecimal.valueOf(100));
+        final Ledger ledger = new Ledger(computed);
+        ledger.ofProject(project);
+        try {
+            ledger.write(
+                project,
+                () -> {
+                    throw new IllegalStateException("Write failed.");
+                }
+            );
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ledger.keeps(project), Matchers.is(Boolean.FALSE)
+            );
+        }
+    }
+
+    /**
+     * A kept debt is computed again once its lifetime is over.
+     */
+    @Test
+    public void computesExpiredDebtAgain() {
+        final Project project = LedgerTestCase.project("john/test");
+        final Debts computed = Mockito.mock(Debts.class);
+        Mockito.when(computed.ofProject(project)).thenReturn(
+            BigDecimal.valueOf(100), BigDecimal.valueOf(80)
+        );
+        final Ledger ledger = new Ledger(computed, Duration.ZERO);
+        ledger.ofProject(project);
+        MatcherAssert.assertThat(
+            ledger.ofProject(project),
+            Matchers.equalTo(BigDecimal.valueOf(80))
+        );
+    }
+
+    /**
+     * Mock a Project.
+     * @param repo Repo full name.
+     * @return Project.
+     */
+    static Project project(final String repo) {
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.repoFullName()).thenReturn(repo);
+        Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
+        return project;
+    }
+}
@@ -24,6 +24,7 @@ package com.selfxdsd.core.managers;
 
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.pm.Step;
+import com.selfxdsd.api.storage.Storage;
 import com.selfxdsd.core.projects.English;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -67,6 +68,9 @@ public final class AssignTaskToIssueAssigneeTestCase {
         ).thenReturn(contributor);
 
         final Project project = Mockito.mock(Project.class);
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.outbox()).thenReturn(new Outbox.Immediate());
+        Mockito.when(project.storage()).thenReturn(storage);
         Mockito.when(project.repoFullName()).thenReturn("mihai/test");
         Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
         Mockito.when(project.tasks()).thenReturn(ofProject);
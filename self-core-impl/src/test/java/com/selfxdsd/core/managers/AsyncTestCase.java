@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.pm.Conversation;
+import com.selfxdsd.api.pm.Step;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for {@link Async}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class AsyncTestCase {
+
+    /**
+     * A synchronous Step is performed on the executor, not in the
+     * calling thread.
+     */
+    @Test
+    public void performsSyncStepOnExecutor() {
+        final AtomicReference<String> thread = new AtomicReference<>();
+        Async.perform(
+            event -> thread.set(Thread.currentThread().getName()),
+            Mockito.mock(Event.class),
+            Async.executor()
+        ).join();
+        MatcherAssert.assertThat(
+            thread.get(), Matchers.startsWith("self-steps-")
+        );
+    }
+
+    /**
+     * A synchronous Step adapts to the async API: its failure
+     * completes the stage, it is not thrown.
+     */
+    @Test
+    public void adaptsSyncStep() {
+        final Step failing = event -> {
+            throw new IllegalStateException("Provider down.");
+        };
+        final CompletionStage<Void> stage = failing.performAsync(
+            Mockito.mock(Event.class)
+        );
+        MatcherAssert.assertThat(
+            stage.toCompletableFuture().isCompletedExceptionally(),
+            Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * A Conversation performs its steps asynchronously.
+     */
+    @Test
+    public void startsConversationAsync() {
+        final AtomicReference<Event> performed = new AtomicReference<>();
+        final Conversation conversation = event -> performed::set;
+        final Event event = Mockito.mock(Event.class);
+        conversation.startAsync(event).toCompletableFuture().join();
+        MatcherAssert.assertThat(performed.get(), Matchers.is(event));
+    }
+
+    /**
+     * Awaiting a stage rethrows the original failure.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void awaitsOriginalFailure() {
+        Async.await(
+            CompletableFuture.failedFuture(
+                new CompletionException(
+                    new IllegalStateException("Provider down.")
+                )
+            )
+        );
+    }
+}
@@ -180,5 +180,55 @@ public final class AuthorHasRolesTestCase {
         return repo;
     }
 
+    /**
+     * AuthorHasRoles built without the Event reads the author of
+     * each Event it performs.
+     */
+    @Test
+    public void readsAuthorOfEachEvent(){
+        final Storage storage = new InMemory();
+        storage.contributors().register("john", "github");
+        storage.contributors().register("mary", "github");
+        final Project project = storage
+            .projects()
+            .register(
+                mockRepo("john/test", "github"),
+                storage.projectManagers().pick("github"),
+                "wbtoken123"
+            );
+        project.contracts()
+            .addContract("john/test",
+                "john", "github", BigDecimal.TEN, "PO");
+        project.contracts()
+            .addContract("john/test",
+                "mary", "github", BigDecimal.TEN, "DEV");
+
+        final Step onTrue = Mockito.mock(Step.class);
+        final Step onFalse = Mockito.mock(Step.class);
+        final Step step = new AuthorHasRoles(
+            onTrue, onFalse, Contract.Roles.ARCH, Contract.Roles.PO
+        );
+        final Event john = this.mockEvent(project, "john");
+        final Event mary = this.mockEvent(project, "mary");
+        step.perform(john);
+        step.perform(mary);
+        Mockito.verify(onTrue, Mockito.times(1)).perform(john);
+        Mockito.verify(onFalse, Mockito.times(1)).perform(mary);
+        Mockito.verify(onTrue, Mockito.never()).perform(mary);
+    }
 
+    /**
+     * Mock an Event with a comment.
+     * @param project Project.
+     * @param author Author of the comment.
+     * @return Event.
+     */
+    private Event mockEvent(final Project project, final String author) {
+        final Comment comment = Mockito.mock(Comment.class);
+        Mockito.when(comment.author()).thenReturn(author);
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.project()).thenReturn(project);
+        Mockito.when(event.comment()).thenReturn(comment);
+        return event;
+    }
 }
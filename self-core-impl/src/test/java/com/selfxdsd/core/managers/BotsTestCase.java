@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.core.Env;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Unit tests for {@link Bots}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class BotsTestCase {
+
+    /**
+     * Known bots are recognized regardless of the case.
+     */
+    @Test
+    public void knowsDefaultBots() {
+        MatcherAssert.assertThat(
+            Bots.known("Rultor", Provider.Names.GITHUB),
+            Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            Bots.known("dependabot", "GitHub"),
+            Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            Bots.known("rultor", Provider.Names.GITLAB),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            Bots.known("ana", Provider.Names.GITHUB),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            Bots.known("rultor", "bitbucket"),
+            Matchers.is(Boolean.FALSE)
+        );
+    }
+
+    /**
+     * More bots can be configured for each provider.
+     */
+    @Test
+    public void readsConfiguredBots() {
+        final Map<String, Set<String>> known = Bots.configured(
+            name -> Map.of(
+                Env.KNOWN_BOTS + Provider.Names.GITLAB, " GitLab-Bot, ,ci"
+            ).get(name)
+        );
+        MatcherAssert.assertThat(
+            known.get(Provider.Names.GITLAB),
+            Matchers.containsInAnyOrder("gitlab-bot", "ci")
+        );
+        MatcherAssert.assertThat(
+            known.get(Provider.Names.GITHUB),
+            Matchers.hasItems("rultor", "0pdd", "0crat")
+        );
+    }
+}
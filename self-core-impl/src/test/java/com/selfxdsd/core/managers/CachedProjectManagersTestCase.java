@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.ProjectManagers;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.core.storage.MemoryStorage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link CachedProjectManagers}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class CachedProjectManagersTestCase {
+
+    /**
+     * The PMs are read once, not for every check, and the usernames are
+     * compared case-insensitively.
+     */
+    @Test
+    public void readsPmsOnce() {
+        final Provider github = Mockito.mock(Provider.class);
+        Mockito.when(github.name()).thenReturn(Provider.Names.GITHUB);
+        final ProjectManager ana = Mockito.mock(ProjectManager.class);
+        Mockito.when(ana.username()).thenReturn("Ana");
+        Mockito.when(ana.provider()).thenReturn(github);
+        final ProjectManagers origin = Mockito.mock(ProjectManagers.class);
+        Mockito.when(origin.iterator()).thenReturn(List.of(ana).iterator());
+        final ProjectManagers managers = new CachedProjectManagers(origin);
+        MatcherAssert.assertThat(
+            managers.contains("ana", Provider.Names.GITHUB),
+            Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            managers.contains("ana", Provider.Names.GITLAB),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            managers.contains("mihai", Provider.Names.GITHUB),
+            Matchers.is(Boolean.FALSE)
+        );
+        Mockito.verify(origin, Mockito.times(1)).iterator();
+        Mockito.verify(origin, Mockito.never()).getByUsername(
+            Mockito.anyString(), Mockito.anyString()
+        );
+    }
+
+    /**
+     * A PM registered through the CachedProjectManagers is added without
+     * reading the PMs again.
+     */
+    @Test
+    public void addsRegisteredPm() {
+        final Provider github = Mockito.mock(Provider.class);
+        Mockito.when(github.name()).thenReturn(Provider.Names.GITHUB);
+        final ProjectManager zoe = Mockito.mock(ProjectManager.class);
+        Mockito.when(zoe.username()).thenReturn("zoe");
+        Mockito.when(zoe.provider()).thenReturn(github);
+        final ProjectManagers origin = Mockito.mock(ProjectManagers.class);
+        Mockito.when(origin.iterator()).thenReturn(
+            Collections.emptyIterator()
+        );
+        Mockito.when(
+            origin.register(
+                "1", "zoe", Provider.Names.GITHUB, "token",
+                BigDecimal.valueOf(5)
+            )
+        ).thenReturn(zoe);
+        final ProjectManagers managers = new CachedProjectManagers(origin);
+        MatcherAssert.assertThat(
+            managers.contains("zoe", Provider.Names.GITHUB),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            managers.register(
+                "1", "zoe", Provider.Names.GITHUB, "token",
+                BigDecimal.valueOf(5)
+            ),
+            Matchers.is(zoe)
+        );
+        MatcherAssert.assertThat(
+            managers.contains("Zoe", Provider.Names.GITHUB),
+            Matchers.is(Boolean.TRUE)
+        );
+        Mockito.verify(origin, Mockito.times(1)).iterator();
+    }
+
+    /**
+     * The PMs of different Storages are kept apart.
+     */
+    @Test
+    public void keepsStoragesApart() {
+        final MemoryStorage first = new MemoryStorage();
+        first.projectManagers().register(
+            "1", "mihai", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(5)
+        );
+        final MemoryStorage second = new MemoryStorage();
+        MatcherAssert.assertThat(
+            first.projectManagers().contains("mihai", Provider.Names.GITHUB),
+            Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            second.projectManagers().contains("mihai", Provider.Names.GITHUB),
+            Matchers.is(Boolean.FALSE)
+        );
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Comments;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Issues;
+import com.selfxdsd.api.Outbox;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Projects;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.storage.MemoryOutbox;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Unit tests for {@link Courier}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class CourierTestCase {
+
+    /**
+     * Courier delivers the messages of an Issue in order and
+     * forgets them.
+     */
+    @Test
+    public void deliversInOrder() {
+        final Comments comments = Mockito.mock(Comments.class);
+        final Issue issue = CourierTestCase.issue(comments);
+        Mockito.when(issue.assign("mihai")).thenReturn(true);
+        final Storage storage = CourierTestCase.storage(issue);
+        final Outbox outbox = storage.outbox();
+        outbox.send(issue, Outbox.Message.assign("mihai"));
+        outbox.send(issue, Outbox.Message.comment("assigned"));
+        MatcherAssert.assertThat(
+            new Courier(storage).deliver(), Matchers.equalTo(2)
+        );
+        final InOrder order = Mockito.inOrder(issue, comments);
+        order.verify(issue).assign("mihai");
+        order.verify(comments).post("assigned");
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now().plusDays(1), 10),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * Courier retries a failed message later and holds back the
+     * messages after it.
+     */
+    @Test
+    public void retriesFailedMessage() {
+        final Comments comments = Mockito.mock(Comments.class);
+        final Issue issue = CourierTestCase.issue(comments);
+        Mockito.when(issue.assign("mihai")).thenThrow(
+            new IllegalStateException("Provider is down.")
+        );
+        final Storage storage = CourierTestCase.storage(issue);
+        final Outbox outbox = storage.outbox();
+        outbox.send(issue, Outbox.Message.assign("mihai"));
+        outbox.send(issue, Outbox.Message.comment("assigned"));
+        MatcherAssert.assertThat(
+            new Courier(storage, Runnable::run, 10, 3).deliver(),
+            Matchers.equalTo(0)
+        );
+        Mockito.verify(comments, Mockito.never()).post(Mockito.anyString());
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now(), 10), Matchers.emptyIterable()
+        );
+        final List<Outbox.Pending> later = outbox.due(
+            LocalDateTime.now().plusMinutes(2), 10
+        );
+        MatcherAssert.assertThat(later, Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(later.get(0).attempts(), Matchers.is(1));
+    }
+
+    /**
+     * Courier gives up on a message after the max attempts and
+     * delivers the ones after it.
+     */
+    @Test
+    public void givesUpAfterMaxAttempts() {
+        final Comments comments = Mockito.mock(Comments.class);
+        final Issue issue = CourierTestCase.issue(comments);
+        Mockito.when(issue.assign("mihai")).thenThrow(
+            new IllegalStateException("Provider is down.")
+        );
+        final Storage storage = CourierTestCase.storage(issue);
+        final Outbox outbox = storage.outbox();
+        outbox.send(issue, Outbox.Message.assign("mihai"));
+        outbox.send(issue, Outbox.Message.comment("assigned"));
+        MatcherAssert.assertThat(
+            new Courier(storage, Runnable::run, 10, 1).deliver(),
+            Matchers.equalTo(1)
+        );
+        Mockito.verify(comments).post("assigned");
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now().plusDays(1), 10),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * Courier skips an assignment which the Provider refuses and
+     * delivers the messages after it.
+     */
+    @Test
+    public void skipsRefusedAssignment() {
+        final Comments comments = Mockito.mock(Comments.class);
+        final Issue issue = CourierTestCase.issue(comments);
+        Mockito.when(issue.assign("mihai")).thenReturn(false);
+        final Storage storage = CourierTestCase.storage(issue);
+        final Outbox outbox = storage.outbox();
+        outbox.send(issue, Outbox.Message.assign("mihai"));
+        outbox.send(issue, Outbox.Message.comment("assigned"));
+        MatcherAssert.assertThat(
+            new Courier(storage, Runnable::run, 10, 3).deliver(),
+            Matchers.equalTo(1)
+        );
+        Mockito.verify(comments).post("assigned");
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now().plusDays(1), 10),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * Courier does not deliver a message claimed by another Courier,
+     * nor the ones after it.
+     */
+    @Test
+    public void skipsClaimedMessage() {
+        final Comments comments = Mockito.mock(Comments.class);
+        final Issue issue = CourierTestCase.issue(comments);
+        final Storage storage = CourierTestCase.storage(issue);
+        final Outbox outbox = storage.outbox();
+        outbox.send(issue, Outbox.Message.comment("assigned"));
+        outbox.send(issue, Outbox.Message.comment("reminder"));
+        final List<Outbox.Pending> due = outbox.due(LocalDateTime.now(), 10);
+        outbox.claim(due.get(0), LocalDateTime.now().plusMinutes(5));
+        MatcherAssert.assertThat(
+            new Courier(storage, Runnable::run, 10, 3).deliver(),
+            Matchers.equalTo(0)
+        );
+        Mockito.verify(comments, Mockito.never()).post(Mockito.anyString());
+    }
+
+    /**
+     * Mock Issue #1 of mihai/test at Github.
+     * @param comments Comments of the Issue.
+     * @return Issue.
+     */
+    private static Issue issue(final Comments comments) {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn("1");
+        Mockito.when(issue.repoFullName()).thenReturn("mihai/test");
+        Mockito.when(issue.provider()).thenReturn("github");
+        Mockito.when(issue.comments()).thenReturn(comments);
+        return issue;
+    }
+
+    /**
+     * Mock Storage with a MemoryOutbox and the Project of the Issue.
+     * @param issue Issue.
+     * @return Storage.
+     */
+    private static Storage storage(final Issue issue) {
+        final Issues issues = Mockito.mock(Issues.class);
+        Mockito.when(issues.getById("1")).thenReturn(issue);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.issues()).thenReturn(issues);
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.repo()).thenReturn(repo);
+        final Projects projects = Mockito.mock(Projects.class);
+        Mockito.when(projects.getProjectById("mihai/test", "github"))
+            .thenReturn(project);
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.projects()).thenReturn(projects);
+        Mockito.when(storage.outbox()).thenReturn(new MemoryOutbox());
+        return storage;
+    }
+}
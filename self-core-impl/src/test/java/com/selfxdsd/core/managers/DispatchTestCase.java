@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.pm.Conversation;
+import com.selfxdsd.api.pm.Step;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+
+/**
+ * Unit tests for {@link Dispatch}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class DispatchTestCase {
+
+    /**
+     * Dispatch starts the conversation of the Event's type.
+     */
+    @Test
+    public void startsConversationOfType() {
+        final Step hello = Mockito.mock(Step.class);
+        final Conversation dispatch = new Dispatch(
+            Map.of(
+                Event.Type.HELLO, event -> hello,
+                Event.Type.STATUS, event -> {
+                    throw new IllegalStateException("Should not be called.");
+                }
+            ),
+            event -> {
+                throw new IllegalStateException("Should not be called.");
+            }
+        );
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.type()).thenReturn(Event.Type.HELLO);
+        MatcherAssert.assertThat(
+            dispatch.start(event), Matchers.sameInstance(hello)
+        );
+    }
+
+    /**
+     * Dispatch starts the other conversation if the Event's type
+     * has none.
+     */
+    @Test
+    public void startsOtherConversation() {
+        final Step confused = Mockito.mock(Step.class);
+        final Conversation dispatch = new Dispatch(
+            Map.of(
+                Event.Type.HELLO, event -> {
+                    throw new IllegalStateException("Should not be called.");
+                }
+            ),
+            event -> confused
+        );
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.type()).thenReturn(Event.Type.CONFUSED);
+        MatcherAssert.assertThat(
+            dispatch.start(event), Matchers.sameInstance(confused)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.managers;
+
+import com.selfxdsd.api.Event;
+import com.selfxdsd.api.pm.Step;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link Fork}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class ForkTestCase {
+
+    /**
+     * The branches run at the same time: each of them waits for
+     * the other, so they would time out if they ran one after the other.
+     */
+    @Test
+    public void performsBranchesAtTheSameTime() {
+        final CountDownLatch started = new CountDownLatch(2);
+        final AtomicInteger overlapped = new AtomicInteger();
+        final Step branch = event -> {
+            started.countDown();
+            try {
+                if(started.await(5, TimeUnit.SECONDS)) {
+                    overlapped.incrementAndGet();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        final AtomicInteger next = new AtomicInteger();
+        new Fork(
+            event -> next.incrementAndGet(), branch, branch
+        ).perform(Mockito.mock(Event.class));
+        MatcherAssert.assertThat(overlapped.get(), Matchers.is(2));
+        MatcherAssert.assertThat(next.get(), Matchers.is(1));
+    }
+
+    /**
+     * The next step is performed only after all the branches are done.
+     */
+    @Test
+    public void performsNextAfterBranches() {
+        final AtomicInteger done = new AtomicInteger();
+        final Step branch = event -> done.incrementAndGet();
+        final AtomicInteger seen = new AtomicInteger(-1);
+        new Fork(
+            event -> seen.set(done.get()),
+            branch, branch, branch
+        ).perform(Mockito.mock(Event.class));
+        MatcherAssert.assertThat(seen.get(), Matchers.is(3));
+    }
+
+    /**
+     * If a branch fails, the others are still performed, but not the
+     * next step, and the failure reaches the caller as it was.
+     */
+    @Test
+    public void propagatesFailure() {
+        final AtomicInteger done = new AtomicInteger();
+        final AtomicInteger next = new AtomicInteger();
+        try {
+            new Fork(
+                Runnable::run,
+                event -> next.incrementAndGet(),
+                List.of(
+                    failing -> {
+                        throw new IllegalStateException("Provider down.");
+                    },
+                    working -> done.incrementAndGet()
+                )
+            ).perform(Mockito.mock(Event.class));
+            MatcherAssert.assertThat("Should have failed.", false);
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.equalTo("Provider down.")
+            );
+        }
+        MatcherAssert.assertThat(done.get(), Matchers.is(1));
+        MatcherAssert.assertThat(next.get(), Matchers.is(0));
+    }
+}
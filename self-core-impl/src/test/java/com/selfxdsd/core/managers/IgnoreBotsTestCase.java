@@ -87,9 +87,8 @@ public final class IgnoreBotsTestCase {
         Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
 
         final ProjectManagers managers = Mockito.mock(ProjectManagers.class);
-        Mockito
-            .when(managers.getByUsername("ana", Provider.Names.GITHUB))
-            .thenReturn(Mockito.mock(ProjectManager.class));
+        Mockito.when(managers.contains("ana", Provider.Names.GITHUB))
+            .thenReturn(true);
         final Storage storage = Mockito.mock(Storage.class);
         Mockito.when(storage.projectManagers()).thenReturn(managers);
         Mockito.when(project.storage()).thenReturn(storage);
@@ -105,7 +104,7 @@ public final class IgnoreBotsTestCase {
         Mockito.verify(project, Mockito.times(1)).storage();
         Mockito.verify(storage, Mockito.times(1)).projectManagers();
         Mockito.verify(managers, Mockito.times(1))
-            .getByUsername("ana", Provider.Names.GITHUB);
+            .contains("ana", Provider.Names.GITHUB);
     }
 
     /**
@@ -123,9 +122,8 @@ public final class IgnoreBotsTestCase {
         Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
 
         final ProjectManagers managers = Mockito.mock(ProjectManagers.class);
-        Mockito
-            .when(managers.getByUsername("ana", Provider.Names.GITHUB))
-            .thenReturn(null);
+        Mockito.when(managers.contains("ana", Provider.Names.GITHUB))
+            .thenReturn(false);
         final Storage storage = Mockito.mock(Storage.class);
         Mockito.when(storage.projectManagers()).thenReturn(managers);
         Mockito.when(project.storage()).thenReturn(storage);
@@ -141,7 +139,7 @@ public final class IgnoreBotsTestCase {
         Mockito.verify(project, Mockito.times(1)).storage();
         Mockito.verify(storage, Mockito.times(1)).projectManagers();
         Mockito.verify(managers, Mockito.times(1))
-            .getByUsername("ana", Provider.Names.GITHUB);
+            .contains("ana", Provider.Names.GITHUB);
 
         Mockito.verify(next, Mockito.times(1)).start(event);
     }
@@ -26,7 +26,9 @@ import com.selfxdsd.api.Comment;
 import com.selfxdsd.api.Comments;
 import com.selfxdsd.api.Event;
 import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Project;
 import com.selfxdsd.api.pm.Step;
+import com.selfxdsd.core.projects.English;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -72,4 +74,33 @@ public final class SendReplyTestCase {
         Mockito.verify(comments, Mockito.times(1)).post(expected);
     }
 
+    /**
+     * SendReply can make the reply from the Event, so the same step
+     * replies to every comment's author.
+     */
+    @Test
+    public void repliesToEachAuthor() {
+        final Step step = new SendReply(SendReply.toAuthor("hello.comment"));
+        for(final String author : new String[] {"mihai", "vlad"}) {
+            final Comments comments = Mockito.mock(Comments.class);
+            final Issue issue = Mockito.mock(Issue.class);
+            Mockito.when(issue.comments()).thenReturn(comments);
+            final Comment comment = Mockito.mock(Comment.class);
+            Mockito.when(comment.body()).thenReturn("@zoeself hello");
+            Mockito.when(comment.author()).thenReturn(author);
+            final Project project = Mockito.mock(Project.class);
+            Mockito.when(project.language()).thenReturn(new English());
+            final Event event = Mockito.mock(Event.class);
+            Mockito.when(event.issue()).thenReturn(issue);
+            Mockito.when(event.comment()).thenReturn(comment);
+            Mockito.when(event.project()).thenReturn(project);
+
+            step.perform(event);
+            Mockito.verify(comments, Mockito.times(1)).post(
+                Mockito.startsWith(
+                    "> @zoeself hello\n\nHi @" + author + "! I'm the"
+                )
+            );
+        }
+    }
 }
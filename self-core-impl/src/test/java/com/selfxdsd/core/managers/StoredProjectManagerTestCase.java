@@ -29,6 +29,7 @@ import com.selfxdsd.core.mock.InMemory;
 import com.selfxdsd.core.projects.English;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -36,6 +37,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -256,7 +258,7 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class)
+            StoredProjectManagerTestCase.storage()
         );
         final Labels labels = Mockito.mock(Labels.class);
         Mockito.when(labels.iterator())
@@ -272,6 +274,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(issue.comments()).thenReturn(comments);
 
         final Project project = Mockito.mock(Project.class);
+        final Storage storage = StoredProjectManagerTestCase.storage();
+        Mockito.when(project.storage()).thenReturn(storage);
         final Tasks tasks = Mockito.mock(Tasks.class);
         Mockito.when(project.tasks()).thenReturn(tasks);
         Mockito.when(project.language()).thenReturn(new English());
@@ -322,7 +326,7 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class)
+            StoredProjectManagerTestCase.storage()
         );
         final Issue issue = Mockito.mock(Issue.class);
         Mockito.when(issue.isPullRequest()).thenReturn(Boolean.FALSE);
@@ -391,7 +395,7 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class)
+            StoredProjectManagerTestCase.storage()
         );
         final Issue issue = Mockito.mock(Issue.class);
         Mockito.when(issue.isPullRequest()).thenReturn(Boolean.TRUE);
@@ -508,6 +512,91 @@ public final class StoredProjectManagerTestCase {
         );
     }
 
+    /**
+     * PM invoices the assigned Task of a closed Issue.
+     */
+    @Test
+    public void handlesClosedIssueEventAssignedTask() {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn("1");
+        Mockito.when(issue.repoFullName()).thenReturn("mihai/test");
+        Mockito.when(issue.provider()).thenReturn("github");
+        final Comments comments = Mockito.mock(Comments.class);
+        Mockito.when(issue.comments()).thenReturn(comments);
+        final Contributor assignee = Mockito.mock(Contributor.class);
+        Mockito.when(assignee.username()).thenReturn("mihai");
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.assignee()).thenReturn(assignee);
+        final Invoice active = Mockito.mock(Invoice.class);
+        final InvoicedTask invoiced = Mockito.mock(InvoicedTask.class);
+        Mockito.when(
+            active.registerAll(List.of(task), BigDecimal.valueOf(50))
+        ).thenReturn(List.of(invoiced));
+        final Invoices invoices = Mockito.mock(Invoices.class);
+        Mockito.when(invoices.active()).thenReturn(active);
+        final Contract contract = Mockito.mock(Contract.class);
+        Mockito.when(contract.invoices()).thenReturn(invoices);
+        Mockito.when(task.contract()).thenReturn(contract);
+        final Tasks tasks = Mockito.mock(Tasks.class);
+        Mockito.when(tasks.getById("1", "mihai/test", "github"))
+            .thenReturn(task);
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.tasks()).thenReturn(tasks);
+        Mockito.when(project.language()).thenReturn(new English());
+        final Tasks all = Mockito.mock(Tasks.class);
+        Mockito.when(all.removeAll(List.of(task))).thenReturn(1);
+        final Storage storage = StoredProjectManagerTestCase.storage();
+        Mockito.when(storage.tasks()).thenReturn(all);
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.project()).thenReturn(project);
+        Mockito.when(event.issue()).thenReturn(issue);
+        new StoredProjectManager(
+            1,
+            "123",
+            "zoeself",
+            Provider.Names.GITHUB,
+            "123token",
+            BigDecimal.valueOf(50),
+            storage
+        ).closedIssue(event);
+        Mockito.verify(active, Mockito.times(1))
+            .registerAll(List.of(task), BigDecimal.valueOf(50));
+        Mockito.verify(all, Mockito.times(1)).removeAll(List.of(task));
+        Mockito.verify(comments, Mockito.times(1)).post(Mockito.anyString());
+    }
+
+    /**
+     * PM ignores a closed Issue whose Task is not assigned.
+     */
+    @Test
+    public void handlesClosedIssueEventUnassignedTask() {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn("1");
+        Mockito.when(issue.repoFullName()).thenReturn("mihai/test");
+        Mockito.when(issue.provider()).thenReturn("github");
+        final Task task = Mockito.mock(Task.class);
+        final Tasks tasks = Mockito.mock(Tasks.class);
+        Mockito.when(tasks.getById("1", "mihai/test", "github"))
+            .thenReturn(task);
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.tasks()).thenReturn(tasks);
+        final Storage storage = StoredProjectManagerTestCase.storage();
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.project()).thenReturn(project);
+        Mockito.when(event.issue()).thenReturn(issue);
+        new StoredProjectManager(
+            1,
+            "123",
+            "zoeself",
+            Provider.Names.GITHUB,
+            "123token",
+            BigDecimal.valueOf(50),
+            storage
+        ).closedIssue(event);
+        Mockito.verify(task, Mockito.never()).contract();
+        Mockito.verify(storage, Mockito.never()).tasks();
+    }
+
     /**
      * StoredProjectManager.unassignedTasks(Event) works when there
      * is no assignee found (posts comment in Issue).
@@ -533,7 +622,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(project.tasks()).thenReturn(ofProject);
         Mockito.when(project.language()).thenReturn(new English());
         final Contributors contributors = Mockito.mock(Contributors.class);
-        Mockito.when(contributors.elect(task)).thenReturn(null);
+        Mockito.when(contributors.electAll(List.of(task)))
+            .thenReturn(Collections.singletonList(null));
         Mockito.when(project.contributors()).thenReturn(contributors);
         final User owner = Mockito.mock(User.class);
         Mockito.when(owner.username()).thenReturn("mihai");
@@ -549,7 +639,7 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class)
+            StoredProjectManagerTestCase.storage()
         );
 
         manager.unassignedTasks(event);
@@ -557,7 +647,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.verify(event, Mockito.times(1)).project();
         Mockito.verify(project, Mockito.times(1)).tasks();
         Mockito.verify(ofProject, Mockito.times(1)).unassigned();
-        Mockito.verify(contributors, Mockito.times(1)).elect(task);
+        Mockito.verify(contributors, Mockito.times(1))
+            .electAll(List.of(task));
         Mockito.verify(comments, Mockito.times(1))
             .post(
                 Mockito.startsWith(
@@ -615,6 +706,7 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(task.assign(assignee)).thenReturn(assigned);
 
         final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.assign("mihai")).thenReturn(true);
         final Comments comments = Mockito.mock(Comments.class);
         Mockito.when(comments.post(Mockito.anyString())).thenReturn(null);
         Mockito.when(issue.comments()).thenReturn(comments);
@@ -631,7 +723,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(project.tasks()).thenReturn(ofProject);
         Mockito.when(project.language()).thenReturn(new English());
         final Contributors contributors = Mockito.mock(Contributors.class);
-        Mockito.when(contributors.elect(task)).thenReturn(assignee);
+        Mockito.when(contributors.electAll(List.of(task)))
+            .thenReturn(List.of(assignee));
 
         Mockito.when(project.contributors()).thenReturn(contributors);
         final User owner = Mockito.mock(User.class);
@@ -648,7 +741,7 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class)
+            StoredProjectManagerTestCase.storage()
         );
 
         manager.unassignedTasks(event);
@@ -656,7 +749,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.verify(event, Mockito.times(1)).project();
         Mockito.verify(project, Mockito.times(1)).tasks();
         Mockito.verify(ofProject, Mockito.times(1)).unassigned();
-        Mockito.verify(contributors, Mockito.times(1)).elect(task);
+        Mockito.verify(contributors, Mockito.times(1))
+            .electAll(List.of(task));
         Mockito.verify(task, Mockito.times(1)).assign(assignee);
         Mockito.verify(issue, Mockito.times(1)).assign("mihai");
         Mockito.verify(comments, Mockito.times(1))
@@ -683,6 +777,7 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(task.assign(assignee)).thenReturn(assigned);
 
         final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.assign("mihai")).thenReturn(true);
         final Comments comments = Mockito.mock(Comments.class);
         Mockito.when(comments.post(Mockito.anyString())).thenReturn(null);
         Mockito.when(issue.comments()).thenReturn(comments);
@@ -701,7 +796,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(project.tasks()).thenReturn(ofProject);
         Mockito.when(project.language()).thenReturn(new English());
         final Contributors contributors = Mockito.mock(Contributors.class);
-        Mockito.when(contributors.elect(task)).thenReturn(assignee);
+        Mockito.when(contributors.electAll(List.of(task)))
+            .thenReturn(List.of(assignee));
         Mockito.when(contributors.getById("mihai", "github"))
             .thenReturn(assignee);
         Mockito.when(project.contributors()).thenReturn(contributors);
@@ -720,7 +816,7 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class)
+            StoredProjectManagerTestCase.storage()
         );
 
         manager.unassignedTasks(event);
@@ -755,6 +851,7 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(task.assign(assignee)).thenReturn(assigned);
 
         final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.assign("mihai")).thenReturn(true);
         final Comments comments = Mockito.mock(Comments.class);
         Mockito.when(comments.post(Mockito.anyString())).thenReturn(null);
         Mockito.when(issue.comments()).thenReturn(comments);
@@ -774,7 +871,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(project.tasks()).thenReturn(ofProject);
         Mockito.when(project.language()).thenReturn(new English());
         final Contributors contributors = Mockito.mock(Contributors.class);
-        Mockito.when(contributors.elect(task)).thenReturn(assignee);
+        Mockito.when(contributors.electAll(List.of(task)))
+            .thenReturn(List.of(assignee));
         Mockito.when(contributors.getById("mihai", "github"))
             .thenReturn(assignee);
         Mockito.when(project.contributors()).thenReturn(contributors);
@@ -793,7 +891,7 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class)
+            StoredProjectManagerTestCase.storage()
         );
 
         manager.unassignedTasks(event);
@@ -801,7 +899,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.verify(event, Mockito.times(1)).project();
         Mockito.verify(project, Mockito.times(1)).tasks();
         Mockito.verify(ofProject, Mockito.times(1)).unassigned();
-        Mockito.verify(contributors, Mockito.times(1)).elect(task);
+        Mockito.verify(contributors, Mockito.times(1))
+            .electAll(List.of(task));
         Mockito.verify(task, Mockito.times(1)).assign(assignee);
         Mockito.verify(issue, Mockito.times(1)).assign("mihai");
         Mockito.verify(issue, Mockito.times(1)).unassign("john");
@@ -915,6 +1014,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(tasks.iterator()).thenReturn(
             new ArrayList<Task>().iterator()
         );
+        Mockito.when(tasks.dueBefore(Mockito.any(LocalDateTime.class)))
+            .thenReturn(tasks);
         Mockito.when(project.tasks()).thenReturn(tasks);
         final Event event = Mockito.mock(Event.class);
         Mockito.when(event.project()).thenReturn(project);
@@ -947,6 +1048,8 @@ public final class StoredProjectManagerTestCase {
         final Project project = Mockito.mock(Project.class);
         final Tasks tasks = Mockito.mock(Tasks.class);
         Mockito.when(tasks.iterator()).thenReturn(mocks.iterator());
+        Mockito.when(tasks.dueBefore(Mockito.any(LocalDateTime.class)))
+            .thenReturn(tasks);
         Mockito.when(project.tasks()).thenReturn(tasks);
         final Event event = Mockito.mock(Event.class);
         Mockito.when(event.project()).thenReturn(project);
@@ -991,8 +1094,8 @@ public final class StoredProjectManagerTestCase {
         final InvoicedTask invoiced = Mockito.mock(InvoicedTask.class);
         final Invoice active = Mockito.mock(Invoice.class);
         Mockito.when(
-            active.register(task, BigDecimal.valueOf(50))
-        ).thenReturn(invoiced);
+            active.registerAll(List.of(task), BigDecimal.valueOf(50))
+        ).thenReturn(List.of(invoiced));
         final Invoices invoices = Mockito.mock(Invoices.class);
         Mockito.when(invoices.active()).thenReturn(active);
         final Contract contract = Mockito.mock(Contract.class);
@@ -1011,11 +1114,13 @@ public final class StoredProjectManagerTestCase {
 
         final Tasks tasks = Mockito.mock(Tasks.class);
         Mockito.when(tasks.iterator()).thenReturn(mocks.iterator());
+        Mockito.when(tasks.dueBefore(Mockito.any(LocalDateTime.class)))
+            .thenReturn(tasks);
         Mockito.when(project.tasks()).thenReturn(tasks);
 
         final Tasks all = Mockito.mock(Tasks.class);
-        Mockito.when(all.remove(task)).thenReturn(true);
-        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(all.removeAll(List.of(task))).thenReturn(1);
+        final Storage storage = StoredProjectManagerTestCase.storage();
         Mockito.when(storage.tasks()).thenReturn(all);
 
         final Event event = Mockito.mock(Event.class);
@@ -1036,8 +1141,8 @@ public final class StoredProjectManagerTestCase {
         Mockito.verify(contract, Mockito.times(1)).invoices();
         Mockito.verify(invoices, Mockito.times(1)).active();
         Mockito.verify(active, Mockito.times(1))
-            .register(task, BigDecimal.valueOf(50));
-        Mockito.verify(all, Mockito.times(1)).remove(task);
+            .registerAll(List.of(task), BigDecimal.valueOf(50));
+        Mockito.verify(all, Mockito.times(1)).removeAll(List.of(task));
         Mockito.verify(comments, Mockito.times(1)).post(Mockito.anyString());
     }
 
@@ -1055,6 +1160,10 @@ public final class StoredProjectManagerTestCase {
 
         final Tasks tasks = Mockito.mock(Tasks.class);
         Mockito.when(tasks.iterator()).thenReturn(List.of(task).iterator());
+        final Tasks due = Mockito.mock(Tasks.class);
+        Mockito.when(due.iterator()).thenReturn(List.of(task).iterator());
+        Mockito.when(tasks.dueBefore(Mockito.any(LocalDateTime.class)))
+            .thenReturn(due);
         Mockito.when(project.tasks()).thenReturn(tasks);
 
         final Resignations resignations = Mockito.mock(Resignations.class);
@@ -1080,6 +1189,10 @@ public final class StoredProjectManagerTestCase {
         final Event event = Mockito.mock(Event.class);
         Mockito.when(event.project()).thenReturn(project);
 
+        final Tasks all = Mockito.mock(Tasks.class);
+        final Storage storage = StoredProjectManagerTestCase.storage();
+        Mockito.when(storage.tasks()).thenReturn(all);
+
         final ProjectManager manager = new StoredProjectManager(
             1,
             "123",
@@ -1087,7 +1200,7 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class),
+            storage,
             now
         );
         manager.assignedTasks(event);
@@ -1095,6 +1208,112 @@ public final class StoredProjectManagerTestCase {
             .post("@mihai Don't forget to close this ticket before the"
                 + " deadline (" + deadlineDate.toString() + "). "
                 + "You are past the first half of the allowed period.");
+        Mockito.verify(all, Mockito.times(1)).remind(task, now.get());
+    }
+
+    /**
+     * PM does not remind the assignee of the deadline again, once
+     * the reminder was sent.
+     */
+    @Test
+    public void doesNotRemindTwice() {
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.language()).thenReturn(new English());
+        final Task task = Mockito.mock(Task.class);
+        final Tasks tasks = Mockito.mock(Tasks.class);
+        Mockito.when(tasks.iterator()).thenReturn(List.of(task).iterator());
+        final Tasks due = Mockito.mock(Tasks.class);
+        Mockito.when(due.iterator()).thenReturn(List.of(task).iterator());
+        Mockito.when(tasks.dueBefore(Mockito.any(LocalDateTime.class)))
+            .thenReturn(due);
+        Mockito.when(project.tasks()).thenReturn(tasks);
+        final Contributor assignee = Mockito.mock(Contributor.class);
+        Mockito.when(assignee.username()).thenReturn("mihai");
+        Mockito.when(task.assignee()).thenReturn(assignee);
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.isClosed()).thenReturn(Boolean.FALSE);
+        Mockito.when(task.issue()).thenReturn(issue);
+        final Comments comments = Mockito.mock(Comments.class);
+        Mockito.when(issue.comments()).thenReturn(comments);
+        final LocalDateTime assignmentDate = LocalDateTime.now();
+        Mockito.when(task.assignmentDate()).thenReturn(assignmentDate);
+        Mockito.when(task.deadline()).thenReturn(assignmentDate.plusDays(10));
+        Mockito.when(task.reminded()).thenReturn(assignmentDate.plusDays(5));
+        Mockito.when(task.reminders()).thenReturn(1);
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.project()).thenReturn(project);
+        final Tasks all = Mockito.mock(Tasks.class);
+        final Storage storage = StoredProjectManagerTestCase.storage();
+        Mockito.when(storage.tasks()).thenReturn(all);
+        new StoredProjectManager(
+            1,
+            "123",
+            "zoeself",
+            Provider.Names.GITHUB,
+            "123token",
+            BigDecimal.valueOf(50),
+            storage,
+            () -> assignmentDate.plusDays(6)
+        ).assignedTasks(event);
+        Mockito.verify(comments, Mockito.never()).post(Mockito.anyString());
+        Mockito.verify(all, Mockito.never())
+            .remind(Mockito.any(Task.class), Mockito.any(LocalDateTime.class));
+    }
+
+    /**
+     * PM does not remind the assignee of the deadline if the Tasks
+     * cannot record the reminder, so it is not sent at every sweep.
+     */
+    @Test
+    public void doesNotRemindIfNotRecorded() {
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.language()).thenReturn(new English());
+        final Task task = Mockito.mock(Task.class);
+        final Tasks tasks = Mockito.mock(Tasks.class);
+        Mockito.when(tasks.iterator()).thenReturn(List.of(task).iterator());
+        final Tasks due = Mockito.mock(Tasks.class);
+        Mockito.when(due.iterator()).thenReturn(List.of(task).iterator());
+        Mockito.when(tasks.dueBefore(Mockito.any(LocalDateTime.class)))
+            .thenReturn(due);
+        Mockito.when(project.tasks()).thenReturn(tasks);
+        final Contributor assignee = Mockito.mock(Contributor.class);
+        Mockito.when(assignee.username()).thenReturn("mihai");
+        Mockito.when(task.assignee()).thenReturn(assignee);
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.isClosed()).thenReturn(Boolean.FALSE);
+        Mockito.when(task.issue()).thenReturn(issue);
+        final Comments comments = Mockito.mock(Comments.class);
+        Mockito.when(issue.comments()).thenReturn(comments);
+        final LocalDateTime assignmentDate = LocalDateTime.now();
+        final LocalDateTime now = assignmentDate.plusDays(6);
+        Mockito.when(task.assignmentDate()).thenReturn(assignmentDate);
+        Mockito.when(task.deadline()).thenReturn(assignmentDate.plusDays(10));
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.project()).thenReturn(project);
+        final Tasks all = Mockito.mock(Tasks.class);
+        Mockito.when(all.remind(task, now)).thenThrow(
+            new UnsupportedOperationException("Cannot record reminders.")
+        );
+        final Storage storage = StoredProjectManagerTestCase.storage();
+        Mockito.when(storage.tasks()).thenReturn(all);
+        try {
+            new StoredProjectManager(
+                1,
+                "123",
+                "zoeself",
+                Provider.Names.GITHUB,
+                "123token",
+                BigDecimal.valueOf(50),
+                storage,
+                () -> now
+            ).assignedTasks(event);
+            Assert.fail("UnsupportedOperationException was expected.");
+        } catch (final UnsupportedOperationException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.equalTo("Cannot record reminders.")
+            );
+        }
+        Mockito.verify(comments, Mockito.never()).post(Mockito.anyString());
     }
 
     /**
@@ -1111,6 +1330,10 @@ public final class StoredProjectManagerTestCase {
 
         final Tasks tasks = Mockito.mock(Tasks.class);
         Mockito.when(tasks.iterator()).thenReturn(List.of(task).iterator());
+        final Tasks due = Mockito.mock(Tasks.class);
+        Mockito.when(due.iterator()).thenReturn(List.of(task).iterator());
+        Mockito.when(tasks.dueBefore(Mockito.any(LocalDateTime.class)))
+            .thenReturn(due);
         Mockito.when(project.tasks()).thenReturn(tasks);
 
         final Resignations resignations = Mockito.mock(Resignations.class);
@@ -1133,6 +1356,10 @@ public final class StoredProjectManagerTestCase {
         Mockito.when(task.assignmentDate()).thenReturn(assignmentDate);
         Mockito.when(task.deadline()).thenReturn(deadlineDate);
 
+        final Resignations all = Mockito.mock(Resignations.class);
+        final Storage storage = StoredProjectManagerTestCase.storage();
+        Mockito.when(storage.resignations()).thenReturn(all);
+
         final Event event = Mockito.mock(Event.class);
         Mockito.when(event.project()).thenReturn(project);
 
@@ -1143,13 +1370,13 @@ public final class StoredProjectManagerTestCase {
             Provider.Names.GITHUB,
             "123token",
             BigDecimal.valueOf(50),
-            Mockito.mock(Storage.class),
+            storage,
             now
         );
         manager.assignedTasks(event);
         Mockito.verify(task, Mockito.times(1)).unassign();
-        Mockito.verify(task.resignations(), Mockito.times(1))
-            .register(task, Resignations.Reason.DEADLINE);
+        Mockito.verify(all, Mockito.times(1))
+            .registerAll(List.of(task), Resignations.Reason.DEADLINE);
         Mockito.verify(comments, Mockito.times(1))
             .post("@mihai Looks like you've missed the task deadline ("
                 + deadlineDate.toString() + "). "
@@ -1158,6 +1385,55 @@ public final class StoredProjectManagerTestCase {
                 + "I will assign it to someone else soon.");
     }
 
+    /**
+     * PM does not look at the deadlines of the assigned Tasks which are
+     * not due yet.
+     */
+    @Test
+    public void handlesAssignedTasksEventNothingDue() {
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.language()).thenReturn(new English());
+
+        final Task task = Mockito.mock(Task.class);
+        final Contributor assignee = Mockito.mock(Contributor.class);
+        Mockito.when(assignee.username()).thenReturn("mihai");
+        Mockito.when(task.assignee()).thenReturn(assignee);
+
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.isClosed()).thenReturn(Boolean.FALSE);
+        Mockito.when(task.issue()).thenReturn(issue);
+        final Comments comments = Mockito.mock(Comments.class);
+        Mockito.when(issue.comments()).thenReturn(comments);
+
+        final Tasks tasks = Mockito.mock(Tasks.class);
+        Mockito.when(tasks.iterator()).thenReturn(List.of(task).iterator());
+        final Tasks due = Mockito.mock(Tasks.class);
+        Mockito.when(due.iterator())
+            .thenReturn(new ArrayList<Task>().iterator());
+        final LocalDateTime now = LocalDateTime.now();
+        Mockito.when(tasks.dueBefore(now)).thenReturn(due);
+        Mockito.when(project.tasks()).thenReturn(tasks);
+
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.project()).thenReturn(project);
+
+        final ProjectManager manager = new StoredProjectManager(
+            1,
+            "123",
+            "zoeself",
+            Provider.Names.GITHUB,
+            "123token",
+            BigDecimal.valueOf(50),
+            Mockito.mock(Storage.class),
+            () -> now
+        );
+        manager.assignedTasks(event);
+        Mockito.verify(tasks, Mockito.times(1)).dueBefore(now);
+        Mockito.verify(task, Mockito.never()).deadline();
+        Mockito.verify(task, Mockito.never()).unassign();
+        Mockito.verify(comments, Mockito.never()).post(Mockito.anyString());
+    }
+
     /**
      * Mock a Repo for test.
      *
@@ -1188,4 +1464,14 @@ public final class StoredProjectManagerTestCase {
         ).thenReturn(repo);
         return repo;
     }
+
+    /**
+     * Mock Storage, with an Outbox which sends the messages right away.
+     * @return Storage.
+     */
+    private static Storage storage() {
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.outbox()).thenReturn(new Outbox.Immediate());
+        return storage;
+    }
 }
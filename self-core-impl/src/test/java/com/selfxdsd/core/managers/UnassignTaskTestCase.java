@@ -24,6 +24,7 @@ package com.selfxdsd.core.managers;
 
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.pm.Step;
+import com.selfxdsd.api.storage.Storage;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -109,6 +110,7 @@ public final class UnassignTaskTestCase {
 
         final Event event = Mockito.mock(Event.class);
         final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.unassign("mihai")).thenReturn(true);
         Mockito.when(issue.issueId()).thenReturn("1");
         Mockito.when(issue.assignee()).thenReturn("mihai");
         Mockito.when(event.issue()).thenReturn(issue);
@@ -118,6 +120,9 @@ public final class UnassignTaskTestCase {
             tasks.getById("1", "john/test", "github")
         ).thenReturn(task);
         final Project project = Mockito.mock(Project.class);
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.outbox()).thenReturn(new Outbox.Immediate());
+        Mockito.when(project.storage()).thenReturn(storage);
         Mockito.when(project.repoFullName()).thenReturn("john/test");
         Mockito.when(project.provider()).thenReturn("github");
         Mockito.when(project.tasks()).thenReturn(tasks);
@@ -34,7 +34,9 @@ import com.selfxdsd.core.contracts.StoredContract;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * In-Memory Contracts for testing purposes.
@@ -160,7 +162,8 @@ public final class InMemoryContracts implements Contracts {
 
     @Override
     public Contracts ofContributor(final Contributor contributor) {
-        final List<Contract> ofContributor = this.contracts.keySet()
+        final Supplier<Stream<Contract>> ofContributor = () -> this.contracts
+            .keySet()
             .stream()
             .filter(
                 //@checkstyle LineLength (5 lines)
@@ -169,10 +172,9 @@ public final class InMemoryContracts implements Contracts {
                         && key.provider.equals(contributor.provider());
                 }
             )
-            .map(key -> this.contracts.get(key))
-            .collect(Collectors.toList());
+            .map(key -> this.contracts.get(key));
         return new ContributorContracts(
-            contributor, ofContributor::stream, this.storage
+            contributor, ofContributor, this.storage
         );
     }
 
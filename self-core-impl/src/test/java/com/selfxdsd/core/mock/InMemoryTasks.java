@@ -149,6 +149,27 @@ public final class InMemoryTasks implements Tasks {
         return unassigned;
     }
 
+    @Override
+    public Task remind(final Task task, final LocalDateTime moment) {
+        final TaskKey key = new TaskKey(
+            task.issueId(),
+            task.project().repoFullName(),
+            task.project().provider()
+        );
+        final Task reminded = new StoredTask(
+            task.contract(),
+            key.issueId,
+            this.storage,
+            task.assignmentDate(),
+            task.deadline(),
+            task.estimation(),
+            moment,
+            task.reminders() + 1
+        );
+        this.tasks.put(key, reminded);
+        return reminded;
+    }
+
     @Override
     public Tasks ofProject(final String repoFullName,
                            final String repoProvider) {
@@ -191,6 +212,14 @@ public final class InMemoryTasks implements Tasks {
         return new UnassignedTasks(unassigned, storage);
     }
 
+    @Override
+    public Tasks dueBefore(final LocalDateTime moment) {
+        final Supplier<Stream<Task>> due = () -> tasks.values()
+            .stream()
+            .filter(t -> new Due(t).before(moment));
+        return new DueTasks(due, storage);
+    }
+
     @Override
     public boolean remove(final Task task) {
         final TaskKey key = new TaskKey(
@@ -28,6 +28,8 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.MissingFormatArgumentException;
 
 /**
  * Unit tests for {@link English}.
@@ -89,4 +91,40 @@ public final class EnglishTestCase {
         );
     }
 
+    /**
+     * English fills in a reply just like String.format does.
+     */
+    @Test
+    public void fillsInReply() {
+        final Language english = new English();
+        final LocalDateTime since = LocalDateTime.of(2020, 10, 19, 12, 0);
+        MatcherAssert.assertThat(
+            english.reply(
+                "taskIsAssigned.comment",
+                "mihai", "vlad", since, since.plusDays(10), 60
+            ),
+            Matchers.equalTo(
+                String.format(
+                    english.reply("taskIsAssigned.comment"),
+                    "mihai", "vlad", since, since.plusDays(10), 60
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            english.reply("hello.comment", (Object) null),
+            Matchers.startsWith("Hi @null! I'm the Project Manager")
+        );
+        MatcherAssert.assertThat(
+            english.reply("bla.comment", "mihai"),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * English complains, like String.format, if an argument is missing.
+     */
+    @Test(expected = MissingFormatArgumentException.class)
+    public void complainsAboutMissingArgument() {
+        new English().reply("taskIsAssigned.comment", "mihai");
+    }
 }
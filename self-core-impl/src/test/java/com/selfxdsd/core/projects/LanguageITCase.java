@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.projects;
+
+import com.selfxdsd.api.Language;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Benchmark of {@link Language#categorize(String)} against the loop with
+ * one String.contains per command word which it replaces. The numbers
+ * are logged, the assertions are only sanity checks.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LanguageITCase {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        LanguageITCase.class
+    );
+
+    /**
+     * Number of measured rounds, after as many warm-up rounds.
+     */
+    private static final int ROUNDS = 20_000;
+
+    /**
+     * Some comments, as the PM would receive them.
+     */
+    private static final String[] COMMENTS = {
+        "@zoeself hello there, who are you?",
+        "@zoeself status",
+        "@zoeself please deregister this ticket, it is a duplicate of #12.",
+        "@zoeself reassign to @mihai from @vlad, he is on vacation.",
+        "@zoeself I do not understand why this build fails on master, "
+            + "can someone have a look at the logs and tell me what is "
+            + "wrong with the dependencies? Thanks!",
+    };
+
+    /**
+     * Compare the time it takes to categorize the comments.
+     * @throws IOException If the commands cannot be read.
+     */
+    @Test
+    public void categorizesComments() throws IOException {
+        final Properties commands = new Properties();
+        try (InputStream in = this.getClass().getClassLoader()
+            .getResourceAsStream("commands_test.properties")) {
+            commands.load(in);
+        }
+        final Language language = new LanguageTestCase.Testing();
+        for(final String comment : LanguageITCase.COMMENTS) {
+            MatcherAssert.assertThat(
+                language.categorize(comment),
+                Matchers.equalTo(
+                    LanguageTestCase.containsLoop(commands, comment)
+                )
+            );
+        }
+        LanguageITCase.loop(commands);
+        final long loop = LanguageITCase.loop(commands);
+        LanguageITCase.matcher(language);
+        final long matcher = LanguageITCase.matcher(language);
+        final int calls = LanguageITCase.ROUNDS
+            * LanguageITCase.COMMENTS.length;
+        LanguageITCase.LOG.info(
+            "Categorized {} comments: contains loop {} ns/op, "
+            + "matcher {} ns/op.",
+            calls, loop / calls, matcher / calls
+        );
+    }
+
+    /**
+     * Time some rounds of the contains loop.
+     * @param commands Commands.
+     * @return Elapsed nanoseconds.
+     */
+    private static long loop(final Properties commands) {
+        final long start = System.nanoTime();
+        int confused = 0;
+        for(int round = 0; round < LanguageITCase.ROUNDS; ++round) {
+            for(final String comment : LanguageITCase.COMMENTS) {
+                if("confused".equals(LanguageITCase.old(commands, comment))) {
+                    ++confused;
+                }
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+        MatcherAssert.assertThat(confused, Matchers.greaterThan(0));
+        return elapsed;
+    }
+
+    /**
+     * Time some rounds of the compiled matcher.
+     * @param language Language.
+     * @return Elapsed nanoseconds.
+     */
+    private static long matcher(final Language language) {
+        final long start = System.nanoTime();
+        int confused = 0;
+        for(int round = 0; round < LanguageITCase.ROUNDS; ++round) {
+            for(final String comment : LanguageITCase.COMMENTS) {
+                if("confused".equals(language.categorize(comment))) {
+                    ++confused;
+                }
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+        MatcherAssert.assertThat(confused, Matchers.greaterThan(0));
+        return elapsed;
+    }
+
+    /**
+     * Categorize a comment as Language used to.
+     * @param commands Commands.
+     * @param comment Comment.
+     * @return Category.
+     */
+    private static String old(
+        final Properties commands,
+        final String comment
+    ) {
+        String category = "confused";
+        for(final Object key : commands.keySet()) {
+            final String keyString = (String) key;
+            final String[] words = commands.getProperty(keyString, "")
+                .split("\\^");
+            boolean match = true;
+            for(final String word : words) {
+                if(!comment.contains(word.trim())) {
+                    match = false;
+                }
+            }
+            if(match) {
+                category = keyString.split("\\.")[0];
+                break;
+            }
+        }
+        return category;
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.projects;
+
+import com.selfxdsd.api.Language;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Unit tests for the command matching of {@link Language}, with
+ * overlapping and multi-word commands.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LanguageTestCase {
+
+    /**
+     * Commands file used in these tests.
+     */
+    private static final String COMMANDS = "commands_test.properties";
+
+    /**
+     * The command with longer words wins.
+     */
+    @Test
+    public void prefersLongerWords() {
+        final Language language = new LanguageTestCase.Testing();
+        MatcherAssert.assertThat(
+            language.categorize("@zoeself deregister"),
+            Matchers.equalTo("deregister")
+        );
+        MatcherAssert.assertThat(
+            language.categorize("@zoeself register"),
+            Matchers.equalTo("register")
+        );
+        MatcherAssert.assertThat(
+            language.categorize("@zoeself resign"),
+            Matchers.equalTo("resign")
+        );
+    }
+
+    /**
+     * The command with more words wins.
+     */
+    @Test
+    public void prefersMoreWords() {
+        final Language language = new LanguageTestCase.Testing();
+        MatcherAssert.assertThat(
+            language.categorize("@zoeself reassign to mihai from vlad"),
+            Matchers.equalTo("reassign")
+        );
+        MatcherAssert.assertThat(
+            language.categorize("@zoeself unassign to"),
+            Matchers.equalTo("unassign")
+        );
+        MatcherAssert.assertThat(
+            language.categorize("@zoeself assign to mihai"),
+            Matchers.equalTo("assign")
+        );
+    }
+
+    /**
+     * Overlapping words are all found.
+     */
+    @Test
+    public void findsOverlappingWords() {
+        final Language language = new LanguageTestCase.Testing();
+        MatcherAssert.assertThat(
+            language.categorize("ushers"),
+            Matchers.equalTo("hers")
+        );
+        MatcherAssert.assertThat(
+            language.categorize("@zoeself what?"),
+            Matchers.equalTo("confused")
+        );
+    }
+
+    /**
+     * Random comments are categorized as the old one-contains-per-word
+     * loop would, with the documented priority between the commands.
+     * @throws IOException If the commands cannot be read.
+     */
+    @Test
+    public void matchesLikeContainsLoop() throws IOException {
+        final Properties commands = new Properties();
+        try (InputStream in = this.getClass().getClassLoader()
+            .getResourceAsStream(LanguageTestCase.COMMANDS)) {
+            commands.load(in);
+        }
+        final String[] vocabulary = {
+            "hello", "register", "deregister", "resign", "status", "sign",
+            "assign", "un", "re", "to", "from", "he", "she", "hers",
+            "reg", "ister", "ass", "ign", "@zoeself", " ", "x", "?",
+        };
+        final Language language = new LanguageTestCase.Testing();
+        final Random random = new Random(20201019L);
+        for(int round = 0; round < 5_000; ++round) {
+            final StringBuilder comment = new StringBuilder();
+            final int parts = random.nextInt(8);
+            for(int idx = 0; idx < parts; ++idx) {
+                comment.append(vocabulary[random.nextInt(vocabulary.length)]);
+            }
+            MatcherAssert.assertThat(
+                comment.toString(),
+                language.categorize(comment.toString()),
+                Matchers.equalTo(
+                    LanguageTestCase.containsLoop(
+                        commands, comment.toString()
+                    )
+                )
+            );
+        }
+    }
+
+    /**
+     * Categorize a comment as Language used to: one String.contains per
+     * word of every command, but going through the commands by priority.
+     * @param commands Commands.
+     * @param comment Comment.
+     * @return Category.
+     */
+    static String containsLoop(
+        final Properties commands,
+        final String comment
+    ) {
+        final List<String> keys = new ArrayList<>(
+            commands.stringPropertyNames()
+        );
+        keys.sort(
+            Comparator.<String>comparingInt(
+                key -> -commands.getProperty(key).split("\\^").length
+            ).thenComparingInt(
+                key -> -commands.getProperty(key).replaceAll("[\\s^]", "")
+                    .length()
+            ).thenComparing(Comparator.naturalOrder())
+        );
+        String category = "confused";
+        for(final String key : keys) {
+            boolean match = true;
+            for(final String word : commands.getProperty(key).split("\\^")) {
+                if(!comment.contains(word.trim())) {
+                    match = false;
+                }
+            }
+            if(match) {
+                category = key.split("\\.")[0];
+                break;
+            }
+        }
+        return category;
+    }
+
+    /**
+     * Language with the test commands.
+     */
+    static final class Testing extends Language {
+
+        /**
+         * Ctor.
+         */
+        Testing() {
+            super(LanguageTestCase.COMMANDS, "responses_en.properties");
+        }
+    }
+}
@@ -24,6 +24,7 @@ package com.selfxdsd.core.projects;
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.exceptions.WalletAlreadyExistsException;
 import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.Lanes;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -31,6 +32,8 @@ import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Unit tests for {@link StoredProject}.
@@ -384,4 +387,54 @@ public final class StoredProjectTestCase {
         Mockito.when(repo.provider()).thenReturn(provider);
         return repo;
     }
+
+    /**
+     * StoredProject hands the Event to its ProjectManager in a worker
+     * of its Lanes and waits for it.
+     */
+    @Test
+    public void resolvesEventInLane() {
+        final AtomicReference<String> thread = new AtomicReference<>();
+        final ProjectManager manager = Mockito.mock(ProjectManager.class);
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.type()).thenReturn(Event.Type.ISSUE_COMMENT);
+        Mockito.doAnswer(
+            invocation -> {
+                thread.set(Thread.currentThread().getName());
+                return null;
+            }
+        ).when(manager).comment(event);
+        try (final Lanes lanes = new Lanes(1)) {
+            new StoredProject(
+                Mockito.mock(User.class),
+                "mihai/test",
+                "wh123token",
+                manager,
+                Mockito.mock(Storage.class),
+                lanes
+            ).resolve(event);
+        }
+        Mockito.verify(manager, Mockito.times(1)).comment(event);
+        MatcherAssert.assertThat(thread.get(), Matchers.is("self-lanes-0"));
+    }
+
+    /**
+     * StoredProject rethrows the failure of its Lanes, e.g. when they
+     * are closed.
+     */
+    @Test(expected = RejectedExecutionException.class)
+    public void rethrowsLaneFailure() {
+        final Lanes lanes = new Lanes(1);
+        lanes.close();
+        final Event event = Mockito.mock(Event.class);
+        Mockito.when(event.type()).thenReturn(Event.Type.ISSUE_COMMENT);
+        new StoredProject(
+            Mockito.mock(User.class),
+            "mihai/test",
+            "wh123token",
+            Mockito.mock(ProjectManager.class),
+            Mockito.mock(Storage.class),
+            lanes
+        ).resolve(event);
+    }
 }
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.storage.Storage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Benchmark of {@link FileStorage} against {@link MemoryStorage}: write
+ * throughput, with concurrent writers, and startup time. The numbers
+ * are logged, the assertions are only sanity checks.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class FileStorageITCase {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(
+        FileStorageITCase.class
+    );
+
+    /**
+     * Number of writes.
+     */
+    private static final int WRITES = 20_000;
+
+    /**
+     * Number of concurrent writers.
+     */
+    private static final int WRITERS = 16;
+
+    /**
+     * Compare the write throughput of FileStorage and MemoryStorage.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writeThroughput() throws Exception {
+        final long memory = FileStorageITCase.write(new MemoryStorage());
+        final Path dir = Files.createTempDirectory("self");
+        final long file;
+        try (final FileStorage storage = new FileStorage(dir)) {
+            file = FileStorageITCase.write(storage);
+        }
+        FileStorageITCase.LOG.info(
+            "{} writes, {} writers: MemoryStorage {} ms, FileStorage {} ms.",
+            FileStorageITCase.WRITES, FileStorageITCase.WRITERS,
+            memory, file
+        );
+        try (final FileStorage storage = new FileStorage(dir)) {
+            MatcherAssert.assertThat(
+                storage.users(),
+                Matchers.iterableWithSize(FileStorageITCase.WRITES)
+            );
+        }
+    }
+
+    /**
+     * Measure the startup time of FileStorage from a snapshot and from
+     * the write-ahead log alone.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void startupTime() throws Exception {
+        final Path compacted = Files.createTempDirectory("self");
+        try (final FileStorage storage = new FileStorage(compacted)) {
+            FileStorageITCase.write(storage);
+        }
+        final Path crashed = Files.createTempDirectory("self");
+        FileStorageITCase.write(new FileStorage(crashed, Long.MAX_VALUE));
+        final long snapshot = FileStorageITCase.startup(compacted);
+        final long log = FileStorageITCase.startup(crashed);
+        FileStorageITCase.LOG.info(
+            "Startup with {} records: from snapshot {} ms, from log {} ms.",
+            FileStorageITCase.WRITES, snapshot, log
+        );
+    }
+
+    /**
+     * Sign up users, concurrently.
+     * @param storage Storage.
+     * @return Elapsed milliseconds.
+     * @throws Exception If something goes wrong.
+     */
+    private static long write(final Storage storage) throws Exception {
+        final ExecutorService writers = Executors.newFixedThreadPool(
+            FileStorageITCase.WRITERS
+        );
+        final long start = System.nanoTime();
+        final List<Future<?>> futures = new ArrayList<>();
+        for(int idx = 0; idx < FileStorageITCase.WRITES; ++idx) {
+            final String username = "user" + idx;
+            futures.add(
+                writers.submit(
+                    () -> storage.users().signUp(
+                        username, Provider.Names.GITHUB,
+                        username + "@example.com", "user"
+                    )
+                )
+            );
+        }
+        for(final Future<?> future : futures) {
+            future.get();
+        }
+        final long elapsed = (System.nanoTime() - start) / 1_000_000;
+        writers.shutdown();
+        return elapsed;
+    }
+
+    /**
+     * Open a FileStorage and check it recovered everything.
+     * @param dir Directory.
+     * @return Elapsed milliseconds.
+     * @throws IOException If something goes wrong.
+     */
+    private static long startup(final Path dir) throws IOException {
+        final long start = System.nanoTime();
+        try (final FileStorage storage = new FileStorage(dir)) {
+            final long elapsed = (System.nanoTime() - start) / 1_000_000;
+            MatcherAssert.assertThat(
+                storage.users(),
+                Matchers.iterableWithSize(FileStorageITCase.WRITES)
+            );
+            return elapsed;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.User;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Unit tests for {@link FileStorage}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class FileStorageTestCase {
+
+    /**
+     * FileStorage recovers the data after it is closed and reopened.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void recoversAfterClose() throws IOException {
+        final Path dir = Files.createTempDirectory("self");
+        try (final FileStorage storage = new FileStorage(dir)) {
+            FileStorageTestCase.populate(storage);
+        }
+        MatcherAssert.assertThat(
+            Files.size(dir.resolve("wal.log")), Matchers.equalTo(0L)
+        );
+        try (final FileStorage storage = new FileStorage(dir)) {
+            FileStorageTestCase.assertRecovered(storage);
+        }
+    }
+
+    /**
+     * FileStorage recovers the data from the write-ahead log, if it was
+     * not closed (e.g. the process crashed).
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void recoversAfterCrash() throws IOException {
+        final Path dir = Files.createTempDirectory("self");
+        FileStorageTestCase.populate(new FileStorage(dir));
+        try (final FileStorage storage = new FileStorage(dir)) {
+            FileStorageTestCase.assertRecovered(storage);
+        }
+    }
+
+    /**
+     * FileStorage ignores a record torn by a crash and keeps
+     * accepting writes after it.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void ignoresTornRecord() throws IOException {
+        final Path dir = Files.createTempDirectory("self");
+        FileStorageTestCase.populate(new FileStorage(dir));
+        Files.write(
+            dir.resolve("wal.log"),
+            "1234abcd {\"table\":\"contri".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        try (final FileStorage storage = new FileStorage(dir)) {
+            FileStorageTestCase.assertRecovered(storage);
+            storage.contributors().register("vlad", Provider.Names.GITHUB);
+        }
+        try (final FileStorage storage = new FileStorage(dir)) {
+            MatcherAssert.assertThat(
+                storage.contributors().getById("vlad", Provider.Names.GITHUB),
+                Matchers.notNullValue()
+            );
+        }
+    }
+
+    /**
+     * FileStorage recovers the data from the snapshot, followed by the
+     * records written after it.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void recoversSnapshotAndLog() throws IOException {
+        final Path dir = Files.createTempDirectory("self");
+        final FileStorage crashed = new FileStorage(dir);
+        FileStorageTestCase.populate(crashed);
+        crashed.compact();
+        MatcherAssert.assertThat(
+            Files.size(dir.resolve("wal.log")), Matchers.equalTo(0L)
+        );
+        crashed.contributors().register("vlad", Provider.Names.GITHUB);
+        try (final FileStorage storage = new FileStorage(dir)) {
+            FileStorageTestCase.assertRecovered(storage);
+            MatcherAssert.assertThat(
+                storage.contributors().getById("vlad", Provider.Names.GITHUB),
+                Matchers.notNullValue()
+            );
+        }
+    }
+
+    /**
+     * FileStorage compacts the log by itself, once it grows over the
+     * threshold.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void compactsLog() throws Exception {
+        final Path dir = Files.createTempDirectory("self");
+        try (final FileStorage storage = new FileStorage(dir, 5)) {
+            for(int idx = 0; idx < 20; ++idx) {
+                storage.users().signUp(
+                    "user" + idx, Provider.Names.GITHUB, null, "user"
+                );
+            }
+            final long end = System.currentTimeMillis() + 10_000;
+            while(!Files.exists(dir.resolve("snapshot.log"))
+                && System.currentTimeMillis() < end) {
+                Thread.sleep(10);
+            }
+            MatcherAssert.assertThat(
+                Files.exists(dir.resolve("snapshot.log")),
+                Matchers.is(Boolean.TRUE)
+            );
+        }
+        try (final FileStorage storage = new FileStorage(dir)) {
+            MatcherAssert.assertThat(
+                storage.users(), Matchers.iterableWithSize(20)
+            );
+        }
+    }
+
+    /**
+     * Write some data: a User, a PM, a Project, a Contributor,
+     * a Contract and a Task.
+     * @param storage Storage.
+     */
+    private static void populate(final FileStorage storage) {
+        storage.users().signUp(
+            "john", Provider.Names.GITHUB, "john@example.com", "user"
+        );
+        final ProjectManager manager = storage.projectManagers().register(
+            "123", "zoeself", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(6.5)
+        );
+        final Provider provider = Mockito.mock(Provider.class);
+        Mockito.when(provider.name()).thenReturn(Provider.Names.GITHUB);
+        final User owner = Mockito.mock(User.class);
+        Mockito.when(owner.username()).thenReturn("john");
+        Mockito.when(owner.provider()).thenReturn(provider);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.fullName()).thenReturn("john/test");
+        Mockito.when(repo.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(repo.owner()).thenReturn(owner);
+        storage.projects().register(repo, manager, "wh123");
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+    }
+
+    /**
+     * Check that the data written by #populate(...) is there.
+     * @param storage Storage.
+     */
+    private static void assertRecovered(final FileStorage storage) {
+        MatcherAssert.assertThat(
+            storage.users().user("john", Provider.Names.GITHUB).email(),
+            Matchers.equalTo("john@example.com")
+        );
+        final ProjectManager manager = storage.projectManagers()
+            .pick(Provider.Names.GITHUB);
+        MatcherAssert.assertThat(
+            manager.username(), Matchers.equalTo("zoeself")
+        );
+        final Project project = storage.projects().getProjectById(
+            "john/test", Provider.Names.GITHUB
+        );
+        MatcherAssert.assertThat(
+            project.webHookToken(), Matchers.equalTo("wh123")
+        );
+        MatcherAssert.assertThat(
+            project.projectManager().id(), Matchers.equalTo(manager.id())
+        );
+        MatcherAssert.assertThat(
+            storage.contracts().findById(
+                new Contract.Id(
+                    "john/test", "mihai",
+                    Provider.Names.GITHUB, Contract.Roles.DEV
+                )
+            ).hourlyRate(),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(10000))
+        );
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Index}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class IndexTestCase {
+
+    /**
+     * Index returns an empty set for a missing key.
+     */
+    @Test
+    public void returnsEmptySetForMissingKey() {
+        final Index<String, Integer> index = new Index<>();
+        MatcherAssert.assertThat(
+            index.get("missing"),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * Index can add and remove values under a key.
+     */
+    @Test
+    public void addsAndRemovesValues() {
+        final Index<String, Integer> index = new Index<>();
+        index.add("even", 2);
+        index.add("even", 4);
+        index.add("odd", 1);
+        MatcherAssert.assertThat(
+            index.get("even"),
+            Matchers.containsInAnyOrder(2, 4)
+        );
+        index.remove("even", 2);
+        MatcherAssert.assertThat(
+            index.get("even"),
+            Matchers.contains(4)
+        );
+        index.remove("odd", 1);
+        MatcherAssert.assertThat(
+            index.get("odd"),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * The values returned by the Index cannot be modified.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void valuesAreReadOnly() {
+        final Index<String, Integer> index = new Index<>();
+        index.add("even", 2);
+        index.get("even").add(4);
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link LogFile}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class LogFileTestCase {
+
+    /**
+     * LogFile reads back the written records, in order.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsRecords() throws IOException {
+        final Path file = Files.createTempFile("self", ".log");
+        Files.write(file, LogFile.line(LogFileTestCase.record(1)));
+        Files.write(
+            file, LogFile.line(LogFileTestCase.record(2)),
+            StandardOpenOption.APPEND
+        );
+        final List<JsonObject> read = new ArrayList<>();
+        final long valid = new LogFile(file).replay(read::add);
+        MatcherAssert.assertThat(
+            read,
+            Matchers.contains(
+                LogFileTestCase.record(1), LogFileTestCase.record(2)
+            )
+        );
+        MatcherAssert.assertThat(valid, Matchers.equalTo(Files.size(file)));
+    }
+
+    /**
+     * LogFile stops at the first torn record.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void stopsAtTornRecord() throws IOException {
+        final Path file = Files.createTempFile("self", ".log");
+        final byte[] first = LogFile.line(LogFileTestCase.record(1));
+        final byte[] second = LogFile.line(LogFileTestCase.record(2));
+        Files.write(file, first);
+        Files.write(
+            file, "00000000 {\"id\":3}\n".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        Files.write(file, second, StandardOpenOption.APPEND);
+        final List<JsonObject> read = new ArrayList<>();
+        final long valid = new LogFile(file).replay(read::add);
+        MatcherAssert.assertThat(
+            read, Matchers.contains(LogFileTestCase.record(1))
+        );
+        MatcherAssert.assertThat(valid, Matchers.equalTo((long) first.length));
+    }
+
+    /**
+     * LogFile ignores a last record without its new line.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void ignoresUnfinishedRecord() throws IOException {
+        final Path file = Files.createTempFile("self", ".log");
+        final byte[] first = LogFile.line(LogFileTestCase.record(1));
+        final byte[] second = LogFile.line(LogFileTestCase.record(2));
+        Files.write(file, first);
+        Files.write(
+            file, Arrays.copyOf(second, second.length - 1),
+            StandardOpenOption.APPEND
+        );
+        final List<JsonObject> read = new ArrayList<>();
+        final long valid = new LogFile(file).replay(read::add);
+        MatcherAssert.assertThat(read, Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(valid, Matchers.equalTo((long) first.length));
+    }
+
+    /**
+     * LogFile reads nothing if the file is missing.
+     * @throws IOException If something goes wrong.
+     */
+    @Test
+    public void readsMissingFile() throws IOException {
+        final Path dir = Files.createTempDirectory("self");
+        final List<JsonObject> read = new ArrayList<>();
+        MatcherAssert.assertThat(
+            new LogFile(dir.resolve("missing.log")).replay(read::add),
+            Matchers.equalTo(0L)
+        );
+        MatcherAssert.assertThat(read, Matchers.emptyIterable());
+    }
+
+    /**
+     * A test record.
+     * @param id Id.
+     * @return JsonObject.
+     */
+    private static JsonObject record(final int id) {
+        return Json.createObjectBuilder()
+            .add("table", "users")
+            .add("id", id)
+            .build();
+    }
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Outbox;
+import com.selfxdsd.api.Outbox.Message;
+import com.selfxdsd.api.Outbox.Pending;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.json.JsonObject;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Unit tests for {@link MemoryOutbox}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryOutboxTestCase {
+
+    /**
+     * MemoryOutbox returns the due messages in the order they were sent.
+     */
+    @Test
+    public void returnsDueMessagesInOrder() {
+        final Outbox outbox = new MemoryOutbox();
+        final Issue issue = MemoryOutboxTestCase.issue("1");
+        outbox.send(issue, Message.assign("mihai"));
+        outbox.send(issue, Message.comment("assigned"));
+        final List<Pending> due = outbox.due(LocalDateTime.now(), 10);
+        MatcherAssert.assertThat(due, Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(
+            due.get(0).message(), Matchers.equalTo(Message.assign("mihai"))
+        );
+        MatcherAssert.assertThat(
+            due.get(1).message(),
+            Matchers.equalTo(Message.comment("assigned"))
+        );
+        MatcherAssert.assertThat(
+            due.get(0).issueId(), Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now(), 1), Matchers.iterableWithSize(1)
+        );
+    }
+
+    /**
+     * MemoryOutbox ignores a message identical to one which is still
+     * waiting for the same Issue, but not after it was sent.
+     */
+    @Test
+    public void ignoresIdenticalWaitingMessage() {
+        final Outbox outbox = new MemoryOutbox();
+        final Issue issue = MemoryOutboxTestCase.issue("1");
+        outbox.send(issue, Message.comment("reminder"));
+        outbox.send(issue, Message.comment("reminder"));
+        outbox.send(
+            MemoryOutboxTestCase.issue("2"), Message.comment("reminder")
+        );
+        final List<Pending> due = outbox.due(LocalDateTime.now(), 10);
+        MatcherAssert.assertThat(due, Matchers.iterableWithSize(2));
+        outbox.sent(due.get(0));
+        outbox.send(issue, Message.comment("reminder"));
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now(), 10), Matchers.iterableWithSize(2)
+        );
+    }
+
+    /**
+     * MemoryOutbox holds back the messages of an Issue while an older
+     * one waits to be retried.
+     */
+    @Test
+    public void holdsBackIssueWhileRetrying() {
+        final Outbox outbox = new MemoryOutbox();
+        final Issue first = MemoryOutboxTestCase.issue("1");
+        outbox.send(first, Message.assign("mihai"));
+        outbox.send(first, Message.comment("assigned"));
+        outbox.send(MemoryOutboxTestCase.issue("2"), Message.close());
+        final LocalDateTime now = LocalDateTime.now();
+        outbox.retry(outbox.due(now, 1).get(0), now.plusMinutes(1));
+        final List<Pending> due = outbox.due(now, 10);
+        MatcherAssert.assertThat(due, Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(due.get(0).issueId(), Matchers.equalTo("2"));
+        final List<Pending> later = outbox.due(now.plusMinutes(2), 10);
+        MatcherAssert.assertThat(later, Matchers.iterableWithSize(3));
+        MatcherAssert.assertThat(later.get(0).attempts(), Matchers.is(1));
+    }
+
+    /**
+     * A due message is claimed only once, and it is not due until
+     * the claim expires.
+     */
+    @Test
+    public void claimsMessageOnce() {
+        final Outbox outbox = new MemoryOutbox();
+        final Issue issue = MemoryOutboxTestCase.issue("1");
+        outbox.send(issue, Message.comment("assigned"));
+        outbox.send(issue, Message.comment("reminder"));
+        final LocalDateTime now = LocalDateTime.now();
+        final Pending pending = outbox.due(now, 1).get(0);
+        final LocalDateTime until = now.plusMinutes(5);
+        MatcherAssert.assertThat(
+            outbox.claim(pending, until), Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            outbox.claim(pending, until), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            outbox.due(now, 10), Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            outbox.due(until, 10), Matchers.iterableWithSize(2)
+        );
+    }
+
+    /**
+     * The messages sent by the work done together are queued only
+     * after the work returns.
+     */
+    @Test
+    public void queuesMessagesAfterWork() {
+        final Outbox outbox = new MemoryOutbox();
+        final Issue issue = MemoryOutboxTestCase.issue("1");
+        final int waiting = outbox.together(
+            () -> {
+                outbox.send(issue, Message.assign("mihai"));
+                outbox.send(issue, Message.comment("assigned"));
+                return outbox.due(LocalDateTime.now(), 10).size();
+            }
+        );
+        MatcherAssert.assertThat(waiting, Matchers.is(0));
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now(), 10), Matchers.iterableWithSize(2)
+        );
+    }
+
+    /**
+     * The messages sent by a failed work are not queued.
+     */
+    @Test
+    public void dropsMessagesOfFailedWork() {
+        final Outbox outbox = new MemoryOutbox();
+        final Issue issue = MemoryOutboxTestCase.issue("1");
+        try {
+            outbox.together(
+                () -> {
+                    outbox.send(issue, Message.assign("mihai"));
+                    throw new IllegalStateException("Assignment failed.");
+                }
+            );
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.equalTo("Assignment failed.")
+            );
+        }
+        outbox.send(issue, Message.comment("later"));
+        final List<Pending> due = outbox.due(LocalDateTime.now(), 10);
+        MatcherAssert.assertThat(due, Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            due.get(0).message(), Matchers.equalTo(Message.comment("later"))
+        );
+    }
+
+    /**
+     * MemoryOutbox recovers the waiting messages from its journal.
+     */
+    @Test
+    public void replaysJournal() {
+        final List<JsonObject> journal = new ArrayList<>();
+        final MemoryOutbox outbox = new MemoryOutbox(journal::add);
+        final Issue issue = MemoryOutboxTestCase.issue("1");
+        outbox.send(issue, Message.comment("first"));
+        outbox.send(issue, Message.comment("second"));
+        outbox.sent(outbox.due(LocalDateTime.now(), 1).get(0));
+        final MemoryOutbox recovered = new MemoryOutbox();
+        journal.forEach(recovered::replay);
+        final List<Pending> due = recovered.due(LocalDateTime.now(), 10);
+        MatcherAssert.assertThat(due, Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            due.get(0).message(), Matchers.equalTo(Message.comment("second"))
+        );
+        recovered.send(issue, Message.comment("third"));
+        MatcherAssert.assertThat(
+            recovered.due(LocalDateTime.now(), 10).get(1).id(),
+            Matchers.greaterThan(due.get(0).id())
+        );
+    }
+
+    /**
+     * A message which cannot be journaled is not queued, and does not
+     * keep an identical one from being queued later.
+     */
+    @Test
+    public void queuesNothingUnjournaled() {
+        final List<JsonObject> journal = new ArrayList<>();
+        final AtomicBoolean full = new AtomicBoolean(true);
+        final MemoryOutbox outbox = new MemoryOutbox(
+            record -> {
+                if(full.get()) {
+                    throw new IllegalStateException("Disk full.");
+                }
+                journal.add(record);
+            }
+        );
+        final Issue issue = MemoryOutboxTestCase.issue("1");
+        try {
+            outbox.send(issue, Message.comment("first"));
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                outbox.due(LocalDateTime.now(), 10), Matchers.emptyIterable()
+            );
+        }
+        full.set(false);
+        outbox.send(issue, Message.comment("first"));
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now(), 10), Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(journal, Matchers.iterableWithSize(1));
+    }
+
+    /**
+     * Mock Issue.
+     * @param issueId Issue id.
+     * @return Issue.
+     */
+    private static Issue issue(final String issueId) {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn(issueId);
+        Mockito.when(issue.repoFullName()).thenReturn("mihai/test");
+        Mockito.when(issue.provider()).thenReturn("github");
+        return issue;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.exceptions.ProjectsException;
+import com.selfxdsd.api.storage.Paged;
+import com.selfxdsd.api.storage.Storage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+
+/**
+ * Unit tests for {@link MemoryProjects}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryProjectsTestCase {
+
+    /**
+     * MemoryProjects can register a Project, which is then found by id,
+     * by its PM and by its owner.
+     */
+    @Test
+    public void registersProject() {
+        final Storage storage = new MemoryStorage();
+        final ProjectManager manager = MemoryProjectsTestCase.manager(storage);
+        final Repo repo = MemoryProjectsTestCase.repo("john", "john/test");
+        final Project project = storage.projects().register(
+            repo, manager, "wh123"
+        );
+        MatcherAssert.assertThat(
+            storage.projects().getProjectById(
+                "john/test", Provider.Names.GITHUB
+            ),
+            Matchers.is(project)
+        );
+        MatcherAssert.assertThat(
+            storage.projects().assignedTo(manager.id()),
+            Matchers.contains(project)
+        );
+        MatcherAssert.assertThat(
+            storage.projects().ownedBy(repo.owner()),
+            Matchers.contains(project)
+        );
+        MatcherAssert.assertThat(
+            storage.projects().assignedTo(manager.id() + 1),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * MemoryProjects does not register the same Project twice.
+     */
+    @Test(expected = ProjectsException.Single.Add.class)
+    public void complainsOnDuplicateProject() {
+        final Storage storage = new MemoryStorage();
+        final ProjectManager manager = MemoryProjectsTestCase.manager(storage);
+        storage.projects().register(
+            MemoryProjectsTestCase.repo("john", "john/test"), manager, "wh1"
+        );
+        storage.projects().register(
+            MemoryProjectsTestCase.repo("john", "john/test"), manager, "wh2"
+        );
+    }
+
+    /**
+     * MemoryProjects does not register a Project with a missing PM.
+     */
+    @Test(expected = ProjectsException.Single.Add.class)
+    public void complainsOnMissingManager() {
+        new MemoryStorage().projects().register(
+            MemoryProjectsTestCase.repo("john", "john/test"),
+            Mockito.mock(ProjectManager.class),
+            "wh123"
+        );
+    }
+
+    /**
+     * MemoryProjects is iterated page by page, in the same order.
+     */
+    @Test
+    public void iteratesPages() {
+        final Storage storage = new MemoryStorage();
+        final ProjectManager manager = MemoryProjectsTestCase.manager(storage);
+        for(int idx = 0; idx < 15; ++idx) {
+            storage.projects().register(
+                MemoryProjectsTestCase.repo("john", "john/test" + idx),
+                manager, "wh123"
+            );
+        }
+        MatcherAssert.assertThat(
+            storage.projects(),
+            Matchers.iterableWithSize(10)
+        );
+        MatcherAssert.assertThat(
+            storage.projects().page(new Paged.Page(2, 10)),
+            Matchers.iterableWithSize(5)
+        );
+        MatcherAssert.assertThat(
+            storage.projects().page(new Paged.Page(2, 10))
+                .iterator().next()
+                .repoFullName(),
+            Matchers.equalTo("john/test5")
+        );
+    }
+
+    /**
+     * Register a Github PM.
+     * @param storage Storage.
+     * @return ProjectManager.
+     */
+    private static ProjectManager manager(final Storage storage) {
+        return storage.projectManagers().register(
+            "123", "zoeself", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(6.5)
+        );
+    }
+
+    /**
+     * Mock a Github Repo.
+     * @param owner Owner's username.
+     * @param fullName Full name.
+     * @return Repo.
+     */
+    private static Repo repo(final String owner, final String fullName) {
+        final Provider provider = Mockito.mock(Provider.class);
+        Mockito.when(provider.name()).thenReturn(Provider.Names.GITHUB);
+        final User user = Mockito.mock(User.class);
+        Mockito.when(user.username()).thenReturn(owner);
+        Mockito.when(user.provider()).thenReturn(provider);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.fullName()).thenReturn(fullName);
+        Mockito.when(repo.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(repo.owner()).thenReturn(user);
+        return repo;
+    }
+}
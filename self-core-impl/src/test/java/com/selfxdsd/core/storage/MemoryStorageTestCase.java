@@ -0,0 +1,443 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Contributor;
+import com.selfxdsd.api.Debts;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.invoices.StoredInvoice;
+import com.selfxdsd.core.ledger.Ledger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Unit tests for {@link MemoryStorage}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryStorageTestCase {
+
+    /**
+     * MemoryStorage's sub-apis refer back to the same Storage.
+     */
+    @Test
+    public void returnsSameSubApis() {
+        final Storage storage = new MemoryStorage();
+        MatcherAssert.assertThat(
+            storage.tasks(), Matchers.sameInstance(storage.tasks())
+        );
+        MatcherAssert.assertThat(
+            storage.contracts(), Matchers.sameInstance(storage.contracts())
+        );
+        MatcherAssert.assertThat(
+            storage.paymentMethods(),
+            Matchers.sameInstance(storage.paymentMethods())
+        );
+    }
+
+    /**
+     * Tasks can be registered and assigned from many threads at once,
+     * without losing writes or leaving stale index entries behind.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void writesConcurrently() throws Exception {
+        final Storage storage = new MemoryStorage();
+        final ProjectManager manager = storage.projectManagers().register(
+            "123", "zoeself", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(6.5)
+        );
+        storage.projects().register(
+            MemoryStorageTestCase.repo(), manager, "wh123"
+        );
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        final List<Future<Task>> futures = new ArrayList<>();
+        for(int idx = 0; idx < 200; ++idx) {
+            final Issue issue = MemoryStorageTestCase.issue(
+                String.valueOf(idx)
+            );
+            futures.add(
+                pool.submit(
+                    () -> storage.tasks().register(issue)
+                )
+            );
+        }
+        final List<Future<Task>> assigned = new ArrayList<>();
+        for(int idx = 0; idx < futures.size(); ++idx) {
+            final Task task = futures.get(idx).get();
+            if(idx % 2 == 0) {
+                assigned.add(
+                    pool.submit(
+                        () -> storage.tasks().assign(task, contract, 10)
+                    )
+                );
+            }
+        }
+        for(final Future<Task> future : assigned) {
+            future.get();
+        }
+        pool.shutdown();
+        MatcherAssert.assertThat(
+            storage.tasks().ofProject("john/test", Provider.Names.GITHUB),
+            Matchers.iterableWithSize(200)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofContract(contract.contractId()),
+            Matchers.iterableWithSize(100)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().unassigned(),
+            Matchers.iterableWithSize(100)
+        );
+    }
+
+    /**
+     * MemoryStorage creates at most one active Invoice per Contract,
+     * even when asked for it concurrently.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void createsOneActiveInvoiceConcurrently() throws Exception {
+        final Storage storage = new MemoryStorage();
+        storage.projects().register(
+            MemoryStorageTestCase.repo(),
+            storage.projectManagers().register(
+                "123", "zoeself", Provider.Names.GITHUB, "token",
+                BigDecimal.valueOf(6.5)
+            ),
+            "wh123"
+        );
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        final List<Future<Invoice>> futures = new ArrayList<>();
+        for(int idx = 0; idx < 100; ++idx) {
+            futures.add(
+                pool.submit(
+                    () -> storage.invoices().activeOf(contract.contractId())
+                )
+            );
+        }
+        final Invoice active = contract.invoices().active();
+        for(final Future<Invoice> future : futures) {
+            MatcherAssert.assertThat(
+                future.get().invoiceId(),
+                Matchers.equalTo(active.invoiceId())
+            );
+        }
+        pool.shutdown();
+        storage.invoices().registerAsPaid(
+            new StoredInvoice(
+                active.invoiceId(), contract, active.createdAt(),
+                LocalDateTime.now(), "tx123", storage
+            )
+        );
+        final Invoice next = storage.invoices().activeOf(
+            contract.contractId()
+        );
+        MatcherAssert.assertThat(
+            next.invoiceId(), Matchers.not(active.invoiceId())
+        );
+        MatcherAssert.assertThat(next.isPaid(), Matchers.is(Boolean.FALSE));
+        MatcherAssert.assertThat(
+            contract.invoices(), Matchers.iterableWithSize(2)
+        );
+    }
+
+    /**
+     * MemoryStorage activates and pays the Invoices of a Contract
+     * concurrently without deadlocking.
+     * @throws Exception If something goes wrong.
+     */
+    @Test(timeout = 60_000)
+    public void activatesAndPaysInvoicesConcurrently() throws Exception {
+        final Storage storage = new MemoryStorage();
+        storage.projects().register(
+            MemoryStorageTestCase.repo(),
+            storage.projectManagers().register(
+                "123", "zoeself", Provider.Names.GITHUB, "token",
+                BigDecimal.valueOf(6.5)
+            ),
+            "wh123"
+        );
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        final List<Future<Boolean>> futures = new ArrayList<>();
+        for(int idx = 0; idx < 8; ++idx) {
+            futures.add(
+                pool.submit(
+                    () -> {
+                        for(int round = 0; round < 200; ++round) {
+                            final Invoice active = storage.invoices()
+                                .activeOf(contract.contractId());
+                            storage.invoices().registerAsPaid(
+                                new StoredInvoice(
+                                    active.invoiceId(), contract,
+                                    active.createdAt(), LocalDateTime.now(),
+                                    "tx" + round, storage
+                                )
+                            );
+                        }
+                        return true;
+                    }
+                )
+            );
+        }
+        for(final Future<Boolean> future : futures) {
+            MatcherAssert.assertThat(future.get(), Matchers.is(true));
+        }
+        pool.shutdown();
+        MatcherAssert.assertThat(
+            storage.invoices().activeOf(contract.contractId()).isPaid(),
+            Matchers.is(Boolean.FALSE)
+        );
+    }
+
+    /**
+     * MemoryStorage keeps the debt of a Project up to date as its Tasks
+     * are assigned, unassigned, invoiced and paid.
+     */
+    @Test
+    public void keepsDebtsUpToDate() {
+        final Storage storage = new MemoryStorage();
+        final ProjectManager manager = storage.projectManagers().register(
+            "123", "zoeself", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(6.5)
+        );
+        final Project project = storage.projects().register(
+            MemoryStorageTestCase.repo(), manager, "wh123"
+        );
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        final Debts computed = new Debts.Computed();
+        MatcherAssert.assertThat(
+            storage.debts().ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.ZERO)
+        );
+        final Task first = storage.tasks().assign(
+            storage.tasks().register(MemoryStorageTestCase.issue("1")),
+            contract, 10
+        );
+        final Task second = storage.tasks().assign(
+            storage.tasks().register(MemoryStorageTestCase.issue("2")),
+            contract, 10
+        );
+        MatcherAssert.assertThat(
+            storage.debts().ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(20013))
+        );
+        storage.tasks().unassign(second);
+        MatcherAssert.assertThat(
+            storage.debts().ofProject(project),
+            Matchers.comparesEqualTo(computed.ofProject(project))
+        );
+        final Invoice invoice = contract.invoices().active();
+        storage.invoicedTasks().register(
+            invoice, first, manager.commission()
+        );
+        storage.tasks().remove(first);
+        MatcherAssert.assertThat(
+            storage.debts().ofProject(project),
+            Matchers.comparesEqualTo(computed.ofProject(project))
+        );
+        storage.invoices().registerAsPaid(
+            new StoredInvoice(
+                invoice.invoiceId(), contract, invoice.createdAt(),
+                LocalDateTime.now(), "tx123", storage
+            )
+        );
+        MatcherAssert.assertThat(
+            storage.debts().ofProject(project),
+            Matchers.comparesEqualTo(BigDecimal.ZERO)
+        );
+        MatcherAssert.assertThat(
+            ((Ledger) storage.debts()).check(project),
+            Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * MemoryStorage keeps the workloads of the Contributors up to date
+     * as Tasks are assigned, unassigned and removed.
+     */
+    @Test
+    public void keepsWorkloadsUpToDate() {
+        final Storage storage = new MemoryStorage();
+        final ProjectManager manager = storage.projectManagers().register(
+            "123", "zoeself", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(6.5)
+        );
+        storage.projects().register(
+            MemoryStorageTestCase.repo(), manager, "wh123"
+        );
+        final Contributor mihai = storage.contributors().register(
+            "mihai", Provider.Names.GITHUB
+        );
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        MatcherAssert.assertThat(
+            storage.workloads().ofContributor(mihai), Matchers.equalTo(0)
+        );
+        final Task first = storage.tasks().assign(
+            storage.tasks().register(MemoryStorageTestCase.issue("1")),
+            contract, 10
+        );
+        final Task second = storage.tasks().assign(
+            storage.tasks().register(MemoryStorageTestCase.issue("2")),
+            contract, 10
+        );
+        MatcherAssert.assertThat(
+            storage.workloads().ofContributor(mihai), Matchers.equalTo(2)
+        );
+        storage.tasks().unassign(first);
+        storage.tasks().remove(second);
+        MatcherAssert.assertThat(
+            storage.workloads().ofContributor(mihai), Matchers.equalTo(0)
+        );
+    }
+
+    /**
+     * MemoryStorage keeps the totals of an Invoice up to date as Tasks
+     * are registered on it.
+     */
+    @Test
+    public void keepsInvoiceTotals() {
+        final Storage storage = new MemoryStorage();
+        final ProjectManager manager = storage.projectManagers().register(
+            "123", "zoeself", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(6.5)
+        );
+        storage.projects().register(
+            MemoryStorageTestCase.repo(), manager, "wh123"
+        );
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        final Invoice invoice = contract.invoices().active();
+        MatcherAssert.assertThat(
+            invoice.totals(), Matchers.equalTo(Invoice.Totals.NONE)
+        );
+        final List<Task> tasks = new ArrayList<>();
+        for(int idx = 0; idx < 3; ++idx) {
+            tasks.add(
+                storage.tasks().assign(
+                    storage.tasks().register(
+                        MemoryStorageTestCase.issue(String.valueOf(idx))
+                    ),
+                    contract, 10
+                )
+            );
+        }
+        storage.invoicedTasks().register(
+            invoice, tasks.get(0), manager.commission()
+        );
+        storage.invoicedTasks().registerAll(
+            invoice, tasks.subList(1, 3), manager.commission()
+        );
+        MatcherAssert.assertThat(invoice.totals().count(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            invoice.totalAmount(),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(30019.5))
+        );
+        MatcherAssert.assertThat(
+            invoice.totals(),
+            Matchers.equalTo(
+                Invoice.Totals.of(storage.invoicedTasks().ofInvoice(invoice))
+            )
+        );
+        MatcherAssert.assertThat(
+            storage.invoicedTasks().verify(invoice), Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * Mock the Github Repo john/test.
+     * @return Repo.
+     */
+    private static Repo repo() {
+        final Provider provider = Mockito.mock(Provider.class);
+        Mockito.when(provider.name()).thenReturn(Provider.Names.GITHUB);
+        final User owner = Mockito.mock(User.class);
+        Mockito.when(owner.username()).thenReturn("john");
+        Mockito.when(owner.provider()).thenReturn(provider);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.fullName()).thenReturn("john/test");
+        Mockito.when(repo.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(repo.owner()).thenReturn(owner);
+        return repo;
+    }
+
+    /**
+     * Mock an Issue from john/test.
+     * @param issueId Id.
+     * @return Issue.
+     */
+    private static Issue issue(final String issueId) {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn(issueId);
+        Mockito.when(issue.repoFullName()).thenReturn("john/test");
+        Mockito.when(issue.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(issue.role()).thenReturn(Contract.Roles.DEV);
+        Mockito.when(issue.estimation()).thenReturn(60);
+        return issue;
+    }
+}
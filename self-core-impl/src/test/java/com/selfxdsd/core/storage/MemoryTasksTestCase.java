@@ -0,0 +1,336 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.exceptions.ProjectsException;
+import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.tasks.Due;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Unit tests for {@link MemoryTasks}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class MemoryTasksTestCase {
+
+    /**
+     * MemoryTasks returns null if the Task is not found.
+     */
+    @Test
+    public void getsByIdNotFound() {
+        final Tasks tasks = new MemoryTasks(Mockito.mock(Storage.class));
+        MatcherAssert.assertThat(
+            tasks.getById("1", "john/test", Provider.Names.GITHUB),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * MemoryTasks cannot register the Issue of a missing Project.
+     */
+    @Test(expected = ProjectsException.Single.NotFound.class)
+    public void complainsIfProjectIsMissing() {
+        new MemoryStorage().tasks().register(
+            MemoryTasksTestCase.issue("1", "john/test")
+        );
+    }
+
+    /**
+     * MemoryTasks can register a Task, which is then found by id,
+     * in the Project's Tasks and in the unassigned Tasks.
+     */
+    @Test
+    public void registersTask() {
+        final Storage storage = MemoryTasksTestCase.withProject();
+        final Task registered = storage.tasks().register(
+            MemoryTasksTestCase.issue("1", "john/test")
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().getById("1", "john/test", Provider.Names.GITHUB),
+            Matchers.is(registered)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofProject("john/test", Provider.Names.GITHUB),
+            Matchers.contains(registered)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().unassigned(),
+            Matchers.contains(registered)
+        );
+    }
+
+    /**
+     * Assigning a Task moves it from the unassigned Tasks to the Tasks
+     * of the Contributor and of the Contract. Unassigning it moves it back.
+     */
+    @Test
+    public void assignsAndUnassignsTask() {
+        final Storage storage = MemoryTasksTestCase.withProject();
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        final Task task = storage.tasks().register(
+            MemoryTasksTestCase.issue("1", "john/test")
+        );
+        final Task assigned = storage.tasks().assign(task, contract, 10);
+        MatcherAssert.assertThat(
+            storage.tasks().unassigned(),
+            Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofContributor("mihai", Provider.Names.GITHUB),
+            Matchers.contains(assigned)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofContract(contract.contractId()),
+            Matchers.contains(assigned)
+        );
+        final Task unassigned = storage.tasks().unassign(assigned);
+        MatcherAssert.assertThat(
+            storage.tasks().unassigned(),
+            Matchers.contains(unassigned)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofContributor("mihai", Provider.Names.GITHUB),
+            Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofContract(contract.contractId()),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * A write which cannot be journaled leaves nothing in memory.
+     */
+    @Test
+    public void keepsNothingUnjournaled() {
+        final Storage storage = MemoryTasksTestCase.withProject();
+        final Tasks tasks = new MemoryTasks(
+            storage,
+            record -> {
+                throw new IllegalStateException("Disk full.");
+            }
+        );
+        try {
+            tasks.register(MemoryTasksTestCase.issue("1", "john/test"));
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.equalTo("Disk full.")
+            );
+        }
+        MatcherAssert.assertThat(
+            tasks.getById("1", "john/test", Provider.Names.GITHUB),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            tasks.unassigned(), Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * MemoryTasks can remove a Task, together with its index entries.
+     */
+    @Test
+    public void removesTask() {
+        final Storage storage = MemoryTasksTestCase.withProject();
+        final Task task = storage.tasks().register(
+            MemoryTasksTestCase.issue("1", "john/test")
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().remove(task),
+            Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().remove(task),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofProject("john/test", Provider.Names.GITHUB),
+            Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().unassigned(),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * MemoryTasks finds the assigned Tasks which are due by some moment.
+     */
+    @Test
+    public void findsDueTasks() {
+        final Storage storage = MemoryTasksTestCase.withProject();
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        final Task soon = storage.tasks().assign(
+            storage.tasks().register(
+                MemoryTasksTestCase.issue("1", "john/test")
+            ),
+            contract,
+            2
+        );
+        storage.tasks().assign(
+            storage.tasks().register(
+                MemoryTasksTestCase.issue("2", "john/test")
+            ),
+            contract,
+            30
+        );
+        storage.tasks().register(MemoryTasksTestCase.issue("3", "john/test"));
+        final LocalDateTime now = LocalDateTime.now();
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(now.plusDays(2)),
+            Matchers.contains(soon)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(now.plusDays(16)),
+            Matchers.iterableWithSize(2)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofProject("john/test", Provider.Names.GITHUB)
+                .dueBefore(now.plusDays(2)),
+            Matchers.contains(soon)
+        );
+        storage.tasks().unassign(soon);
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(now.plusDays(2)),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * MemoryTasks records a deadline reminder, after which the Task is
+     * next due at its deadline.
+     */
+    @Test
+    public void remindsTask() {
+        final Storage storage = MemoryTasksTestCase.withProject();
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        final Contract contract = storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        final Task task = storage.tasks().assign(
+            storage.tasks().register(
+                MemoryTasksTestCase.issue("1", "john/test")
+            ),
+            contract,
+            10
+        );
+        final LocalDateTime reminder = new Due(task).reminder();
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(reminder),
+            Matchers.iterableWithSize(1)
+        );
+        final Task reminded = storage.tasks().remind(task, reminder);
+        MatcherAssert.assertThat(reminded.reminders(), Matchers.is(1));
+        MatcherAssert.assertThat(
+            reminded.reminded(), Matchers.equalTo(reminder)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(reminder),
+            Matchers.emptyIterable()
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(task.deadline()),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    /**
+     * A MemoryStorage with the Project john/test registered.
+     * @return Storage.
+     */
+    private static Storage withProject() {
+        final Storage storage = new MemoryStorage();
+        final ProjectManager manager = storage.projectManagers().register(
+            "123", "zoeself", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(6.5)
+        );
+        final Project project = storage.projects().register(
+            MemoryTasksTestCase.repo("john/test"), manager, "wh123"
+        );
+        MatcherAssert.assertThat(project, Matchers.notNullValue());
+        return storage;
+    }
+
+    /**
+     * Mock a Github Repo.
+     * @param fullName Full name.
+     * @return Repo.
+     */
+    private static Repo repo(final String fullName) {
+        final Provider provider = Mockito.mock(Provider.class);
+        Mockito.when(provider.name()).thenReturn(Provider.Names.GITHUB);
+        final User owner = Mockito.mock(User.class);
+        Mockito.when(owner.username()).thenReturn("john");
+        Mockito.when(owner.provider()).thenReturn(provider);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.fullName()).thenReturn(fullName);
+        Mockito.when(repo.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(repo.owner()).thenReturn(owner);
+        return repo;
+    }
+
+    /**
+     * Mock a Github Issue.
+     * @param issueId Id.
+     * @param repoFullName Repo full name.
+     * @return Issue.
+     */
+    private static Issue issue(
+        final String issueId,
+        final String repoFullName
+    ) {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn(issueId);
+        Mockito.when(issue.repoFullName()).thenReturn(repoFullName);
+        Mockito.when(issue.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(issue.role()).thenReturn(Contract.Roles.DEV);
+        Mockito.when(issue.estimation()).thenReturn(60);
+        return issue;
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections to a fresh in-memory H2 database, with the schema of
+ * JdbcStorage, which count the statements prepared and executed.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+final class CountingConnections implements Connections {
+
+    /**
+     * URL of the database.
+     */
+    private final String url = "jdbc:h2:mem:self" + UUID.randomUUID()
+        + ";DB_CLOSE_DELAY=-1";
+
+    /**
+     * Opened connections.
+     */
+    private final AtomicInteger opened = new AtomicInteger();
+
+    /**
+     * Prepared statements.
+     */
+    private final AtomicInteger prepared = new AtomicInteger();
+
+    /**
+     * Executed statements.
+     */
+    private final AtomicInteger executed = new AtomicInteger();
+
+    /**
+     * Ctor.
+     */
+    CountingConnections() {
+        new Schema(() -> DriverManager.getConnection(this.url)).create();
+    }
+
+    @Override
+    public Connection open() throws SQLException {
+        final Connection connection = DriverManager.getConnection(this.url);
+        this.opened.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                Object result = CountingConnections.invoke(
+                    connection, method, args
+                );
+                if(result instanceof PreparedStatement) {
+                    this.prepared.incrementAndGet();
+                    result = this.counting((PreparedStatement) result);
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Number of opened connections.
+     * @return Integer.
+     */
+    int opened() {
+        return this.opened.get();
+    }
+
+    /**
+     * Number of prepared statements.
+     * @return Integer.
+     */
+    int prepared() {
+        return this.prepared.get();
+    }
+
+    /**
+     * Number of executed statements (round-trips).
+     * @return Integer.
+     */
+    int executed() {
+        return this.executed.get();
+    }
+
+    /**
+     * Count the executions of a statement.
+     * @param statement PreparedStatement.
+     * @return Counting PreparedStatement.
+     */
+    private PreparedStatement counting(final PreparedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+            PreparedStatement.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> {
+                if(method.getName().startsWith("execute")) {
+                    this.executed.incrementAndGet();
+                }
+                return CountingConnections.invoke(statement, method, args);
+            }
+        );
+    }
+
+    /**
+     * Invoke a method on the real object.
+     * @param target Real object.
+     * @param method Method.
+     * @param args Arguments.
+     * @return Result.
+     * @throws Throwable If the method throws.
+     */
+    private static Object invoke(
+        final Object target,
+        final Method method,
+        final Object[] args
+    ) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.InvoicedTask;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.User;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link JdbcInvoicedTasks} and {@link JdbcResignations},
+ * which write in batches.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcInvoicedTasksTestCase {
+
+    /**
+     * JdbcInvoicedTasks registers one Task.
+     */
+    @Test
+    public void registersInvoicedTask() {
+        final JdbcStorage storage = JdbcInvoicedTasksTestCase.storage(
+            new CountingConnections()
+        );
+        final Invoice invoice = JdbcInvoicedTasksTestCase.invoice(storage);
+        final Task task = JdbcInvoicedTasksTestCase.tasks(storage, 1).get(0);
+        final InvoicedTask invoiced = storage.invoicedTasks().register(
+            invoice, task, BigDecimal.valueOf(50)
+        );
+        final InvoicedTask found = storage.invoicedTasks().ofInvoice(invoice)
+            .iterator().next();
+        MatcherAssert.assertThat(
+            found.invoicedTaskId(), Matchers.equalTo(invoiced.invoicedTaskId())
+        );
+        MatcherAssert.assertThat(
+            found.value(), Matchers.comparesEqualTo(task.value())
+        );
+        MatcherAssert.assertThat(
+            found.task().issueId(), Matchers.equalTo("0")
+        );
+    }
+
+    /**
+     * JdbcInvoicedTasks registers many Tasks with one round-trip,
+     * plus one for the totals of the Invoice.
+     */
+    @Test
+    public void registersManyTasksInOneBatch() {
+        final CountingConnections connections = new CountingConnections();
+        final JdbcStorage storage = JdbcInvoicedTasksTestCase.storage(
+            connections
+        );
+        final Invoice invoice = JdbcInvoicedTasksTestCase.invoice(storage);
+        final List<Task> tasks = JdbcInvoicedTasksTestCase.tasks(storage, 50);
+        final int before = connections.executed();
+        final List<InvoicedTask> invoiced = storage.invoicedTasks()
+            .registerAll(invoice, tasks, BigDecimal.valueOf(50));
+        MatcherAssert.assertThat(
+            connections.executed() - before, Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(invoiced, Matchers.iterableWithSize(50));
+        MatcherAssert.assertThat(
+            storage.invoicedTasks().ofInvoice(invoice),
+            Matchers.iterableWithSize(50)
+        );
+    }
+
+    /**
+     * JdbcInvoicedTasks keeps the totals of the Invoice in its row,
+     * reading them with one round-trip.
+     */
+    @Test
+    public void keepsInvoiceTotals() {
+        final CountingConnections connections = new CountingConnections();
+        final JdbcStorage storage = JdbcInvoicedTasksTestCase.storage(
+            connections
+        );
+        final Invoice invoice = JdbcInvoicedTasksTestCase.invoice(storage);
+        final List<Task> tasks = JdbcInvoicedTasksTestCase.tasks(storage, 5);
+        storage.invoicedTasks().register(
+            invoice, tasks.get(0), BigDecimal.valueOf(50)
+        );
+        storage.invoicedTasks().registerAll(
+            invoice, tasks.subList(1, 5), BigDecimal.valueOf(50)
+        );
+        final int before = connections.executed();
+        final Invoice.Totals totals = storage.invoicedTasks().totals(invoice);
+        MatcherAssert.assertThat(
+            connections.executed() - before, Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(totals.count(), Matchers.equalTo(5));
+        MatcherAssert.assertThat(
+            totals,
+            Matchers.equalTo(
+                Invoice.Totals.of(storage.invoicedTasks().ofInvoice(invoice))
+            )
+        );
+        MatcherAssert.assertThat(
+            storage.invoicedTasks().verify(invoice), Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * JdbcInvoicedTasks corrects the kept totals of an Invoice
+     * if they differ from its InvoicedTasks.
+     */
+    @Test
+    public void correctsWrongInvoiceTotals() {
+        final CountingConnections connections = new CountingConnections();
+        final JdbcStorage storage = JdbcInvoicedTasksTestCase.storage(
+            connections
+        );
+        final Invoice invoice = JdbcInvoicedTasksTestCase.invoice(storage);
+        storage.invoicedTasks().registerAll(
+            invoice,
+            JdbcInvoicedTasksTestCase.tasks(storage, 3),
+            BigDecimal.valueOf(50)
+        );
+        new Database(connections).update(
+            "UPDATE slf_invoices_xdsd SET tasks_count = 1 WHERE id = ?",
+            invoice.invoiceId()
+        );
+        MatcherAssert.assertThat(
+            storage.invoicedTasks().totals(invoice).count(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            storage.invoicedTasks().verify(invoice),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            storage.invoicedTasks().totals(invoice).count(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    /**
+     * JdbcResignations registers many Resignations with one round-trip.
+     */
+    @Test
+    public void registersManyResignationsInOneBatch() {
+        final CountingConnections connections = new CountingConnections();
+        final JdbcStorage storage = JdbcInvoicedTasksTestCase.storage(
+            connections
+        );
+        final List<Task> tasks = JdbcInvoicedTasksTestCase.tasks(storage, 20);
+        final int before = connections.executed();
+        storage.resignations().registerAll(tasks, "DEADLINE");
+        MatcherAssert.assertThat(
+            connections.executed() - before, Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            storage.resignations().ofTask(tasks.get(3)),
+            Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            storage.resignations().ofTask(tasks.get(3))
+                .iterator().next().contributor().username(),
+            Matchers.equalTo("mihai")
+        );
+    }
+
+    /**
+     * Register and assign some Tasks, then read them back.
+     * @param storage Storage.
+     * @param count Number of Tasks.
+     * @return Assigned Tasks.
+     */
+    private static List<Task> tasks(
+        final JdbcStorage storage,
+        final int count
+    ) {
+        final Contract contract = storage.contracts().findById(
+            new Contract.Id(
+                "john/test", "mihai", Provider.Names.GITHUB,
+                Contract.Roles.DEV
+            )
+        );
+        for(int idx = 0; idx < count; ++idx) {
+            final Issue issue = Mockito.mock(Issue.class);
+            Mockito.when(issue.issueId()).thenReturn(String.valueOf(idx));
+            Mockito.when(issue.repoFullName()).thenReturn("john/test");
+            Mockito.when(issue.provider()).thenReturn(Provider.Names.GITHUB);
+            Mockito.when(issue.role()).thenReturn(Contract.Roles.DEV);
+            Mockito.when(issue.estimation()).thenReturn(60);
+            storage.tasks().assign(
+                storage.tasks().register(issue), contract, 10
+            );
+        }
+        final List<Task> tasks = new ArrayList<>();
+        storage.tasks().ofProject("john/test", Provider.Names.GITHUB)
+            .forEach(tasks::add);
+        return tasks;
+    }
+
+    /**
+     * Create an Invoice for the Contract of mihai.
+     * @param storage Storage.
+     * @return Invoice.
+     */
+    private static Invoice invoice(final JdbcStorage storage) {
+        return storage.invoices().createNewInvoice(
+            new Contract.Id(
+                "john/test", "mihai", Provider.Names.GITHUB,
+                Contract.Roles.DEV
+            )
+        );
+    }
+
+    /**
+     * A JdbcStorage with a Project, a Contributor and a Contract.
+     * @param connections Connections.
+     * @return JdbcStorage.
+     */
+    private static JdbcStorage storage(final Connections connections) {
+        final JdbcStorage storage = new JdbcStorage(connections);
+        final Provider provider = Mockito.mock(Provider.class);
+        Mockito.when(provider.name()).thenReturn(Provider.Names.GITHUB);
+        final User owner = Mockito.mock(User.class);
+        Mockito.when(owner.username()).thenReturn("john");
+        Mockito.when(owner.provider()).thenReturn(provider);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.fullName()).thenReturn("john/test");
+        Mockito.when(repo.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(repo.owner()).thenReturn(owner);
+        storage.projects().register(
+            repo,
+            storage.projectManagers().register(
+                "123", "zoeself", Provider.Names.GITHUB, "token",
+                BigDecimal.valueOf(6.5)
+            ),
+            "wh123"
+        );
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        return storage;
+    }
+}
@@ -0,0 +1,523 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Comment;
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Deadline;
+import com.selfxdsd.api.Invoice;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Outbox;
+import com.selfxdsd.api.PostedComments;
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.ProjectManager;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.Wallet;
+import com.selfxdsd.api.exceptions.ContractsException;
+import com.selfxdsd.api.exceptions.DeadlineExceededException;
+import com.selfxdsd.api.exceptions.ProjectsException;
+import com.selfxdsd.api.storage.Paged;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Unit tests for {@link JdbcStorage}, against an embedded H2 database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcStorageTestCase {
+
+    /**
+     * JdbcStorage can sign up a User once.
+     */
+    @Test
+    public void signsUpUsers() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        storage.users().signUp(
+            "john", Provider.Names.GITHUB, "john@example.com", "user"
+        );
+        storage.users().signUp(
+            "john", Provider.Names.GITHUB, "other@example.com", "user"
+        );
+        MatcherAssert.assertThat(
+            storage.users().user("john", Provider.Names.GITHUB).email(),
+            Matchers.equalTo("john@example.com")
+        );
+        MatcherAssert.assertThat(storage.users(), Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            storage.users().user("mary", Provider.Names.GITHUB),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * JdbcStorage can register PMs and pick the first one.
+     */
+    @Test
+    public void registersManagers() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        final ProjectManager first = JdbcStorageTestCase.manager(storage);
+        storage.projectManagers().register(
+            "124", "zoe2", Provider.Names.GITHUB, "token2", BigDecimal.ONE
+        );
+        MatcherAssert.assertThat(
+            storage.projectManagers().pick(Provider.Names.GITHUB).id(),
+            Matchers.equalTo(first.id())
+        );
+        MatcherAssert.assertThat(
+            storage.projectManagers()
+                .getByUsername("ZoeSelf", Provider.Names.GITHUB).id(),
+            Matchers.equalTo(first.id())
+        );
+        MatcherAssert.assertThat(
+            storage.projectManagers().getById(first.id()).commission(),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(6.5))
+        );
+        MatcherAssert.assertThat(
+            storage.projectManagers(), Matchers.iterableWithSize(2)
+        );
+    }
+
+    /**
+     * JdbcStorage can register a Project, which is found by id,
+     * by its PM and by its owner.
+     */
+    @Test
+    public void registersProjects() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        final ProjectManager manager = JdbcStorageTestCase.manager(storage);
+        final Repo repo = JdbcStorageTestCase.repo("john/test");
+        storage.projects().register(repo, manager, "wh123");
+        final Project found = storage.projects().getProjectById(
+            "john/test", Provider.Names.GITHUB
+        );
+        MatcherAssert.assertThat(
+            found.webHookToken(), Matchers.equalTo("wh123")
+        );
+        MatcherAssert.assertThat(
+            found.projectManager().id(), Matchers.equalTo(manager.id())
+        );
+        MatcherAssert.assertThat(
+            found.owner().username(), Matchers.equalTo("john")
+        );
+        MatcherAssert.assertThat(
+            storage.projects().assignedTo(manager.id()),
+            Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            storage.projects().ownedBy(repo.owner()),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    /**
+     * JdbcStorage does not register the same Project twice.
+     */
+    @Test(expected = ProjectsException.Single.Add.class)
+    public void complainsOnDuplicateProject() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        final ProjectManager manager = JdbcStorageTestCase.manager(storage);
+        storage.projects().register(
+            JdbcStorageTestCase.repo("john/test"), manager, "wh1"
+        );
+        storage.projects().register(
+            JdbcStorageTestCase.repo("john/test"), manager, "wh2"
+        );
+    }
+
+    /**
+     * JdbcStorage iterates the Projects page by page.
+     */
+    @Test
+    public void iteratesProjectPages() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        final ProjectManager manager = JdbcStorageTestCase.manager(storage);
+        for(int idx = 0; idx < 15; ++idx) {
+            storage.projects().register(
+                JdbcStorageTestCase.repo("john/test" + idx), manager, "wh"
+            );
+        }
+        MatcherAssert.assertThat(
+            storage.projects(), Matchers.iterableWithSize(10)
+        );
+        MatcherAssert.assertThat(
+            storage.projects().page(new Paged.Page(2, 10)),
+            Matchers.iterableWithSize(5)
+        );
+        MatcherAssert.assertThat(
+            storage.projects().page(new Paged.Page(2, 10)).totalPages(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * JdbcStorage can add and update Contracts.
+     */
+    @Test
+    public void addsContracts() {
+        final JdbcStorage storage = JdbcStorageTestCase.populated();
+        final Contract.Id id = new Contract.Id(
+            "john/test", "mihai", Provider.Names.GITHUB, Contract.Roles.DEV
+        );
+        MatcherAssert.assertThat(
+            storage.contracts().findById(id).hourlyRate(),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(10000))
+        );
+        storage.contracts().update(
+            storage.contracts().findById(id), BigDecimal.valueOf(5000)
+        );
+        MatcherAssert.assertThat(
+            storage.contracts().findById(id).hourlyRate(),
+            Matchers.comparesEqualTo(BigDecimal.valueOf(5000))
+        );
+        MatcherAssert.assertThat(
+            storage.contracts().ofProject("john/test", Provider.Names.GITHUB),
+            Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            storage.contributors()
+                .ofProject("john/test", Provider.Names.GITHUB),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    /**
+     * JdbcStorage does not add the same Contract twice.
+     */
+    @Test(expected = ContractsException.Single.Add.class)
+    public void complainsOnDuplicateContract() {
+        final JdbcStorage storage = JdbcStorageTestCase.populated();
+        storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.ONE, Contract.Roles.DEV
+        );
+    }
+
+    /**
+     * JdbcStorage can create an Invoice and register it as paid.
+     */
+    @Test
+    public void createsInvoices() {
+        final JdbcStorage storage = JdbcStorageTestCase.populated();
+        final Contract.Id id = new Contract.Id(
+            "john/test", "mihai", Provider.Names.GITHUB, Contract.Roles.DEV
+        );
+        final Invoice invoice = storage.invoices().createNewInvoice(id);
+        MatcherAssert.assertThat(
+            storage.invoices().getById(invoice.invoiceId()).isPaid(),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            storage.invoices().ofContract(id).active().invoiceId(),
+            Matchers.equalTo(invoice.invoiceId())
+        );
+        final Invoice paid = Mockito.mock(Invoice.class);
+        Mockito.when(paid.invoiceId()).thenReturn(invoice.invoiceId());
+        Mockito.when(paid.paymentTime()).thenReturn(LocalDateTime.now());
+        Mockito.when(paid.transactionId()).thenReturn("tx123");
+        MatcherAssert.assertThat(
+            storage.invoices().registerAsPaid(paid), Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            storage.invoices().getById(invoice.invoiceId()).transactionId(),
+            Matchers.equalTo("tx123")
+        );
+    }
+
+    /**
+     * JdbcStorage points to the active Invoice of a Contract, creating
+     * a new one once it is paid.
+     */
+    @Test
+    public void pointsToActiveInvoice() {
+        final JdbcStorage storage = JdbcStorageTestCase.populated();
+        final Contract.Id id = new Contract.Id(
+            "john/test", "mihai", Provider.Names.GITHUB, Contract.Roles.DEV
+        );
+        final Invoice active = storage.invoices().activeOf(id);
+        MatcherAssert.assertThat(
+            storage.invoices().activeOf(id).invoiceId(),
+            Matchers.equalTo(active.invoiceId())
+        );
+        MatcherAssert.assertThat(
+            storage.invoices().ofContract(id).active().invoiceId(),
+            Matchers.equalTo(active.invoiceId())
+        );
+        final Invoice paid = Mockito.mock(Invoice.class);
+        Mockito.when(paid.invoiceId()).thenReturn(active.invoiceId());
+        Mockito.when(paid.paymentTime()).thenReturn(LocalDateTime.now());
+        Mockito.when(paid.transactionId()).thenReturn("tx123");
+        storage.invoices().registerAsPaid(paid);
+        final Invoice next = storage.invoices().activeOf(id);
+        MatcherAssert.assertThat(
+            next.invoiceId(), Matchers.not(active.invoiceId())
+        );
+        MatcherAssert.assertThat(
+            storage.invoices().ofContract(id), Matchers.iterableWithSize(2)
+        );
+    }
+
+    /**
+     * JdbcStorage keeps at most one active Wallet per Project.
+     */
+    @Test
+    public void activatesWallets() {
+        final JdbcStorage storage = JdbcStorageTestCase.populated();
+        final Project project = storage.projects().getProjectById(
+            "john/test", Provider.Names.GITHUB
+        );
+        storage.wallets().register(
+            project, Wallet.Type.FAKE, BigDecimal.TEN, "fake"
+        );
+        final Wallet stripe = storage.wallets().register(
+            project, Wallet.Type.STRIPE, BigDecimal.ONE, "cus_123"
+        );
+        final Wallet active = storage.wallets().activate(stripe);
+        MatcherAssert.assertThat(
+            active.type(), Matchers.equalTo(Wallet.Type.STRIPE)
+        );
+        int actives = 0;
+        for(final Wallet wallet : storage.wallets().ofProject(project)) {
+            if(wallet.active()) {
+                ++actives;
+            }
+        }
+        MatcherAssert.assertThat(actives, Matchers.equalTo(1));
+    }
+
+    /**
+     * JdbcStorage keeps the outbox messages in order, ignoring the
+     * identical ones and holding back an Issue while retrying.
+     */
+    @Test
+    public void keepsOutbox() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        final Outbox outbox = storage.outbox();
+        final Issue first = JdbcStorageTestCase.issue("1");
+        outbox.send(first, Outbox.Message.assign("mihai"));
+        outbox.send(first, Outbox.Message.comment("assigned"));
+        outbox.send(first, Outbox.Message.comment("assigned"));
+        outbox.send(JdbcStorageTestCase.issue("2"), Outbox.Message.close());
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Outbox.Pending> due = outbox.due(now, 10);
+        MatcherAssert.assertThat(due, Matchers.iterableWithSize(3));
+        MatcherAssert.assertThat(
+            due.get(0).message(),
+            Matchers.equalTo(Outbox.Message.assign("mihai"))
+        );
+        outbox.retry(due.get(0), now.plusMinutes(1));
+        final List<Outbox.Pending> held = outbox.due(now, 10);
+        MatcherAssert.assertThat(held, Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(held.get(0).issueId(), Matchers.equalTo("2"));
+        outbox.sent(held.get(0));
+        final List<Outbox.Pending> later = outbox.due(now.plusMinutes(2), 10);
+        MatcherAssert.assertThat(later, Matchers.iterableWithSize(2));
+        MatcherAssert.assertThat(later.get(0).attempts(), Matchers.is(1));
+    }
+
+    /**
+     * JdbcStorage lets only one courier claim a due outbox message.
+     */
+    @Test
+    public void claimsOutboxMessageOnce() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        final Outbox outbox = storage.outbox();
+        outbox.send(
+            JdbcStorageTestCase.issue("1"), Outbox.Message.comment("assigned")
+        );
+        final Outbox.Pending pending = outbox.due(
+            LocalDateTime.now(), 10
+        ).get(0);
+        final LocalDateTime until = LocalDateTime.now().plusMinutes(5);
+        MatcherAssert.assertThat(
+            outbox.claim(pending, until), Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            outbox.claim(pending, until), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now(), 10), Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * JdbcStorage does not keep the outbox messages of failed work.
+     */
+    @Test
+    public void rollsBackOutboxWithWork() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        final Outbox outbox = storage.outbox();
+        try {
+            outbox.together(
+                () -> {
+                    outbox.send(
+                        JdbcStorageTestCase.issue("1"),
+                        Outbox.Message.comment("assigned")
+                    );
+                    throw new IllegalStateException("Assignment failed.");
+                }
+            );
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                ex.getMessage(), Matchers.equalTo("Assignment failed.")
+            );
+        }
+        MatcherAssert.assertThat(
+            outbox.due(LocalDateTime.now(), 10), Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * JdbcStorage indexes the posted comments by Issue, ignoring the
+     * case of their bodies.
+     */
+    @Test
+    public void indexesPostedComments() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        final PostedComments index = storage.postedComments();
+        final Issue issue = JdbcStorageTestCase.issue("1");
+        MatcherAssert.assertThat(index.indexed(issue), Matchers.is(false));
+        final Comment comment = Mockito.mock(Comment.class);
+        Mockito.when(comment.commentId()).thenReturn("123");
+        Mockito.when(comment.author()).thenReturn("zoeself");
+        Mockito.when(comment.body()).thenReturn("Task assigned.");
+        index.add(issue, comment);
+        index.add(issue, comment);
+        MatcherAssert.assertThat(index.indexed(issue), Matchers.is(true));
+        MatcherAssert.assertThat(
+            index.indexed(JdbcStorageTestCase.issue("2")), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            index.find(issue, "task ASSIGNED.").commentId(),
+            Matchers.equalTo("123")
+        );
+        MatcherAssert.assertThat(
+            index.find(issue, "Task invoiced."), Matchers.nullValue()
+        );
+    }
+
+    /**
+     * JdbcStorage keeps the connections open and reuses them.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void reusesConnections() throws Exception {
+        final CountingConnections connections = new CountingConnections();
+        try (final JdbcStorage storage = new JdbcStorage(connections)) {
+            for(int idx = 0; idx < 10; ++idx) {
+                storage.users().user("john", Provider.Names.GITHUB);
+            }
+            MatcherAssert.assertThat(connections.opened(), Matchers.equalTo(1));
+            MatcherAssert.assertThat(
+                connections.prepared(), Matchers.equalTo(1)
+            );
+            MatcherAssert.assertThat(
+                connections.executed(), Matchers.equalTo(10)
+            );
+        }
+    }
+
+    /**
+     * A JdbcStorage with a User, a PM, a Project, a Contributor and
+     * a Contract.
+     * @return JdbcStorage.
+     */
+    private static JdbcStorage populated() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        storage.projects().register(
+            JdbcStorageTestCase.repo("john/test"),
+            JdbcStorageTestCase.manager(storage),
+            "wh123"
+        );
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        return storage;
+    }
+
+    /**
+     * Register a Github PM.
+     * @param storage Storage.
+     * @return ProjectManager.
+     */
+    private static ProjectManager manager(final JdbcStorage storage) {
+        return storage.projectManagers().register(
+            "123", "zoeself", Provider.Names.GITHUB, "token",
+            BigDecimal.valueOf(6.5)
+        );
+    }
+
+    /**
+     * Mock Issue of john/test at Github.
+     * @param issueId Issue id.
+     * @return Issue.
+     */
+    private static Issue issue(final String issueId) {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn(issueId);
+        Mockito.when(issue.repoFullName()).thenReturn("john/test");
+        Mockito.when(issue.provider()).thenReturn(Provider.Names.GITHUB);
+        return issue;
+    }
+
+    /**
+     * Mock a Github Repo owned by john.
+     * @param fullName Full name.
+     * @return Repo.
+     */
+    private static Repo repo(final String fullName) {
+        final Provider provider = Mockito.mock(Provider.class);
+        Mockito.when(provider.name()).thenReturn(Provider.Names.GITHUB);
+        final User user = Mockito.mock(User.class);
+        Mockito.when(user.username()).thenReturn("john");
+        Mockito.when(user.provider()).thenReturn(provider);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.fullName()).thenReturn(fullName);
+        Mockito.when(repo.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(repo.owner()).thenReturn(user);
+        return repo;
+    }
+
+    /**
+     * JdbcStorage does not run any SQL once the Deadline has passed.
+     */
+    @Test(expected = DeadlineExceededException.class)
+    public void stopsAfterDeadline() {
+        final JdbcStorage storage = new JdbcStorage(new CountingConnections());
+        Deadline.in(Duration.ZERO).run(
+            () -> storage.users().user("john", Provider.Names.GITHUB)
+        );
+    }
+}
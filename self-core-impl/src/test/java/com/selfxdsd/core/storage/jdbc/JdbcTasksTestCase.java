@@ -0,0 +1,336 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Contract;
+import com.selfxdsd.api.Issue;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Repo;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.User;
+import com.selfxdsd.api.exceptions.TasksException;
+import com.selfxdsd.core.tasks.Due;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link JdbcTasks}, against an embedded H2 database.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class JdbcTasksTestCase {
+
+    /**
+     * JdbcTasks can register, assign, unassign and remove a Task.
+     */
+    @Test
+    public void registersAndAssignsTask() {
+        final JdbcStorage storage = JdbcTasksTestCase.storage(
+            new CountingConnections()
+        );
+        final Task registered = storage.tasks().register(
+            JdbcTasksTestCase.issue("1")
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().unassigned(), Matchers.iterableWithSize(1)
+        );
+        final Task assigned = storage.tasks().assign(
+            registered, JdbcTasksTestCase.contract(storage), 10
+        );
+        final Task found = storage.tasks().getById(
+            "1", "john/test", Provider.Names.GITHUB
+        );
+        MatcherAssert.assertThat(
+            found.assignee().username(), Matchers.equalTo("mihai")
+        );
+        MatcherAssert.assertThat(
+            found.deadline().toLocalDate(),
+            Matchers.equalTo(assigned.deadline().toLocalDate())
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofContributor("mihai", Provider.Names.GITHUB),
+            Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofContract(
+                JdbcTasksTestCase.contract(storage).contractId()
+            ),
+            Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().unassigned(), Matchers.emptyIterable()
+        );
+        storage.tasks().unassign(found);
+        MatcherAssert.assertThat(
+            storage.tasks().getById("1", "john/test", Provider.Names.GITHUB)
+                .assignee(),
+            Matchers.nullValue()
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().remove(found), Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().getById("1", "john/test", Provider.Names.GITHUB),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * JdbcTasks does not register the same Task twice.
+     */
+    @Test(expected = TasksException.Single.Add.class)
+    public void complainsOnDuplicateTask() {
+        final JdbcStorage storage = JdbcTasksTestCase.storage(
+            new CountingConnections()
+        );
+        storage.tasks().register(JdbcTasksTestCase.issue("1"));
+        storage.tasks().register(JdbcTasksTestCase.issue("1"));
+    }
+
+    /**
+     * JdbcTasks removes many Tasks with one round-trip.
+     */
+    @Test
+    public void removesAllTasksInOneBatch() {
+        final CountingConnections connections = new CountingConnections();
+        final JdbcStorage storage = JdbcTasksTestCase.storage(connections);
+        final List<Task> tasks = new ArrayList<>();
+        for(int idx = 0; idx < 50; ++idx) {
+            tasks.add(
+                storage.tasks().register(
+                    JdbcTasksTestCase.issue(String.valueOf(idx))
+                )
+            );
+        }
+        final int before = connections.executed();
+        MatcherAssert.assertThat(
+            storage.tasks().removeAll(tasks), Matchers.equalTo(50)
+        );
+        MatcherAssert.assertThat(
+            connections.executed() - before, Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().ofProject("john/test", Provider.Names.GITHUB),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * JdbcTasks finds the assigned Tasks which are due by some moment.
+     */
+    @Test
+    public void findsDueTasks() {
+        final JdbcStorage storage = JdbcTasksTestCase.storage(
+            new CountingConnections()
+        );
+        final Contract contract = JdbcTasksTestCase.contract(storage);
+        storage.tasks().assign(
+            storage.tasks().register(JdbcTasksTestCase.issue("1")),
+            contract,
+            2
+        );
+        storage.tasks().assign(
+            storage.tasks().register(JdbcTasksTestCase.issue("2")),
+            contract,
+            30
+        );
+        storage.tasks().register(JdbcTasksTestCase.issue("3"));
+        final LocalDateTime now = LocalDateTime.now();
+        final Tasks soon = storage.tasks()
+            .ofProject("john/test", Provider.Names.GITHUB)
+            .dueBefore(now.plusDays(2));
+        MatcherAssert.assertThat(soon, Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            soon.iterator().next().issueId(), Matchers.equalTo("1")
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(now.plusDays(16)),
+            Matchers.iterableWithSize(2)
+        );
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(now.minusDays(1)),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * JdbcTasks records a deadline reminder, after which the Task is
+     * next due at its deadline.
+     */
+    @Test
+    public void remindsTask() {
+        final JdbcStorage storage = JdbcTasksTestCase.storage(
+            new CountingConnections()
+        );
+        final Task task = storage.tasks().assign(
+            storage.tasks().register(JdbcTasksTestCase.issue("1")),
+            JdbcTasksTestCase.contract(storage),
+            10
+        );
+        final LocalDateTime reminder = new Due(task).reminder();
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(reminder),
+            Matchers.iterableWithSize(1)
+        );
+        storage.tasks().remind(task, reminder);
+        MatcherAssert.assertThat(
+            storage.tasks().dueBefore(reminder),
+            Matchers.emptyIterable()
+        );
+        final Tasks due = storage.tasks().dueBefore(
+            task.deadline().plusSeconds(1)
+        );
+        MatcherAssert.assertThat(due, Matchers.iterableWithSize(1));
+        MatcherAssert.assertThat(
+            due.iterator().next().reminders(), Matchers.is(1)
+        );
+    }
+
+    /**
+     * A sweep over all the Tasks of a Project, reading their Contracts,
+     * assignees and Projects, takes the same number of queries no matter
+     * how many Tasks there are.
+     */
+    @Test
+    public void sweepsProjectWithConstantQueries() {
+        MatcherAssert.assertThat(
+            JdbcTasksTestCase.sweep(5),
+            Matchers.equalTo(JdbcTasksTestCase.sweep(100))
+        );
+        MatcherAssert.assertThat(
+            JdbcTasksTestCase.sweep(100), Matchers.lessThanOrEqualTo(2)
+        );
+    }
+
+    /**
+     * Register and assign some Tasks, then count the queries needed
+     * to sweep over them.
+     * @param tasks Number of Tasks.
+     * @return Number of queries.
+     */
+    private static int sweep(final int tasks) {
+        final CountingConnections connections = new CountingConnections();
+        final JdbcStorage storage = JdbcTasksTestCase.storage(connections);
+        final Contract contract = JdbcTasksTestCase.contract(storage);
+        for(int idx = 0; idx < tasks; ++idx) {
+            final Task task = storage.tasks().register(
+                JdbcTasksTestCase.issue(String.valueOf(idx))
+            );
+            if(idx % 2 == 0) {
+                storage.tasks().assign(task, contract, 10);
+            }
+        }
+        final int before = connections.executed();
+        BigDecimal total = BigDecimal.ZERO;
+        int assigned = 0;
+        for(final Task task : storage.tasks().ofProject(
+            "john/test", Provider.Names.GITHUB
+        )) {
+            MatcherAssert.assertThat(
+                task.project().repoFullName(), Matchers.equalTo("john/test")
+            );
+            if(task.assignee() != null) {
+                MatcherAssert.assertThat(
+                    task.assignee().username(), Matchers.equalTo("mihai")
+                );
+                total = total.add(task.value());
+                ++assigned;
+            }
+        }
+        MatcherAssert.assertThat(assigned, Matchers.equalTo((tasks + 1) / 2));
+        MatcherAssert.assertThat(
+            total, Matchers.greaterThan(BigDecimal.ZERO)
+        );
+        return connections.executed() - before;
+    }
+
+    /**
+     * A JdbcStorage with a Project, a Contributor and a Contract.
+     * @param connections Connections.
+     * @return JdbcStorage.
+     */
+    private static JdbcStorage storage(final Connections connections) {
+        final JdbcStorage storage = new JdbcStorage(connections);
+        final Provider provider = Mockito.mock(Provider.class);
+        Mockito.when(provider.name()).thenReturn(Provider.Names.GITHUB);
+        final User owner = Mockito.mock(User.class);
+        Mockito.when(owner.username()).thenReturn("john");
+        Mockito.when(owner.provider()).thenReturn(provider);
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.when(repo.fullName()).thenReturn("john/test");
+        Mockito.when(repo.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(repo.owner()).thenReturn(owner);
+        storage.projects().register(
+            repo,
+            storage.projectManagers().register(
+                "123", "zoeself", Provider.Names.GITHUB, "token",
+                BigDecimal.valueOf(6.5)
+            ),
+            "wh123"
+        );
+        storage.contributors().register("mihai", Provider.Names.GITHUB);
+        storage.contracts().addContract(
+            "john/test", "mihai", Provider.Names.GITHUB,
+            BigDecimal.valueOf(10000), Contract.Roles.DEV
+        );
+        return storage;
+    }
+
+    /**
+     * The Contract of mihai.
+     * @param storage Storage.
+     * @return Contract.
+     */
+    private static Contract contract(final JdbcStorage storage) {
+        return storage.contracts().findById(
+            new Contract.Id(
+                "john/test", "mihai", Provider.Names.GITHUB,
+                Contract.Roles.DEV
+            )
+        );
+    }
+
+    /**
+     * Mock an Issue of john/test.
+     * @param issueId Issue id.
+     * @return Issue.
+     */
+    private static Issue issue(final String issueId) {
+        final Issue issue = Mockito.mock(Issue.class);
+        Mockito.when(issue.issueId()).thenReturn(issueId);
+        Mockito.when(issue.repoFullName()).thenReturn("john/test");
+        Mockito.when(issue.provider()).thenReturn(Provider.Names.GITHUB);
+        Mockito.when(issue.role()).thenReturn(Contract.Roles.DEV);
+        Mockito.when(issue.estimation()).thenReturn(60);
+        return issue;
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.storage.jdbc;
+
+import com.selfxdsd.api.Deadline;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Unit tests for {@link Session}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class SessionTestCase {
+
+    /**
+     * Session prepares a statement only once.
+     * @throws SQLException If something goes wrong.
+     */
+    @Test
+    public void cachesStatements() throws SQLException {
+        final Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.prepareStatement(Mockito.anyString()))
+            .thenAnswer(inv -> Mockito.mock(PreparedStatement.class));
+        final Session session = new Session(connection);
+        final PreparedStatement first = session.prepare("SELECT 1");
+        MatcherAssert.assertThat(
+            session.prepare("SELECT 1"), Matchers.sameInstance(first)
+        );
+        Mockito.verify(connection, Mockito.times(1))
+            .prepareStatement("SELECT 1");
+    }
+
+    /**
+     * Session closes the least recently used statement when
+     * the cache is full.
+     * @throws SQLException If something goes wrong.
+     */
+    @Test
+    public void evictsLeastRecentlyUsed() throws SQLException {
+        final Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.prepareStatement(Mockito.anyString()))
+            .thenAnswer(inv -> Mockito.mock(PreparedStatement.class));
+        final Session session = new Session(connection);
+        final PreparedStatement eldest = session.prepare("SELECT 0");
+        final PreparedStatement used = session.prepare("SELECT 1");
+        for(int idx = 2; idx < Session.CACHED; ++idx) {
+            session.prepare("SELECT " + idx);
+        }
+        session.prepare("SELECT 0");
+        session.prepare("SELECT " + Session.CACHED);
+        MatcherAssert.assertThat(
+            session.cached(), Matchers.equalTo(Session.CACHED)
+        );
+        Mockito.verify(used).close();
+        Mockito.verify(eldest, Mockito.never()).close();
+    }
+
+    /**
+     * Session closes its statements and its connection.
+     * @throws SQLException If something goes wrong.
+     */
+    @Test
+    public void closesEverything() throws SQLException {
+        final Connection connection = Mockito.mock(Connection.class);
+        final PreparedStatement statement = Mockito.mock(
+            PreparedStatement.class
+        );
+        Mockito.when(connection.prepareStatement("SELECT 1"))
+            .thenReturn(statement);
+        final Session session = new Session(connection);
+        session.prepare("SELECT 1");
+        session.close();
+        Mockito.verify(statement).close();
+        Mockito.verify(connection).close();
+        MatcherAssert.assertThat(session.cached(), Matchers.equalTo(0));
+    }
+
+    /**
+     * The statements time out by the current Deadline.
+     * @throws SQLException If something goes wrong.
+     */
+    @Test
+    public void timesOutByDeadline() throws SQLException {
+        final Connection connection = Mockito.mock(Connection.class);
+        final PreparedStatement statement = Mockito.mock(
+            PreparedStatement.class
+        );
+        Mockito.when(connection.prepareStatement(Mockito.anyString()))
+            .thenReturn(statement);
+        final Session session = new Session(connection);
+        session.prepare("SELECT 1");
+        Mockito.verify(statement).setQueryTimeout(0);
+        Deadline.in(Duration.ofMillis(4500)).run(
+            () -> {
+                try {
+                    session.prepare("SELECT 1");
+                } catch (final SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        );
+        Mockito.verify(statement).setQueryTimeout(5);
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.tasks;
+
+import com.selfxdsd.api.Project;
+import com.selfxdsd.api.Provider;
+import com.selfxdsd.api.Task;
+import com.selfxdsd.api.Tasks;
+import com.selfxdsd.api.storage.Storage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link DueTasks}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class DueTasksTestCase {
+
+    /**
+     * DueTasks can be iterated.
+     */
+    @Test
+    public void canBeIterated() {
+        final Tasks due = new DueTasks(
+            () -> Stream.of(
+                Mockito.mock(Task.class), Mockito.mock(Task.class)
+            ),
+            Mockito.mock(Storage.class)
+        );
+        MatcherAssert.assertThat(due, Matchers.iterableWithSize(2));
+    }
+
+    /**
+     * DueTasks can be narrowed down to a Project.
+     */
+    @Test
+    public void filtersByProject() {
+        final Task first = DueTasksTestCase.task("john/test");
+        final Task second = DueTasksTestCase.task("john/other");
+        final Tasks due = new DueTasks(
+            () -> Stream.of(first, second),
+            Mockito.mock(Storage.class)
+        );
+        MatcherAssert.assertThat(
+            due.ofProject("john/other", Provider.Names.GITHUB),
+            Matchers.contains(second)
+        );
+    }
+
+    /**
+     * DueTasks can be narrowed down to an earlier moment.
+     */
+    @Test
+    public void filtersByEarlierMoment() {
+        final LocalDateTime now = LocalDateTime.now();
+        final Task late = DueTasksTestCase.task("john/test");
+        Mockito.when(late.assignmentDate()).thenReturn(now.minusDays(10));
+        Mockito.when(late.deadline()).thenReturn(now.minusDays(2));
+        final Task soon = DueTasksTestCase.task("john/test");
+        Mockito.when(soon.assignmentDate()).thenReturn(now.minusDays(4));
+        Mockito.when(soon.deadline()).thenReturn(now.plusDays(2));
+        final Tasks due = new DueTasks(
+            () -> Stream.of(late, soon),
+            Mockito.mock(Storage.class)
+        );
+        MatcherAssert.assertThat(
+            due.dueBefore(now.minusDays(3)), Matchers.contains(late)
+        );
+    }
+
+    /**
+     * DueTasks are all assigned.
+     */
+    @Test
+    public void hasNoUnassignedTasks() {
+        final Tasks due = new DueTasks(
+            () -> Stream.of(DueTasksTestCase.task("john/test")),
+            Mockito.mock(Storage.class)
+        );
+        MatcherAssert.assertThat(due.unassigned(), Matchers.emptyIterable());
+    }
+
+    /**
+     * Mock a Task of the given Project.
+     * @param repo Repo full name.
+     * @return Task.
+     */
+    private static Task task(final String repo) {
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.repoFullName()).thenReturn(repo);
+        Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
+        final Task task = Mockito.mock(Task.class);
+        Mockito.when(task.project()).thenReturn(project);
+        return task;
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2020, Self XDSD Contributors
+ * All rights reserved.
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"),
+ * to read the Software only. Permission is hereby NOT GRANTED to use, copy,
+ * modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY,
+ * OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT
+ * OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.selfxdsd.core.tasks;
+
+import com.selfxdsd.api.Task;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+
+/**
+ * Unit tests for {@link Due}.
+ * @author Mihai Andronache (amihaiemil@gmail.com)
+ * @version $Id$
+ * @since 0.0.30
+ */
+public final class DueTestCase {
+
+    /**
+     * The reminder is at the start of the day from which half of the
+     * allotted days are left.
+     */
+    @Test
+    public void remindsAtHalfOfThePeriod() {
+        final LocalDateTime assigned = LocalDateTime.of(2020, 10, 1, 12, 30);
+        final Due due = new Due(assigned, assigned.plusDays(10));
+        MatcherAssert.assertThat(
+            due.reminder(),
+            Matchers.equalTo(LocalDateTime.of(2020, 10, 6, 0, 0))
+        );
+        MatcherAssert.assertThat(
+            due.before(LocalDateTime.of(2020, 10, 5, 23, 59)),
+            Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            due.before(LocalDateTime.of(2020, 10, 6, 0, 0)),
+            Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * Periods longer than a month are counted in days.
+     */
+    @Test
+    public void remindsAfterLongPeriods() {
+        final LocalDateTime assigned = LocalDateTime.of(2020, 1, 1, 10, 0);
+        MatcherAssert.assertThat(
+            new Due(assigned, assigned.plusDays(60)).reminder(),
+            Matchers.equalTo(LocalDateTime.of(2020, 1, 31, 0, 0))
+        );
+    }
+
+    /**
+     * The deadline is missed a minute after it passes.
+     */
+    @Test
+    public void knowsWhenDeadlineIsMissed() {
+        final LocalDateTime assigned = LocalDateTime.of(2020, 10, 1, 12, 30);
+        final LocalDateTime deadline = assigned.plusDays(10);
+        final Due due = new Due(assigned, deadline);
+        MatcherAssert.assertThat(
+            due.missed(deadline), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            due.missed(deadline.plusMinutes(1)), Matchers.is(Boolean.TRUE)
+        );
+    }
+
+    /**
+     * Once reminded, the Task is due again only at the deadline and
+     * the reminder is not sent twice.
+     */
+    @Test
+    public void remindsOncePerTier() {
+        final LocalDateTime assigned = LocalDateTime.of(2020, 10, 1, 12, 30);
+        final LocalDateTime deadline = assigned.plusDays(10);
+        final LocalDateTime now = LocalDateTime.of(2020, 10, 7, 9, 0);
+        final Due first = new Due(assigned, deadline, 0);
+        MatcherAssert.assertThat(first.remind(now), Matchers.is(Boolean.TRUE));
+        MatcherAssert.assertThat(
+            first.next(), Matchers.equalTo(first.reminder())
+        );
+        final Due reminded = new Due(assigned, deadline, 1);
+        MatcherAssert.assertThat(
+            reminded.remind(now), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(reminded.next(), Matchers.equalTo(deadline));
+        MatcherAssert.assertThat(
+            reminded.before(now), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            reminded.before(deadline), Matchers.is(Boolean.TRUE)
+        );
+        MatcherAssert.assertThat(
+            first.remind(deadline.plusMinutes(1)), Matchers.is(Boolean.FALSE)
+        );
+    }
+
+    /**
+     * An unassigned Task is never due.
+     */
+    @Test
+    public void unassignedTaskIsNeverDue() {
+        final Due due = new Due(Mockito.mock(Task.class));
+        MatcherAssert.assertThat(due.reminder(), Matchers.nullValue());
+        MatcherAssert.assertThat(
+            due.before(LocalDateTime.MAX), Matchers.is(Boolean.FALSE)
+        );
+        MatcherAssert.assertThat(
+            due.missed(LocalDateTime.MAX), Matchers.is(Boolean.FALSE)
+        );
+    }
+}
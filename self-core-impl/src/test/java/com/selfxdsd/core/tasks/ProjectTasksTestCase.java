@@ -30,6 +30,7 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -454,6 +455,29 @@ public final class ProjectTasksTestCase {
     }
 
 
+    /**
+     * ProjectTasks reads the due Tasks from the storage's index,
+     * narrowed down to its Project.
+     */
+    @Test
+    public void readsDueTasksFromStorage() {
+        final LocalDateTime now = LocalDateTime.now();
+        final Tasks ofProject = Mockito.mock(Tasks.class);
+        final Tasks due = Mockito.mock(Tasks.class);
+        Mockito.when(due.ofProject("john/test", "github"))
+            .thenReturn(ofProject);
+        final Tasks all = Mockito.mock(Tasks.class);
+        Mockito.when(all.dueBefore(now)).thenReturn(due);
+        final Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.tasks()).thenReturn(all);
+        final Tasks tasks = new ProjectTasks(
+            "john/test", "github", Stream::empty, storage
+        );
+        MatcherAssert.assertThat(
+            tasks.dueBefore(now), Matchers.is(ofProject)
+        );
+    }
+
     /**
      * Mock an Issue for test.
      *
@@ -24,6 +24,7 @@ package com.selfxdsd.core.tasks;
 import com.selfxdsd.api.*;
 import com.selfxdsd.api.exceptions.TasksException;
 import com.selfxdsd.api.storage.Storage;
+import com.selfxdsd.core.contracts.StoredContract;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -31,6 +32,8 @@ import org.mockito.Mockito;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Unit tests for {@link StoredTask}.
@@ -314,6 +317,62 @@ public final class StoredTaskTestCase {
         );
     }
 
+    /**
+     * StoredTask's value is rounded half up to whole cents.
+     */
+    @Test
+    public void returnsValueInWholeCents() {
+        final Contract contract = Mockito.mock(Contract.class);
+        Mockito.when(contract.hourlyRate()).thenReturn(
+            BigDecimal.valueOf(1000)
+        );
+
+        final Task task = new StoredTask(
+            contract,
+            "issueId123",
+            Mockito.mock(Storage.class),
+            LocalDateTime.now(),
+            LocalDateTime.now().plusDays(10),
+            7
+        );
+
+        MatcherAssert.assertThat(
+            task.value(),
+            Matchers.equalTo(BigDecimal.valueOf(117))
+        );
+    }
+
+    /**
+     * StoredTask's value is rounded to whole cents also when the hourly
+     * rate has decimals or is too large for Money.
+     */
+    @Test
+    public void returnsValueOfAnyRateInWholeCents() {
+        final Contract contract = Mockito.mock(Contract.class);
+        Mockito.when(contract.hourlyRate()).thenReturn(
+            new BigDecimal("1000.00"),
+            new BigDecimal("100000000000000000000")
+        );
+
+        final Task task = new StoredTask(
+            contract,
+            "issueId123",
+            Mockito.mock(Storage.class),
+            LocalDateTime.now(),
+            LocalDateTime.now().plusDays(10),
+            7
+        );
+
+        MatcherAssert.assertThat(
+            task.value(),
+            Matchers.equalTo(BigDecimal.valueOf(117))
+        );
+        MatcherAssert.assertThat(
+            task.value(),
+            Matchers.equalTo(new BigDecimal("11666666666666666667"))
+        );
+    }
+
     /**
      * StoredTask returns its estimation when the task is assigned (has a
      * contract).
@@ -562,4 +621,42 @@ public final class StoredTaskTestCase {
 
         MatcherAssert.assertThat(task.resignations(), Matchers.equalTo(ofTask));
     }
+
+    /**
+     * StoredTasks are compared and hashed by their issue id, repo and
+     * provider, without calling the provider or the Storage.
+     */
+    @Test
+    public void comparesWithoutRemoteCalls() {
+        final Storage storage = Mockito.mock(Storage.class);
+        final Contract contract = new StoredContract(
+            new Contract.Id(
+                "john/repo", "mihai", Provider.Names.GITHUB,
+                Contract.Roles.DEV
+            ),
+            BigDecimal.ONE,
+            storage
+        );
+        final Project project = Mockito.mock(Project.class);
+        Mockito.when(project.repoFullName()).thenReturn("john/repo");
+        Mockito.when(project.provider()).thenReturn(Provider.Names.GITHUB);
+        final Task assigned = new StoredTask(
+            contract, "123", storage,
+            LocalDateTime.now(), LocalDateTime.now().plusDays(10), 60
+        );
+        final Task unassigned = new StoredTask(
+            project, "123", Contract.Roles.DEV, 60, storage
+        );
+        final Task other = new StoredTask(
+            project, "124", Contract.Roles.DEV, 60, storage
+        );
+        final Set<Task> set = new HashSet<>();
+        set.add(assigned);
+        MatcherAssert.assertThat(set.contains(unassigned), Matchers.is(true));
+        MatcherAssert.assertThat(set.contains(other), Matchers.is(false));
+        MatcherAssert.assertThat(
+            unassigned.equals(assigned), Matchers.is(true)
+        );
+        Mockito.verifyZeroInteractions(storage);
+    }
 }